@@ -0,0 +1,27 @@
+plugins {
+    id("java")
+
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":lib"))
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
+
+jmh {
+    jmhVersion = "1.37"
+    jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
+    profilers.add("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
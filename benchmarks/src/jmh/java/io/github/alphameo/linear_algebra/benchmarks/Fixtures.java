@@ -0,0 +1,75 @@
+package io.github.alphameo.linear_algebra.benchmarks;
+
+import java.util.Random;
+
+import io.github.alphameo.linear_algebra.mat.Mat;
+import io.github.alphameo.linear_algebra.mat.Mat3;
+import io.github.alphameo.linear_algebra.mat.Mat4;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vec2;
+import io.github.alphameo.linear_algebra.vec.Vec3;
+import io.github.alphameo.linear_algebra.vec.Vec4;
+
+/**
+ * Random inputs shared by benchmarks.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Mat randomMat(final Random random, final int height, final int width) {
+        final Mat result = new Mat(height, width);
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                result.set(r, c, random.nextFloat() * 2 - 1);
+            }
+        }
+
+        return result;
+    }
+
+    static Vec randomVec(final Random random, final int size) {
+        final Vec result = new Vec(size);
+        for (int i = 0; i < size; i++) {
+            result.set(i, random.nextFloat() * 2 - 1);
+        }
+
+        return result;
+    }
+
+    static Mat3 randomMat3(final Random random) {
+        final Mat3 result = new Mat3();
+        for (int r = 0; r < 3; r++) {
+            for (int c = 0; c < 3; c++) {
+                result.set(r, c, random.nextFloat() * 2 - 1);
+            }
+        }
+
+        return result;
+    }
+
+    static Mat4 randomMat4(final Random random) {
+        final Mat4 result = new Mat4();
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                result.set(r, c, random.nextFloat() * 2 - 1);
+            }
+        }
+
+        return result;
+    }
+
+    static Vec2 randomVec2(final Random random) {
+        return new Vec2(random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1);
+    }
+
+    static Vec3 randomVec3(final Random random) {
+        return new Vec3(random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1);
+    }
+
+    static Vec4 randomVec4(final Random random) {
+        return new Vec4(random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1,
+                random.nextFloat() * 2 - 1);
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.alphameo.linear_algebra.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alphameo.linear_algebra.mat.Mat3;
+import io.github.alphameo.linear_algebra.mat.Mat3Math;
+import io.github.alphameo.linear_algebra.mat.Matrix3;
+import io.github.alphameo.linear_algebra.vec.Vec3;
+import io.github.alphameo.linear_algebra.vec.Vector3;
+
+/**
+ * Measures {@link Mat3Math} operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Mat3MathBenchmark {
+
+    private Matrix3 m1;
+    private Matrix3 m2;
+    private Matrix3 dest;
+    private Vector3 v;
+    private Vector3 destVec;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        m1 = Fixtures.randomMat3(random);
+        m2 = Fixtures.randomMat3(random);
+        dest = new Mat3();
+        v = Fixtures.randomVec3(random);
+        destVec = new Vec3();
+    }
+
+    @Benchmark
+    public Matrix3 prod() {
+        return Mat3Math.prod(m1, m2);
+    }
+
+    @Benchmark
+    public Matrix3 prodIntoDest() {
+        return Mat3Math.prod(m1, m2, dest);
+    }
+
+    @Benchmark
+    public Vector3 prodVector() {
+        return Mat3Math.prod(m1, v, destVec);
+    }
+
+    @Benchmark
+    public float det() {
+        return Mat3Math.det(m1);
+    }
+
+    @Benchmark
+    public Matrix3 invertible() {
+        return Mat3Math.invertible(m1);
+    }
+
+    @Benchmark
+    public Matrix3 invertIntoDest() {
+        return Mat3Math.invert(m1, dest);
+    }
+
+    @Benchmark
+    public Matrix3 triangulated() {
+        return Mat3Math.triangulated(m1);
+    }
+}
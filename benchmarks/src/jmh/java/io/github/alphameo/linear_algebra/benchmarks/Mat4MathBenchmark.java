@@ -0,0 +1,95 @@
+package io.github.alphameo.linear_algebra.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alphameo.linear_algebra.mat.Mat4;
+import io.github.alphameo.linear_algebra.mat.Mat4Math;
+import io.github.alphameo.linear_algebra.mat.Matrix4;
+import io.github.alphameo.linear_algebra.vec.Vec4;
+import io.github.alphameo.linear_algebra.vec.Vector4;
+
+/**
+ * Measures {@link Mat4Math} operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Mat4MathBenchmark {
+
+    private Matrix4 m1;
+    private Matrix4 m2;
+    private Matrix4 affine;
+    private Matrix4 dest;
+    private Vector4 v;
+    private Vector4 destVec;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        m1 = Fixtures.randomMat4(random);
+        m2 = Fixtures.randomMat4(random);
+        affine = new Mat4(m1);
+        affine.set(3, 0, 0);
+        affine.set(3, 1, 0);
+        affine.set(3, 2, 0);
+        affine.set(3, 3, 1);
+        dest = new Mat4();
+        v = Fixtures.randomVec4(random);
+        destVec = new Vec4();
+    }
+
+    @Benchmark
+    public Matrix4 prod() {
+        return Mat4Math.prod(m1, m2);
+    }
+
+    @Benchmark
+    public Matrix4 prodIntoDest() {
+        return Mat4Math.prod(m1, m2, dest);
+    }
+
+    @Benchmark
+    public Vector4 prodVector() {
+        return Mat4Math.prod(m1, v, destVec);
+    }
+
+    @Benchmark
+    public float det() {
+        return Mat4Math.det(m1);
+    }
+
+    @Benchmark
+    public Matrix4 invertible() {
+        return Mat4Math.invertible(m1);
+    }
+
+    @Benchmark
+    public Matrix4 invertIntoDest() {
+        return Mat4Math.invert(m1, dest);
+    }
+
+    @Benchmark
+    public Matrix4 invertAffineIntoDest() {
+        return Mat4Math.invertAffine(affine, dest);
+    }
+
+    @Benchmark
+    public Matrix4 triangulated() {
+        return Mat4Math.triangulated(m1);
+    }
+}
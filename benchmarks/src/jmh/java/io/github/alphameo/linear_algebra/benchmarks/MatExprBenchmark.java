@@ -0,0 +1,60 @@
+package io.github.alphameo.linear_algebra.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alphameo.linear_algebra.mat.MatExpr;
+import io.github.alphameo.linear_algebra.mat.MatMath;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+
+/**
+ * Compares fused evaluation of {@code 2 * A * B + C - D} by {@link MatExpr}
+ * with the chain of {@link MatMath} calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatExprBenchmark {
+
+    @Param({ "16", "128", "512" })
+    public int size;
+
+    private Matrix a;
+    private Matrix b;
+    private Matrix c;
+    private Matrix d;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        a = Fixtures.randomMat(random, size, size);
+        b = Fixtures.randomMat(random, size, size);
+        c = Fixtures.randomMat(random, size, size);
+        d = Fixtures.randomMat(random, size, size);
+    }
+
+    @Benchmark
+    public Matrix eager() {
+        return MatMath.subtracted(MatMath.added(MatMath.multiplied(MatMath.prod(a, b), 2f), c), d);
+    }
+
+    @Benchmark
+    public Matrix fused() {
+        return MatExpr.of(a).prod(b).times(2).plus(c).minus(d).evaluate();
+    }
+}
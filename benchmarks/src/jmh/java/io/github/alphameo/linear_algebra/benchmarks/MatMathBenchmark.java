@@ -0,0 +1,79 @@
+package io.github.alphameo.linear_algebra.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alphameo.linear_algebra.mat.MatMath;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Measures {@link MatMath} operations on dense matrices of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatMathBenchmark {
+
+    @Param({ "4", "16", "64", "256" })
+    public int size;
+
+    private Matrix m1;
+    private Matrix m2;
+    private Matrix dest;
+    private Vector v;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        m1 = Fixtures.randomMat(random, size, size);
+        m2 = Fixtures.randomMat(random, size, size);
+        dest = Fixtures.randomMat(random, size, size);
+        v = Fixtures.randomVec(random, size);
+    }
+
+    @Benchmark
+    public Matrix prod() {
+        return MatMath.prod(m1, m2);
+    }
+
+    @Benchmark
+    public Matrix prodIntoDest() {
+        return MatMath.prod(m1, m2, dest);
+    }
+
+    @Benchmark
+    public Vector prodVector() {
+        return MatMath.prod(m1, v);
+    }
+
+    @Benchmark
+    public float det() {
+        return MatMath.det(m1);
+    }
+
+    @Benchmark
+    public Matrix invertible() {
+        return MatMath.invertible(m1);
+    }
+
+    @Benchmark
+    public Matrix triangulated() {
+        return MatMath.triangulated(m1);
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.alphameo.linear_algebra.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alphameo.linear_algebra.mat.Mat;
+import io.github.alphameo.linear_algebra.mat.MatMath;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+
+/**
+ * Compares blocked {@link MatMath#prod(Matrix, Matrix)} and
+ * {@link MatMath#parallelProd(Matrix, Matrix)} with the naive i-j-k loop over
+ * the {@link Matrix} interface.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatProdBenchmark {
+
+    @Param({ "64", "256", "1024", "2048" })
+    public int size;
+
+    private Matrix m1;
+    private Matrix m2;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        m1 = Fixtures.randomMat(random, size, size);
+        m2 = Fixtures.randomMat(random, size, size);
+    }
+
+    @Benchmark
+    public Matrix naive() {
+        final Matrix result = new Mat(m1.height(), m2.width());
+        for (int r = 0; r < m1.height(); r++) {
+            for (int c = 0; c < m2.width(); c++) {
+                float value = 0;
+                for (int i = 0; i < m1.width(); i++) {
+                    value += m1.get(r, i) * m2.get(i, c);
+                }
+
+                result.set(r, c, value);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public Matrix blocked() {
+        return MatMath.prod(m1, m2);
+    }
+
+    @Benchmark
+    public Matrix parallel() {
+        return MatMath.parallelProd(m1, m2);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.alphameo.linear_algebra.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alphameo.linear_algebra.mat.Mat4Math;
+import io.github.alphameo.linear_algebra.mat.Matrix4;
+import io.github.alphameo.linear_algebra.mat.PointLayout;
+import io.github.alphameo.linear_algebra.vec.Vec4;
+import io.github.alphameo.linear_algebra.vec.Vector4;
+
+/**
+ * Compares batched {@link Mat4Math#transformPoints} with per-point
+ * {@link Mat4Math#prod(Matrix4, Vector4, Vector4)}.
+ * <p>
+ * Run with and without {@code --add-modules=jdk.incubator.vector} to compare
+ * Vector API kernels with the scalar fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointTransformBenchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    public int count;
+
+    @Param({ "XYZ", "XYZW", "SOA_XYZ", "SOA_XYZW" })
+    public PointLayout layout;
+
+    private Matrix4 m;
+    private float[] src;
+    private float[] dest;
+    private Vector4 point;
+    private Vector4 destPoint;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        m = Fixtures.randomMat4(random);
+        src = new float[count * layout.components()];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = random.nextFloat() * 2 - 1;
+        }
+        dest = new float[src.length];
+        point = new Vec4();
+        destPoint = new Vec4();
+    }
+
+    @Benchmark
+    public float[] transformPoints() {
+        return Mat4Math.transformPoints(m, src, dest, layout);
+    }
+
+    @Benchmark
+    public float[] prodPerPoint() {
+        final int components = layout.components();
+        for (int i = 0; i < count; i++) {
+            final int base = i * components;
+            point.setX(src[base]);
+            point.setY(src[base + 1]);
+            point.setZ(src[base + 2]);
+            point.setW(components == 4 ? src[base + 3] : 1);
+            Mat4Math.prod(m, point, destPoint);
+            dest[base] = destPoint.x();
+            dest[base + 1] = destPoint.y();
+            dest[base + 2] = destPoint.z();
+            if (components == 4) {
+                dest[base + 3] = destPoint.w();
+            }
+        }
+
+        return dest;
+    }
+}
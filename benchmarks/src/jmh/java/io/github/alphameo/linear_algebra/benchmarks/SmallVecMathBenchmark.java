@@ -0,0 +1,87 @@
+package io.github.alphameo.linear_algebra.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alphameo.linear_algebra.vec.Vec2Math;
+import io.github.alphameo.linear_algebra.vec.Vec3Math;
+import io.github.alphameo.linear_algebra.vec.Vec4Math;
+import io.github.alphameo.linear_algebra.vec.Vector2;
+import io.github.alphameo.linear_algebra.vec.Vector3;
+import io.github.alphameo.linear_algebra.vec.Vector4;
+
+/**
+ * Measures {@link Vec2Math}, {@link Vec3Math} and {@link Vec4Math} operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmallVecMathBenchmark {
+
+    private Vector2 a2;
+    private Vector2 b2;
+    private Vector3 a3;
+    private Vector3 b3;
+    private Vector4 a4;
+    private Vector4 b4;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        a2 = Fixtures.randomVec2(random);
+        b2 = Fixtures.randomVec2(random);
+        a3 = Fixtures.randomVec3(random);
+        b3 = Fixtures.randomVec3(random);
+        a4 = Fixtures.randomVec4(random);
+        b4 = Fixtures.randomVec4(random);
+    }
+
+    @Benchmark
+    public float vec2Dot() {
+        return Vec2Math.dot(a2, b2);
+    }
+
+    @Benchmark
+    public Vector2 vec2Normalized() {
+        return Vec2Math.normalized(a2);
+    }
+
+    @Benchmark
+    public float vec3Dot() {
+        return Vec3Math.dot(a3, b3);
+    }
+
+    @Benchmark
+    public Vector3 vec3Normalized() {
+        return Vec3Math.normalized(a3);
+    }
+
+    @Benchmark
+    public Vector3 vec3Cross() {
+        return Vec3Math.cross(a3, b3);
+    }
+
+    @Benchmark
+    public float vec4Dot() {
+        return Vec4Math.dot(a4, b4);
+    }
+
+    @Benchmark
+    public Vector4 vec4Normalized() {
+        return Vec4Math.normalized(a4);
+    }
+}
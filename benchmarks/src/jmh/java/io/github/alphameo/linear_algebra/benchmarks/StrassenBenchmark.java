@@ -0,0 +1,131 @@
+package io.github.alphameo.linear_algebra.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alphameo.linear_algebra.mat.MatMath;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+
+/**
+ * Compares speed and accuracy of
+ * {@link MatMath#strassenProd(Matrix, Matrix, int)} with different cutoffs
+ * and {@link MatMath#prod(Matrix, Matrix)} (cutoff 0).
+ * <p>
+ * {@link #prod()} measures time. {@link #error(Accuracy)} computes the
+ * product once and reports its relative error
+ * {@code |C * x - A * (B * x)| / (|A| * |B| * |x|)} for random vector
+ * {@code x} as the secondary result {@code error:relativeError}, where
+ * {@code A * (B * x)} is computed in double precision.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class StrassenBenchmark {
+
+    @Param({ "1024", "2048", "4096" })
+    public int size;
+
+    @Param({ "0", "128", "256", "512" })
+    public int cutoff;
+
+    private Matrix a;
+    private Matrix b;
+    private double[] x;
+    private double[] expected;
+    private double scale;
+
+    /**
+     * Relative error of the product reported in the results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Accuracy {
+
+        public double relativeError;
+    }
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        a = Fixtures.randomMat(random, size, size);
+        b = Fixtures.randomMat(random, size, size);
+
+        final Random vectorRandom = new Random(7);
+        x = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = vectorRandom.nextDouble() * 2 - 1;
+        }
+        expected = prod(a, prod(b, x));
+        scale = norm(a) * norm(b) * Math.sqrt(dot(x, x));
+    }
+
+    @Benchmark
+    public Matrix prod() {
+        return cutoff == 0 ? MatMath.prod(a, b) : MatMath.strassenProd(a, b, cutoff);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public Matrix error(final Accuracy accuracy) {
+        final Matrix result = prod();
+        final double[] actual = prod(result, x);
+        double error = 0;
+        for (int i = 0; i < size; i++) {
+            error += (actual[i] - expected[i]) * (actual[i] - expected[i]);
+        }
+        accuracy.relativeError = Math.sqrt(error) / scale;
+
+        return result;
+    }
+
+    private static double[] prod(final Matrix m, final double[] x) {
+        final double[] result = new double[m.height()];
+        for (int r = 0; r < m.height(); r++) {
+            double value = 0;
+            for (int c = 0; c < m.width(); c++) {
+                value += m.get(r, c) * x[c];
+            }
+            result[r] = value;
+        }
+
+        return result;
+    }
+
+    private static double norm(final Matrix m) {
+        double result = 0;
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                result += (double) m.get(r, c) * m.get(r, c);
+            }
+        }
+
+        return Math.sqrt(result);
+    }
+
+    private static double dot(final double[] x, final double[] y) {
+        double result = 0;
+        for (int i = 0; i < x.length; i++) {
+            result += x[i] * y[i];
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.alphameo.linear_algebra.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.VecMath;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Compares {@link VecMath} kernels on array-backed vectors with scalar loops
+ * over the {@link Vector} interface.
+ * <p>
+ * Every run is measured with Vector API kernels ({@code simd = true}) and
+ * with the scalar fallback forced by system property
+ * {@code io.github.alphameo.linear_algebra.simd}. Each parameter combination
+ * runs in its own fork, so the property is set before kernels are loaded.
+ * <p>
+ * Modifying operations work on {@code target}, which is reset to the same
+ * values before every invocation, so components do not grow between
+ * invocations. The reset adds the same timer overhead to both variants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VecKernelBenchmark {
+
+    @Param({ "3", "16", "64", "256", "768", "4096" })
+    public int size;
+
+    @Param({ "true", "false" })
+    public boolean simd;
+
+    private Vector v1;
+    private Vector v2;
+    private Vector target;
+
+    @Setup
+    public void setup() {
+        System.setProperty("io.github.alphameo.linear_algebra.simd", Boolean.toString(simd));
+        final Random random = new Random(42);
+        v1 = Fixtures.randomVec(random, size);
+        v2 = Fixtures.randomVec(random, size);
+        target = new Vec(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetTarget() {
+        for (int i = 0; i < size; i++) {
+            target.set(i, v1.get(i));
+        }
+    }
+
+    @Benchmark
+    public float dotInterface() {
+        float sum = 0;
+        for (int i = 0; i < v1.size(); i++) {
+            sum += v1.get(i) * v2.get(i);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public float dot() {
+        return VecMath.dot(v1, v2);
+    }
+
+    @Benchmark
+    public float len2Interface() {
+        float sum = 0;
+        for (int i = 0; i < v1.size(); i++) {
+            sum += v1.get(i) * v1.get(i);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public float len2() {
+        return VecMath.len2(v1);
+    }
+
+    @Benchmark
+    public Vector addInterface() {
+        for (int i = 0; i < target.size(); i++) {
+            target.set(i, target.get(i) + v2.get(i));
+        }
+
+        return target;
+    }
+
+    @Benchmark
+    public Vector add() {
+        return VecMath.add(target, v2);
+    }
+
+    @Benchmark
+    public Vector subInterface() {
+        for (int i = 0; i < target.size(); i++) {
+            target.set(i, target.get(i) - v2.get(i));
+        }
+
+        return target;
+    }
+
+    @Benchmark
+    public Vector sub() {
+        return VecMath.sub(target, v2);
+    }
+
+    @Benchmark
+    public Vector multInterface() {
+        for (int i = 0; i < target.size(); i++) {
+            target.set(i, target.get(i) * 1.0001f);
+        }
+
+        return target;
+    }
+
+    @Benchmark
+    public Vector mult() {
+        return VecMath.mult(target, 1.0001f);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.alphameo.linear_algebra.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alphameo.linear_algebra.vec.VecMath;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Measures {@link VecMath} operations on vectors of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VecMathBenchmark {
+
+    @Param({ "3", "64", "4096" })
+    public int size;
+
+    private Vector v1;
+    private Vector v2;
+    private Vector v3;
+    private Vector w3;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        v1 = Fixtures.randomVec(random, size);
+        v2 = Fixtures.randomVec(random, size);
+        v3 = Fixtures.randomVec(random, 3);
+        w3 = Fixtures.randomVec(random, 3);
+    }
+
+    @Benchmark
+    public float dot() {
+        return VecMath.dot(v1, v2);
+    }
+
+    @Benchmark
+    public float len() {
+        return VecMath.len(v1);
+    }
+
+    @Benchmark
+    public Vector normalized() {
+        return VecMath.normalized(v1);
+    }
+
+    @Benchmark
+    public Vector added() {
+        return VecMath.added(v1, v2);
+    }
+
+    @Benchmark
+    public Vector cross() {
+        return VecMath.cross(v3, w3);
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.alphameo.linear_algebra;
 
 import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.mat.MatrixD;
 import io.github.alphameo.linear_algebra.vec.Vector;
+import io.github.alphameo.linear_algebra.vec.VectorD;
 
 /**
  * Class with static functions of validation
@@ -76,6 +78,42 @@ public class Validator {
         }
     }
 
+    /**
+     * Checks double-precision vectors' sizes.
+     *
+     * @param v1         first vector for validation
+     * @param v2         second vector for validation
+     * @param errMessage specific message
+     * @throws IllegalArgumentException if vector sizes are different
+     *
+     * @since 2.1.0
+     */
+    public static void validateVectorSizes(final VectorD v1, final VectorD v2,
+            final String errMessage) throws IllegalArgumentException {
+        if (v1.size() != v2.size()) {
+            throw new IllegalArgumentException(String.format("%s: vectors with different lengths (%d and %d)",
+                    errMessage, v1.size(), v2.size()));
+        }
+    }
+
+    /**
+     * Checks double-precision matrices' sizes.
+     *
+     * @param m1         first matrix for validation
+     * @param m2         second matrix for validation
+     * @param errMessage specific message
+     * @throws IllegalArgumentException if matrix sizes are different
+     *
+     * @since 2.1.0
+     */
+    public static void validateMatrixSizes(final MatrixD m1, final MatrixD m2,
+            final String errMessage) {
+        if (m1.width() != m2.width() || m1.height() != m2.height()) {
+            throw new IllegalArgumentException(String.format("%s: matrices with different sizes (%dx%d and %dx%d)",
+                    errMessage, m1.height(), m1.width(), m2.height(), m2.width()));
+        }
+    }
+
     /**
      * Returns {@code true} if values are equal within {@code epsilon} tolerance
      * 
@@ -104,4 +142,20 @@ public class Validator {
     public static boolean equals(float value1, float value2) {
         return Math.abs(value1 - value2) < EPS;
     }
+
+    /**
+     * Returns {@code true} if double-precision values are equal within
+     * {@code epsilon} tolerance
+     *
+     * @param value1 first value for comparison
+     * @param value2 second value for comparison
+     * @param eps    tolerance
+     * @return {@code true} if values are equal within {@code epsilon} tolerance,
+     *         and {@code false} otherwise
+     *
+     * @since 2.1.0
+     */
+    public static boolean equalsEpsilon(double value1, double value2, double eps) {
+        return Math.abs(value1 - value2) < eps;
+    }
 }
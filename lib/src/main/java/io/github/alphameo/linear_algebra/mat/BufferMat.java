@@ -0,0 +1,194 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Matrix with elements stored row-major in a sequence of float buffers.
+ * <p>
+ * Each buffer (chunk) holds whole rows and at most {@link #CHUNK_BYTES} bytes,
+ * so matrix can have more than {@code Integer.MAX_VALUE} elements. After
+ * {@link #close()} buffers are released and any access to elements throws
+ * {@link IllegalStateException}.
+ * <p>
+ * Implementations are not thread-safe with respect to {@link #close()}.
+ *
+ * @since 2.1.0
+ */
+abstract class BufferMat implements Matrix, AutoCloseable {
+
+    /**
+     * Maximum size of one chunk in bytes.
+     */
+    static final long CHUNK_BYTES = 1L << 30;
+
+    private final int height;
+    private final int width;
+    private final int rowsPerChunk;
+    private FloatBuffer[] chunks;
+
+    /**
+     * Constructs matrix over given chunks.
+     *
+     * @param height       height of matrix
+     * @param width        width of matrix
+     * @param rowsPerChunk rows in every chunk except possibly the last one
+     * @param chunks       chunks of rows, element of row {@code r} and column
+     *                     {@code c} is at index
+     *                     {@code (r % rowsPerChunk) * width + c} of chunk
+     *                     {@code r / rowsPerChunk}
+     */
+    BufferMat(final int height, final int width, final int rowsPerChunk, final FloatBuffer[] chunks) {
+        this.height = height;
+        this.width = width;
+        this.rowsPerChunk = rowsPerChunk;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Returns maximum count of rows of given width, which fit into one chunk.
+     *
+     * @param width width of matrix
+     * @return count of rows in one chunk
+     * @throws IllegalArgumentException if one row does not fit into a chunk
+     */
+    static int rowsPerChunk(final int width) throws IllegalArgumentException {
+        if (width < 0 || (long) width * Float.BYTES > CHUNK_BYTES) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix creation denied: row of width %d does not fit into one buffer", width));
+        }
+
+        return (int) Math.min(Integer.MAX_VALUE, CHUNK_BYTES / Float.BYTES / Math.max(width, 1));
+    }
+
+    /**
+     * Returns count of chunks for matrix of given height.
+     *
+     * @param height       height of matrix
+     * @param rowsPerChunk rows in one chunk
+     * @return count of chunks
+     */
+    static int chunkCount(final int height, final int rowsPerChunk) {
+        return (int) (((long) height + rowsPerChunk - 1) / rowsPerChunk);
+    }
+
+    @Override
+    public float get(final int r, final int c) throws IllegalStateException {
+        checkIndex(r, c);
+        return chunks()[r / rowsPerChunk].get((r % rowsPerChunk) * width + c);
+    }
+
+    @Override
+    public void set(final int r, final int c, final float value) throws IllegalStateException {
+        checkIndex(r, c);
+        chunks()[r / rowsPerChunk].put((r % rowsPerChunk) * width + c, value);
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Copies row of matrix into {@code dest} array.
+     *
+     * @param r    index of row
+     * @param dest array of at least {@code width()} elements
+     * @throws IllegalStateException if matrix is closed
+     */
+    void row(final int r, final float[] dest) throws IllegalStateException {
+        checkIndex(r, 0);
+        chunks()[r / rowsPerChunk].get((r % rowsPerChunk) * width, dest, 0, width);
+    }
+
+    /**
+     * Copies consecutive rows of matrix into {@code dest} array row-major with
+     * one bulk read per chunk.
+     *
+     * @param r     index of the first row
+     * @param count count of rows
+     * @param dest  array of at least {@code count * width()} elements
+     * @throws IllegalStateException if matrix is closed
+     */
+    void rows(final int r, final int count, final float[] dest) throws IllegalStateException {
+        if (r < 0 || count < 0 || r + count > height) {
+            throw new ArrayIndexOutOfBoundsException(
+                    String.format("Rows %d..%d are out of matrix bounds", r, r + count - 1));
+        }
+
+        final FloatBuffer[] src = chunks();
+        int row = r;
+        int offset = 0;
+        while (row < r + count) {
+            final int chunkRows = Math.min(rowsPerChunk - row % rowsPerChunk, r + count - row);
+            src[row / rowsPerChunk].get((row % rowsPerChunk) * width, dest, offset, chunkRows * width);
+            row += chunkRows;
+            offset += chunkRows * width;
+        }
+    }
+
+    /**
+     * Copies {@code src} array into row of matrix.
+     *
+     * @param r   index of row
+     * @param src array of at least {@code width()} elements
+     * @throws IllegalStateException if matrix is closed
+     */
+    void setRow(final int r, final float[] src) throws IllegalStateException {
+        checkIndex(r, 0);
+        chunks()[r / rowsPerChunk].put((r % rowsPerChunk) * width, src, 0, width);
+    }
+
+    /**
+     * Returns {@code true} if matrix is not closed.
+     *
+     * @return {@code true} if elements of matrix can be accessed, and
+     *         {@code false} otherwise
+     *
+     * @since 2.1.0
+     */
+    public boolean isOpen() {
+        return chunks != null;
+    }
+
+    /**
+     * Releases buffers of matrix. Subsequent access to elements throws
+     * {@link IllegalStateException}. Closing closed matrix has no effect.
+     *
+     * @since 2.1.0
+     */
+    @Override
+    public void close() {
+        chunks = null;
+    }
+
+    @Override
+    public abstract BufferMat clone();
+
+    private FloatBuffer[] chunks() throws IllegalStateException {
+        final FloatBuffer[] result = chunks;
+        if (result == null) {
+            throw new IllegalStateException("Matrix access denied: matrix is closed");
+        }
+
+        return result;
+    }
+
+    private void checkIndex(final int r, final int c) {
+        if (r < 0 || r >= height) {
+            throw new ArrayIndexOutOfBoundsException(String.format("Row %d is out of matrix bounds", r));
+        }
+        if (c < 0 || c >= width) {
+            throw new ArrayIndexOutOfBoundsException(String.format("Column %d is out of matrix bounds", c));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isOpen() ? MatStringer.matrixToString(this) : String.format("closed matrix %dx%d", height, width);
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Optimal order of multiplication of matrix chain found by dynamic
+ * programming over counts of multiply-adds.
+ * <p>
+ * Plans depend only on sizes of matrices, so they are kept in a bounded
+ * least recently used cache keyed by the chain sizes.
+ *
+ * @since 2.1.0
+ */
+final class ChainPlan {
+
+    /**
+     * Maximal count of cached plans.
+     */
+    static final int CACHE_SIZE = 64;
+
+    private static final Map<Key, ChainPlan> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, ChainPlan> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Chain sizes with value-based equality.
+     */
+    private static final class Key {
+
+        private final int[] sizes;
+
+        private Key(final int[] sizes) {
+            this.sizes = sizes;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(sizes);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Key other && Arrays.equals(sizes, other.sizes);
+        }
+    }
+
+    private final int count;
+    private final int[] splits;
+    private final long cost;
+
+    /**
+     * Finds optimal order for chain of {@code sizes.length - 1} matrices,
+     * where matrix {@code i} has size {@code sizes[i]} x {@code sizes[i + 1]}.
+     */
+    private ChainPlan(final int[] sizes) {
+        count = sizes.length - 1;
+        splits = new int[count * count];
+        final long[] costs = new long[count * count];
+        for (int length = 2; length <= count; length++) {
+            for (int i = 0; i + length - 1 < count; i++) {
+                final int j = i + length - 1;
+                long best = Long.MAX_VALUE;
+                for (int s = i; s < j; s++) {
+                    final long value = costs[i * count + s] + costs[(s + 1) * count + j]
+                            + (long) sizes[i] * sizes[s + 1] * sizes[j + 1];
+                    if (value < best) {
+                        best = value;
+                        splits[i * count + j] = s;
+                    }
+                }
+                costs[i * count + j] = best;
+            }
+        }
+        cost = costs[count - 1];
+    }
+
+    /**
+     * Returns plan for given chain sizes from cache, or finds and caches it.
+     */
+    static ChainPlan of(final int[] sizes) {
+        final Key key = new Key(sizes);
+        synchronized (CACHE) {
+            final ChainPlan cached = CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        final ChainPlan plan = new ChainPlan(sizes);
+        synchronized (CACHE) {
+            CACHE.put(key, plan);
+        }
+
+        return plan;
+    }
+
+    /**
+     * Returns index of the last matrix of the left factor of product of
+     * matrices {@code [i, j]}.
+     */
+    int split(final int i, final int j) {
+        return splits[i * count + j];
+    }
+
+    /**
+     * Returns count of multiply-adds of the whole chain in this order.
+     */
+    long cost() {
+        return cost;
+    }
+
+    /**
+     * Multiplies matrices {@code [i, j]} of chain in this order.
+     */
+    Matrix prod(final Matrix[] matrices, final int i, final int j) {
+        if (i == j) {
+            return matrices[i];
+        }
+
+        final int s = split(i, j);
+        return MatMath.prod(prod(matrices, i, s), prod(matrices, s + 1, j));
+    }
+}
@@ -0,0 +1,486 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Cholesky decomposition of symmetric positive definite matrix.
+ * <p>
+ * For matrix {@code A} finds lower triangular {@code L} with positive
+ * diagonal, such that {@code A = L * transpose(L)}. Decomposition needs about
+ * half of the operations of {@link LUDecomposition} and no pivoting. Only the
+ * lower triangle of the decomposed matrix is read. Matrices of size above
+ * 512 are decomposed by blocks, so the most of the work is done by the matrix
+ * product kernel.
+ * <p>
+ * Factor can be changed in O(n^2) by {@link #update(Vector)} and
+ * {@link #downdate(Vector)}, which is much cheaper than new decomposition of
+ * slightly changed matrix. These methods are not thread-safe.
+ *
+ * @since 2.1.0
+ */
+public class CholeskyDecomposition {
+
+    /**
+     * Rows in block of blocked decomposition and triangular solve.
+     */
+    private static final int BLOCK = 64;
+
+    /**
+     * Matrices of greater size are decomposed by blocks.
+     */
+    private static final int BLOCKED_THRESHOLD = 512;
+
+    private final int size;
+    /**
+     * {@code L} in the lower triangle with diagonal and {@code transpose(L)}
+     * in the upper triangle, so both triangular solves walk rows.
+     */
+    private final float[] factor;
+    private final boolean positiveDefinite;
+
+    /**
+     * Decomposes given symmetric matrix.
+     *
+     * @param m symmetric matrix for decomposition, only its lower triangle is
+     *          read
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 2.1.0
+     */
+    public CholeskyDecomposition(final Matrix m) throws UnsupportedOperationException {
+        if (!MatMath.square(m)) {
+            throw new UnsupportedOperationException("Cholesky decomposition does not exist: matrix is not square");
+        }
+
+        size = m.height();
+        factor = new Mat(m).data();
+        positiveDefinite = size > BLOCKED_THRESHOLD ? decomposeBlocked() : decompose(0, size);
+        if (positiveDefinite) {
+            mirror();
+        }
+    }
+
+    /**
+     * Decomposes diagonal block {@code [from, to)} in place, whose elements
+     * are already updated with all previous columns.
+     *
+     * @return {@code false} if non-positive pivot is found
+     */
+    private boolean decompose(final int from, final int to) {
+        for (int j = from; j < to; j++) {
+            final int rowJ = j * size;
+            double diagonal = factor[rowJ + j];
+            for (int p = from; p < j; p++) {
+                diagonal -= (double) factor[rowJ + p] * factor[rowJ + p];
+            }
+            if (!(diagonal > 0)) {
+                return false;
+            }
+
+            final float pivot = (float) Math.sqrt(diagonal);
+            factor[rowJ + j] = pivot;
+            for (int i = j + 1; i < to; i++) {
+                final int rowI = i * size;
+                double value = factor[rowI + j];
+                for (int p = from; p < j; p++) {
+                    value -= (double) factor[rowI + p] * factor[rowJ + p];
+                }
+                factor[rowI + j] = (float) (value / pivot);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Right-looking blocked decomposition: factors diagonal block, solves
+     * panel below it and subtracts the panel product from the lower triangle
+     * of the trailing matrix.
+     *
+     * @return {@code false} if non-positive pivot is found
+     */
+    private boolean decomposeBlocked() {
+        final float[] panelT = new float[BLOCK * size];
+        for (int start = 0; start < size; start += BLOCK) {
+            final int end = Math.min(start + BLOCK, size);
+            final int width = end - start;
+            if (!decompose(start, end)) {
+                return false;
+            }
+
+            for (int i = end; i < size; i++) {
+                final int rowI = i * size;
+                for (int j = start; j < end; j++) {
+                    final int rowJ = j * size;
+                    float value = factor[rowI + j];
+                    for (int p = start; p < j; p++) {
+                        value -= factor[rowI + p] * factor[rowJ + p];
+                    }
+                    factor[rowI + j] = value / factor[rowJ + j];
+                }
+            }
+
+            final int rest = size - end;
+            for (int p = 0; p < width; p++) {
+                for (int i = 0; i < rest; i++) {
+                    panelT[p * rest + i] = factor[(end + i) * size + start + p];
+                }
+            }
+            for (int rowStart = end; rowStart < size; rowStart += BLOCK) {
+                final int rowEnd = Math.min(rowStart + BLOCK, size);
+                Gemm.gemm(rowEnd - rowStart, rowEnd - end, width, -1,
+                        factor, rowStart * size + start, size,
+                        panelT, 0, rest,
+                        factor, rowStart * size + end, size);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Copies {@code L} into the upper triangle as {@code transpose(L)}.
+     */
+    private void mirror() {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < i; j++) {
+                factor[j * size + i] = factor[i * size + j];
+            }
+        }
+    }
+
+    /**
+     * Returns size of decomposed matrix.
+     *
+     * @return height and width of decomposed matrix
+     *
+     * @since 2.1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if decomposed matrix is positive definite, so the
+     * factor exists.
+     *
+     * @return {@code true} if decomposed matrix is positive definite, and
+     *         {@code false} otherwise
+     *
+     * @since 2.1.0
+     */
+    public boolean positiveDefinite() {
+        return positiveDefinite;
+    }
+
+    /**
+     * Constructs lower triangular factor {@code L}.
+     *
+     * @return new matrix {@code L}
+     * @throws RuntimeException if decomposed matrix is not positive definite
+     *
+     * @since 2.1.0
+     */
+    public Matrix l() throws RuntimeException {
+        validatePositiveDefinite();
+
+        final Mat result = new Mat(size);
+        final float[] data = result.data();
+        for (int r = 0; r < size; r++) {
+            System.arraycopy(factor, r * size, data, r * size, r + 1);
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates determinant of decomposed matrix.
+     *
+     * @return determinant of decomposed matrix
+     * @throws RuntimeException if decomposed matrix is not positive definite
+     *
+     * @since 2.1.0
+     */
+    public float det() throws RuntimeException {
+        validatePositiveDefinite();
+
+        float determinant = 1;
+        for (int i = 0; i < size; i++) {
+            final float diagonal = factor[i * size + i];
+            determinant *= diagonal * diagonal;
+        }
+
+        return determinant;
+    }
+
+    /**
+     * Calculates natural logarithm of determinant of decomposed matrix.
+     * <p>
+     * Logarithm is summed over diagonal of the factor, so it stays finite when
+     * determinant itself overflows or underflows {@code float}.
+     *
+     * @return logarithm of determinant of decomposed matrix
+     * @throws RuntimeException if decomposed matrix is not positive definite
+     *
+     * @since 2.1.0
+     */
+    public float logDet() throws RuntimeException {
+        validatePositiveDefinite();
+
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += Math.log(factor[i * size + i]);
+        }
+
+        return (float) (2 * sum);
+    }
+
+    /**
+     * Solves {@code A * x = b}.
+     *
+     * @param b right-hand side vector
+     * @return new vector {@code x}
+     * @throws IllegalArgumentException if vector size is not equal to matrix size
+     * @throws RuntimeException         if decomposed matrix is not positive
+     *                                  definite
+     *
+     * @since 2.1.0
+     */
+    public Vector solve(final Vector b) throws RuntimeException {
+        if (b.size() != size) {
+            throw new IllegalArgumentException(String.format(
+                    "Linear system solution denied: matrix with size %dx%d and vector with size %d",
+                    size, size, b.size()));
+        }
+        validatePositiveDefinite();
+
+        final float[] x = new float[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = b.get(i);
+        }
+        forward(x);
+
+        for (int i = size - 1; i >= 0; i--) {
+            final int row = i * size;
+            float value = x[i];
+            for (int k = i + 1; k < size; k++) {
+                value -= factor[row + k] * x[k];
+            }
+            x[i] = value / factor[row + i];
+        }
+
+        return new Vec(x);
+    }
+
+    /**
+     * Replaces {@code x} with solution of {@code L * y = x}.
+     */
+    private void forward(final float[] x) {
+        for (int i = 0; i < size; i++) {
+            final int row = i * size;
+            float value = x[i];
+            for (int k = 0; k < i; k++) {
+                value -= factor[row + k] * x[k];
+            }
+            x[i] = value / factor[row + i];
+        }
+    }
+
+    /**
+     * Solves {@code A * X = B} for all columns of {@code B} at once.
+     *
+     * @param b right-hand side matrix
+     * @return new matrix {@code X}
+     * @throws IllegalArgumentException if matrix {@code B} height is not equal to
+     *                                  decomposed matrix size
+     * @throws RuntimeException         if decomposed matrix is not positive
+     *                                  definite
+     *
+     * @since 2.1.0
+     */
+    public Matrix solve(final Matrix b) throws RuntimeException {
+        if (b.height() != size) {
+            throw new IllegalArgumentException(String.format(
+                    "Linear system solution denied: matrices with sizes %dx%d and %dx%d",
+                    size, size, b.height(), b.width()));
+        }
+        validatePositiveDefinite();
+
+        final Mat result = new Mat(b);
+        solveInPlace(result.data(), b.width());
+
+        return result;
+    }
+
+    /**
+     * Constructs inverse matrix of decomposed matrix.
+     *
+     * @return new inverse matrix
+     * @throws RuntimeException if decomposed matrix is not positive definite
+     *
+     * @since 2.1.0
+     */
+    public Matrix inverse() throws RuntimeException {
+        validatePositiveDefinite();
+
+        final Mat result = new Mat(size);
+        final float[] x = result.data();
+        for (int i = 0; i < size; i++) {
+            x[i * size + i] = 1;
+        }
+
+        solveInPlace(x, size);
+
+        return result;
+    }
+
+    /**
+     * Replaces right-hand sides stored row-major in {@code x} with solutions.
+     * <p>
+     * Triangular solves are blocked by {@link #BLOCK} rows as in
+     * {@link LUDecomposition}: rows of a block are first updated with all
+     * already solved rows by a single matrix product, and only the small
+     * diagonal block is solved row by row.
+     */
+    private void solveInPlace(final float[] x, final int width) {
+        for (int start = 0; start < size; start += BLOCK) {
+            final int end = Math.min(start + BLOCK, size);
+            Gemm.gemm(end - start, width, start, -1,
+                    factor, start * size, size,
+                    x, 0, width,
+                    x, start * width, width);
+
+            for (int i = start; i < end; i++) {
+                for (int k = start; k < i; k++) {
+                    axpy(-factor[i * size + k], x, k * width, i * width, width);
+                }
+                scale(1 / factor[i * size + i], x, i * width, width);
+            }
+        }
+
+        final int lastStart = (size - 1) / BLOCK * BLOCK;
+        for (int start = lastStart; start >= 0; start -= BLOCK) {
+            final int end = Math.min(start + BLOCK, size);
+            Gemm.gemm(end - start, width, size - end, -1,
+                    factor, start * size + end, size,
+                    x, end * width, width,
+                    x, start * width, width);
+
+            for (int i = end - 1; i >= start; i--) {
+                for (int k = i + 1; k < end; k++) {
+                    axpy(-factor[i * size + k], x, k * width, i * width, width);
+                }
+                scale(1 / factor[i * size + i], x, i * width, width);
+            }
+        }
+    }
+
+    private static void axpy(final float alpha, final float[] x, final int source, final int dest,
+            final int width) {
+        if (alpha == 0) {
+            return;
+        }
+        for (int c = 0; c < width; c++) {
+            x[dest + c] += alpha * x[source + c];
+        }
+    }
+
+    private static void scale(final float alpha, final float[] x, final int row, final int width) {
+        for (int c = 0; c < width; c++) {
+            x[row + c] *= alpha;
+        }
+    }
+
+    /**
+     * Changes factor to the factor of {@code A + v * transpose(v)} in O(n^2).
+     *
+     * @param v vector of rank-1 update
+     * @return current decomposition
+     * @throws IllegalArgumentException if vector size is not equal to matrix size
+     * @throws RuntimeException         if decomposed matrix is not positive
+     *                                  definite
+     *
+     * @since 2.1.0
+     */
+    public CholeskyDecomposition update(final Vector v) throws RuntimeException {
+        rotate(copy(v, "Cholesky update denied"), 1);
+
+        return this;
+    }
+
+    /**
+     * Changes factor to the factor of {@code A - v * transpose(v)} in O(n^2).
+     * <p>
+     * Factor is not changed if the result is not positive definite.
+     *
+     * @param v vector of rank-1 downdate
+     * @return current decomposition
+     * @throws IllegalArgumentException if vector size is not equal to matrix size
+     * @throws RuntimeException         if decomposed matrix or the result is not
+     *                                  positive definite
+     *
+     * @since 2.1.0
+     */
+    public CholeskyDecomposition downdate(final Vector v) throws RuntimeException {
+        final float[] x = copy(v, "Cholesky downdate denied");
+
+        // A - v * transpose(v) is positive definite iff |inverse(L) * v| < 1
+        final float[] p = x.clone();
+        forward(p);
+        double norm2 = 0;
+        for (final float value : p) {
+            norm2 += (double) value * value;
+        }
+        if (!(norm2 < 1)) {
+            throw new RuntimeException("Cholesky downdate denied: result is not positive definite");
+        }
+
+        rotate(x, -1);
+
+        return this;
+    }
+
+    private float[] copy(final Vector v, final String errMessage) throws RuntimeException {
+        if (v.size() != size) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: matrix with size %dx%d and vector with size %d", errMessage, size, size, v.size()));
+        }
+        validatePositiveDefinite();
+
+        final float[] result = new float[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = v.get(i);
+        }
+
+        return result;
+    }
+
+    /**
+     * Applies rotations, which add ({@code sign = 1}) or remove
+     * ({@code sign = -1}) {@code x * transpose(x)}, column by column. The upper
+     * triangle is updated together with the lower one.
+     */
+    private void rotate(final float[] x, final int sign) {
+        for (int k = 0; k < size; k++) {
+            final int rowK = k * size;
+            final double diagonal = factor[rowK + k];
+            final double radius = Math.sqrt(diagonal * diagonal + sign * (double) x[k] * x[k]);
+            final double c = radius / diagonal;
+            final double s = x[k] / diagonal;
+            factor[rowK + k] = (float) radius;
+            for (int i = k + 1; i < size; i++) {
+                final float value = (float) ((factor[i * size + k] + sign * s * x[i]) / c);
+                factor[i * size + k] = value;
+                factor[rowK + i] = value;
+                x[i] = (float) (c * x[i] - s * value);
+            }
+        }
+    }
+
+    private void validatePositiveDefinite() throws RuntimeException {
+        if (!positiveDefinite) {
+            throw new RuntimeException("Cholesky factor does not exist: matrix is not positive definite");
+        }
+    }
+}
@@ -0,0 +1,649 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Eigenvalue decomposition of symmetric matrix.
+ * <p>
+ * For symmetric matrix {@code A} finds real eigenvalues {@code lambda_i} and
+ * orthonormal eigenvectors {@code v_i}, such that
+ * {@code A * v_i = lambda_i * v_i}. Matrix is reduced to tridiagonal form
+ * {@code T = transpose(Q) * A * Q} by Householder reflectors, then
+ * eigenvalues of {@code T} are found by implicit QL iterations with Wilkinson
+ * shifts. Only the lower triangle of the decomposed matrix is read, and all
+ * computations are done in double precision.
+ * <p>
+ * Eigenvalues are ordered from the largest to the smallest. Eigenvectors are
+ * computed in three modes:
+ * <ul>
+ * <li>all eigenvectors by {@link #EigenDecomposition(Matrix)}, rotations of
+ * QL iterations are accumulated into {@code Q};</li>
+ * <li>no eigenvectors by {@link #EigenDecomposition(Matrix, boolean)}, which
+ * skips all accumulation;</li>
+ * <li>eigenvectors of {@code k} largest eigenvalues by
+ * {@link #largest(Matrix, int)}, which finds eigenvectors of {@code T} by
+ * inverse iteration and transforms only them back by the reflectors.</li>
+ * </ul>
+ *
+ * @since 2.1.0
+ */
+public class EigenDecomposition {
+
+    private static final double EPS = Math.ulp(1.0);
+
+    /**
+     * Maximal count of QL iterations for one eigenvalue.
+     */
+    private static final int MAX_ITERATIONS = 60;
+
+    /**
+     * Count of inverse iterations for one eigenvector.
+     */
+    private static final int INVERSE_ITERATIONS = 3;
+
+    private final int size;
+    /**
+     * Eigenvalues from the largest to the smallest.
+     */
+    private final float[] values;
+    /**
+     * Eigenvectors as columns of {@code size x values.length} matrix, or
+     * {@code null}.
+     */
+    private final Mat vectors;
+
+    /**
+     * Decomposes given symmetric matrix computing all eigenvalues and
+     * eigenvectors.
+     *
+     * @param m symmetric matrix for decomposition, only its lower triangle is
+     *          read
+     * @throws UnsupportedOperationException if matrix is not square
+     * @throws RuntimeException              if QL iterations do not converge
+     *
+     * @since 2.1.0
+     */
+    public EigenDecomposition(final Matrix m) throws UnsupportedOperationException, RuntimeException {
+        this(m, true);
+    }
+
+    /**
+     * Decomposes given symmetric matrix computing all eigenvalues and, if
+     * requested, all eigenvectors.
+     *
+     * @param m       symmetric matrix for decomposition, only its lower
+     *                triangle is read
+     * @param vectors {@code false} to compute eigenvalues only
+     * @throws UnsupportedOperationException if matrix is not square
+     * @throws RuntimeException              if QL iterations do not converge
+     *
+     * @since 2.1.0
+     */
+    public EigenDecomposition(final Matrix m, final boolean vectors)
+            throws UnsupportedOperationException, RuntimeException {
+        final Tridiagonal t = new Tridiagonal(m);
+        size = t.size;
+        final double[] d = t.d.clone();
+        final double[] e = t.e.clone();
+        if (!vectors) {
+            ql(d, e, null);
+            values = descending(d, null, null);
+            this.vectors = null;
+            return;
+        }
+
+        final double[] z = t.transposedQ();
+        ql(d, e, z);
+        final int[] order = new int[size];
+        values = descending(d, order, null);
+        this.vectors = new Mat(size, size);
+        final float[] data = this.vectors.data();
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                data[r * size + c] = (float) z[order[c] * size + r];
+            }
+        }
+    }
+
+    private EigenDecomposition(final int size, final float[] values, final Mat vectors) {
+        this.size = size;
+        this.values = values;
+        this.vectors = vectors;
+    }
+
+    /**
+     * Decomposes given symmetric matrix computing {@code k} largest
+     * eigenvalues and their eigenvectors.
+     * <p>
+     * All eigenvalues are computed without accumulation of rotations, which
+     * costs O(n^2) after tridiagonalization, then only {@code k} eigenvectors
+     * are computed in O(k * n^2), so for {@code k} much less than {@code n}
+     * this is much faster than full decomposition.
+     *
+     * @param m symmetric matrix for decomposition, only its lower triangle is
+     *          read
+     * @param k count of eigenpairs
+     * @return new decomposition with {@code k} eigenpairs
+     * @throws UnsupportedOperationException if matrix is not square
+     * @throws IllegalArgumentException      if {@code k} is not in range from 1
+     *                                       to matrix size
+     * @throws RuntimeException              if QL iterations do not converge
+     *
+     * @since 2.1.0
+     */
+    public static EigenDecomposition largest(final Matrix m, final int k)
+            throws UnsupportedOperationException, IllegalArgumentException, RuntimeException {
+        final Tridiagonal t = new Tridiagonal(m);
+        if (k < 1 || k > t.size) {
+            throw new IllegalArgumentException(String.format(
+                    "Eigen decomposition denied: %d eigenpairs of matrix with size %dx%d", k, t.size, t.size));
+        }
+
+        final double[] d = t.d.clone();
+        final double[] e = t.e.clone();
+        ql(d, e, null);
+        final double[] lambdas = new double[k];
+        final float[] values = descending(d, null, lambdas);
+        final Mat vectors = new Mat(t.size, k);
+        final float[] data = vectors.data();
+        final double[][] found = new double[k][];
+        for (int i = 0; i < k; i++) {
+            found[i] = t.inverseIteration(lambdas[i], found, lambdas, i);
+            final double[] v = t.backTransformed(found[i]);
+            for (int r = 0; r < t.size; r++) {
+                data[r * k + i] = (float) v[r];
+            }
+        }
+
+        return new EigenDecomposition(t.size, Arrays.copyOf(values, k), vectors);
+    }
+
+    /**
+     * Implicit QL iterations on tridiagonal matrix with diagonal {@code d} and
+     * subdiagonal {@code e}, {@code e[i]} is between rows {@code i} and
+     * {@code i + 1}. Rotations are accumulated into rows of {@code z}, if it
+     * is not {@code null}: rows of transposed matrix are contiguous, so every
+     * rotation walks memory sequentially.
+     */
+    private static void ql(final double[] d, final double[] e, final double[] z) throws RuntimeException {
+        final int n = d.length;
+        double f = 0;
+        double tst1 = 0;
+        for (int l = 0; l < n; l++) {
+            tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+            int m = l;
+            while (m < n - 1 && Math.abs(e[m]) > EPS * tst1) {
+                m++;
+            }
+
+            if (m > l) {
+                int iteration = 0;
+                do {
+                    if (++iteration > MAX_ITERATIONS) {
+                        throw new RuntimeException("Eigen decomposition denied: QL iterations do not converge");
+                    }
+
+                    double g = d[l];
+                    double p = (d[l + 1] - g) / (2 * e[l]);
+                    double r = Math.hypot(p, 1);
+                    if (p < 0) {
+                        r = -r;
+                    }
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    final double dl1 = d[l + 1];
+                    double h = g - d[l];
+                    for (int i = l + 2; i < n; i++) {
+                        d[i] -= h;
+                    }
+                    f += h;
+
+                    p = d[m];
+                    double c = 1;
+                    double c2 = c;
+                    double c3 = c;
+                    final double el1 = e[l + 1];
+                    double s = 0;
+                    double s2 = 0;
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = Math.hypot(p, e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+                        if (z != null) {
+                            final int row = i * n;
+                            final int next = row + n;
+                            for (int k = 0; k < n; k++) {
+                                h = z[next + k];
+                                z[next + k] = s * z[row + k] + c * h;
+                                z[row + k] = c * z[row + k] - s * h;
+                            }
+                        }
+                    }
+                    p = -s * s2 * c3 * el1 * e[l] / dl1;
+                    e[l] = s * p;
+                    d[l] = c * p;
+                } while (Math.abs(e[l]) > EPS * tst1);
+            }
+            d[l] += f;
+            e[l] = 0;
+        }
+    }
+
+    /**
+     * Returns eigenvalues from the largest to the smallest, writes their
+     * indices in {@code d} into {@code order} and the largest of them into
+     * {@code largest}, if these arrays are not {@code null}.
+     */
+    private static float[] descending(final double[] d, final int[] order, final double[] largest) {
+        final int n = d.length;
+        final int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            indices[i] = i;
+        }
+        // insertion sort, O(n^2) is negligible against decomposition
+        for (int i = 1; i < n; i++) {
+            final int index = indices[i];
+            int j = i - 1;
+            while (j >= 0 && d[indices[j]] < d[index]) {
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            indices[j + 1] = index;
+        }
+
+        final float[] result = new float[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = (float) d[indices[i]];
+            if (order != null) {
+                order[i] = indices[i];
+            }
+            if (largest != null && i < largest.length) {
+                largest[i] = d[indices[i]];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Householder reduction {@code T = transpose(Q) * A * Q} of symmetric
+     * matrix to tridiagonal form. Reflector {@code k} is
+     * {@code I - tau[k] * v * transpose(v)} with {@code v} stored in row
+     * {@code k} right of the superdiagonal and implied 1 on the superdiagonal,
+     * so reflectors are read contiguously.
+     */
+    private static final class Tridiagonal {
+
+        private final int size;
+        private final double[] a;
+        private final double[] tau;
+        private final double[] d;
+        private final double[] e;
+
+        private Tridiagonal(final Matrix m) throws UnsupportedOperationException {
+            if (!MatMath.square(m)) {
+                throw new UnsupportedOperationException("Eigen decomposition does not exist: matrix is not square");
+            }
+
+            size = m.height();
+            final int n = size;
+            a = new double[n * n];
+            for (int r = 0; r < n; r++) {
+                for (int c = 0; c <= r; c++) {
+                    a[r * n + c] = m.get(r, c);
+                    a[c * n + r] = a[r * n + c];
+                }
+            }
+            tau = new double[Math.max(n - 2, 0)];
+            d = new double[n];
+            e = new double[n];
+
+            final double[] p = new double[n];
+            for (int k = 0; k < n - 2; k++) {
+                reduce(k, p);
+            }
+            for (int i = 0; i < n; i++) {
+                d[i] = a[i * n + i];
+                if (i < n - 1) {
+                    e[i] = a[(i + 1) * n + i];
+                }
+            }
+        }
+
+        /**
+         * Annihilates column {@code k} below the subdiagonal and applies the
+         * reflector from both sides to the trailing matrix.
+         */
+        private void reduce(final int k, final double[] p) {
+            final int n = size;
+            final int first = k + 1;
+            double norm2 = 0;
+            for (int i = first + 1; i < n; i++) {
+                norm2 += a[i * n + k] * a[i * n + k];
+            }
+            if (norm2 == 0) {
+                tau[k] = 0;
+                return;
+            }
+
+            final double alpha = a[first * n + k];
+            final double norm = Math.sqrt(alpha * alpha + norm2);
+            final double beta = alpha > 0 ? -norm : norm;
+            final double t = (beta - alpha) / beta;
+            final double scale = 1 / (alpha - beta);
+            tau[k] = t;
+            a[first * n + k] = beta;
+            a[k * n + first] = beta;
+            final int reflector = k * n;
+            for (int i = first + 1; i < n; i++) {
+                a[reflector + i] *= scale;
+                a[i * n + k] = 0;
+            }
+
+            // p = tau * A22 * v, w = p - tau / 2 * (p . v) * v, A22 -= v * w' + w * v'
+            double pv = 0;
+            for (int i = first; i < n; i++) {
+                final int row = i * n;
+                double value = a[row + first];
+                for (int j = first + 1; j < n; j++) {
+                    value += a[row + j] * a[reflector + j];
+                }
+                p[i] = t * value;
+                pv += p[i] * v(i, k);
+            }
+            final double half = t / 2 * pv;
+            for (int i = first; i < n; i++) {
+                p[i] -= half * v(i, k);
+            }
+            for (int i = first; i < n; i++) {
+                final int row = i * n;
+                final double vi = v(i, k);
+                final double wi = p[i];
+                a[row + first] -= vi * p[first] + wi;
+                for (int j = first + 1; j < n; j++) {
+                    a[row + j] -= vi * p[j] + wi * a[reflector + j];
+                }
+            }
+        }
+
+        private double v(final int i, final int k) {
+            return i == k + 1 ? 1 : a[k * size + i];
+        }
+
+        /**
+         * Applies reflectors to vector of tridiagonal basis:
+         * {@code Q * x = H_0 * ... * H_(n-3) * x}.
+         */
+        private double[] backTransformed(final double[] x) {
+            final double[] result = x.clone();
+            for (int k = size - 3; k >= 0; k--) {
+                applyReflector(k, result, 0);
+            }
+
+            return result;
+        }
+
+        /**
+         * Applies reflector {@code k} to vector stored in {@code x} starting at
+         * {@code offset}.
+         */
+        private void applyReflector(final int k, final double[] x, final int offset) {
+            if (tau[k] == 0) {
+                return;
+            }
+
+            double dot = 0;
+            for (int i = k + 1; i < size; i++) {
+                dot += v(i, k) * x[offset + i];
+            }
+            dot *= tau[k];
+            for (int i = k + 1; i < size; i++) {
+                x[offset + i] -= dot * v(i, k);
+            }
+        }
+
+        /**
+         * Constructs row-major {@code transpose(Q)}, its rows are columns of
+         * {@code Q}.
+         */
+        private double[] transposedQ() {
+            final int n = size;
+            final double[] result = new double[n * n];
+            for (int i = 0; i < n; i++) {
+                result[i * n + i] = 1;
+            }
+            for (int k = n - 3; k >= 0; k--) {
+                if (tau[k] == 0) {
+                    continue;
+                }
+                // columns before k + 1 are not changed by H_k * ... * H_(n-3)
+                for (int c = k + 1; c < n; c++) {
+                    applyReflector(k, result, c * n);
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         * Finds eigenvector of tridiagonal matrix for eigenvalue
+         * {@code lambda} by inverse iteration with partial pivoting,
+         * orthogonalizing it against already found vectors of close
+         * eigenvalues.
+         */
+        private double[] inverseIteration(final double lambda, final double[][] found, final double[] lambdas,
+                final int count) {
+            final int n = size;
+            double norm = 0;
+            for (int i = 0; i < n; i++) {
+                norm = Math.max(norm, Math.abs(d[i]) + (i > 0 ? Math.abs(e[i - 1]) : 0) + Math.abs(e[i]));
+            }
+            final double tiny = Math.max(EPS * norm, Double.MIN_NORMAL);
+            final double clusterGap = 1e-3 * norm;
+
+            // LU factorization of T - lambda * I with row interchanges
+            final double[] diagonal = new double[n];
+            final double[] upper = new double[n];
+            final double[] upper2 = new double[n];
+            final double[] lower = new double[n];
+            final boolean[] swapped = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                diagonal[i] = d[i] - lambda;
+                if (i < n - 1) {
+                    upper[i] = e[i];
+                    lower[i] = e[i];
+                }
+            }
+            for (int i = 0; i < n - 1; i++) {
+                if (Math.abs(diagonal[i]) >= Math.abs(lower[i])) {
+                    if (diagonal[i] == 0) {
+                        diagonal[i] = tiny;
+                    }
+                    final double factor = lower[i] / diagonal[i];
+                    lower[i] = factor;
+                    diagonal[i + 1] -= factor * upper[i];
+                } else {
+                    final double factor = diagonal[i] / lower[i];
+                    diagonal[i] = lower[i];
+                    lower[i] = factor;
+                    final double tmp = upper[i];
+                    upper[i] = diagonal[i + 1];
+                    diagonal[i + 1] = tmp - factor * diagonal[i + 1];
+                    if (i < n - 2) {
+                        upper2[i] = upper[i + 1];
+                        upper[i + 1] = -factor * upper[i + 1];
+                    }
+                    swapped[i] = true;
+                }
+            }
+            if (diagonal[n - 1] == 0) {
+                diagonal[n - 1] = tiny;
+            }
+
+            final double[] x = new double[n];
+            long seed = 0x9E3779B97F4A7C15L * (count + 1);
+            for (int i = 0; i < n; i++) {
+                seed = seed * 6364136223846793005L + 1442695040888963407L;
+                x[i] = ((seed >>> 11) * 0x1.0p-53) - 0.5;
+            }
+
+            for (int iteration = 0; iteration < INVERSE_ITERATIONS; iteration++) {
+                for (int i = 0; i < n - 1; i++) {
+                    if (swapped[i]) {
+                        final double tmp = x[i];
+                        x[i] = x[i + 1];
+                        x[i + 1] = tmp - lower[i] * x[i + 1];
+                    } else {
+                        x[i + 1] -= lower[i] * x[i];
+                    }
+                }
+                x[n - 1] /= diagonal[n - 1];
+                if (n > 1) {
+                    x[n - 2] = (x[n - 2] - upper[n - 2] * x[n - 1]) / diagonal[n - 2];
+                }
+                for (int i = n - 3; i >= 0; i--) {
+                    x[i] = (x[i] - upper[i] * x[i + 1] - upper2[i] * x[i + 2]) / diagonal[i];
+                }
+
+                for (int j = 0; j < count; j++) {
+                    if (Math.abs(lambdas[j] - lambda) <= clusterGap) {
+                        double dot = 0;
+                        for (int i = 0; i < n; i++) {
+                            dot += found[j][i] * x[i];
+                        }
+                        for (int i = 0; i < n; i++) {
+                            x[i] -= dot * found[j][i];
+                        }
+                    }
+                }
+                double len = 0;
+                for (final double value : x) {
+                    len += value * value;
+                }
+                len = Math.sqrt(len);
+                for (int i = 0; i < n; i++) {
+                    x[i] /= len;
+                }
+            }
+
+            return x;
+        }
+    }
+
+    /**
+     * Returns size of decomposed matrix.
+     *
+     * @return height and width of decomposed matrix
+     *
+     * @since 2.1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns count of computed eigenvalues.
+     *
+     * @return size of decomposed matrix, or {@code k} for decomposition
+     *         constructed by {@link #largest(Matrix, int)}
+     *
+     * @since 2.1.0
+     */
+    public int count() {
+        return values.length;
+    }
+
+    /**
+     * Returns {@code true} if eigenvectors are computed.
+     *
+     * @return {@code true} if eigenvectors are computed, and {@code false} for
+     *         eigenvalues-only decomposition
+     *
+     * @since 2.1.0
+     */
+    public boolean hasEigenvectors() {
+        return vectors != null;
+    }
+
+    /**
+     * Returns eigenvalue with given index.
+     *
+     * @param i index of eigenvalue, 0 for the largest one
+     * @return eigenvalue
+     * @throws ArrayIndexOutOfBoundsException if index is out of computed
+     *                                        eigenvalues
+     *
+     * @since 2.1.0
+     */
+    public float eigenvalue(final int i) {
+        return values[i];
+    }
+
+    /**
+     * Constructs vector of eigenvalues from the largest to the smallest.
+     *
+     * @return new vector of size {@link #count()}
+     *
+     * @since 2.1.0
+     */
+    public Vector eigenvalues() {
+        return new Vec(values);
+    }
+
+    /**
+     * Constructs matrix with eigenvectors as columns in order of eigenvalues.
+     *
+     * @return new matrix {@link #size()} x {@link #count()}
+     * @throws IllegalStateException if eigenvectors are not computed
+     *
+     * @since 2.1.0
+     */
+    public Matrix eigenvectors() throws IllegalStateException {
+        validateEigenvectors();
+
+        return new Mat(vectors);
+    }
+
+    /**
+     * Constructs eigenvector of eigenvalue with given index.
+     *
+     * @param i index of eigenvalue, 0 for the largest one
+     * @return new unit vector of size {@link #size()}
+     * @throws IllegalStateException          if eigenvectors are not computed
+     * @throws ArrayIndexOutOfBoundsException if index is out of computed
+     *                                        eigenvalues
+     *
+     * @since 2.1.0
+     */
+    public Vector eigenvector(final int i) throws IllegalStateException {
+        validateEigenvectors();
+        if (i < 0 || i >= values.length) {
+            throw new ArrayIndexOutOfBoundsException(String.format("Eigenvector %d does not exist", i));
+        }
+
+        final float[] result = new float[size];
+        final float[] data = vectors.data();
+        for (int r = 0; r < size; r++) {
+            result[r] = data[r * values.length + i];
+        }
+
+        return new Vec(result);
+    }
+
+    private void validateEigenvectors() throws IllegalStateException {
+        if (vectors == null) {
+            throw new IllegalStateException("Eigenvectors denied: decomposition has eigenvalues only");
+        }
+    }
+}
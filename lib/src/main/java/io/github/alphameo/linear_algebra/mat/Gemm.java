@@ -0,0 +1,283 @@
+package io.github.alphameo.linear_algebra.mat;
+
+/**
+ * Dense matrix multiplication kernels over row-major arrays.
+ * <p>
+ * Large products are computed with cache blocking: a {@code KC x NC} panel of
+ * the right matrix and a {@code MC x KC} block of the left matrix are packed
+ * into contiguous buffers, and a {@code MR x NR} micro-kernel accumulates the
+ * result tile in local variables.
+ * <p>
+ * Packing buffers are kept per thread and grow up to
+ * {@code (MC * KC + NC * KC) * 4} bytes (about 2 MB), so repeated products
+ * do not allocate memory.
+ *
+ * @since 2.1.0
+ */
+final class Gemm {
+
+    /**
+     * Rows of the packed left block (fits L2 together with a micro-panel of B).
+     */
+    static final int MC = 128;
+
+    /**
+     * Shared dimension of packed blocks (micro-panels fit L1).
+     */
+    static final int KC = 256;
+
+    /**
+     * Columns of the packed right panel.
+     */
+    static final int NC = 2048;
+
+    /**
+     * Rows of the micro-kernel tile.
+     */
+    static final int MR = 4;
+
+    /**
+     * Columns of the micro-kernel tile.
+     */
+    static final int NR = 4;
+
+    /**
+     * Products with fewer multiply-adds are computed without packing.
+     */
+    private static final long BLOCKING_THRESHOLD = 48L * 48 * 48;
+
+    /**
+     * Packing buffers of A and B of the current thread.
+     */
+    private static final ThreadLocal<float[][]> PACKED = ThreadLocal.withInitial(() -> new float[2][0]);
+
+    private Gemm() {
+    }
+
+    /**
+     * Computes {@code C += alpha * A * B} for row-major blocks.
+     *
+     * @param m     rows of {@code A} and {@code C}
+     * @param n     columns of {@code B} and {@code C}
+     * @param k     columns of {@code A} and rows of {@code B}
+     * @param alpha multiplier of the product
+     * @param a     left matrix data
+     * @param aOff  offset of the first element of {@code A}
+     * @param lda   row stride of {@code A}
+     * @param b     right matrix data
+     * @param bOff  offset of the first element of {@code B}
+     * @param ldb   row stride of {@code B}
+     * @param c     result matrix data
+     * @param cOff  offset of the first element of {@code C}
+     * @param ldc   row stride of {@code C}
+     */
+    static void gemm(final int m, final int n, final int k, final float alpha,
+            final float[] a, final int aOff, final int lda,
+            final float[] b, final int bOff, final int ldb,
+            final float[] c, final int cOff, final int ldc) {
+        if (m == 0 || n == 0 || k == 0) {
+            return;
+        }
+        if ((long) m * n * k < BLOCKING_THRESHOLD) {
+            gemmSimple(m, n, k, alpha, a, aOff, lda, b, bOff, ldb, c, cOff, ldc);
+            return;
+        }
+
+        final float[][] packed = PACKED.get();
+        final int packedASize = roundUp(Math.min(m, MC), MR) * Math.min(k, KC);
+        final int packedBSize = roundUp(Math.min(n, NC), NR) * Math.min(k, KC);
+        if (packed[0].length < packedASize) {
+            packed[0] = new float[packedASize];
+        }
+        if (packed[1].length < packedBSize) {
+            packed[1] = new float[packedBSize];
+        }
+        final float[] packedA = packed[0];
+        final float[] packedB = packed[1];
+
+        for (int jc = 0; jc < n; jc += NC) {
+            final int nc = Math.min(NC, n - jc);
+            for (int pc = 0; pc < k; pc += KC) {
+                final int kc = Math.min(KC, k - pc);
+                packB(kc, nc, b, bOff + pc * ldb + jc, ldb, packedB);
+
+                for (int ic = 0; ic < m; ic += MC) {
+                    final int mc = Math.min(MC, m - ic);
+                    packA(mc, kc, a, aOff + ic * lda + pc, lda, packedA);
+                    macroKernel(mc, nc, kc, alpha, packedA, packedB, c, cOff + ic * ldc + jc, ldc);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes {@code C += alpha * A * B} with a plain i-k-j loop, which walks
+     * all operands row by row.
+     */
+    static void gemmSimple(final int m, final int n, final int k, final float alpha,
+            final float[] a, final int aOff, final int lda,
+            final float[] b, final int bOff, final int ldb,
+            final float[] c, final int cOff, final int ldc) {
+        for (int i = 0; i < m; i++) {
+            final int cRow = cOff + i * ldc;
+            final int aRow = aOff + i * lda;
+            for (int p = 0; p < k; p++) {
+                final float aip = alpha * a[aRow + p];
+                final int bRow = bOff + p * ldb;
+                for (int j = 0; j < n; j++) {
+                    c[cRow + j] += aip * b[bRow + j];
+                }
+            }
+        }
+    }
+
+    private static int roundUp(final int value, final int multiple) {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+
+    /**
+     * Packs {@code mc x kc} block of A into {@code MR}-row micro-panels, each
+     * stored column by column. Missing rows of the last micro-panel are zeros.
+     */
+    private static void packA(final int mc, final int kc, final float[] a, final int aOff, final int lda,
+            final float[] packed) {
+        int dest = 0;
+        for (int i = 0; i < mc; i += MR) {
+            final int rows = Math.min(MR, mc - i);
+            final int panel = aOff + i * lda;
+            if (rows == MR) {
+                final int r0 = panel;
+                final int r1 = r0 + lda;
+                final int r2 = r1 + lda;
+                final int r3 = r2 + lda;
+                for (int p = 0; p < kc; p++) {
+                    packed[dest++] = a[r0 + p];
+                    packed[dest++] = a[r1 + p];
+                    packed[dest++] = a[r2 + p];
+                    packed[dest++] = a[r3 + p];
+                }
+            } else {
+                for (int p = 0; p < kc; p++) {
+                    for (int r = 0; r < MR; r++) {
+                        packed[dest++] = r < rows ? a[panel + r * lda + p] : 0;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs {@code kc x nc} panel of B into {@code NR}-column micro-panels, each
+     * stored row by row. Missing columns of the last micro-panel are zeros.
+     */
+    private static void packB(final int kc, final int nc, final float[] b, final int bOff, final int ldb,
+            final float[] packed) {
+        int dest = 0;
+        for (int j = 0; j < nc; j += NR) {
+            final int cols = Math.min(NR, nc - j);
+            for (int p = 0; p < kc; p++) {
+                final int row = bOff + p * ldb + j;
+                if (cols == NR) {
+                    packed[dest++] = b[row];
+                    packed[dest++] = b[row + 1];
+                    packed[dest++] = b[row + 2];
+                    packed[dest++] = b[row + 3];
+                } else {
+                    for (int c = 0; c < NR; c++) {
+                        packed[dest++] = c < cols ? b[row + c] : 0;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void macroKernel(final int mc, final int nc, final int kc, final float alpha,
+            final float[] packedA, final float[] packedB,
+            final float[] c, final int cOff, final int ldc) {
+        for (int j = 0; j < nc; j += NR) {
+            final int cols = Math.min(NR, nc - j);
+            final int bPanel = j * kc;
+            for (int i = 0; i < mc; i += MR) {
+                final int rows = Math.min(MR, mc - i);
+                microKernel(kc, alpha, packedA, i * kc, packedB, bPanel, c, cOff + i * ldc + j, ldc, rows, cols);
+            }
+        }
+    }
+
+    private static void microKernel(final int kc, final float alpha,
+            final float[] a, int aIdx,
+            final float[] b, int bIdx,
+            final float[] c, final int cOff, final int ldc,
+            final int rows, final int cols) {
+        float c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        float c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        float c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        float c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+        for (int p = 0; p < kc; p++) {
+            final float a0 = a[aIdx];
+            final float a1 = a[aIdx + 1];
+            final float a2 = a[aIdx + 2];
+            final float a3 = a[aIdx + 3];
+            final float b0 = b[bIdx];
+            final float b1 = b[bIdx + 1];
+            final float b2 = b[bIdx + 2];
+            final float b3 = b[bIdx + 3];
+            aIdx += MR;
+            bIdx += NR;
+
+            c00 += a0 * b0;
+            c01 += a0 * b1;
+            c02 += a0 * b2;
+            c03 += a0 * b3;
+            c10 += a1 * b0;
+            c11 += a1 * b1;
+            c12 += a1 * b2;
+            c13 += a1 * b3;
+            c20 += a2 * b0;
+            c21 += a2 * b1;
+            c22 += a2 * b2;
+            c23 += a2 * b3;
+            c30 += a3 * b0;
+            c31 += a3 * b1;
+            c32 += a3 * b2;
+            c33 += a3 * b3;
+        }
+
+        if (rows == MR && cols == NR) {
+            int row = cOff;
+            c[row] += alpha * c00;
+            c[row + 1] += alpha * c01;
+            c[row + 2] += alpha * c02;
+            c[row + 3] += alpha * c03;
+            row += ldc;
+            c[row] += alpha * c10;
+            c[row + 1] += alpha * c11;
+            c[row + 2] += alpha * c12;
+            c[row + 3] += alpha * c13;
+            row += ldc;
+            c[row] += alpha * c20;
+            c[row + 1] += alpha * c21;
+            c[row + 2] += alpha * c22;
+            c[row + 3] += alpha * c23;
+            row += ldc;
+            c[row] += alpha * c30;
+            c[row + 1] += alpha * c31;
+            c[row + 2] += alpha * c32;
+            c[row + 3] += alpha * c33;
+            return;
+        }
+
+        final float[] tile = {
+                c00, c01, c02, c03,
+                c10, c11, c12, c13,
+                c20, c21, c22, c23,
+                c30, c31, c32, c33
+        };
+        for (int r = 0; r < rows; r++) {
+            for (int col = 0; col < cols; col++) {
+                c[cOff + r * ldc + col] += alpha * tile[r * NR + col];
+            }
+        }
+    }
+}
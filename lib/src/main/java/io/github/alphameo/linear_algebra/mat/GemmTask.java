@@ -0,0 +1,100 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task computing a tile of {@code C += A * B} with {@link Gemm}.
+ * <p>
+ * Tile is split in halves along its longer side until it is not larger than
+ * {@code TILE_ROWS x TILE_COLS}.
+ *
+ * @since 2.1.0
+ */
+final class GemmTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Maximum rows of leaf tile.
+     */
+    static final int TILE_ROWS = Gemm.MC;
+
+    /**
+     * Maximum columns of leaf tile.
+     */
+    static final int TILE_COLS = 256;
+
+    private final int rowStart;
+    private final int rows;
+    private final int colStart;
+    private final int cols;
+    private final int k;
+    private final float[] a;
+    private final int aOff;
+    private final int lda;
+    private final float[] b;
+    private final int bOff;
+    private final int ldb;
+    private final float[] c;
+    private final int cOff;
+    private final int ldc;
+
+    GemmTask(final int rows, final int cols, final int k,
+            final float[] a, final int aOff, final int lda,
+            final float[] b, final int bOff, final int ldb,
+            final float[] c, final int cOff, final int ldc) {
+        this(0, rows, 0, cols, k, a, aOff, lda, b, bOff, ldb, c, cOff, ldc);
+    }
+
+    private GemmTask(final int rowStart, final int rows, final int colStart, final int cols, final int k,
+            final float[] a, final int aOff, final int lda,
+            final float[] b, final int bOff, final int ldb,
+            final float[] c, final int cOff, final int ldc) {
+        this.rowStart = rowStart;
+        this.rows = rows;
+        this.colStart = colStart;
+        this.cols = cols;
+        this.k = k;
+        this.a = a;
+        this.aOff = aOff;
+        this.lda = lda;
+        this.b = b;
+        this.bOff = bOff;
+        this.ldb = ldb;
+        this.c = c;
+        this.cOff = cOff;
+        this.ldc = ldc;
+    }
+
+    @Override
+    protected void compute() {
+        if (rows <= TILE_ROWS && cols <= TILE_COLS) {
+            Gemm.gemm(rows, cols, k, 1,
+                    a, aOff + rowStart * lda, lda,
+                    b, bOff + colStart, ldb,
+                    c, cOff + rowStart * ldc + colStart, ldc);
+            return;
+        }
+
+        if (rows * (long) TILE_COLS >= cols * (long) TILE_ROWS) {
+            final int half = split(rows, Gemm.MR);
+            invokeAll(
+                    new GemmTask(rowStart, half, colStart, cols, k,
+                            a, aOff, lda, b, bOff, ldb, c, cOff, ldc),
+                    new GemmTask(rowStart + half, rows - half, colStart, cols, k,
+                            a, aOff, lda, b, bOff, ldb, c, cOff, ldc));
+        } else {
+            final int half = split(cols, Gemm.NR);
+            invokeAll(
+                    new GemmTask(rowStart, rows, colStart, half, k,
+                            a, aOff, lda, b, bOff, ldb, c, cOff, ldc),
+                    new GemmTask(rowStart, rows, colStart + half, cols - half, k,
+                            a, aOff, lda, b, bOff, ldb, c, cOff, ldc));
+        }
+    }
+
+    private static int split(final int length, final int multiple) {
+        final int half = (length / 2 + multiple - 1) / multiple * multiple;
+        return Math.min(half, length - 1);
+    }
+}
@@ -0,0 +1,371 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * LU decomposition with partial pivoting of square matrix.
+ * <p>
+ * For matrix {@code A} finds permutation {@code P}, unit lower triangular
+ * {@code L} and upper triangular {@code U}, such that {@code P * A = L * U}.
+ * Decomposition is computed once in O(n^3) and then reused for determinant,
+ * inverse matrix and linear systems, each of which costs O(n^2) per
+ * right-hand side.
+ *
+ * @since 2.1.0
+ */
+public class LUDecomposition {
+
+    /**
+     * Rows in block of blocked triangular solve.
+     */
+    private static final int BLOCK = 64;
+
+    private final int size;
+    private final float[] lu;
+    private final int[] pivot;
+    private final int pivotSign;
+    private final boolean singular;
+
+    /**
+     * Decomposes given square matrix.
+     *
+     * @param m square matrix for decomposition
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 2.1.0
+     */
+    public LUDecomposition(final Matrix m) throws UnsupportedOperationException {
+        if (!MatMath.square(m)) {
+            throw new UnsupportedOperationException("LU decomposition does not exist: matrix is not square");
+        }
+
+        size = m.height();
+        lu = new Mat(m).data();
+        pivot = new int[size];
+        for (int i = 0; i < size; i++) {
+            pivot[i] = i;
+        }
+
+        int sign = 1;
+        boolean isSingular = false;
+        for (int k = 0; k < size; k++) {
+            int maxRow = k;
+            float max = Math.abs(lu[k * size + k]);
+            for (int r = k + 1; r < size; r++) {
+                final float value = Math.abs(lu[r * size + k]);
+                if (value > max) {
+                    max = value;
+                    maxRow = r;
+                }
+            }
+
+            if (maxRow != k) {
+                swapRows(k, maxRow);
+                final int tmp = pivot[k];
+                pivot[k] = pivot[maxRow];
+                pivot[maxRow] = tmp;
+                sign = -sign;
+            }
+
+            final int pivotRow = k * size;
+            final float diagonal = lu[pivotRow + k];
+            if (diagonal == 0) {
+                isSingular = true;
+                continue;
+            }
+
+            for (int r = k + 1; r < size; r++) {
+                final int row = r * size;
+                final float coefficient = lu[row + k] / diagonal;
+                lu[row + k] = coefficient;
+                if (coefficient == 0) {
+                    continue;
+                }
+                for (int c = k + 1; c < size; c++) {
+                    lu[row + c] -= coefficient * lu[pivotRow + c];
+                }
+            }
+        }
+
+        pivotSign = sign;
+        singular = isSingular;
+    }
+
+    private void swapRows(final int r1, final int r2) {
+        final int row1 = r1 * size;
+        final int row2 = r2 * size;
+        float tmp;
+        for (int c = 0; c < size; c++) {
+            tmp = lu[row1 + c];
+            lu[row1 + c] = lu[row2 + c];
+            lu[row2 + c] = tmp;
+        }
+    }
+
+    /**
+     * Returns size of decomposed matrix.
+     *
+     * @return height and width of decomposed matrix
+     *
+     * @since 2.1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if decomposed matrix is singular (has 0 pivot).
+     *
+     * @return {@code true} if decomposed matrix is singular, and {@code false}
+     *         otherwise
+     *
+     * @since 2.1.0
+     */
+    public boolean singular() {
+        return singular;
+    }
+
+    /**
+     * Constructs unit lower triangular factor {@code L}.
+     *
+     * @return new matrix {@code L}
+     *
+     * @since 2.1.0
+     */
+    public Matrix l() {
+        final Mat result = new Mat(size);
+        final float[] data = result.data();
+        for (int r = 0; r < size; r++) {
+            System.arraycopy(lu, r * size, data, r * size, r);
+            data[r * size + r] = 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * Constructs upper triangular factor {@code U}.
+     *
+     * @return new matrix {@code U}
+     *
+     * @since 2.1.0
+     */
+    public Matrix u() {
+        final Mat result = new Mat(size);
+        final float[] data = result.data();
+        for (int r = 0; r < size; r++) {
+            System.arraycopy(lu, r * size + r, data, r * size + r, size - r);
+        }
+
+        return result;
+    }
+
+    /**
+     * Constructs permutation matrix {@code P}.
+     *
+     * @return new matrix {@code P}
+     *
+     * @since 2.1.0
+     */
+    public Matrix p() {
+        final Mat result = new Mat(size);
+        for (int r = 0; r < size; r++) {
+            result.set(r, pivot[r], 1);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns row permutation: row {@code i} of {@code P * A} is row
+     * {@code pivot()[i]} of {@code A}.
+     *
+     * @return copy of row permutation
+     *
+     * @since 2.1.0
+     */
+    public int[] pivot() {
+        return pivot.clone();
+    }
+
+    /**
+     * Calculates determinant of decomposed matrix.
+     *
+     * @return determinant of decomposed matrix
+     *
+     * @since 2.1.0
+     */
+    public float det() {
+        if (singular) {
+            return 0;
+        }
+
+        float determinant = pivotSign;
+        for (int i = 0; i < size; i++) {
+            determinant *= lu[i * size + i];
+        }
+
+        return determinant;
+    }
+
+    /**
+     * Solves {@code A * x = b}.
+     *
+     * @param b right-hand side vector
+     * @return new vector {@code x}
+     * @throws IllegalArgumentException if vector size is not equal to matrix size
+     * @throws RuntimeException         if decomposed matrix is singular
+     *
+     * @since 2.1.0
+     */
+    public Vector solve(final Vector b) throws RuntimeException {
+        if (b.size() != size) {
+            throw new IllegalArgumentException(String.format(
+                    "Linear system solution denied: matrix with size %dx%d and vector with size %d",
+                    size, size, b.size()));
+        }
+        validateNonSingular();
+
+        final float[] x = new float[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = b.get(pivot[i]);
+        }
+
+        for (int i = 0; i < size; i++) {
+            final int row = i * size;
+            float value = x[i];
+            for (int k = 0; k < i; k++) {
+                value -= lu[row + k] * x[k];
+            }
+            x[i] = value;
+        }
+
+        for (int i = size - 1; i >= 0; i--) {
+            final int row = i * size;
+            float value = x[i];
+            for (int k = i + 1; k < size; k++) {
+                value -= lu[row + k] * x[k];
+            }
+            x[i] = value / lu[row + i];
+        }
+
+        return new Vec(x);
+    }
+
+    /**
+     * Solves {@code A * X = B} for all columns of {@code B} at once.
+     *
+     * @param b right-hand side matrix
+     * @return new matrix {@code X}
+     * @throws IllegalArgumentException if matrix {@code B} height is not equal to
+     *                                  decomposed matrix size
+     * @throws RuntimeException         if decomposed matrix is singular
+     *
+     * @since 2.1.0
+     */
+    public Matrix solve(final Matrix b) throws RuntimeException {
+        if (b.height() != size) {
+            throw new IllegalArgumentException(String.format(
+                    "Linear system solution denied: matrices with sizes %dx%d and %dx%d",
+                    size, size, b.height(), b.width()));
+        }
+        validateNonSingular();
+
+        final int width = b.width();
+        final Mat result = new Mat(size, width);
+        final float[] x = result.data();
+        for (int i = 0; i < size; i++) {
+            for (int c = 0; c < width; c++) {
+                x[i * width + c] = b.get(pivot[i], c);
+            }
+        }
+
+        solveInPlace(x, width);
+
+        return result;
+    }
+
+    /**
+     * Constructs inverse matrix of decomposed matrix.
+     *
+     * @return new inverse matrix
+     * @throws RuntimeException if decomposed matrix is singular
+     *
+     * @since 2.1.0
+     */
+    public Matrix inverse() throws RuntimeException {
+        validateNonSingular();
+
+        final Mat result = new Mat(size);
+        final float[] x = result.data();
+        for (int i = 0; i < size; i++) {
+            x[i * size + pivot[i]] = 1;
+        }
+
+        solveInPlace(x, size);
+
+        return result;
+    }
+
+    /**
+     * Replaces permuted right-hand sides stored row-major in {@code x} with
+     * solutions.
+     * <p>
+     * Triangular solves are blocked by {@link #BLOCK} rows: rows of a block are
+     * first updated with all already solved rows by a single matrix product,
+     * and only the small diagonal block is solved row by row.
+     */
+    private void solveInPlace(final float[] x, final int width) {
+        for (int start = 0; start < size; start += BLOCK) {
+            final int end = Math.min(start + BLOCK, size);
+            Gemm.gemm(end - start, width, start, -1,
+                    lu, start * size, size,
+                    x, 0, width,
+                    x, start * width, width);
+
+            for (int i = start; i < end; i++) {
+                for (int k = start; k < i; k++) {
+                    axpy(-lu[i * size + k], x, k * width, i * width, width);
+                }
+            }
+        }
+
+        final int lastStart = (size - 1) / BLOCK * BLOCK;
+        for (int start = lastStart; start >= 0; start -= BLOCK) {
+            final int end = Math.min(start + BLOCK, size);
+            Gemm.gemm(end - start, width, size - end, -1,
+                    lu, start * size + end, size,
+                    x, end * width, width,
+                    x, start * width, width);
+
+            for (int i = end - 1; i >= start; i--) {
+                for (int k = i + 1; k < end; k++) {
+                    axpy(-lu[i * size + k], x, k * width, i * width, width);
+                }
+
+                final float diagonal = lu[i * size + i];
+                final int row = i * width;
+                for (int c = 0; c < width; c++) {
+                    x[row + c] /= diagonal;
+                }
+            }
+        }
+    }
+
+    private static void axpy(final float alpha, final float[] x, final int source, final int dest,
+            final int width) {
+        if (alpha == 0) {
+            return;
+        }
+        for (int c = 0; c < width; c++) {
+            x[dest + c] += alpha * x[source + c];
+        }
+    }
+
+    private void validateNonSingular() throws RuntimeException {
+        if (singular) {
+            throw new RuntimeException("Linear system has no unique solution: determinant is 0");
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Matrix stored in a file, which is memory-mapped instead of being loaded.
+ * <p>
+ * File consists of 32-byte header followed by elements. All values are
+ * little-endian:
+ * <table>
+ * <caption>Header</caption>
+ * <tr><th>Offset</th><th>Type</th><th>Value</th></tr>
+ * <tr><td>0</td><td>int</td><td>magic {@code "LAMX"} ({@link #MAGIC})</td></tr>
+ * <tr><td>4</td><td>int</td><td>format version ({@link #VERSION})</td></tr>
+ * <tr><td>8</td><td>int</td><td>height</td></tr>
+ * <tr><td>12</td><td>int</td><td>width</td></tr>
+ * <tr><td>16</td><td>int</td><td>element type ({@link #DTYPE_FLOAT32})</td></tr>
+ * <tr><td>20</td><td>int</td><td>layout ({@link #LAYOUT_ROW_MAJOR})</td></tr>
+ * <tr><td>24</td><td>8 bytes</td><td>reserved, zeros</td></tr>
+ * </table>
+ * <p>
+ * File is mapped in chunks of whole rows of at most 1 GB, so files larger than
+ * 2 GB are supported. Pages are loaded by the operating system on access, and
+ * row-streaming functions like {@link MatMath#prod(Matrix, io.github.alphameo.linear_algebra.vec.Vector)} read the
+ * file sequentially.
+ * <p>
+ * In {@link Mode#READ_ONLY} mode modification of elements throws
+ * {@link UnsupportedOperationException}. In {@link Mode#READ_WRITE} mode
+ * changes are written to the file by {@link #flush()} or {@link #close()}.
+ *
+ * @since 2.1.0
+ */
+public final class MappedMat extends BufferMat {
+
+    /**
+     * Mode of opening matrix file.
+     *
+     * @since 2.1.0
+     */
+    public enum Mode {
+        /**
+         * Elements can be only read.
+         */
+        READ_ONLY,
+
+        /**
+         * Elements can be read and modified.
+         */
+        READ_WRITE
+    }
+
+    /**
+     * Magic number of matrix file: bytes {@code "LAMX"} read as little-endian
+     * int.
+     *
+     * @since 2.1.0
+     */
+    public static final int MAGIC = 0x584D414C;
+
+    /**
+     * Current version of matrix file format.
+     *
+     * @since 2.1.0
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Element type code of 32-bit IEEE 754 floats.
+     *
+     * @since 2.1.0
+     */
+    public static final int DTYPE_FLOAT32 = 1;
+
+    /**
+     * Layout code of row-major element order.
+     *
+     * @since 2.1.0
+     */
+    public static final int LAYOUT_ROW_MAJOR = 0;
+
+    /**
+     * Size of header in bytes.
+     *
+     * @since 2.1.0
+     */
+    public static final int HEADER_BYTES = 32;
+
+    private final Path path;
+    private final Mode mode;
+    private MappedByteBuffer[] mappings;
+
+    private MappedMat(final Path path, final Mode mode, final int height, final int width,
+            final int rowsPerChunk, final MappedByteBuffer[] mappings) {
+        super(height, width, rowsPerChunk, asFloatBuffers(mappings));
+        this.path = path;
+        this.mode = mode;
+        this.mappings = mappings;
+    }
+
+    private static FloatBuffer[] asFloatBuffers(final MappedByteBuffer[] mappings) {
+        final FloatBuffer[] chunks = new FloatBuffer[mappings.length];
+        for (int i = 0; i < mappings.length; i++) {
+            chunks[i] = mappings[i].order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Creates new matrix file {@code height} x {@code width} with all 0 and opens
+     * it in {@link Mode#READ_WRITE} mode. Existing file is overwritten.
+     *
+     * @param path   path of matrix file
+     * @param height height of matrix
+     * @param width  width of matrix
+     * @return matrix mapped from created file
+     * @throws IOException              if file cannot be created or mapped
+     * @throws IllegalArgumentException if size of matrix is negative or one row
+     *                                  is larger than 1 GB
+     *
+     * @since 2.1.0
+     */
+    public static MappedMat create(final Path path, final int height, final int width)
+            throws IOException, IllegalArgumentException {
+        if (height < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix creation denied: height %d is negative", height));
+        }
+        final int rowsPerChunk = rowsPerChunk(width);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(height)
+                    .putInt(width)
+                    .putInt(DTYPE_FLOAT32)
+                    .putInt(LAYOUT_ROW_MAJOR)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+
+            return new MappedMat(path, Mode.READ_WRITE, height, width, rowsPerChunk,
+                    map(channel, Mode.READ_WRITE, height, width, rowsPerChunk));
+        }
+    }
+
+    /**
+     * Creates new matrix file with values of given matrix and opens it in
+     * {@link Mode#READ_WRITE} mode. Existing file is overwritten.
+     *
+     * @param path path of matrix file
+     * @param m    matrix for writing
+     * @return matrix mapped from created file
+     * @throws IOException if file cannot be created or mapped
+     *
+     * @since 2.1.0
+     */
+    public static MappedMat create(final Path path, final Matrix m) throws IOException {
+        final MappedMat result = create(path, m.height(), m.width());
+        final float[] row = new float[m.width()];
+        for (int r = 0; r < m.height(); r++) {
+            if (m instanceof BufferMat other) {
+                other.row(r, row);
+            } else {
+                for (int c = 0; c < row.length; c++) {
+                    row[c] = m.get(r, c);
+                }
+            }
+            result.setRow(r, row);
+        }
+
+        return result;
+    }
+
+    /**
+     * Opens existing matrix file in {@link Mode#READ_ONLY} mode.
+     *
+     * @param path path of matrix file
+     * @return matrix mapped from file
+     * @throws IOException if file cannot be read or is not a matrix file
+     *
+     * @since 2.1.0
+     */
+    public static MappedMat open(final Path path) throws IOException {
+        return open(path, Mode.READ_ONLY);
+    }
+
+    /**
+     * Opens existing matrix file.
+     *
+     * @param path path of matrix file
+     * @param mode mode of opening
+     * @return matrix mapped from file
+     * @throws IOException if file cannot be opened or is not a matrix file of
+     *                     supported version, element type and layout
+     *
+     * @since 2.1.0
+     */
+    public static MappedMat open(final Path path, final Mode mode) throws IOException {
+        final StandardOpenOption[] options = mode == Mode.READ_ONLY
+                ? new StandardOpenOption[] { StandardOpenOption.READ }
+                : new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE };
+
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException(String.format("Matrix file opening denied: %s is too short", path));
+                }
+            }
+            header.flip();
+
+            final int magic = header.getInt();
+            final int version = header.getInt();
+            final int height = header.getInt();
+            final int width = header.getInt();
+            final int dtype = header.getInt();
+            final int layout = header.getInt();
+            if (magic != MAGIC) {
+                throw new IOException(String.format("Matrix file opening denied: %s is not a matrix file", path));
+            }
+            if (version != VERSION) {
+                throw new IOException(String.format(
+                        "Matrix file opening denied: unsupported format version %d", version));
+            }
+            if (dtype != DTYPE_FLOAT32) {
+                throw new IOException(String.format(
+                        "Matrix file opening denied: unsupported element type %d", dtype));
+            }
+            if (layout != LAYOUT_ROW_MAJOR) {
+                throw new IOException(String.format("Matrix file opening denied: unsupported layout %d", layout));
+            }
+            if (height < 0 || width < 0
+                    || channel.size() < HEADER_BYTES + (long) height * width * Float.BYTES) {
+                throw new IOException(String.format(
+                        "Matrix file opening denied: %s is too short for matrix %dx%d", path, height, width));
+            }
+
+            final int rowsPerChunk;
+            try {
+                rowsPerChunk = rowsPerChunk(width);
+            } catch (final IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+
+            return new MappedMat(path, mode, height, width, rowsPerChunk,
+                    map(channel, mode, height, width, rowsPerChunk));
+        }
+    }
+
+    private static MappedByteBuffer[] map(final FileChannel channel, final Mode mode,
+            final int height, final int width, final int rowsPerChunk) throws IOException {
+        final FileChannel.MapMode mapMode = mode == Mode.READ_ONLY
+                ? FileChannel.MapMode.READ_ONLY
+                : FileChannel.MapMode.READ_WRITE;
+        final long rowBytes = (long) width * Float.BYTES;
+
+        final MappedByteBuffer[] mappings = new MappedByteBuffer[chunkCount(height, rowsPerChunk)];
+        for (int i = 0; i < mappings.length; i++) {
+            final long firstRow = (long) i * rowsPerChunk;
+            final long rows = Math.min(rowsPerChunk, height - firstRow);
+            mappings[i] = channel.map(mapMode, HEADER_BYTES + firstRow * rowBytes, rows * rowBytes);
+        }
+
+        return mappings;
+    }
+
+    /**
+     * Returns path of matrix file.
+     *
+     * @return path of matrix file
+     *
+     * @since 2.1.0
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Returns mode in which matrix file is opened.
+     *
+     * @return mode of opening
+     *
+     * @since 2.1.0
+     */
+    public Mode mode() {
+        return mode;
+    }
+
+    @Override
+    public void set(final int r, final int c, final float value)
+            throws UnsupportedOperationException, IllegalStateException {
+        validateWritable();
+        super.set(r, c, value);
+    }
+
+    @Override
+    void setRow(final int r, final float[] src) throws IllegalStateException {
+        validateWritable();
+        super.setRow(r, src);
+    }
+
+    /**
+     * Writes modified elements to the file. Has no effect in
+     * {@link Mode#READ_ONLY} mode.
+     *
+     * @throws IllegalStateException if matrix is closed
+     *
+     * @since 2.1.0
+     */
+    public void flush() throws IllegalStateException {
+        if (!isOpen()) {
+            throw new IllegalStateException("Matrix flush denied: matrix is closed");
+        }
+        if (mode == Mode.READ_ONLY) {
+            return;
+        }
+
+        for (final MappedByteBuffer mapping : mappings) {
+            mapping.force();
+        }
+    }
+
+    /**
+     * Writes modified elements to the file and releases mapping. The file is
+     * unmapped when released buffers are collected.
+     *
+     * @since 2.1.0
+     */
+    @Override
+    public void close() {
+        if (isOpen()) {
+            flush();
+        }
+        mappings = null;
+        super.close();
+    }
+
+    /**
+     * Copies current matrix into new off-heap matrix.
+     *
+     * @return new off-heap matrix with the same elements
+     * @throws IllegalStateException if matrix is closed
+     */
+    @Override
+    public OffHeapMat clone() throws IllegalStateException {
+        return new OffHeapMat(this);
+    }
+
+    private void validateWritable() throws UnsupportedOperationException {
+        if (mode == Mode.READ_ONLY) {
+            throw new UnsupportedOperationException("Matrix modification denied: matrix file is opened read-only");
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package io.github.alphameo.linear_algebra.mat;
 
-import java.util.Arrays;
-
 import io.github.alphameo.linear_algebra.Equatable;
 import io.github.alphameo.linear_algebra.vec.Vector;
 
@@ -12,7 +10,10 @@ import io.github.alphameo.linear_algebra.vec.Vector;
  */
 public class Mat implements Matrix, Equatable<Matrix> {
 
-    private float[][] entries;
+    private float[] entries;
+    private int height;
+    private int width;
+    private int stride;
 
     /**
      * Constructs new matrix {@code height} x {@code width} with all 0.
@@ -23,7 +24,7 @@ public class Mat implements Matrix, Equatable<Matrix> {
      * @since 1.0.0
      */
     public Mat(final int height, final int width) {
-        entries = new float[height][width];
+        this(height, width, new float[height * width]);
     }
 
     /**
@@ -49,11 +50,11 @@ public class Mat implements Matrix, Equatable<Matrix> {
     public Mat(final float[][] entries) throws IllegalArgumentException {
         this(entries.length, entries[0].length);
         for (int i = 0; i < entries.length; i++) {
-            if (entries[i].length != entries[0].length) {
+            if (entries[i].length != width) {
                 throw new IllegalArgumentException(
                         "Matrix creation denied: input data has rows with different lengths");
             }
-            this.entries[i] = Arrays.copyOf(entries[i], entries[i].length);
+            System.arraycopy(entries[i], 0, this.entries, i * stride, width);
         }
     }
 
@@ -65,32 +66,86 @@ public class Mat implements Matrix, Equatable<Matrix> {
      * @since 1.0.0
      */
     public Mat(final Matrix m) {
-        entries = new float[m.height()][m.width()];
-        for (int i = 0; i < m.height(); i++) {
-            for (int j = 0; j < m.width(); j++) {
-                entries[i][j] = m.get(i, j);
+        this(m.height(), m.width());
+        if (m instanceof Mat other) {
+            for (int i = 0; i < height; i++) {
+                System.arraycopy(other.entries, i * other.stride, entries, i * stride, width);
+            }
+            return;
+        }
+
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                entries[i * stride + j] = m.get(i, j);
             }
         }
     }
 
+    /**
+     * Wraps given row-major array without copying.
+     *
+     * @param height  height of matrix
+     * @param width   width of matrix
+     * @param entries row-major values with row stride equal to {@code width}
+     *
+     * @since 2.1.0
+     */
+    Mat(final int height, final int width, final float[] entries) {
+        this.entries = entries;
+        this.height = height;
+        this.width = width;
+        this.stride = width;
+    }
+
     @Override
-    public float get(final int r, final int c) {
-        return entries[r][c];
+    public float get(final int r, final int c) throws ArrayIndexOutOfBoundsException {
+        return entries[index(r, c)];
     }
 
     @Override
-    public void set(final int r, final int c, final float value) {
-        entries[r][c] = value;
+    public void set(final int r, final int c, final float value) throws ArrayIndexOutOfBoundsException {
+        entries[index(r, c)] = value;
     }
 
     @Override
     public int width() {
-        return entries[0].length;
+        return width;
     }
 
     @Override
     public int height() {
-        return entries.length;
+        return height;
+    }
+
+    /**
+     * Returns backing row-major array of matrix elements.
+     *
+     * @return backing array
+     *
+     * @since 2.1.0
+     */
+    float[] data() {
+        return entries;
+    }
+
+    /**
+     * Returns distance between starts of neighbouring rows in backing array.
+     *
+     * @return row stride
+     *
+     * @since 2.1.0
+     */
+    int stride() {
+        return stride;
+    }
+
+    private int index(final int r, final int c) {
+        // row overflow is caught by the backing array itself
+        if (c < 0 || c >= width) {
+            throw new ArrayIndexOutOfBoundsException(String.format("Column %d is out of Mat bounds", c));
+        }
+
+        return r * stride + c;
     }
 
     /**
@@ -101,14 +156,19 @@ public class Mat implements Matrix, Equatable<Matrix> {
      * @since 1.0.0
      */
     public Matrix transpose() {
-        final float[][] result = new float[entries[0].length][entries.length];
-        for (int i = 0; i < entries.length; i++) {
-            for (int j = 0; i < entries[0].length; j++) {
-                result[j][i] = entries[i][j];
+        final float[] result = new float[entries.length];
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                result[j * height + i] = entries[i * stride + j];
             }
         }
         entries = result;
 
+        final int tmp = height;
+        height = width;
+        width = tmp;
+        stride = width;
+
         return this;
     }
 
@@ -300,6 +360,21 @@ public class Mat implements Matrix, Equatable<Matrix> {
         return MatMath.prod(this, m);
     }
 
+    /**
+     * Calculates product of current and given matrices using the common
+     * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}.
+     *
+     * @param m second (right) matrix
+     * @return matrix, which represents product of matrices
+     * @throws IllegalArgumentException if the first matrix width is not equal to
+     *                                  the second matrix height
+     *
+     * @since 2.1.0
+     */
+    public Matrix parallelProd(final Matrix m) {
+        return MatMath.parallelProd(this, m);
+    }
+
     /**
      * Calculates product of current matrix and vector.
      *
@@ -349,7 +424,7 @@ public class Mat implements Matrix, Equatable<Matrix> {
     }
 
     /**
-     * Calculates matrix determinant using triangular table (blazingly fast).
+     * Calculates matrix determinant using LU decomposition (blazingly fast).
      * 
      * @return matrix determinant
      * @throws UnsupportedOperationException if matrix is not square
@@ -464,15 +539,7 @@ public class Mat implements Matrix, Equatable<Matrix> {
 
     @Override
     public Matrix clone() {
-        final Mat result = new Mat(height(), width());
-
-        for (int i = 0; i < height(); i++) {
-            for (int j = 0; j < width(); j++) {
-                result.set(i, j, this.get(i, j));
-            }
-        }
-
-        return result;
+        return new Mat(this);
     }
 
     @Override
@@ -484,7 +551,13 @@ public class Mat implements Matrix, Equatable<Matrix> {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + Arrays.deepHashCode(entries);
+        result = prime * result + height;
+        result = prime * result + width;
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                result = prime * result + Float.floatToIntBits(entries[i * stride + j]);
+            }
+        }
         return result;
     }
 
@@ -12,7 +12,11 @@ import io.github.alphameo.linear_algebra.vec.Vector3;
  */
 public class Mat3 implements Matrix3, Equatable<Matrix3> {
 
-    private final float[][] entries;
+    /**
+     * Elements in row-major order: element under row {@code r} and column
+     * {@code c} is {@code entries[3 * r + c]}.
+     */
+    private final float[] entries;
 
     /**
      * Constructs new matrix 3x3 with all 0.
@@ -20,7 +24,7 @@ public class Mat3 implements Matrix3, Equatable<Matrix3> {
      * @since 1.0.0
      */
     public Mat3() {
-        this.entries = new float[3][3];
+        this.entries = new float[9];
     }
 
     /**
@@ -43,15 +47,15 @@ public class Mat3 implements Matrix3, Equatable<Matrix3> {
             final float m10, final float m11, final float m12,
             final float m20, final float m21, final float m22) {
         this();
-        entries[0][0] = m00;
-        entries[0][1] = m01;
-        entries[0][2] = m02;
-        entries[1][0] = m10;
-        entries[1][1] = m11;
-        entries[1][2] = m12;
-        entries[2][0] = m20;
-        entries[2][1] = m21;
-        entries[2][2] = m22;
+        entries[0] = m00;
+        entries[1] = m01;
+        entries[2] = m02;
+        entries[3] = m10;
+        entries[4] = m11;
+        entries[5] = m12;
+        entries[6] = m20;
+        entries[7] = m21;
+        entries[8] = m22;
     }
 
     /**
@@ -70,13 +74,15 @@ public class Mat3 implements Matrix3, Equatable<Matrix3> {
                 throw new IllegalArgumentException(
                         "Matrix 3x3 creation denied: input data has rows with different lengths");
             }
-            this.entries[i] = Arrays.copyOf(entries[i], entries[i].length);
         }
         if (entries.length != 3 || entries[0].length != 3) {
             throw new IllegalArgumentException(String.format(
                     "Matrix 3x3 creation denied: input data has size %dx%d", entries.length,
                     entries[0].length));
         }
+        for (int i = 0; i < 3; i++) {
+            System.arraycopy(entries[i], 0, this.entries, 3 * i, 3);
+        }
     }
 
     /**
@@ -88,6 +94,10 @@ public class Mat3 implements Matrix3, Equatable<Matrix3> {
      */
     public Mat3(final Matrix3 m) {
         this();
+        if (m instanceof Mat3 mat) {
+            System.arraycopy(mat.entries, 0, entries, 0, 9);
+            return;
+        }
         for (final Matrix3Row i : Matrix3Row.values()) {
             for (final Matrix3Col j : Matrix3Col.values()) {
                 this.set(i, j, m.get(i, j));
@@ -97,36 +107,47 @@ public class Mat3 implements Matrix3, Equatable<Matrix3> {
 
     @Override
     public float get(final int r, final int c) {
-        if (r < 0 || r > 3) {
+        if (r < 0 || r > 2) {
             throw new IllegalArgumentException(String.format("Row %d is out of Mat3 bounds", r));
         }
-        if (c < 0 || c > 3) {
+        if (c < 0 || c > 2) {
             throw new IllegalArgumentException(String.format("Column %d is out of Mat3 bounds", c));
         }
 
-        return entries[r][c];
+        return entries[3 * r + c];
     }
 
     @Override
     public float get(final Matrix3Row r, final Matrix3Col c) {
-        return entries[r.ordinal()][c.ordinal()];
+        return entries[3 * r.ordinal() + c.ordinal()];
     }
 
     @Override
     public void set(final int r, final int c, final float value) {
-        if (r < 0 || r > 3) {
+        if (r < 0 || r > 2) {
             throw new IllegalArgumentException(String.format("Row %d is out of Mat3 bounds", r));
         }
-        if (c < 0 || c > 3) {
+        if (c < 0 || c > 2) {
             throw new IllegalArgumentException(String.format("Column %d is out of Mat3 bounds", c));
         }
 
-        entries[r][c] = value;
+        entries[3 * r + c] = value;
     }
 
     @Override
     public void set(final Matrix3Row r, final Matrix3Col c, final float value) {
-        entries[r.ordinal()][c.ordinal()] = value;
+        entries[3 * r.ordinal() + c.ordinal()] = value;
+    }
+
+    /**
+     * Returns backing array of elements in row-major order.
+     *
+     * @return backing array of 9 elements
+     *
+     * @since 2.1.0
+     */
+    float[] data() {
+        return entries;
     }
 
     @Override
@@ -442,6 +463,18 @@ public class Mat3 implements Matrix3, Equatable<Matrix3> {
         return Mat3Math.invertible(this);
     }
 
+    /**
+     * Inverts current matrix.
+     *
+     * @return current matrix, which is inverted
+     * @throws RuntimeException if matrix determinant equals to 0
+     *
+     * @since 2.1.0
+     */
+    public Matrix3 invert() throws RuntimeException {
+        return Mat3Math.invert(this);
+    }
+
     /**
      * Safely constructs minor matrix excluding given row and column from current
      * matrix.
@@ -623,15 +656,7 @@ public class Mat3 implements Matrix3, Equatable<Matrix3> {
 
     @Override
     public Matrix3 clone() {
-        final Mat3 result = new Mat3();
-
-        for (final Matrix3Row i : Matrix3Row.values()) {
-            for (final Matrix3Col j : Matrix3Col.values()) {
-                result.set(i, j, entries[i.ordinal()][j.ordinal()]);
-            }
-        }
-
-        return result;
+        return new Mat3(this);
     }
 
     @Override
@@ -643,7 +668,7 @@ public class Mat3 implements Matrix3, Equatable<Matrix3> {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + Arrays.deepHashCode(entries);
+        result = prime * result + Arrays.hashCode(entries);
         return result;
     }
 
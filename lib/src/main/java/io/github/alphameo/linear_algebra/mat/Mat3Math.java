@@ -69,6 +69,30 @@ public final class Mat3Math {
         return transpose(new Mat3(m));
     }
 
+    /**
+     * Writes transposed given matrix 3x3 into {@code dest} matrix 3x3.
+     *
+     * @param m    matrix 3x3 for transpose
+     * @param dest matrix 3x3 for result, can be {@code m}
+     * @return {@code dest} matrix 3x3, which contains transposed given matrix
+     *         3x3
+     *
+     * @since 2.1.0
+     */
+    public static Matrix3 transposed(final Matrix3 m, final Matrix3 dest) {
+        if (dest == m) {
+            return transpose(m);
+        }
+
+        for (final Matrix3Row r : ROWS) {
+            for (final Matrix3Col c : COLS) {
+                dest.set(r, c, m.get(ROWS[c.ordinal()], COLS[r.ordinal()]));
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Safely swaps rows of matrix 3x3
      *
@@ -232,6 +256,27 @@ public final class Mat3Math {
         return mult(new Mat3(m), multiplier);
     }
 
+    /**
+     * Writes elements of given matrix 3x3 multiplied by a scalar value into
+     * {@code dest} matrix 3x3.
+     *
+     * @param m          matrix 3x3 for multiplication
+     * @param multiplier scalar value
+     * @param dest       matrix 3x3 for result, can be {@code m}
+     * @return {@code dest} matrix 3x3 with multiplied elements of given matrix
+     *
+     * @since 2.1.0
+     */
+    public static Matrix3 multiplied(final Matrix3 m, final float multiplier, final Matrix3 dest) {
+        for (final Matrix3Row r : ROWS) {
+            for (final Matrix3Col c : COLS) {
+                dest.set(r, c, m.get(r, c) * multiplier);
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Divides matrix 3x3 elements by a scalar value.
      * 
@@ -267,6 +312,29 @@ public final class Mat3Math {
         return divide(new Mat3(m), divisor);
     }
 
+    /**
+     * Writes elements of given matrix 3x3 divided by a scalar value into
+     * {@code dest} matrix 3x3.
+     *
+     * @param m       matrix 3x3 for division
+     * @param divisor scalar value
+     * @param dest    matrix 3x3 for result, can be {@code m}
+     * @return {@code dest} matrix 3x3 with divided elements of given matrix
+     * @throws ArithmeticException if {@code divisor} approximately equals 0
+     *
+     * @since 2.1.0
+     */
+    public static Matrix3 divided(final Matrix3 m, final float divisor, final Matrix3 dest) throws ArithmeticException {
+        Validator.validateDivisor(divisor);
+        for (final Matrix3Row r : ROWS) {
+            for (final Matrix3Col c : COLS) {
+                dest.set(r, c, m.get(r, c) / divisor);
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Adds the {@code addendum} matrix 3x3 elements to the {@code target} matrix
      * 3x3 elements.
@@ -302,6 +370,28 @@ public final class Mat3Math {
         return add(new Mat3(target), addendum);
     }
 
+    /**
+     * Writes sum of {@code target} and {@code addendum} matrices 3x3 into
+     * {@code dest} matrix 3x3.
+     *
+     * @param target   matrix 3x3 to be added
+     * @param addendum matrix 3x3 to add
+     * @param dest     matrix 3x3 for result, can be any of operands
+     * @return {@code dest} matrix 3x3 with sum of elements of {@code target}
+     *         matrix 3x3 and {@code addendum} matrix 3x3
+     *
+     * @since 2.1.0
+     */
+    public static Matrix3 added(final Matrix3 target, final Matrix3 addendum, final Matrix3 dest) {
+        for (final Matrix3Row r : ROWS) {
+            for (final Matrix3Col c : COLS) {
+                dest.set(r, c, target.get(r, c) + addendum.get(r, c));
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Subtracts the {@code subtrahend} matrix 3x3 elements from the {@code target}
      * matrix 3x3 elements.
@@ -337,6 +427,28 @@ public final class Mat3Math {
         return sub(new Mat3(target), subtrahend);
     }
 
+    /**
+     * Writes difference of {@code target} and {@code subtrahend} matrices
+     * 3x3 into {@code dest} matrix 3x3.
+     *
+     * @param target     matrix 3x3 to be subtracted
+     * @param subtrahend matrix 3x3 to subtract
+     * @param dest       matrix 3x3 for result, can be any of operands
+     * @return {@code dest} matrix 3x3 with components resulting {@code target}
+     *         matrix 3x3 subtracted by {@code subtrahend} matrix 3x3
+     *
+     * @since 2.1.0
+     */
+    public static Matrix3 subtracted(final Matrix3 target, final Matrix3 subtrahend, final Matrix3 dest) {
+        for (final Matrix3Row r : ROWS) {
+            for (final Matrix3Col c : COLS) {
+                dest.set(r, c, target.get(r, c) - subtrahend.get(r, c));
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Calculates product of matrices 3x3.
      *
@@ -347,18 +459,34 @@ public final class Mat3Math {
      * @since 1.0.0
      */
     public static Matrix3 prod(final Matrix3 m1, final Matrix3 m2) {
-        final Matrix3 result = new Mat3();
+        return prod(m1, m2, new Mat3());
+    }
+
+    /**
+     * Writes product of matrices 3x3 into {@code dest} matrix 3x3.
+     * <p>
+     * Operands are read before the corresponding elements are overwritten, so
+     * {@code dest} can be any of operands.
+     *
+     * @param m1   first (left) matrix 3x3
+     * @param m2   second (right) matrix 3x3
+     * @param dest matrix 3x3 for result
+     * @return {@code dest} matrix 3x3, which contains product of given matrices
+     *
+     * @since 2.1.0
+     */
+    public static Matrix3 prod(final Matrix3 m1, final Matrix3 m2, final Matrix3 dest) {
+        final float b00 = m2.get(R0, C0), b01 = m2.get(R0, C1), b02 = m2.get(R0, C2);
+        final float b10 = m2.get(R1, C0), b11 = m2.get(R1, C1), b12 = m2.get(R1, C2);
+        final float b20 = m2.get(R2, C0), b21 = m2.get(R2, C1), b22 = m2.get(R2, C2);
         for (final Matrix3Row r : ROWS) {
-            for (final Matrix3Col c : COLS) {
-                float value = 0;
-                for (int i = 0; i < m1.width(); i++) {
-                    value += m1.get(r, COLS[i]) * m2.get(ROWS[i], c);
-                }
-                result.set(r, c, value);
-            }
+            final float a0 = m1.get(r, C0), a1 = m1.get(r, C1), a2 = m1.get(r, C2);
+            dest.set(r, C0, a0 * b00 + a1 * b10 + a2 * b20);
+            dest.set(r, C1, a0 * b01 + a1 * b11 + a2 * b21);
+            dest.set(r, C2, a0 * b02 + a1 * b12 + a2 * b22);
         }
 
-        return result;
+        return dest;
     }
 
     /**
@@ -371,17 +499,28 @@ public final class Mat3Math {
      * @since 1.0.0
      */
     public static Vector3 prod(final Matrix3 m, final Vector3 v) {
-        final Vector3 result = new Vec3();
-        for (int i = 0; i < m.height(); i++) {
-            float value = 0;
-            for (int elem = 0; elem < v.size(); elem++) {
-                value += m.get(ROWS[i], COLS[elem]) * v.get(elem);
-            }
+        return prod(m, v, new Vec3());
+    }
 
-            result.set(i, value);
-        }
+    /**
+     * Writes product of matrix 3x3 and vector of size 3 into {@code dest}
+     * vector.
+     *
+     * @param m    matrix 3x3 (left)
+     * @param v    column vector of size 3 (right)
+     * @param dest vector of size 3 for result, can be {@code v}
+     * @return {@code dest} vector, which contains product of given matrix and
+     *         vector
+     *
+     * @since 2.1.0
+     */
+    public static Vector3 prod(final Matrix3 m, final Vector3 v, final Vector3 dest) {
+        final float x = v.x(), y = v.y(), z = v.z();
+        dest.setX(m.get(R0, C0) * x + m.get(R0, C1) * y + m.get(R0, C2) * z);
+        dest.setY(m.get(R1, C0) * x + m.get(R1, C1) * y + m.get(R1, C2) * z);
+        dest.setZ(m.get(R2, C0) * x + m.get(R2, C1) * y + m.get(R2, C2) * z);
 
-        return result;
+        return dest;
     }
 
     /**
@@ -455,12 +594,16 @@ public final class Mat3Math {
      * @since 1.0.0
      */
     public static float det(final Matrix3 m) {
-        return m.get(R0, C0) * m.get(R1, C1) * m.get(R2, C2)
-                + m.get(R0, C1) * m.get(R1, C2) * m.get(R2, C0)
-                + m.get(R0, C2) * m.get(R1, C0) * m.get(R2, C1)
-                - m.get(R0, C2) * m.get(R1, C1) * m.get(R2, C0)
-                - m.get(R0, C0) * m.get(R1, C2) * m.get(R2, C1)
-                - m.get(R0, C1) * m.get(R1, C0) * m.get(R2, C2);
+        if (m instanceof Mat3 mat) {
+            final float[] e = mat.data();
+            return e[0] * (e[4] * e[8] - e[5] * e[7])
+                    + e[1] * (e[5] * e[6] - e[3] * e[8])
+                    + e[2] * (e[3] * e[7] - e[4] * e[6]);
+        }
+
+        return m.get(R0, C0) * (m.get(R1, C1) * m.get(R2, C2) - m.get(R1, C2) * m.get(R2, C1))
+                + m.get(R0, C1) * (m.get(R1, C2) * m.get(R2, C0) - m.get(R1, C0) * m.get(R2, C2))
+                + m.get(R0, C2) * (m.get(R1, C0) * m.get(R2, C1) - m.get(R1, C1) * m.get(R2, C0));
     }
 
     /**
@@ -473,15 +616,61 @@ public final class Mat3Math {
      * @since 1.0.0
      */
     public static Matrix3 invertible(final Matrix3 m) throws RuntimeException {
-        final Matrix3 result = cofactorMatrix(m);
-        final float determinant = det(m);
+        return invert(m, new Mat3());
+    }
 
+    /**
+     * Inverts given matrix 3x3.
+     *
+     * @param m matrix 3x3 for inversion
+     * @return given matrix 3x3, which is inverted
+     * @throws RuntimeException if matrix determinant equals to 0
+     *
+     * @since 2.1.0
+     */
+    public static Matrix3 invert(final Matrix3 m) throws RuntimeException {
+        return invert(m, m);
+    }
+
+    /**
+     * Writes inverse of given matrix 3x3 into {@code dest} matrix 3x3.
+     * <p>
+     * Inverse is computed as adjugate matrix divided by determinant directly
+     * from the nine elements, without memory allocation.
+     *
+     * @param m    matrix 3x3 for inversion
+     * @param dest matrix 3x3 for result, can be {@code m}
+     * @return {@code dest} matrix 3x3, which contains inverse of given matrix
+     * @throws RuntimeException if matrix determinant equals to 0, {@code dest}
+     *                          is not changed in this case
+     *
+     * @since 2.1.0
+     */
+    public static Matrix3 invert(final Matrix3 m, final Matrix3 dest) throws RuntimeException {
+        final float a00 = m.get(R0, C0), a01 = m.get(R0, C1), a02 = m.get(R0, C2);
+        final float a10 = m.get(R1, C0), a11 = m.get(R1, C1), a12 = m.get(R1, C2);
+        final float a20 = m.get(R2, C0), a21 = m.get(R2, C1), a22 = m.get(R2, C2);
+
+        final float c00 = a11 * a22 - a12 * a21;
+        final float c01 = a12 * a20 - a10 * a22;
+        final float c02 = a10 * a21 - a11 * a20;
+        final float determinant = a00 * c00 + a01 * c01 + a02 * c02;
         if (determinant == 0) {
             throw new RuntimeException("Invertible matrix does not exist: determinant is 0");
         }
-        transpose(result);
-        mult(result, 1 / determinant);
-        return result;
+        final float inv = 1 / determinant;
+
+        dest.set(R0, C0, c00 * inv);
+        dest.set(R0, C1, (a02 * a21 - a01 * a22) * inv);
+        dest.set(R0, C2, (a01 * a12 - a02 * a11) * inv);
+        dest.set(R1, C0, c01 * inv);
+        dest.set(R1, C1, (a00 * a22 - a02 * a20) * inv);
+        dest.set(R1, C2, (a02 * a10 - a00 * a12) * inv);
+        dest.set(R2, C0, c02 * inv);
+        dest.set(R2, C1, (a01 * a20 - a00 * a21) * inv);
+        dest.set(R2, C2, (a00 * a11 - a01 * a10) * inv);
+
+        return dest;
     }
 
     /**
@@ -543,8 +732,14 @@ public final class Mat3Math {
      * @since 1.0.0
      */
     public static float cofactor(final Matrix3 m, final Matrix3Row r, final Matrix3Col c) {
-        final int coefficient = (r.ordinal() + c.ordinal()) % 2 == 0 ? 1 : -1;
-        return coefficient * MatMath.detThroughCofactors(minorMatrix(m, r, c));
+        final int r1 = r.ordinal() == 0 ? 1 : 0;
+        final int r2 = r.ordinal() == 2 ? 1 : 2;
+        final int c1 = c.ordinal() == 0 ? 1 : 0;
+        final int c2 = c.ordinal() == 2 ? 1 : 2;
+        final float minor = m.get(ROWS[r1], COLS[c1]) * m.get(ROWS[r2], COLS[c2])
+                - m.get(ROWS[r1], COLS[c2]) * m.get(ROWS[r2], COLS[c1]);
+
+        return (r.ordinal() + c.ordinal()) % 2 == 0 ? minor : -minor;
     }
 
     /**
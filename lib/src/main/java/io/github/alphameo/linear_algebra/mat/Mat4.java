@@ -12,15 +12,19 @@ import io.github.alphameo.linear_algebra.vec.Vector4;
  */
 public class Mat4 implements Matrix4, Equatable<Matrix4> {
 
-    private final float[][] entries;
+    /**
+     * Elements in row-major order: element under row {@code r} and column
+     * {@code c} is {@code entries[4 * r + c]}.
+     */
+    private final float[] entries;
 
     /**
-     * Constructs new matrix 3x3 with all 0.
+     * Constructs new matrix 4x4 with all 0.
      *
      * @since 1.0.0
      */
     public Mat4() {
-        this.entries = new float[4][4];
+        this.entries = new float[16];
     }
 
     /**
@@ -51,22 +55,22 @@ public class Mat4 implements Matrix4, Equatable<Matrix4> {
             final float m20, final float m21, final float m22, final float m23,
             final float m30, final float m31, final float m32, final float m33) {
         this();
-        entries[0][0] = m00;
-        entries[0][1] = m01;
-        entries[0][2] = m02;
-        entries[0][3] = m03;
-        entries[1][0] = m10;
-        entries[1][1] = m11;
-        entries[1][2] = m12;
-        entries[1][3] = m13;
-        entries[2][0] = m20;
-        entries[2][1] = m21;
-        entries[2][2] = m22;
-        entries[2][3] = m23;
-        entries[3][0] = m30;
-        entries[3][1] = m31;
-        entries[3][2] = m32;
-        entries[3][3] = m33;
+        entries[0] = m00;
+        entries[1] = m01;
+        entries[2] = m02;
+        entries[3] = m03;
+        entries[4] = m10;
+        entries[5] = m11;
+        entries[6] = m12;
+        entries[7] = m13;
+        entries[8] = m20;
+        entries[9] = m21;
+        entries[10] = m22;
+        entries[11] = m23;
+        entries[12] = m30;
+        entries[13] = m31;
+        entries[14] = m32;
+        entries[15] = m33;
     }
 
     /**
@@ -85,13 +89,15 @@ public class Mat4 implements Matrix4, Equatable<Matrix4> {
                 throw new IllegalArgumentException(
                         "Matrix 4x4 creation denied: input data has rows with different lengths");
             }
-            this.entries[i] = Arrays.copyOf(entries[i], entries[i].length);
         }
         if (entries.length != 4 || entries[0].length != 4) {
             throw new IllegalArgumentException(String.format(
                     "Matrix 4x4 creation denied: input data has size %dx%d", entries.length,
                     entries[0].length));
         }
+        for (int i = 0; i < 4; i++) {
+            System.arraycopy(entries[i], 0, this.entries, 4 * i, 4);
+        }
     }
 
     /**
@@ -103,6 +109,10 @@ public class Mat4 implements Matrix4, Equatable<Matrix4> {
      */
     public Mat4(final Matrix4 m) {
         this();
+        if (m instanceof Mat4 mat) {
+            System.arraycopy(mat.entries, 0, entries, 0, 16);
+            return;
+        }
         for (final Matrix4Row r : Matrix4Row.values()) {
             for (final Matrix4Col c : Matrix4Col.values()) {
                 this.set(r, c, m.get(r, c));
@@ -113,35 +123,46 @@ public class Mat4 implements Matrix4, Equatable<Matrix4> {
     @Override
     public float get(final int r, final int c) throws IllegalArgumentException {
         if (r < 0 || r > 3) {
-            throw new IllegalArgumentException(String.format("Row %d is out of Mat3 bounds", r));
+            throw new IllegalArgumentException(String.format("Row %d is out of Mat4 bounds", r));
         }
         if (c < 0 || c > 3) {
-            throw new IllegalArgumentException(String.format("Column %d is out of Mat3 bounds", c));
+            throw new IllegalArgumentException(String.format("Column %d is out of Mat4 bounds", c));
         }
 
-        return entries[r][c];
+        return entries[4 * r + c];
     }
 
     @Override
     public float get(final Matrix4Row r, final Matrix4Col c) {
-        return entries[r.ordinal()][c.ordinal()];
+        return entries[4 * r.ordinal() + c.ordinal()];
     }
 
     @Override
     public void set(final int r, final int c, final float value) throws IllegalArgumentException {
         if (r < 0 || r > 3) {
-            throw new IllegalArgumentException(String.format("Row %d is out of Mat3 bounds", r));
+            throw new IllegalArgumentException(String.format("Row %d is out of Mat4 bounds", r));
         }
         if (c < 0 || c > 3) {
-            throw new IllegalArgumentException(String.format("Column %d is out of Mat3 bounds", c));
+            throw new IllegalArgumentException(String.format("Column %d is out of Mat4 bounds", c));
         }
 
-        entries[r][c] = value;
+        entries[4 * r + c] = value;
     }
 
     @Override
     public void set(final Matrix4Row r, final Matrix4Col c, final float value) {
-        entries[r.ordinal()][c.ordinal()] = value;
+        entries[4 * r.ordinal() + c.ordinal()] = value;
+    }
+
+    /**
+     * Returns backing array of elements in row-major order.
+     *
+     * @return backing array of 16 elements
+     *
+     * @since 2.1.0
+     */
+    float[] data() {
+        return entries;
     }
 
     @Override
@@ -457,6 +478,43 @@ public class Mat4 implements Matrix4, Equatable<Matrix4> {
         return Mat4Math.invertible(this);
     }
 
+    /**
+     * Inverts current matrix.
+     *
+     * @return current matrix, which is inverted
+     * @throws RuntimeException if matrix determinant equals to 0
+     *
+     * @since 2.1.0
+     */
+    public Matrix4 invert() throws RuntimeException {
+        return Mat4Math.invert(this);
+    }
+
+    /**
+     * Inverts current affine matrix (last row is {@code (0, 0, 0, 1)}).
+     *
+     * @return current matrix, which is inverted
+     * @throws IllegalArgumentException if last row of matrix is not
+     *                                  {@code (0, 0, 0, 1)}
+     * @throws RuntimeException         if matrix determinant equals to 0
+     *
+     * @since 2.1.0
+     */
+    public Matrix4 invertAffine() throws RuntimeException {
+        return Mat4Math.invertAffine(this);
+    }
+
+    /**
+     * Inverts current rigid transformation matrix (rotation and translation).
+     *
+     * @return current matrix, which is inverted
+     *
+     * @since 2.1.0
+     */
+    public Matrix4 invertRigid() {
+        return Mat4Math.invertRigid(this);
+    }
+
     /**
      * Safely constructs minor matrix excluding given row and column from current
      * matrix.
@@ -570,15 +628,7 @@ public class Mat4 implements Matrix4, Equatable<Matrix4> {
 
     @Override
     public Matrix4 clone() {
-        final Mat4 result = new Mat4();
-
-        for (final Matrix4Row r : Matrix4Row.values()) {
-            for (final Matrix4Col c : Matrix4Col.values()) {
-                result.set(r, c, entries[r.ordinal()][c.ordinal()]);
-            }
-        }
-
-        return result;
+        return new Mat4(this);
     }
 
     @Override
@@ -590,7 +640,7 @@ public class Mat4 implements Matrix4, Equatable<Matrix4> {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + Arrays.deepHashCode(entries);
+        result = prime * result + Arrays.hashCode(entries);
         return result;
     }
 
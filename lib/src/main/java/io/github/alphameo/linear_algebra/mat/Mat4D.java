@@ -0,0 +1,234 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+
+import io.github.alphameo.linear_algebra.Equatable;
+import io.github.alphameo.linear_algebra.vec.Vector4D;
+
+/**
+ * Default implementation of matrix 4x4 with double-precision elements
+ * ({@code Matrix4D interface}).
+ *
+ * @since 2.1.0
+ */
+public class Mat4D implements Matrix4D, Equatable<Matrix4D> {
+
+    private final double[] entries;
+
+    /**
+     * Constructs new matrix 4x4 with all 0.
+     *
+     * @since 2.1.0
+     */
+    public Mat4D() {
+        entries = new double[16];
+    }
+
+    /**
+     * Constructs new matrix 4x4 using values from {@code entries}.
+     *
+     * @param entries values for matrix elements
+     * @throws IllegalArgumentException if given two-dimensional array is not 4x4
+     *
+     * @since 2.1.0
+     */
+    public Mat4D(final double[][] entries) throws IllegalArgumentException {
+        this();
+        if (entries.length != 4) {
+            throw new IllegalArgumentException("Matrix creation denied: input data is not 4x4");
+        }
+        for (int i = 0; i < 4; i++) {
+            if (entries[i].length != 4) {
+                throw new IllegalArgumentException("Matrix creation denied: input data is not 4x4");
+            }
+            System.arraycopy(entries[i], 0, this.entries, 4 * i, 4);
+        }
+    }
+
+    /**
+     * Copies given matrix 4x4 values into new matrix 4x4.
+     *
+     * @param m matrix 4x4 for copying
+     *
+     * @since 2.1.0
+     */
+    public Mat4D(final Matrix4D m) {
+        this();
+        if (m instanceof Mat4D other) {
+            System.arraycopy(other.entries, 0, entries, 0, 16);
+            return;
+        }
+
+        for (int i = 0; i < 16; i++) {
+            entries[i] = m.get(i / 4, i % 4);
+        }
+    }
+
+    /**
+     * Copies values of given single-precision matrix 4x4 into new matrix 4x4.
+     *
+     * @param m matrix 4x4 for copying
+     *
+     * @since 2.1.0
+     */
+    public Mat4D(final Matrix4 m) {
+        this();
+        final float[] data = m instanceof Mat4 mat ? mat.data() : new Mat4(m).data();
+        for (int i = 0; i < 16; i++) {
+            entries[i] = data[i];
+        }
+    }
+
+    @Override
+    public double get(final int r, final int c) throws IllegalArgumentException {
+        if (r < 0 || r > 3) {
+            throw new IllegalArgumentException(String.format("Row %d is out of Mat4D bounds", r));
+        }
+        if (c < 0 || c > 3) {
+            throw new IllegalArgumentException(String.format("Column %d is out of Mat4D bounds", c));
+        }
+
+        return entries[4 * r + c];
+    }
+
+    @Override
+    public double get(final Matrix4Row r, final Matrix4Col c) {
+        return entries[4 * r.ordinal() + c.ordinal()];
+    }
+
+    @Override
+    public void set(final int r, final int c, final double value) throws IllegalArgumentException {
+        if (r < 0 || r > 3) {
+            throw new IllegalArgumentException(String.format("Row %d is out of Mat4D bounds", r));
+        }
+        if (c < 0 || c > 3) {
+            throw new IllegalArgumentException(String.format("Column %d is out of Mat4D bounds", c));
+        }
+
+        entries[4 * r + c] = value;
+    }
+
+    @Override
+    public void set(final Matrix4Row r, final Matrix4Col c, final double value) {
+        entries[4 * r.ordinal() + c.ordinal()] = value;
+    }
+
+    /**
+     * Returns backing array of elements in row-major order.
+     *
+     * @return backing array of 16 elements
+     *
+     * @since 2.1.0
+     */
+    double[] data() {
+        return entries;
+    }
+
+    @Override
+    public int width() {
+        return 4;
+    }
+
+    @Override
+    public int height() {
+        return 4;
+    }
+
+    /**
+     * Calculates product of current and given matrices 4x4.
+     *
+     * @param m second (right) matrix 4x4
+     * @return new matrix 4x4, which represents product of matrices
+     *
+     * @since 2.1.0
+     */
+    public Matrix4D prod(final Matrix4D m) {
+        return Mat4DMath.prod(this, m);
+    }
+
+    /**
+     * Calculates product of current matrix 4x4 and vector of size 4.
+     *
+     * @param v column vector of size 4 (right)
+     * @return new vector of size 4, which represents product of current matrix
+     *         and given vector
+     *
+     * @since 2.1.0
+     */
+    public Vector4D prod(final Vector4D v) {
+        return Mat4DMath.prod(this, v);
+    }
+
+    /**
+     * Calculates determinant of matrix 4x4.
+     *
+     * @return matrix 4x4 determinant
+     *
+     * @since 2.1.0
+     */
+    public double det() {
+        return Mat4DMath.det(this);
+    }
+
+    /**
+     * Inverts current matrix 4x4.
+     *
+     * @return current matrix 4x4, which is inverted
+     * @throws RuntimeException if matrix determinant equals to 0
+     *
+     * @since 2.1.0
+     */
+    public Matrix4D invert() throws RuntimeException {
+        return Mat4DMath.invert(this);
+    }
+
+    /**
+     * Rounds elements to single precision.
+     *
+     * @return new single-precision matrix 4x4
+     *
+     * @since 2.1.0
+     */
+    public Matrix4 toFloat() {
+        return Mat4DMath.toFloat(this);
+    }
+
+    @Override
+    public boolean equalsTo(final Matrix4D m) {
+        return Mat4DMath.equals(this, m);
+    }
+
+    @Override
+    public boolean equalsEpsilonTo(final Matrix4D other, final float eps) {
+        return Mat4DMath.equalsEpsilon(this, other, eps);
+    }
+
+    @Override
+    public Mat4D clone() {
+        return new Mat4D(this);
+    }
+
+    @Override
+    public String toString() {
+        return MatStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(entries);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        return Mat4DMath.equals(this, (Mat4D) obj);
+    }
+}
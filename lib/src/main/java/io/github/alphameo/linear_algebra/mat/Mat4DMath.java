@@ -0,0 +1,499 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import static io.github.alphameo.linear_algebra.mat.Matrix4Col.*;
+import static io.github.alphameo.linear_algebra.mat.Matrix4Row.*;
+
+import io.github.alphameo.linear_algebra.Validator;
+import io.github.alphameo.linear_algebra.vec.Vec4D;
+import io.github.alphameo.linear_algebra.vec.Vector4D;
+
+/**
+ * Class with static functions for matrices 4x4 with double-precision
+ * elements.
+ * <p>
+ * Product, determinant and inverse use the same unrolled closed forms as
+ * {@link Mat4Math}, evaluated in double precision.
+ *
+ * @since 2.1.0
+ */
+public final class Mat4DMath {
+
+    /**
+     * Default empty constructor
+     *
+     * @since 2.1.0
+     */
+    public Mat4DMath() {
+    }
+
+    /**
+     * Writes transposed matrix 4x4 into {@code dest} matrix 4x4.
+     *
+     * @param m    matrix 4x4 for transposition
+     * @param dest matrix 4x4 for result, can be {@code m}
+     * @return {@code dest} matrix 4x4, which contains transposed matrix
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D transposed(final Matrix4D m, final Matrix4D dest) {
+        final Mat4D source = new Mat4D(m);
+        for (final Matrix4Row r : Mat4Math.ROWS) {
+            for (final Matrix4Col c : Mat4Math.COLS) {
+                dest.set(r, c, source.get(c.ordinal(), r.ordinal()));
+            }
+        }
+
+        return dest;
+    }
+
+    /**
+     * Copies given matrix 4x4 and transposes it.
+     *
+     * @param m matrix 4x4 for transposition
+     * @return new transposed matrix 4x4
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D transposed(final Matrix4D m) {
+        return transposed(m, new Mat4D());
+    }
+
+    /**
+     * Writes elements of matrix 4x4 multiplied by a scalar value into
+     * {@code dest} matrix 4x4.
+     *
+     * @param m          matrix 4x4 for multiplication
+     * @param multiplier scalar value
+     * @param dest       matrix 4x4 for result, can be {@code m}
+     * @return {@code dest} matrix 4x4 with multiplied elements
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D multiplied(final Matrix4D m, final double multiplier, final Matrix4D dest) {
+        for (final Matrix4Row r : Mat4Math.ROWS) {
+            for (final Matrix4Col c : Mat4Math.COLS) {
+                dest.set(r, c, m.get(r, c) * multiplier);
+            }
+        }
+
+        return dest;
+    }
+
+    /**
+     * Copies given matrix 4x4 and multiplies its elements by a scalar value.
+     *
+     * @param m          matrix 4x4 for multiplication
+     * @param multiplier scalar value
+     * @return new matrix 4x4 with multiplied elements
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D multiplied(final Matrix4D m, final double multiplier) {
+        return multiplied(m, multiplier, new Mat4D());
+    }
+
+    /**
+     * Writes sum of matrices 4x4 into {@code dest} matrix 4x4.
+     *
+     * @param target   matrix 4x4 to be added
+     * @param addendum matrix 4x4 to add
+     * @param dest     matrix 4x4 for result, can be any of operands
+     * @return {@code dest} matrix 4x4 with sum of matrices
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D added(final Matrix4D target, final Matrix4D addendum, final Matrix4D dest) {
+        for (final Matrix4Row r : Mat4Math.ROWS) {
+            for (final Matrix4Col c : Mat4Math.COLS) {
+                dest.set(r, c, target.get(r, c) + addendum.get(r, c));
+            }
+        }
+
+        return dest;
+    }
+
+    /**
+     * Calculates sum of matrices 4x4.
+     *
+     * @param target   matrix 4x4 to be added
+     * @param addendum matrix 4x4 to add
+     * @return new matrix 4x4 with sum of matrices
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D added(final Matrix4D target, final Matrix4D addendum) {
+        return added(target, addendum, new Mat4D());
+    }
+
+    /**
+     * Writes difference of matrices 4x4 into {@code dest} matrix 4x4.
+     *
+     * @param target     matrix 4x4 to be subtracted
+     * @param subtrahend matrix 4x4 to subtract
+     * @param dest       matrix 4x4 for result, can be any of operands
+     * @return {@code dest} matrix 4x4 with difference of matrices
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D subtracted(final Matrix4D target, final Matrix4D subtrahend, final Matrix4D dest) {
+        for (final Matrix4Row r : Mat4Math.ROWS) {
+            for (final Matrix4Col c : Mat4Math.COLS) {
+                dest.set(r, c, target.get(r, c) - subtrahend.get(r, c));
+            }
+        }
+
+        return dest;
+    }
+
+    /**
+     * Calculates difference of matrices 4x4.
+     *
+     * @param target     matrix 4x4 to be subtracted
+     * @param subtrahend matrix 4x4 to subtract
+     * @return new matrix 4x4 with difference of matrices
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D subtracted(final Matrix4D target, final Matrix4D subtrahend) {
+        return subtracted(target, subtrahend, new Mat4D());
+    }
+
+    /**
+     * Calculates product of matrices 4x4.
+     *
+     * @param m1 first (left) matrix 4x4
+     * @param m2 second (right) matrix 4x4
+     * @return new matrix 4x4, which represents product of given matrices
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D prod(final Matrix4D m1, final Matrix4D m2) {
+        return prod(m1, m2, new Mat4D());
+    }
+
+    /**
+     * Writes product of matrices 4x4 into {@code dest} matrix 4x4.
+     *
+     * @param m1   first (left) matrix 4x4
+     * @param m2   second (right) matrix 4x4
+     * @param dest matrix 4x4 for result, can be any of operands
+     * @return {@code dest} matrix 4x4, which contains product of given matrices
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D prod(final Matrix4D m1, final Matrix4D m2, final Matrix4D dest) {
+        if (m1 instanceof Mat4D a && m2 instanceof Mat4D b && dest instanceof Mat4D d) {
+            prod(a.data(), b.data(), d.data());
+            return dest;
+        }
+
+        final Mat4D result = new Mat4D();
+        prod(new Mat4D(m1).data(), new Mat4D(m2).data(), result.data());
+
+        return copy(result, dest);
+    }
+
+    /**
+     * Unrolled product of row-major matrices 4x4. All elements are read before
+     * the first write, so {@code d} can be any of operands.
+     */
+    private static void prod(final double[] a, final double[] b, final double[] d) {
+        final double a00 = a[0], a01 = a[1], a02 = a[2], a03 = a[3];
+        final double a10 = a[4], a11 = a[5], a12 = a[6], a13 = a[7];
+        final double a20 = a[8], a21 = a[9], a22 = a[10], a23 = a[11];
+        final double a30 = a[12], a31 = a[13], a32 = a[14], a33 = a[15];
+        final double b00 = b[0], b01 = b[1], b02 = b[2], b03 = b[3];
+        final double b10 = b[4], b11 = b[5], b12 = b[6], b13 = b[7];
+        final double b20 = b[8], b21 = b[9], b22 = b[10], b23 = b[11];
+        final double b30 = b[12], b31 = b[13], b32 = b[14], b33 = b[15];
+
+        d[0] = a00 * b00 + a01 * b10 + a02 * b20 + a03 * b30;
+        d[1] = a00 * b01 + a01 * b11 + a02 * b21 + a03 * b31;
+        d[2] = a00 * b02 + a01 * b12 + a02 * b22 + a03 * b32;
+        d[3] = a00 * b03 + a01 * b13 + a02 * b23 + a03 * b33;
+        d[4] = a10 * b00 + a11 * b10 + a12 * b20 + a13 * b30;
+        d[5] = a10 * b01 + a11 * b11 + a12 * b21 + a13 * b31;
+        d[6] = a10 * b02 + a11 * b12 + a12 * b22 + a13 * b32;
+        d[7] = a10 * b03 + a11 * b13 + a12 * b23 + a13 * b33;
+        d[8] = a20 * b00 + a21 * b10 + a22 * b20 + a23 * b30;
+        d[9] = a20 * b01 + a21 * b11 + a22 * b21 + a23 * b31;
+        d[10] = a20 * b02 + a21 * b12 + a22 * b22 + a23 * b32;
+        d[11] = a20 * b03 + a21 * b13 + a22 * b23 + a23 * b33;
+        d[12] = a30 * b00 + a31 * b10 + a32 * b20 + a33 * b30;
+        d[13] = a30 * b01 + a31 * b11 + a32 * b21 + a33 * b31;
+        d[14] = a30 * b02 + a31 * b12 + a32 * b22 + a33 * b32;
+        d[15] = a30 * b03 + a31 * b13 + a32 * b23 + a33 * b33;
+    }
+
+    /**
+     * Calculates product of matrix 4x4 and vector of size 4.
+     *
+     * @param m matrix 4x4 (left)
+     * @param v column vector of size 4 (right)
+     * @return new vector of size 4, which represents product of given matrix
+     *         and vector
+     *
+     * @since 2.1.0
+     */
+    public static Vector4D prod(final Matrix4D m, final Vector4D v) {
+        return prod(m, v, new Vec4D());
+    }
+
+    /**
+     * Writes product of matrix 4x4 and vector of size 4 into {@code dest}
+     * vector.
+     *
+     * @param m    matrix 4x4 (left)
+     * @param v    column vector of size 4 (right)
+     * @param dest vector of size 4 for result, can be {@code v}
+     * @return {@code dest} vector, which contains product of given matrix and
+     *         vector
+     *
+     * @since 2.1.0
+     */
+    public static Vector4D prod(final Matrix4D m, final Vector4D v, final Vector4D dest) {
+        final double x = v.x(), y = v.y(), z = v.z(), w = v.w();
+        if (m instanceof Mat4D mat) {
+            final double[] e = mat.data();
+            dest.setX(e[0] * x + e[1] * y + e[2] * z + e[3] * w);
+            dest.setY(e[4] * x + e[5] * y + e[6] * z + e[7] * w);
+            dest.setZ(e[8] * x + e[9] * y + e[10] * z + e[11] * w);
+            dest.setW(e[12] * x + e[13] * y + e[14] * z + e[15] * w);
+
+            return dest;
+        }
+
+        dest.setX(m.get(R0, C0) * x + m.get(R0, C1) * y + m.get(R0, C2) * z + m.get(R0, C3) * w);
+        dest.setY(m.get(R1, C0) * x + m.get(R1, C1) * y + m.get(R1, C2) * z + m.get(R1, C3) * w);
+        dest.setZ(m.get(R2, C0) * x + m.get(R2, C1) * y + m.get(R2, C2) * z + m.get(R2, C3) * w);
+        dest.setW(m.get(R3, C0) * x + m.get(R3, C1) * y + m.get(R3, C2) * z + m.get(R3, C3) * w);
+
+        return dest;
+    }
+
+    /**
+     * Calculates matrix 4x4 determinant through 2x2 sub-determinants of the
+     * upper and lower halves of the matrix.
+     *
+     * @param m matrix 4x4 for determinant calculation
+     * @return matrix 4x4 determinant
+     *
+     * @since 2.1.0
+     */
+    public static double det(final Matrix4D m) {
+        final double[] e = m instanceof Mat4D mat ? mat.data() : new Mat4D(m).data();
+        final double s0 = e[0] * e[5] - e[4] * e[1];
+        final double s1 = e[0] * e[6] - e[4] * e[2];
+        final double s2 = e[0] * e[7] - e[4] * e[3];
+        final double s3 = e[1] * e[6] - e[5] * e[2];
+        final double s4 = e[1] * e[7] - e[5] * e[3];
+        final double s5 = e[2] * e[7] - e[6] * e[3];
+        final double c0 = e[8] * e[13] - e[12] * e[9];
+        final double c1 = e[8] * e[14] - e[12] * e[10];
+        final double c2 = e[8] * e[15] - e[12] * e[11];
+        final double c3 = e[9] * e[14] - e[13] * e[10];
+        final double c4 = e[9] * e[15] - e[13] * e[11];
+        final double c5 = e[10] * e[15] - e[14] * e[11];
+
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+    }
+
+    /**
+     * Constructs invertible matrix 4x4 from given matrix 4x4.
+     *
+     * @param m matrix 4x4 for invertible matrix 4x4 construction
+     * @return new invertible matrix 4x4
+     * @throws RuntimeException if matrix determinant equals to 0
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D invertible(final Matrix4D m) throws RuntimeException {
+        return invert(m, new Mat4D());
+    }
+
+    /**
+     * Inverts given matrix 4x4.
+     *
+     * @param m matrix 4x4 for inversion
+     * @return given matrix 4x4, which is inverted
+     * @throws RuntimeException if matrix determinant equals to 0
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D invert(final Matrix4D m) throws RuntimeException {
+        return invert(m, m);
+    }
+
+    /**
+     * Writes inverse of given matrix 4x4 into {@code dest} matrix 4x4.
+     *
+     * @param m    matrix 4x4 for inversion
+     * @param dest matrix 4x4 for result, can be {@code m}
+     * @return {@code dest} matrix 4x4, which contains inverse of given matrix
+     * @throws RuntimeException if matrix determinant equals to 0, {@code dest}
+     *                          is not changed in this case
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D invert(final Matrix4D m, final Matrix4D dest) throws RuntimeException {
+        if (m instanceof Mat4D src && dest instanceof Mat4D d) {
+            invert(src.data(), d.data());
+            return dest;
+        }
+
+        final Mat4D result = new Mat4D(m);
+        invert(result.data(), result.data());
+
+        return copy(result, dest);
+    }
+
+    private static void invert(final double[] e, final double[] d) throws RuntimeException {
+        final double a00 = e[0], a01 = e[1], a02 = e[2], a03 = e[3];
+        final double a10 = e[4], a11 = e[5], a12 = e[6], a13 = e[7];
+        final double a20 = e[8], a21 = e[9], a22 = e[10], a23 = e[11];
+        final double a30 = e[12], a31 = e[13], a32 = e[14], a33 = e[15];
+
+        final double s0 = a00 * a11 - a10 * a01;
+        final double s1 = a00 * a12 - a10 * a02;
+        final double s2 = a00 * a13 - a10 * a03;
+        final double s3 = a01 * a12 - a11 * a02;
+        final double s4 = a01 * a13 - a11 * a03;
+        final double s5 = a02 * a13 - a12 * a03;
+        final double c0 = a20 * a31 - a30 * a21;
+        final double c1 = a20 * a32 - a30 * a22;
+        final double c2 = a20 * a33 - a30 * a23;
+        final double c3 = a21 * a32 - a31 * a22;
+        final double c4 = a21 * a33 - a31 * a23;
+        final double c5 = a22 * a33 - a32 * a23;
+
+        final double determinant = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if (determinant == 0) {
+            throw new RuntimeException("Invertible matrix does not exist: determinant is 0");
+        }
+        final double inv = 1 / determinant;
+
+        d[0] = (a11 * c5 - a12 * c4 + a13 * c3) * inv;
+        d[1] = (-a01 * c5 + a02 * c4 - a03 * c3) * inv;
+        d[2] = (a31 * s5 - a32 * s4 + a33 * s3) * inv;
+        d[3] = (-a21 * s5 + a22 * s4 - a23 * s3) * inv;
+        d[4] = (-a10 * c5 + a12 * c2 - a13 * c1) * inv;
+        d[5] = (a00 * c5 - a02 * c2 + a03 * c1) * inv;
+        d[6] = (-a30 * s5 + a32 * s2 - a33 * s1) * inv;
+        d[7] = (a20 * s5 - a22 * s2 + a23 * s1) * inv;
+        d[8] = (a10 * c4 - a11 * c2 + a13 * c0) * inv;
+        d[9] = (-a00 * c4 + a01 * c2 - a03 * c0) * inv;
+        d[10] = (a30 * s4 - a31 * s2 + a33 * s0) * inv;
+        d[11] = (-a20 * s4 + a21 * s2 - a23 * s0) * inv;
+        d[12] = (-a10 * c3 + a11 * c1 - a12 * c0) * inv;
+        d[13] = (a00 * c3 - a01 * c1 + a02 * c0) * inv;
+        d[14] = (-a30 * s3 + a31 * s1 - a32 * s0) * inv;
+        d[15] = (a20 * s3 - a21 * s1 + a22 * s0) * inv;
+    }
+
+    private static Matrix4D copy(final Mat4D src, final Matrix4D dest) {
+        final double[] e = src.data();
+        for (int i = 0; i < 16; i++) {
+            dest.set(i / 4, i % 4, e[i]);
+        }
+
+        return dest;
+    }
+
+    /**
+     * Returns {@code true} if elements of matrices 4x4 are equal within
+     * {@code epsilon} tolerance
+     *
+     * @param m1  first matrix 4x4 for comparison
+     * @param m2  second matrix 4x4 for comparison
+     * @param eps tolerance
+     * @return {@code true} if all elements of matrices are equal within
+     *         {@code epsilon} tolerance, and {@code false} otherwise
+     *
+     * @since 2.1.0
+     */
+    public static boolean equalsEpsilon(final Matrix4D m1, final Matrix4D m2, final double eps) {
+        for (final Matrix4Row r : Mat4Math.ROWS) {
+            for (final Matrix4Col c : Mat4Math.COLS) {
+                if (!Validator.equalsEpsilon(m1.get(r, c), m2.get(r, c), eps)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if elements of matrices 4x4 are approximately equal
+     *
+     * @param m1 first matrix 4x4 for comparison
+     * @param m2 second matrix 4x4 for comparison
+     * @return {@code true} if all elements of matrices are approximately equal,
+     *         and {@code false} otherwise
+     *
+     * @since 2.1.0
+     */
+    public static boolean equals(final Matrix4D m1, final Matrix4D m2) {
+        return equalsEpsilon(m1, m2, Validator.EPS);
+    }
+
+    /**
+     * Constructs matrix 4x4 with all 0 elements.
+     *
+     * @return matrix 4x4 with all 0 elements
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D zeroMat() {
+        return new Mat4D();
+    }
+
+    /**
+     * Constructs square matrix 4x4 with 1 on main diagonal.
+     *
+     * @return square matrix 4x4 with 1 on main diagonal
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4D unitMat() {
+        final Mat4D result = new Mat4D();
+        final double[] e = result.data();
+        e[0] = 1;
+        e[5] = 1;
+        e[10] = 1;
+        e[15] = 1;
+
+        return result;
+    }
+
+    /**
+     * Widens elements of single-precision matrix 4x4 to double precision.
+     *
+     * @param m matrix 4x4 for conversion
+     * @return new double-precision matrix 4x4
+     *
+     * @since 2.1.0
+     */
+    public static Mat4D toDouble(final Matrix4 m) {
+        return new Mat4D(m);
+    }
+
+    /**
+     * Rounds elements of double-precision matrix 4x4 to single precision.
+     *
+     * @param m matrix 4x4 for conversion
+     * @return new single-precision matrix 4x4
+     *
+     * @since 2.1.0
+     */
+    public static Mat4 toFloat(final Matrix4D m) {
+        final double[] e = m instanceof Mat4D mat ? mat.data() : new Mat4D(m).data();
+        final Mat4 result = new Mat4();
+        final float[] d = result.data();
+        for (int i = 0; i < 16; i++) {
+            d[i] = (float) e[i];
+        }
+
+        return result;
+    }
+}
@@ -1,7 +1,10 @@
 package io.github.alphameo.linear_algebra.mat;
 
+import static io.github.alphameo.linear_algebra.mat.Matrix4Col.*;
 import static io.github.alphameo.linear_algebra.mat.Matrix4Row.*;
 
+import java.nio.FloatBuffer;
+
 import io.github.alphameo.linear_algebra.Validator;
 import io.github.alphameo.linear_algebra.vec.Vec4;
 import io.github.alphameo.linear_algebra.vec.Vector4;
@@ -27,6 +30,14 @@ public final class Mat4Math {
      */
     public static final Matrix4Col[] COLS = Matrix4Col.values();
 
+    /**
+     * Count of points from which {@code transformPoints} splits batch between
+     * threads of the common fork-join pool.
+     *
+     * @since 2.1.0
+     */
+    public static final int PARALLEL_POINTS_THRESHOLD = 1 << 16;
+
     /**
      * Default empty constructor
      *
@@ -68,6 +79,30 @@ public final class Mat4Math {
         return transpose(new Mat4(m));
     }
 
+    /**
+     * Writes transposed given matrix 4x4 into {@code dest} matrix 4x4.
+     *
+     * @param m    matrix 4x4 for transpose
+     * @param dest matrix 4x4 for result, can be {@code m}
+     * @return {@code dest} matrix 4x4, which contains transposed given matrix
+     *         4x4
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 transposed(final Matrix4 m, final Matrix4 dest) {
+        if (dest == m) {
+            return transpose(m);
+        }
+
+        for (final Matrix4Row r : ROWS) {
+            for (final Matrix4Col c : COLS) {
+                dest.set(r, c, m.get(ROWS[c.ordinal()], COLS[r.ordinal()]));
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Safely swaps rows of matrix 4x4
      *
@@ -235,6 +270,27 @@ public final class Mat4Math {
         return mult(new Mat4(m), multiplier);
     }
 
+    /**
+     * Writes elements of given matrix 4x4 multiplied by a scalar value into
+     * {@code dest} matrix 4x4.
+     *
+     * @param m          matrix 4x4 for multiplication
+     * @param multiplier scalar value
+     * @param dest       matrix 4x4 for result, can be {@code m}
+     * @return {@code dest} matrix 4x4 with multiplied elements of given matrix
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 multiplied(final Matrix4 m, final float multiplier, final Matrix4 dest) {
+        for (final Matrix4Row r : ROWS) {
+            for (final Matrix4Col c : COLS) {
+                dest.set(r, c, m.get(r, c) * multiplier);
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Divides matrix 4x4 elements by a scalar value.
      * 
@@ -270,6 +326,29 @@ public final class Mat4Math {
         return divide(new Mat4(m), divisor);
     }
 
+    /**
+     * Writes elements of given matrix 4x4 divided by a scalar value into
+     * {@code dest} matrix 4x4.
+     *
+     * @param m       matrix 4x4 for division
+     * @param divisor scalar value
+     * @param dest    matrix 4x4 for result, can be {@code m}
+     * @return {@code dest} matrix 4x4 with divided elements of given matrix
+     * @throws ArithmeticException if {@code divisor} approximately equals 0
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 divided(final Matrix4 m, final float divisor, final Matrix4 dest) throws ArithmeticException {
+        Validator.validateDivisor(divisor);
+        for (final Matrix4Row r : ROWS) {
+            for (final Matrix4Col c : COLS) {
+                dest.set(r, c, m.get(r, c) / divisor);
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Adds the {@code addendum} matrix 4x4 elements to the {@code target} matrix
      * 4x4 elements.
@@ -305,6 +384,28 @@ public final class Mat4Math {
         return add(new Mat4(target), addendum);
     }
 
+    /**
+     * Writes sum of {@code target} and {@code addendum} matrices 4x4 into
+     * {@code dest} matrix 4x4.
+     *
+     * @param target   matrix 4x4 to be added
+     * @param addendum matrix 4x4 to add
+     * @param dest     matrix 4x4 for result, can be any of operands
+     * @return {@code dest} matrix 4x4 with sum of elements of {@code target}
+     *         matrix 4x4 and {@code addendum} matrix 4x4
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 added(final Matrix4 target, final Matrix4 addendum, final Matrix4 dest) {
+        for (final Matrix4Row r : ROWS) {
+            for (final Matrix4Col c : COLS) {
+                dest.set(r, c, target.get(r, c) + addendum.get(r, c));
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Subtracts the {@code subtrahend} matrix 4x4 elements from the {@code target}
      * matrix 4x4 elements.
@@ -340,6 +441,28 @@ public final class Mat4Math {
         return sub(new Mat4(target), subtrahend);
     }
 
+    /**
+     * Writes difference of {@code target} and {@code subtrahend} matrices
+     * 4x4 into {@code dest} matrix 4x4.
+     *
+     * @param target     matrix 4x4 to be subtracted
+     * @param subtrahend matrix 4x4 to subtract
+     * @param dest       matrix 4x4 for result, can be any of operands
+     * @return {@code dest} matrix 4x4 with components resulting {@code target}
+     *         matrix 4x4 subtracted by {@code subtrahend} matrix 4x4
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 subtracted(final Matrix4 target, final Matrix4 subtrahend, final Matrix4 dest) {
+        for (final Matrix4Row r : ROWS) {
+            for (final Matrix4Col c : COLS) {
+                dest.set(r, c, target.get(r, c) - subtrahend.get(r, c));
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Calculates product of matrices 4x4.
      *
@@ -350,18 +473,73 @@ public final class Mat4Math {
      * @since 1.0.0
      */
     public static Matrix4 prod(final Matrix4 m1, final Matrix4 m2) {
-        final Matrix4 result = new Mat4();
+        return prod(m1, m2, new Mat4());
+    }
+
+    /**
+     * Writes product of matrices 4x4 into {@code dest} matrix 4x4.
+     * <p>
+     * Operands are read before the corresponding elements are overwritten, so
+     * {@code dest} can be any of operands.
+     *
+     * @param m1   first (left) matrix 4x4
+     * @param m2   second (right) matrix 4x4
+     * @param dest matrix 4x4 for result
+     * @return {@code dest} matrix 4x4, which contains product of given matrices
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 prod(final Matrix4 m1, final Matrix4 m2, final Matrix4 dest) {
+        if (m1 instanceof Mat4 a && m2 instanceof Mat4 b && dest instanceof Mat4 d) {
+            prod(a.data(), b.data(), d.data());
+            return dest;
+        }
+
+        final float b00 = m2.get(R0, C0), b01 = m2.get(R0, C1), b02 = m2.get(R0, C2), b03 = m2.get(R0, C3);
+        final float b10 = m2.get(R1, C0), b11 = m2.get(R1, C1), b12 = m2.get(R1, C2), b13 = m2.get(R1, C3);
+        final float b20 = m2.get(R2, C0), b21 = m2.get(R2, C1), b22 = m2.get(R2, C2), b23 = m2.get(R2, C3);
+        final float b30 = m2.get(R3, C0), b31 = m2.get(R3, C1), b32 = m2.get(R3, C2), b33 = m2.get(R3, C3);
         for (final Matrix4Row r : ROWS) {
-            for (final Matrix4Col c : COLS) {
-                float value = 0;
-                for (int i = 0; i < m1.width(); i++) {
-                    value += m1.get(r, COLS[i]) * m2.get(ROWS[i], c);
-                }
-                result.set(r, c, value);
-            }
+            final float a0 = m1.get(r, C0), a1 = m1.get(r, C1), a2 = m1.get(r, C2), a3 = m1.get(r, C3);
+            dest.set(r, C0, a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30);
+            dest.set(r, C1, a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31);
+            dest.set(r, C2, a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32);
+            dest.set(r, C3, a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33);
         }
 
-        return result;
+        return dest;
+    }
+
+    /**
+     * Unrolled product of row-major matrices 4x4. All elements are read before
+     * the first write, so {@code d} can be any of operands.
+     */
+    private static void prod(final float[] a, final float[] b, final float[] d) {
+        final float a00 = a[0], a01 = a[1], a02 = a[2], a03 = a[3];
+        final float a10 = a[4], a11 = a[5], a12 = a[6], a13 = a[7];
+        final float a20 = a[8], a21 = a[9], a22 = a[10], a23 = a[11];
+        final float a30 = a[12], a31 = a[13], a32 = a[14], a33 = a[15];
+        final float b00 = b[0], b01 = b[1], b02 = b[2], b03 = b[3];
+        final float b10 = b[4], b11 = b[5], b12 = b[6], b13 = b[7];
+        final float b20 = b[8], b21 = b[9], b22 = b[10], b23 = b[11];
+        final float b30 = b[12], b31 = b[13], b32 = b[14], b33 = b[15];
+
+        d[0] = a00 * b00 + a01 * b10 + a02 * b20 + a03 * b30;
+        d[1] = a00 * b01 + a01 * b11 + a02 * b21 + a03 * b31;
+        d[2] = a00 * b02 + a01 * b12 + a02 * b22 + a03 * b32;
+        d[3] = a00 * b03 + a01 * b13 + a02 * b23 + a03 * b33;
+        d[4] = a10 * b00 + a11 * b10 + a12 * b20 + a13 * b30;
+        d[5] = a10 * b01 + a11 * b11 + a12 * b21 + a13 * b31;
+        d[6] = a10 * b02 + a11 * b12 + a12 * b22 + a13 * b32;
+        d[7] = a10 * b03 + a11 * b13 + a12 * b23 + a13 * b33;
+        d[8] = a20 * b00 + a21 * b10 + a22 * b20 + a23 * b30;
+        d[9] = a20 * b01 + a21 * b11 + a22 * b21 + a23 * b31;
+        d[10] = a20 * b02 + a21 * b12 + a22 * b22 + a23 * b32;
+        d[11] = a20 * b03 + a21 * b13 + a22 * b23 + a23 * b33;
+        d[12] = a30 * b00 + a31 * b10 + a32 * b20 + a33 * b30;
+        d[13] = a30 * b01 + a31 * b11 + a32 * b21 + a33 * b31;
+        d[14] = a30 * b02 + a31 * b12 + a32 * b22 + a33 * b32;
+        d[15] = a30 * b03 + a31 * b13 + a32 * b23 + a33 * b33;
     }
 
     /**
@@ -374,17 +552,131 @@ public final class Mat4Math {
      * @since 1.0.0
      */
     public static Vector4 prod(final Matrix4 m, final Vector4 v) {
-        final Vector4 result = new Vec4();
-        for (int i = 0; i < m.height(); i++) {
-            float value = 0;
-            for (int elem = 0; elem < v.size(); elem++) {
-                value += m.get(ROWS[i], COLS[elem]) * v.get(elem);
-            }
+        return prod(m, v, new Vec4());
+    }
 
-            result.set(i, value);
+    /**
+     * Writes product of matrix 4x4 and vector of size 4 into {@code dest}
+     * vector.
+     *
+     * @param m    matrix 4x4 (left)
+     * @param v    column vector of size 4 (right)
+     * @param dest vector of size 4 for result, can be {@code v}
+     * @return {@code dest} vector, which contains product of given matrix and
+     *         vector
+     *
+     * @since 2.1.0
+     */
+    public static Vector4 prod(final Matrix4 m, final Vector4 v, final Vector4 dest) {
+        final float x = v.x(), y = v.y(), z = v.z(), w = v.w();
+        if (m instanceof Mat4 mat) {
+            final float[] e = mat.data();
+            dest.setX(e[0] * x + e[1] * y + e[2] * z + e[3] * w);
+            dest.setY(e[4] * x + e[5] * y + e[6] * z + e[7] * w);
+            dest.setZ(e[8] * x + e[9] * y + e[10] * z + e[11] * w);
+            dest.setW(e[12] * x + e[13] * y + e[14] * z + e[15] * w);
+
+            return dest;
         }
 
-        return result;
+        dest.setX(m.get(R0, C0) * x + m.get(R0, C1) * y + m.get(R0, C2) * z + m.get(R0, C3) * w);
+        dest.setY(m.get(R1, C0) * x + m.get(R1, C1) * y + m.get(R1, C2) * z + m.get(R1, C3) * w);
+        dest.setZ(m.get(R2, C0) * x + m.get(R2, C1) * y + m.get(R2, C2) * z + m.get(R2, C3) * w);
+        dest.setW(m.get(R3, C0) * x + m.get(R3, C1) * y + m.get(R3, C2) * z + m.get(R3, C3) * w);
+
+        return dest;
+    }
+
+    /**
+     * Transforms every point of {@code src} array by given matrix 4x4 and writes
+     * results into {@code dest} array of the same length.
+     * <p>
+     * Points are stored according to {@code layout}; layouts without {@code w}
+     * component imply {@code w = 1} and keep only {@code x}, {@code y},
+     * {@code z} of the result without perspective division. Batches of at
+     * least {@link #PARALLEL_POINTS_THRESHOLD} points are transformed in the
+     * common fork-join pool.
+     *
+     * @param m      transformation matrix 4x4
+     * @param src    array of points
+     * @param dest   array for transformed points, can be {@code src}
+     * @param layout layout of points in both arrays
+     * @return {@code dest} array
+     * @throws IllegalArgumentException if length of {@code src} is not multiple
+     *                                  of layout components count or arrays
+     *                                  have different lengths
+     *
+     * @since 2.1.0
+     */
+    public static float[] transformPoints(final Matrix4 m, final float[] src, final float[] dest,
+            final PointLayout layout) throws IllegalArgumentException {
+        final int count = pointsCount(src.length, layout);
+        if (dest.length != src.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Points transformation denied: destination length %d differs from source length %d",
+                    dest.length, src.length));
+        }
+
+        PointKernels.transform(data(m), layout, count, src, 0, dest, 0, PARALLEL_POINTS_THRESHOLD);
+
+        return dest;
+    }
+
+    /**
+     * Transforms every point between position and limit of {@code src} buffer
+     * by given matrix 4x4 and writes results into {@code dest} buffer starting
+     * at its position.
+     * <p>
+     * Positions of buffers are not changed. Points are stored according to
+     * {@code layout} as in {@link #transformPoints(Matrix4, float[], float[],
+     * PointLayout)}; SoA planes are counted from buffer positions. Buffers
+     * without accessible array (direct buffers) are processed through heap
+     * chunks.
+     *
+     * @param m      transformation matrix 4x4
+     * @param src    buffer of points
+     * @param dest   buffer for transformed points, can be {@code src}
+     * @param layout layout of points in both buffers
+     * @return {@code dest} buffer
+     * @throws IllegalArgumentException if remaining elements of {@code src} are
+     *                                  not multiple of layout components count or
+     *                                  {@code dest} has less remaining elements
+     *
+     * @since 2.1.0
+     */
+    public static FloatBuffer transformPoints(final Matrix4 m, final FloatBuffer src, final FloatBuffer dest,
+            final PointLayout layout) throws IllegalArgumentException {
+        final int count = pointsCount(src.remaining(), layout);
+        if (dest.remaining() < src.remaining()) {
+            throw new IllegalArgumentException(String.format(
+                    "Points transformation denied: destination has %d remaining elements, %d required",
+                    dest.remaining(), src.remaining()));
+        }
+
+        if (src.hasArray() && dest.hasArray()) {
+            PointKernels.transform(data(m), layout, count,
+                    src.array(), src.arrayOffset() + src.position(),
+                    dest.array(), dest.arrayOffset() + dest.position(), PARALLEL_POINTS_THRESHOLD);
+        } else {
+            PointKernels.transform(data(m), layout, count, src, src.position(), dest, dest.position(),
+                    PARALLEL_POINTS_THRESHOLD);
+        }
+
+        return dest;
+    }
+
+    private static int pointsCount(final int length, final PointLayout layout) {
+        if (length % layout.components() != 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Points transformation denied: %d elements are not multiple of %d components",
+                    length, layout.components()));
+        }
+
+        return length / layout.components();
+    }
+
+    private static float[] data(final Matrix4 m) {
+        return m instanceof Mat4 mat ? mat.data() : new Mat4(m).data();
     }
 
     /**
@@ -451,6 +743,9 @@ public final class Mat4Math {
 
     /**
      * Calculates matrix 4x4 determinant.
+     * <p>
+     * Determinant is expanded through 2x2 sub-determinants of the upper and
+     * lower halves of the matrix.
      * 
      * @param m matrix 4x4 for determinant calculation
      * @return matrix 4x4 determinant
@@ -458,11 +753,21 @@ public final class Mat4Math {
      * @since 1.0.0
      */
     public static float det(final Matrix4 m) {
-        float determinant = 0;
-        for (final Matrix4Col c : Matrix4Col.values()) {
-            determinant += m.get(R0, c) * cofactor(m, R0, c);
-        }
-        return determinant;
+        final float[] e = m instanceof Mat4 mat ? mat.data() : new Mat4(m).data();
+        final float s0 = e[0] * e[5] - e[4] * e[1];
+        final float s1 = e[0] * e[6] - e[4] * e[2];
+        final float s2 = e[0] * e[7] - e[4] * e[3];
+        final float s3 = e[1] * e[6] - e[5] * e[2];
+        final float s4 = e[1] * e[7] - e[5] * e[3];
+        final float s5 = e[2] * e[7] - e[6] * e[3];
+        final float c0 = e[8] * e[13] - e[12] * e[9];
+        final float c1 = e[8] * e[14] - e[12] * e[10];
+        final float c2 = e[8] * e[15] - e[12] * e[11];
+        final float c3 = e[9] * e[14] - e[13] * e[10];
+        final float c4 = e[9] * e[15] - e[13] * e[11];
+        final float c5 = e[10] * e[15] - e[14] * e[11];
+
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
     }
 
     /**
@@ -475,15 +780,227 @@ public final class Mat4Math {
      * @since 1.0.0
      */
     public static Matrix4 invertible(final Matrix4 m) throws RuntimeException {
-        final Matrix4 result = cofactorMatrix(m);
-        final float determinant = det(m);
+        return invert(m, new Mat4());
+    }
+
+    /**
+     * Inverts given matrix 4x4.
+     *
+     * @param m matrix 4x4 for inversion
+     * @return given matrix 4x4, which is inverted
+     * @throws RuntimeException if matrix determinant equals to 0
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 invert(final Matrix4 m) throws RuntimeException {
+        return invert(m, m);
+    }
+
+    /**
+     * Writes inverse of given matrix 4x4 into {@code dest} matrix 4x4.
+     * <p>
+     * Inverse is computed in closed form from 2x2 sub-determinants. No memory is
+     * allocated if both matrices are {@link Mat4}.
+     *
+     * @param m    matrix 4x4 for inversion
+     * @param dest matrix 4x4 for result, can be {@code m}
+     * @return {@code dest} matrix 4x4, which contains inverse of given matrix
+     * @throws RuntimeException if matrix determinant equals to 0, {@code dest}
+     *                          is not changed in this case
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 invert(final Matrix4 m, final Matrix4 dest) throws RuntimeException {
+        if (m instanceof Mat4 src && dest instanceof Mat4 d) {
+            invert(src.data(), d.data());
+            return dest;
+        }
+
+        final Mat4 result = new Mat4(m);
+        invert(result.data(), result.data());
 
+        return copy(result, dest);
+    }
+
+    private static void invert(final float[] e, final float[] d) throws RuntimeException {
+        final float a00 = e[0], a01 = e[1], a02 = e[2], a03 = e[3];
+        final float a10 = e[4], a11 = e[5], a12 = e[6], a13 = e[7];
+        final float a20 = e[8], a21 = e[9], a22 = e[10], a23 = e[11];
+        final float a30 = e[12], a31 = e[13], a32 = e[14], a33 = e[15];
+
+        final float s0 = a00 * a11 - a10 * a01;
+        final float s1 = a00 * a12 - a10 * a02;
+        final float s2 = a00 * a13 - a10 * a03;
+        final float s3 = a01 * a12 - a11 * a02;
+        final float s4 = a01 * a13 - a11 * a03;
+        final float s5 = a02 * a13 - a12 * a03;
+        final float c0 = a20 * a31 - a30 * a21;
+        final float c1 = a20 * a32 - a30 * a22;
+        final float c2 = a20 * a33 - a30 * a23;
+        final float c3 = a21 * a32 - a31 * a22;
+        final float c4 = a21 * a33 - a31 * a23;
+        final float c5 = a22 * a33 - a32 * a23;
+
+        final float determinant = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
         if (determinant == 0) {
             throw new RuntimeException("Invertible matrix does not exist: determinant is 0");
         }
-        transpose(result);
-        mult(result, 1 / determinant);
-        return result;
+        final float inv = 1 / determinant;
+
+        d[0] = (a11 * c5 - a12 * c4 + a13 * c3) * inv;
+        d[1] = (-a01 * c5 + a02 * c4 - a03 * c3) * inv;
+        d[2] = (a31 * s5 - a32 * s4 + a33 * s3) * inv;
+        d[3] = (-a21 * s5 + a22 * s4 - a23 * s3) * inv;
+        d[4] = (-a10 * c5 + a12 * c2 - a13 * c1) * inv;
+        d[5] = (a00 * c5 - a02 * c2 + a03 * c1) * inv;
+        d[6] = (-a30 * s5 + a32 * s2 - a33 * s1) * inv;
+        d[7] = (a20 * s5 - a22 * s2 + a23 * s1) * inv;
+        d[8] = (a10 * c4 - a11 * c2 + a13 * c0) * inv;
+        d[9] = (-a00 * c4 + a01 * c2 - a03 * c0) * inv;
+        d[10] = (a30 * s4 - a31 * s2 + a33 * s0) * inv;
+        d[11] = (-a20 * s4 + a21 * s2 - a23 * s0) * inv;
+        d[12] = (-a10 * c3 + a11 * c1 - a12 * c0) * inv;
+        d[13] = (a00 * c3 - a01 * c1 + a02 * c0) * inv;
+        d[14] = (-a30 * s3 + a31 * s1 - a32 * s0) * inv;
+        d[15] = (a20 * s3 - a21 * s1 + a22 * s0) * inv;
+    }
+
+    /**
+     * Inverts given affine matrix 4x4 (last row is {@code (0, 0, 0, 1)}).
+     *
+     * @param m affine matrix 4x4 for inversion
+     * @return given matrix 4x4, which is inverted
+     * @throws IllegalArgumentException if last row of matrix is not
+     *                                  {@code (0, 0, 0, 1)}
+     * @throws RuntimeException         if matrix determinant equals to 0
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 invertAffine(final Matrix4 m) throws RuntimeException {
+        return invertAffine(m, m);
+    }
+
+    /**
+     * Writes inverse of given affine matrix 4x4 (last row is
+     * {@code (0, 0, 0, 1)}) into {@code dest} matrix 4x4.
+     * <p>
+     * Only the linear 3x3 part is inverted, translation of the inverse is
+     * {@code -inverse(A) * t}. This is cheaper than {@link #invert(Matrix4)}.
+     *
+     * @param m    affine matrix 4x4 for inversion
+     * @param dest matrix 4x4 for result, can be {@code m}
+     * @return {@code dest} matrix 4x4, which contains inverse of given matrix
+     * @throws IllegalArgumentException if last row of matrix is not
+     *                                  {@code (0, 0, 0, 1)}
+     * @throws RuntimeException         if matrix determinant equals to 0,
+     *                                  {@code dest} is not changed in this case
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 invertAffine(final Matrix4 m, final Matrix4 dest) throws RuntimeException {
+        if (!Validator.equals(m.get(R3, C0), 0) || !Validator.equals(m.get(R3, C1), 0)
+                || !Validator.equals(m.get(R3, C2), 0) || !Validator.equals(m.get(R3, C3), 1)) {
+            throw new IllegalArgumentException("Affine inversion denied: last row is not (0, 0, 0, 1)");
+        }
+
+        final float a00 = m.get(R0, C0), a01 = m.get(R0, C1), a02 = m.get(R0, C2), t0 = m.get(R0, C3);
+        final float a10 = m.get(R1, C0), a11 = m.get(R1, C1), a12 = m.get(R1, C2), t1 = m.get(R1, C3);
+        final float a20 = m.get(R2, C0), a21 = m.get(R2, C1), a22 = m.get(R2, C2), t2 = m.get(R2, C3);
+
+        final float i00 = a11 * a22 - a12 * a21;
+        final float i10 = a12 * a20 - a10 * a22;
+        final float i20 = a10 * a21 - a11 * a20;
+        final float determinant = a00 * i00 + a01 * i10 + a02 * i20;
+        if (determinant == 0) {
+            throw new RuntimeException("Invertible matrix does not exist: determinant is 0");
+        }
+        final float inv = 1 / determinant;
+
+        final float b00 = i00 * inv;
+        final float b01 = (a02 * a21 - a01 * a22) * inv;
+        final float b02 = (a01 * a12 - a02 * a11) * inv;
+        final float b10 = i10 * inv;
+        final float b11 = (a00 * a22 - a02 * a20) * inv;
+        final float b12 = (a02 * a10 - a00 * a12) * inv;
+        final float b20 = i20 * inv;
+        final float b21 = (a01 * a20 - a00 * a21) * inv;
+        final float b22 = (a00 * a11 - a01 * a10) * inv;
+
+        return setAffine(dest, b00, b01, b02, b10, b11, b12, b20, b21, b22, t0, t1, t2);
+    }
+
+    /**
+     * Inverts given rigid transformation matrix 4x4 (rotation and translation).
+     *
+     * @param m rigid transformation matrix 4x4 for inversion
+     * @return given matrix 4x4, which is inverted
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 invertRigid(final Matrix4 m) {
+        return invertRigid(m, m);
+    }
+
+    /**
+     * Writes inverse of given rigid transformation matrix 4x4 into {@code dest}
+     * matrix 4x4.
+     * <p>
+     * Upper left 3x3 part of matrix must be orthonormal rotation {@code R} and
+     * last row must be {@code (0, 0, 0, 1)}: inverse is built from
+     * {@code transpose(R)} and {@code -transpose(R) * t} without any checks, so
+     * the result is not an inverse for other matrices.
+     *
+     * @param m    rigid transformation matrix 4x4 for inversion
+     * @param dest matrix 4x4 for result, can be {@code m}
+     * @return {@code dest} matrix 4x4, which contains inverse of given matrix
+     *
+     * @since 2.1.0
+     */
+    public static Matrix4 invertRigid(final Matrix4 m, final Matrix4 dest) {
+        final float r00 = m.get(R0, C0), r01 = m.get(R0, C1), r02 = m.get(R0, C2), t0 = m.get(R0, C3);
+        final float r10 = m.get(R1, C0), r11 = m.get(R1, C1), r12 = m.get(R1, C2), t1 = m.get(R1, C3);
+        final float r20 = m.get(R2, C0), r21 = m.get(R2, C1), r22 = m.get(R2, C2), t2 = m.get(R2, C3);
+
+        return setAffine(dest, r00, r10, r20, r01, r11, r21, r02, r12, r22, t0, t1, t2);
+    }
+
+    /**
+     * Writes affine matrix with linear part {@code b} and translation
+     * {@code -b * t} into {@code dest}.
+     */
+    private static Matrix4 setAffine(final Matrix4 dest,
+            final float b00, final float b01, final float b02,
+            final float b10, final float b11, final float b12,
+            final float b20, final float b21, final float b22,
+            final float t0, final float t1, final float t2) {
+        dest.set(R0, C0, b00);
+        dest.set(R0, C1, b01);
+        dest.set(R0, C2, b02);
+        dest.set(R0, C3, -(b00 * t0 + b01 * t1 + b02 * t2));
+        dest.set(R1, C0, b10);
+        dest.set(R1, C1, b11);
+        dest.set(R1, C2, b12);
+        dest.set(R1, C3, -(b10 * t0 + b11 * t1 + b12 * t2));
+        dest.set(R2, C0, b20);
+        dest.set(R2, C1, b21);
+        dest.set(R2, C2, b22);
+        dest.set(R2, C3, -(b20 * t0 + b21 * t1 + b22 * t2));
+        dest.set(R3, C0, 0);
+        dest.set(R3, C1, 0);
+        dest.set(R3, C2, 0);
+        dest.set(R3, C3, 1);
+
+        return dest;
+    }
+
+    private static Matrix4 copy(final Matrix4 src, final Matrix4 dest) {
+        for (final Matrix4Row r : ROWS) {
+            for (final Matrix4Col c : COLS) {
+                dest.set(r, c, src.get(r, c));
+            }
+        }
+
+        return dest;
     }
 
     /**
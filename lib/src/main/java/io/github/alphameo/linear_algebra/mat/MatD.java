@@ -0,0 +1,320 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+
+import io.github.alphameo.linear_algebra.Equatable;
+import io.github.alphameo.linear_algebra.vec.VectorD;
+
+/**
+ * Default implementation of arbitrary matrix with double-precision elements
+ * ({@code MatrixD interface}).
+ *
+ * @since 2.1.0
+ */
+public class MatD implements MatrixD, Equatable<MatrixD> {
+
+    private final double[] entries;
+    private final int height;
+    private final int width;
+
+    /**
+     * Constructs new matrix {@code height} x {@code width} with all 0.
+     *
+     * @param height height of matrix for construction
+     * @param width  width of matrix for construction
+     *
+     * @since 2.1.0
+     */
+    public MatD(final int height, final int width) {
+        this(height, width, new double[height * width]);
+    }
+
+    /**
+     * Constructs new square matrix {@code size} x {@code size} with all 0.
+     *
+     * @param size height and width of matrix for construction
+     *
+     * @since 2.1.0
+     */
+    public MatD(final int size) {
+        this(size, size);
+    }
+
+    /**
+     * Constructs new matrix using values from {@code entries}.
+     *
+     * @param entries values for matrix elements
+     * @throws IllegalArgumentException if given two-dimensional array cannot be
+     *                                  interpreted as rectangular matrix
+     *
+     * @since 2.1.0
+     */
+    public MatD(final double[][] entries) throws IllegalArgumentException {
+        this(entries.length, entries[0].length);
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i].length != width) {
+                throw new IllegalArgumentException(
+                        "Matrix creation denied: input data has rows with different lengths");
+            }
+            System.arraycopy(entries[i], 0, this.entries, i * width, width);
+        }
+    }
+
+    /**
+     * Copies given matrix values into new matrix.
+     *
+     * @param m matrix for copying
+     *
+     * @since 2.1.0
+     */
+    public MatD(final MatrixD m) {
+        this(m.height(), m.width());
+        if (m instanceof MatD other) {
+            System.arraycopy(other.entries, 0, entries, 0, entries.length);
+            return;
+        }
+
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                entries[i * width + j] = m.get(i, j);
+            }
+        }
+    }
+
+    /**
+     * Copies values of given single-precision matrix into new matrix.
+     *
+     * @param m matrix for copying
+     *
+     * @since 2.1.0
+     */
+    public MatD(final Matrix m) {
+        this(m.height(), m.width());
+        if (m instanceof Mat other) {
+            final float[] data = other.data();
+            for (int i = 0; i < height; i++) {
+                final int row = i * other.stride();
+                for (int j = 0; j < width; j++) {
+                    entries[i * width + j] = data[row + j];
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                entries[i * width + j] = m.get(i, j);
+            }
+        }
+    }
+
+    /**
+     * Wraps given row-major array without copying.
+     */
+    MatD(final int height, final int width, final double[] entries) {
+        this.entries = entries;
+        this.height = height;
+        this.width = width;
+    }
+
+    @Override
+    public double get(final int r, final int c) throws ArrayIndexOutOfBoundsException {
+        return entries[index(r, c)];
+    }
+
+    @Override
+    public void set(final int r, final int c, final double value) throws ArrayIndexOutOfBoundsException {
+        entries[index(r, c)] = value;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Returns backing row-major array of matrix elements, row stride is equal
+     * to width.
+     *
+     * @return backing array
+     *
+     * @since 2.1.0
+     */
+    double[] data() {
+        return entries;
+    }
+
+    private int index(final int r, final int c) {
+        // row overflow is caught by the backing array itself
+        if (c < 0 || c >= width) {
+            throw new ArrayIndexOutOfBoundsException(String.format("Column %d is out of MatD bounds", c));
+        }
+
+        return r * width + c;
+    }
+
+    /**
+     * Copies current matrix and transposes it.
+     *
+     * @return new transposed matrix
+     *
+     * @since 2.1.0
+     */
+    public MatrixD transposed() {
+        return MatDMath.transposed(this);
+    }
+
+    /**
+     * Multiplies the elements of matrix by a scalar value.
+     *
+     * @param multiplier scalar value
+     * @return current matrix with multiplied elements
+     *
+     * @since 2.1.0
+     */
+    public MatrixD mult(final double multiplier) {
+        return MatDMath.mult(this, multiplier);
+    }
+
+    /**
+     * Adds the {@code addendum} matrix elements to the current matrix elements.
+     *
+     * @param addendum matrix to add
+     * @return current matrix increased by {@code addendum} matrix
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public MatrixD add(final MatrixD addendum) {
+        return MatDMath.add(this, addendum);
+    }
+
+    /**
+     * Subtracts the {@code subtrahend} matrix elements from the current matrix
+     * elements.
+     *
+     * @param subtrahend matrix to subtract
+     * @return current matrix subtracted by {@code subtrahend} matrix
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public MatrixD sub(final MatrixD subtrahend) {
+        return MatDMath.sub(this, subtrahend);
+    }
+
+    /**
+     * Calculates product of current and given matrices.
+     *
+     * @param m second (right) matrix
+     * @return new matrix, which represents product of matrices
+     * @throws IllegalArgumentException if the current matrix width is not equal
+     *                                  to the given matrix height
+     *
+     * @since 2.1.0
+     */
+    public MatrixD prod(final MatrixD m) {
+        return MatDMath.prod(this, m);
+    }
+
+    /**
+     * Calculates product of current matrix and vector.
+     *
+     * @param v column vector (right)
+     * @return new vector, which represents product of current matrix and given
+     *         vector
+     * @throws IllegalArgumentException if width of the matrix is not equal to the
+     *                                  vector size
+     *
+     * @since 2.1.0
+     */
+    public VectorD prod(final VectorD v) {
+        return MatDMath.prod(this, v);
+    }
+
+    /**
+     * Calculates determinant of matrix.
+     *
+     * @return matrix determinant
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 2.1.0
+     */
+    public double det() {
+        return MatDMath.det(this);
+    }
+
+    /**
+     * Constructs invertible matrix from current matrix.
+     *
+     * @return new invertible matrix
+     * @throws UnsupportedOperationException if matrix is not square
+     * @throws RuntimeException              if matrix determinant equals to 0
+     *
+     * @since 2.1.0
+     */
+    public MatrixD invertible() {
+        return MatDMath.invertible(this);
+    }
+
+    /**
+     * Rounds elements to single precision.
+     *
+     * @return new single-precision matrix
+     *
+     * @since 2.1.0
+     */
+    public Matrix toFloat() {
+        return MatDMath.toFloat(this);
+    }
+
+    @Override
+    public boolean equalsEpsilonTo(final MatrixD other, final float eps) {
+        return MatDMath.equalsEpsilon(this, other, eps);
+    }
+
+    @Override
+    public boolean equalsTo(final MatrixD m) {
+        return MatDMath.equals(this, m);
+    }
+
+    @Override
+    public MatD clone() {
+        return new MatD(this);
+    }
+
+    @Override
+    public String toString() {
+        return MatStringer.matrixToString(this);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + height;
+        result = prime * result + width;
+        result = prime * result + Arrays.hashCode(entries);
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final MatD other = (MatD) obj;
+        return MatDMath.equals(this, other);
+    }
+}
@@ -0,0 +1,546 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import io.github.alphameo.linear_algebra.Validator;
+import io.github.alphameo.linear_algebra.vec.VecD;
+import io.github.alphameo.linear_algebra.vec.VectorD;
+
+/**
+ * Class with static functions for arbitrary matrices with double-precision
+ * elements.
+ * <p>
+ * Operations on {@link MatD} instances work on backing arrays directly.
+ * Determinant and inverse matrix are computed with partial pivoting in double
+ * precision.
+ *
+ * @since 2.1.0
+ */
+public final class MatDMath {
+
+    /**
+     * Depth of block of the second matrix rows, which stays in cache while
+     * the product kernel walks over rows of the first matrix.
+     */
+    private static final int BLOCK = 256;
+
+    /**
+     * Default empty constructor
+     *
+     * @since 2.1.0
+     */
+    public MatDMath() {
+    }
+
+    /**
+     * Copies given matrix and transposes it.
+     *
+     * @param m matrix for transposition
+     * @return new transposed matrix
+     *
+     * @since 2.1.0
+     */
+    public static MatrixD transposed(final MatrixD m) {
+        final MatD result = new MatD(m.width(), m.height());
+        final double[] data = result.data();
+        if (m instanceof MatD mat) {
+            final double[] source = mat.data();
+            final int height = m.height();
+            final int width = m.width();
+            for (int r = 0; r < height; r++) {
+                for (int c = 0; c < width; c++) {
+                    data[c * height + r] = source[r * width + c];
+                }
+            }
+            return result;
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                data[c * m.height() + r] = m.get(r, c);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Multiplies the elements of matrix by a scalar value.
+     *
+     * @param m          matrix for multiplication
+     * @param multiplier scalar value
+     * @return given matrix with multiplied elements
+     *
+     * @since 2.1.0
+     */
+    public static MatrixD mult(final MatrixD m, final double multiplier) {
+        if (m instanceof MatD mat) {
+            final double[] data = mat.data();
+            for (int i = 0; i < data.length; i++) {
+                data[i] *= multiplier;
+            }
+            return m;
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                m.set(r, c, m.get(r, c) * multiplier);
+            }
+        }
+
+        return m;
+    }
+
+    /**
+     * Copies given matrix and multiplies its elements by a scalar value.
+     *
+     * @param m          matrix for multiplication
+     * @param multiplier scalar value
+     * @return new matrix with multiplied elements of given matrix
+     *
+     * @since 2.1.0
+     */
+    public static MatrixD multiplied(final MatrixD m, final double multiplier) {
+        return mult(new MatD(m), multiplier);
+    }
+
+    /**
+     * Adds the {@code addendum} matrix elements to the {@code target} matrix
+     * elements.
+     *
+     * @param target   matrix to be added
+     * @param addendum matrix to add
+     * @return {@code target} matrix increased by {@code addendum} matrix
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static MatrixD add(final MatrixD target, final MatrixD addendum) {
+        Validator.validateMatrixSizes(target, addendum, "Addition denied");
+        if (target instanceof MatD t && addendum instanceof MatD a) {
+            final double[] targetData = t.data();
+            final double[] addendumData = a.data();
+            for (int i = 0; i < targetData.length; i++) {
+                targetData[i] += addendumData[i];
+            }
+            return target;
+        }
+
+        for (int r = 0; r < target.height(); r++) {
+            for (int c = 0; c < target.width(); c++) {
+                target.set(r, c, target.get(r, c) + addendum.get(r, c));
+            }
+        }
+
+        return target;
+    }
+
+    /**
+     * Copies {@code target} matrix and adds the {@code addendum} matrix elements
+     * to its elements.
+     *
+     * @param target   matrix to be added
+     * @param addendum matrix to add
+     * @return new matrix with sum of elements of {@code target} matrix and
+     *         {@code addendum} matrix
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static MatrixD added(final MatrixD target, final MatrixD addendum) {
+        return add(new MatD(target), addendum);
+    }
+
+    /**
+     * Subtracts the {@code subtrahend} matrix elements from the {@code target}
+     * matrix elements.
+     *
+     * @param target     matrix to be subtracted
+     * @param subtrahend matrix to subtract
+     * @return {@code target} matrix subtracted by {@code subtrahend} matrix
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static MatrixD sub(final MatrixD target, final MatrixD subtrahend) {
+        Validator.validateMatrixSizes(target, subtrahend, "Subtraction denied");
+        if (target instanceof MatD t && subtrahend instanceof MatD s) {
+            final double[] targetData = t.data();
+            final double[] subtrahendData = s.data();
+            for (int i = 0; i < targetData.length; i++) {
+                targetData[i] -= subtrahendData[i];
+            }
+            return target;
+        }
+
+        for (int r = 0; r < target.height(); r++) {
+            for (int c = 0; c < target.width(); c++) {
+                target.set(r, c, target.get(r, c) - subtrahend.get(r, c));
+            }
+        }
+
+        return target;
+    }
+
+    /**
+     * Copies {@code target} matrix and subtracts the {@code subtrahend} matrix
+     * elements from its elements.
+     *
+     * @param target     matrix to be subtracted
+     * @param subtrahend matrix to subtract
+     * @return new matrix with elements resulting {@code target} matrix
+     *         subtracted by {@code subtrahend} matrix
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static MatrixD subtracted(final MatrixD target, final MatrixD subtrahend) {
+        return sub(new MatD(target), subtrahend);
+    }
+
+    /**
+     * Calculates product of matrices.
+     *
+     * @param m1 first (left) matrix
+     * @param m2 second (right) matrix
+     * @return new matrix, which represents product of given matrices
+     * @throws IllegalArgumentException if the first matrix width is not equal to
+     *                                  the second matrix height
+     *
+     * @since 2.1.0
+     */
+    public static MatrixD prod(final MatrixD m1, final MatrixD m2) {
+        if (m1.width() != m2.height()) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix product denied: matrices with sizes %dx%d and %dx%d", m1.height(),
+                            m1.width(), m2.height(), m2.width()));
+        }
+
+        final MatD a = m1 instanceof MatD mat ? mat : new MatD(m1);
+        final MatD b = m2 instanceof MatD mat ? mat : new MatD(m2);
+        final MatD result = new MatD(m1.height(), m2.width());
+        prod(a.data(), b.data(), result.data(), m1.height(), m2.width(), m1.width());
+
+        return result;
+    }
+
+    /**
+     * Adds {@code A * B} to {@code C}, where {@code A} is {@code m x k} and
+     * {@code B} is {@code k x n} row-major matrices. Rows of {@code B} are
+     * taken by blocks of {@link #BLOCK}, and the innermost loop runs along a
+     * row of {@code B} and {@code C}, which is vectorized by JIT.
+     */
+    private static void prod(final double[] a, final double[] b, final double[] c, final int m, final int n,
+            final int k) {
+        for (int start = 0; start < k; start += BLOCK) {
+            final int end = Math.min(start + BLOCK, k);
+            for (int i = 0; i < m; i++) {
+                final int cRow = i * n;
+                final int aRow = i * k;
+                for (int p = start; p < end; p++) {
+                    final double value = a[aRow + p];
+                    if (value == 0) {
+                        continue;
+                    }
+                    final int bRow = p * n;
+                    for (int j = 0; j < n; j++) {
+                        c[cRow + j] += value * b[bRow + j];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates product of matrix and vector.
+     *
+     * @param m matrix (left)
+     * @param v column vector (right)
+     * @return new vector, which represents product of given matrix and vector
+     * @throws IllegalArgumentException if width of the matrix is not equal to the
+     *                                  vector size
+     *
+     * @since 2.1.0
+     */
+    public static VectorD prod(final MatrixD m, final VectorD v) {
+        if (m.width() != v.size()) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix and vector product denied: matrix with size %dx%d and vector with size %d",
+                            m.height(), m.width(), v.size()));
+        }
+
+        final VectorD result = new VecD(m.height());
+        if (m instanceof MatD mat) {
+            final double[] data = mat.data();
+            final double[] x = new double[v.size()];
+            for (int i = 0; i < x.length; i++) {
+                x[i] = v.get(i);
+            }
+            for (int r = 0; r < m.height(); r++) {
+                final int row = r * x.length;
+                double value = 0;
+                for (int c = 0; c < x.length; c++) {
+                    value += data[row + c] * x[c];
+                }
+                result.set(r, value);
+            }
+            return result;
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            double value = 0;
+            for (int c = 0; c < m.width(); c++) {
+                value += m.get(r, c) * v.get(c);
+            }
+            result.set(r, value);
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates matrix determinant using LU decomposition with partial
+     * pivoting.
+     *
+     * @param m matrix for determinant calculation
+     * @return matrix determinant
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 2.1.0
+     */
+    public static double det(final MatrixD m) {
+        if (!square(m)) {
+            throw new UnsupportedOperationException("Determinant does not exists: matrix is not square");
+        }
+
+        final int size = m.height();
+        final double[] lu = new MatD(m).data();
+        double determinant = 1;
+        for (int k = 0; k < size; k++) {
+            final int pivotRow = pivot(lu, size, k);
+            if (pivotRow < 0) {
+                return 0;
+            }
+            if (pivotRow != k) {
+                swapRows(lu, size, k, pivotRow);
+                determinant = -determinant;
+            }
+
+            final double diagonal = lu[k * size + k];
+            determinant *= diagonal;
+            for (int r = k + 1; r < size; r++) {
+                final double coefficient = lu[r * size + k] / diagonal;
+                if (coefficient == 0) {
+                    continue;
+                }
+                for (int c = k + 1; c < size; c++) {
+                    lu[r * size + c] -= coefficient * lu[k * size + c];
+                }
+            }
+        }
+
+        return determinant;
+    }
+
+    /**
+     * Constructs invertible matrix from given matrix using Gauss-Jordan
+     * elimination with partial pivoting.
+     *
+     * @param m matrix for invertible matrix construction
+     * @return new invertible matrix
+     * @throws UnsupportedOperationException if matrix is not square
+     * @throws RuntimeException              if matrix determinant equals to 0
+     *
+     * @since 2.1.0
+     */
+    public static MatrixD invertible(final MatrixD m) {
+        if (!square(m)) {
+            throw new UnsupportedOperationException("Invertible matrix does not exists: matrix is not square");
+        }
+
+        final int size = m.height();
+        final double[] a = new MatD(m).data();
+        final MatD result = new MatD(size);
+        final double[] x = result.data();
+        for (int i = 0; i < size; i++) {
+            x[i * size + i] = 1;
+        }
+
+        for (int k = 0; k < size; k++) {
+            final int pivotRow = pivot(a, size, k);
+            if (pivotRow < 0) {
+                throw new RuntimeException("Invertible matrix does not exist: determinant is 0");
+            }
+            if (pivotRow != k) {
+                swapRows(a, size, k, pivotRow);
+                swapRows(x, size, k, pivotRow);
+            }
+
+            final double inverseDiagonal = 1 / a[k * size + k];
+            for (int c = 0; c < size; c++) {
+                a[k * size + c] *= inverseDiagonal;
+                x[k * size + c] *= inverseDiagonal;
+            }
+            for (int r = 0; r < size; r++) {
+                final double coefficient = a[r * size + k];
+                if (r == k || coefficient == 0) {
+                    continue;
+                }
+                for (int c = 0; c < size; c++) {
+                    a[r * size + c] -= coefficient * a[k * size + c];
+                    x[r * size + c] -= coefficient * x[k * size + c];
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns row with maximal absolute value in column {@code k} starting from
+     * row {@code k}, or -1 if all of them are 0.
+     */
+    private static int pivot(final double[] a, final int size, final int k) {
+        int result = k;
+        double max = Math.abs(a[k * size + k]);
+        for (int r = k + 1; r < size; r++) {
+            final double value = Math.abs(a[r * size + k]);
+            if (value > max) {
+                max = value;
+                result = r;
+            }
+        }
+
+        return max == 0 ? -1 : result;
+    }
+
+    private static void swapRows(final double[] a, final int size, final int r1, final int r2) {
+        for (int c = 0; c < size; c++) {
+            final double tmp = a[r1 * size + c];
+            a[r1 * size + c] = a[r2 * size + c];
+            a[r2 * size + c] = tmp;
+        }
+    }
+
+    /**
+     * Returns {@code true} if given matrix is square.
+     *
+     * @param m matrix for check
+     * @return {@code true} if given matrix is square, and {@code false}
+     *         otherwise
+     *
+     * @since 2.1.0
+     */
+    public static boolean square(final MatrixD m) {
+        return m.width() == m.height();
+    }
+
+    /**
+     * Returns {@code true} if elements of matrices are equal within
+     * {@code epsilon} tolerance
+     *
+     * @param m1  first matrix for comparison
+     * @param m2  second matrix for comparison
+     * @param eps tolerance
+     * @return {@code true} if all elements of matrices are equal within
+     *         {@code epsilon} tolerance, and {@code false} otherwise
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static boolean equalsEpsilon(final MatrixD m1, final MatrixD m2, final double eps) {
+        Validator.validateMatrixSizes(m1, m2, "Equalization denied");
+        for (int r = 0; r < m1.height(); r++) {
+            for (int c = 0; c < m1.width(); c++) {
+                if (!Validator.equalsEpsilon(m1.get(r, c), m2.get(r, c), eps)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if elements of matrices are approximately equal
+     *
+     * @param m1 first matrix for comparison
+     * @param m2 second matrix for comparison
+     * @return {@code true} if all elements of matrices are approximately equal,
+     *         and {@code false} otherwise
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static boolean equals(final MatrixD m1, final MatrixD m2) {
+        return equalsEpsilon(m1, m2, Validator.EPS);
+    }
+
+    /**
+     * Constructs matrix of given sizes with all 0 elements.
+     *
+     * @param height height of matrix to be constructed
+     * @param width  width of matrix to be constructed
+     * @return matrix {@code height} x {@code width} with all 0 elements
+     *
+     * @since 2.1.0
+     */
+    public static MatrixD zeroMat(final int height, final int width) {
+        return new MatD(height, width);
+    }
+
+    /**
+     * Constructs square matrix of given size with 1 on main diagonal.
+     *
+     * @param size height and width of matrix to be constructed
+     * @return square matrix {@code size} x {@code size} with 1 on main diagonal
+     *
+     * @since 2.1.0
+     */
+    public static MatrixD unitMat(final int size) {
+        final MatD result = new MatD(size);
+        for (int i = 0; i < size; i++) {
+            result.data()[i * size + i] = 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * Widens elements of single-precision matrix to double precision.
+     *
+     * @param m matrix for conversion
+     * @return new double-precision matrix
+     *
+     * @since 2.1.0
+     */
+    public static MatD toDouble(final Matrix m) {
+        return new MatD(m);
+    }
+
+    /**
+     * Rounds elements of double-precision matrix to single precision.
+     *
+     * @param m matrix for conversion
+     * @return new single-precision matrix
+     *
+     * @since 2.1.0
+     */
+    public static Mat toFloat(final MatrixD m) {
+        final Mat result = new Mat(m.height(), m.width());
+        final float[] data = result.data();
+        if (m instanceof MatD mat) {
+            final double[] source = mat.data();
+            for (int i = 0; i < source.length; i++) {
+                data[i] = (float) source[i];
+            }
+            return result;
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                data[r * m.width() + c] = (float) m.get(r, c);
+            }
+        }
+
+        return result;
+    }
+}
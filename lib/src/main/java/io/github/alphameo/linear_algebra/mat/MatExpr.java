@@ -0,0 +1,401 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+
+/**
+ * Lazy matrix expression, which is evaluated only by {@link #evaluate()}.
+ * <p>
+ * Expression is kept as linear combination of matrices and matrix products,
+ * for example {@code MatExpr.of(a).prod(b).times(2).plus(c)} is
+ * {@code 2 * (a * b) + 1 * c}. Evaluation writes result in one pass over
+ * every row: element-wise terms are fused into a single loop, scalar
+ * multipliers of products are folded into the multiplier of the product
+ * kernel, which accumulates directly into the result initialized by the
+ * element-wise terms. So the expression above allocates only the result
+ * matrix, while the same {@link MatMath} calls allocate three matrices.
+ * <p>
+ * Operands are not copied: changes of operand matrices before evaluation are
+ * visible in the result.
+ *
+ * @since 2.1.0
+ */
+public final class MatExpr {
+
+    /**
+     * Term {@code coef * leaf} or {@code coef * left * right}.
+     */
+    private static final class Term {
+
+        private final float coef;
+        private final Matrix leaf;
+        private final MatExpr left;
+        private final MatExpr right;
+
+        private Term(final float coef, final Matrix leaf, final MatExpr left, final MatExpr right) {
+            this.coef = coef;
+            this.leaf = leaf;
+            this.left = left;
+            this.right = right;
+        }
+
+        private Term scaled(final float multiplier) {
+            return new Term(coef * multiplier, leaf, left, right);
+        }
+
+        private boolean product() {
+            return leaf == null;
+        }
+    }
+
+    private final int height;
+    private final int width;
+    private final Term[] terms;
+
+    private MatExpr(final int height, final int width, final Term[] terms) {
+        this.height = height;
+        this.width = width;
+        this.terms = terms;
+    }
+
+    /**
+     * Constructs expression of given matrix.
+     *
+     * @param m matrix operand
+     * @return new expression
+     *
+     * @since 2.1.0
+     */
+    public static MatExpr of(final Matrix m) {
+        return new MatExpr(m.height(), m.width(), new Term[] { new Term(1, m, null, null) });
+    }
+
+    /**
+     * Returns height of expression result.
+     *
+     * @return height of result
+     *
+     * @since 2.1.0
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Returns width of expression result.
+     *
+     * @return width of result
+     *
+     * @since 2.1.0
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Constructs expression of current expression multiplied by a scalar
+     * value.
+     *
+     * @param multiplier scalar value
+     * @return new expression
+     *
+     * @since 2.1.0
+     */
+    public MatExpr times(final float multiplier) {
+        final Term[] result = new Term[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            result[i] = terms[i].scaled(multiplier);
+        }
+
+        return new MatExpr(height, width, result);
+    }
+
+    /**
+     * Constructs expression of sum of current and given expressions.
+     *
+     * @param addendum expression to add
+     * @return new expression
+     * @throws IllegalArgumentException if results of expressions have different
+     *                                  sizes
+     *
+     * @since 2.1.0
+     */
+    public MatExpr plus(final MatExpr addendum) throws IllegalArgumentException {
+        return combined(addendum, 1, "Addition denied");
+    }
+
+    /**
+     * Constructs expression of sum of current expression and given matrix.
+     *
+     * @param addendum matrix to add
+     * @return new expression
+     * @throws IllegalArgumentException if result of expression and matrix have
+     *                                  different sizes
+     *
+     * @since 2.1.0
+     */
+    public MatExpr plus(final Matrix addendum) throws IllegalArgumentException {
+        return plus(of(addendum));
+    }
+
+    /**
+     * Constructs expression of difference of current and given expressions.
+     *
+     * @param subtrahend expression to subtract
+     * @return new expression
+     * @throws IllegalArgumentException if results of expressions have different
+     *                                  sizes
+     *
+     * @since 2.1.0
+     */
+    public MatExpr minus(final MatExpr subtrahend) throws IllegalArgumentException {
+        return combined(subtrahend, -1, "Subtraction denied");
+    }
+
+    /**
+     * Constructs expression of difference of current expression and given
+     * matrix.
+     *
+     * @param subtrahend matrix to subtract
+     * @return new expression
+     * @throws IllegalArgumentException if result of expression and matrix have
+     *                                  different sizes
+     *
+     * @since 2.1.0
+     */
+    public MatExpr minus(final Matrix subtrahend) throws IllegalArgumentException {
+        return minus(of(subtrahend));
+    }
+
+    /**
+     * Constructs expression of product of current and given expressions.
+     *
+     * @param m second (right) expression
+     * @return new expression
+     * @throws IllegalArgumentException if width of current expression result is
+     *                                  not equal to height of given expression
+     *                                  result
+     *
+     * @since 2.1.0
+     */
+    public MatExpr prod(final MatExpr m) throws IllegalArgumentException {
+        if (width != m.height) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix product denied: matrices with sizes %dx%d and %dx%d",
+                            height, width, m.height, m.width));
+        }
+
+        return new MatExpr(height, m.width, new Term[] { new Term(1, null, this, m) });
+    }
+
+    /**
+     * Constructs expression of product of current expression and given
+     * matrix.
+     *
+     * @param m second (right) matrix
+     * @return new expression
+     * @throws IllegalArgumentException if width of current expression result is
+     *                                  not equal to height of given matrix
+     *
+     * @since 2.1.0
+     */
+    public MatExpr prod(final Matrix m) throws IllegalArgumentException {
+        return prod(of(m));
+    }
+
+    private MatExpr combined(final MatExpr other, final float sign, final String errMessage)
+            throws IllegalArgumentException {
+        if (height != other.height || width != other.width) {
+            throw new IllegalArgumentException(String.format("%s: matrices with different sizes (%dx%d and %dx%d)",
+                    errMessage, height, width, other.height, other.width));
+        }
+
+        final Term[] result = Arrays.copyOf(terms, terms.length + other.terms.length);
+        int count = terms.length;
+        for (final Term term : other.terms) {
+            final Term signed = term.scaled(sign);
+            final int same = term.product() ? -1 : leafIndex(result, count, term.leaf);
+            if (same < 0) {
+                result[count++] = signed;
+            } else {
+                result[same] = new Term(result[same].coef + signed.coef, term.leaf, null, null);
+            }
+        }
+
+        return new MatExpr(height, width, Arrays.copyOf(result, count));
+    }
+
+    private static int leafIndex(final Term[] terms, final int count, final Matrix leaf) {
+        for (int i = 0; i < count; i++) {
+            if (terms[i].leaf == leaf) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Evaluates expression into new matrix.
+     *
+     * @return new matrix with result of expression
+     *
+     * @since 2.1.0
+     */
+    public Matrix evaluate() {
+        final Mat result = new Mat(height, width);
+        evaluate(result);
+
+        return result;
+    }
+
+    /**
+     * Evaluates expression into {@code dest} matrix.
+     * <p>
+     * If {@code dest} is one of operands, the result is computed in a
+     * temporary matrix first.
+     *
+     * @param dest matrix {@link #height()} x {@link #width()} for result
+     * @return {@code dest} matrix with result of expression
+     * @throws IllegalArgumentException if {@code dest} matrix has inappropriate
+     *                                  size
+     *
+     * @since 2.1.0
+     */
+    public Matrix evaluate(final Matrix dest) throws IllegalArgumentException {
+        if (dest.height() != height || dest.width() != width) {
+            throw new IllegalArgumentException(String.format(
+                    "Expression evaluation denied: result with size %dx%d cannot be written into matrix with size %dx%d",
+                    height, width, dest.height(), dest.width()));
+        }
+        if (!(dest instanceof Mat d) || references(dest)) {
+            final Mat result = new Mat(height, width);
+            evaluate(result);
+            for (int r = 0; r < height; r++) {
+                for (int c = 0; c < width; c++) {
+                    dest.set(r, c, result.get(r, c));
+                }
+            }
+
+            return dest;
+        }
+
+        evaluateElementWise(d);
+        for (final Term term : terms) {
+            if (term.product()) {
+                evaluateProduct(term, d);
+            }
+        }
+
+        return dest;
+    }
+
+    private boolean references(final Matrix m) {
+        for (final Term term : terms) {
+            if (term.product() ? term.left.references(m) || term.right.references(m) : term.leaf == m) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Writes sum of matrix terms into {@code dest} row by row, or zeros if
+     * there are no such terms.
+     */
+    private void evaluateElementWise(final Mat dest) {
+        final float[] destData = dest.data();
+        final int destStride = dest.stride();
+        final Mat[] leaves = new Mat[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            if (!terms[i].product()) {
+                leaves[i] = terms[i].leaf instanceof Mat mat ? mat : new Mat(terms[i].leaf);
+            }
+        }
+
+        for (int r = 0; r < height; r++) {
+            final int destRow = r * destStride;
+            boolean written = false;
+            for (int i = 0; i < terms.length; i++) {
+                if (leaves[i] == null) {
+                    continue;
+                }
+
+                final float coef = terms[i].coef;
+                final float[] data = leaves[i].data();
+                final int row = r * leaves[i].stride();
+                if (written) {
+                    for (int c = 0; c < width; c++) {
+                        destData[destRow + c] += coef * data[row + c];
+                    }
+                } else {
+                    for (int c = 0; c < width; c++) {
+                        destData[destRow + c] = coef * data[row + c];
+                    }
+                    written = true;
+                }
+            }
+            if (!written) {
+                Arrays.fill(destData, destRow, destRow + width, 0);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code coef * left * right} to {@code dest}. Operand expressions,
+     * which are scaled matrices, are used without evaluation, and their
+     * multipliers are folded into the multiplier of the product.
+     */
+    private static void evaluateProduct(final Term term, final Mat dest) {
+        float alpha = term.coef;
+        final Matrix left;
+        final Matrix right;
+        if (term.left.single()) {
+            left = term.left.terms[0].leaf;
+            alpha *= term.left.terms[0].coef;
+        } else {
+            left = term.left.evaluate();
+        }
+        if (term.right.single()) {
+            right = term.right.terms[0].leaf;
+            alpha *= term.right.terms[0].coef;
+        } else {
+            right = term.right.evaluate();
+        }
+
+        final Mat b = right instanceof Mat mat ? mat : new Mat(right);
+        if (left instanceof SparseMat sparse) {
+            if (alpha == 1) {
+                SparseMat.prodAdd(sparse, b, dest);
+            } else {
+                final Mat product = new Mat(dest.height(), dest.width());
+                SparseMat.prodAdd(sparse, b, product);
+                addScaled(alpha, product, dest);
+            }
+
+            return;
+        }
+
+        final Mat a = left instanceof Mat mat ? mat : new Mat(left);
+        Gemm.gemm(a.height(), b.width(), a.width(), alpha,
+                a.data(), 0, a.stride(),
+                b.data(), 0, b.stride(),
+                dest.data(), 0, dest.stride());
+    }
+
+    private boolean single() {
+        return terms.length == 1 && !terms[0].product();
+    }
+
+    private static void addScaled(final float alpha, final Mat src, final Mat dest) {
+        final float[] srcData = src.data();
+        final float[] destData = dest.data();
+        for (int r = 0; r < src.height(); r++) {
+            final int srcRow = r * src.stride();
+            final int destRow = r * dest.stride();
+            for (int c = 0; c < src.width(); c++) {
+                destData[destRow + c] += alpha * srcData[srcRow + c];
+            }
+        }
+    }
+}
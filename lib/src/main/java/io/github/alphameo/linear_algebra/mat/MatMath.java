@@ -1,5 +1,8 @@
 package io.github.alphameo.linear_algebra.mat;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
 import io.github.alphameo.linear_algebra.Validator;
 import io.github.alphameo.linear_algebra.vec.Vec;
 import io.github.alphameo.linear_algebra.vec.Vector;
@@ -11,6 +14,23 @@ import io.github.alphameo.linear_algebra.vec.Vector;
  */
 public final class MatMath {
 
+    /**
+     * Default minimal count of multiply-adds for which
+     * {@link #parallelProd(Matrix, Matrix)} splits the work between threads.
+     *
+     * @since 2.1.0
+     */
+    public static final long PARALLEL_THRESHOLD = 128L * 128 * 128;
+
+    /**
+     * Default maximal dimension of product, which
+     * {@link #strassenProd(Matrix, Matrix)} computes by the dense kernel
+     * instead of recursion.
+     *
+     * @since 2.1.0
+     */
+    public static final int STRASSEN_CUTOFF = 256;
+
     /**
      * Default empty constructor
      *
@@ -53,6 +73,10 @@ public final class MatMath {
      * @since 1.0.0
      */
     public static Matrix transposed(final Matrix m) {
+        if (m instanceof Mat src) {
+            return transposed(src);
+        }
+
         Matrix result = new Mat(m.width(), m.height());
         for (int r = 0; r < m.height(); r++) {
             for (int c = 0; c < m.width(); c++) {
@@ -63,6 +87,54 @@ public final class MatMath {
         return result;
     }
 
+    private static Matrix transposed(final Mat m) {
+        final Mat result = new Mat(m.width(), m.height());
+        final float[] src = m.data();
+        final float[] dest = result.data();
+        final int srcStride = m.stride();
+        final int destStride = result.stride();
+        for (int r = 0; r < m.height(); r++) {
+            final int rowStart = r * srcStride;
+            for (int c = 0; c < m.width(); c++) {
+                dest[c * destStride + r] = src[rowStart + c];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Writes transposed given matrix into {@code dest} matrix.
+     * <p>
+     * {@code dest} can be the same square matrix as {@code m}.
+     *
+     * @param m    matrix for transpose
+     * @param dest matrix {@code m.width()} x {@code m.height()} for result
+     * @return {@code dest} matrix, which contains transposed given matrix
+     * @throws IllegalArgumentException if {@code dest} matrix has inappropriate
+     *                                  size
+     *
+     * @since 2.1.0
+     */
+    public static Matrix transposed(final Matrix m, final Matrix dest) {
+        if (dest.height() != m.width() || dest.width() != m.height()) {
+            throw new IllegalArgumentException(String.format(
+                    "Transpose denied: matrix with size %dx%d cannot be written into matrix with size %dx%d",
+                    m.height(), m.width(), dest.height(), dest.width()));
+        }
+        if (dest == m) {
+            return transposeSquare(m);
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                dest.set(c, r, m.get(r, c));
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Swaps rows of matrix
      *
@@ -75,6 +147,11 @@ public final class MatMath {
      * @since 1.0.0
      */
     public static Matrix swapRows(final Matrix m, final int r1, final int r2) throws ArrayIndexOutOfBoundsException {
+        if (m instanceof Mat mat) {
+            swapRows(mat.data(), mat.stride(), mat.width(), r1, r2);
+            return m;
+        }
+
         float tmp;
         for (int c = 0; c < m.width(); c++) {
             tmp = m.get(r1, c);
@@ -85,6 +162,22 @@ public final class MatMath {
         return m;
     }
 
+    private static void swapRows(final float[] data, final int stride, final int width, final int r1,
+            final int r2) {
+        if (r1 == r2) {
+            return;
+        }
+
+        final int row1 = r1 * stride;
+        final int row2 = r2 * stride;
+        float tmp;
+        for (int c = 0; c < width; c++) {
+            tmp = data[row1 + c];
+            data[row1 + c] = data[row2 + c];
+            data[row2 + c] = tmp;
+        }
+    }
+
     /**
      * Copies given matrix and swaps its rows.
      * 
@@ -147,6 +240,18 @@ public final class MatMath {
      * @since 1.0.0
      */
     public static Matrix mult(final Matrix m, final float multiplier) {
+        if (m instanceof Mat mat) {
+            final float[] data = mat.data();
+            for (int r = 0; r < mat.height(); r++) {
+                final int rowStart = r * mat.stride();
+                for (int c = rowStart; c < rowStart + mat.width(); c++) {
+                    data[c] *= multiplier;
+                }
+            }
+
+            return m;
+        }
+
         for (int r = 0; r < m.height(); r++) {
             for (int c = 0; c < m.width(); c++) {
                 m.set(r, c, m.get(r, c) * multiplier);
@@ -169,6 +274,43 @@ public final class MatMath {
         return mult(new Mat(m), multiplier);
     }
 
+    /**
+     * Writes elements of given matrix multiplied by a scalar value into
+     * {@code dest} matrix.
+     *
+     * @param m          matrix for multiplication
+     * @param multiplier scalar value
+     * @param dest       matrix of the same size for result, can be {@code m}
+     * @return {@code dest} matrix with multiplied elements of given matrix
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static Matrix multiplied(final Matrix m, final float multiplier, final Matrix dest) {
+        Validator.validateMatrixSizes(m, dest, "Multiplication denied");
+        if (m instanceof Mat src && dest instanceof Mat d) {
+            final float[] srcData = src.data();
+            final float[] destData = d.data();
+            for (int r = 0; r < src.height(); r++) {
+                final int srcRow = r * src.stride();
+                final int destRow = r * d.stride();
+                for (int c = 0; c < src.width(); c++) {
+                    destData[destRow + c] = srcData[srcRow + c] * multiplier;
+                }
+            }
+
+            return dest;
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                dest.set(r, c, m.get(r, c) * multiplier);
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Divides matrix elements by a scalar value.
      * 
@@ -181,6 +323,18 @@ public final class MatMath {
      */
     public static Matrix divide(final Matrix m, final float divisor) throws ArithmeticException {
         Validator.validateDivisor(divisor);
+        if (m instanceof Mat mat) {
+            final float[] data = mat.data();
+            for (int r = 0; r < mat.height(); r++) {
+                final int rowStart = r * mat.stride();
+                for (int c = rowStart; c < rowStart + mat.width(); c++) {
+                    data[c] /= divisor;
+                }
+            }
+
+            return m;
+        }
+
         for (int r = 0; r < m.height(); r++) {
             for (int c = 0; c < m.width(); c++) {
                 m.set(r, c, m.get(r, c) / divisor);
@@ -201,7 +355,27 @@ public final class MatMath {
      * @since 1.0.0
      */
     public static Matrix divided(final Matrix m, final float divisor) throws ArithmeticException {
-        return mult(new Mat(m), divisor);
+        return divide(new Mat(m), divisor);
+    }
+
+    /**
+     * Writes elements of given matrix divided by a scalar value into
+     * {@code dest} matrix.
+     *
+     * @param m       matrix for division
+     * @param divisor scalar value
+     * @param dest    matrix of the same size for result, can be {@code m}
+     * @return {@code dest} matrix with divided elements of given matrix
+     * @throws ArithmeticException      if {@code divisor} approximately equals 0
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static Matrix divided(final Matrix m, final float divisor, final Matrix dest)
+            throws ArithmeticException {
+        Validator.validateDivisor(divisor);
+
+        return multiplied(m, 1 / divisor, dest);
     }
 
     /**
@@ -217,6 +391,20 @@ public final class MatMath {
      */
     public static Matrix add(final Matrix target, final Matrix addendum) {
         Validator.validateMatrixSizes(target, addendum, "Addition denied");
+        if (target instanceof Mat t && addendum instanceof Mat a) {
+            final float[] targetData = t.data();
+            final float[] addendumData = a.data();
+            for (int r = 0; r < t.height(); r++) {
+                final int targetRow = r * t.stride();
+                final int addendumRow = r * a.stride();
+                for (int c = 0; c < t.width(); c++) {
+                    targetData[targetRow + c] += addendumData[addendumRow + c];
+                }
+            }
+
+            return target;
+        }
+
         for (int r = 0; r < target.height(); r++) {
             for (int c = 0; c < addendum.width(); c++) {
                 target.set(r, c, target.get(r, c) + addendum.get(r, c));
@@ -239,9 +427,54 @@ public final class MatMath {
      * @since 1.0.0
      */
     public static Matrix added(final Matrix target, final Matrix addendum) {
+        if (target instanceof SparseMat t && addendum instanceof SparseMat a) {
+            return added(t, a);
+        }
+
         return add(new Mat(target), addendum);
     }
 
+    /**
+     * Calculates sum of sparse matrices merging their stored elements, so the
+     * result stays sparse.
+     *
+     * @param target   matrix to be added
+     * @param addendum matrix to add
+     * @return new sparse matrix with sum of elements of {@code target} matrix
+     *         and {@code addendum} matrix
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static SparseMat added(final SparseMat target, final SparseMat addendum) {
+        return SparseMat.added(target, addendum);
+    }
+
+    /**
+     * Writes sum of {@code target} and {@code addendum} matrices into
+     * {@code dest} matrix.
+     *
+     * @param target   matrix to be added
+     * @param addendum matrix to add
+     * @param dest     matrix of the same size for result, can be any of operands
+     * @return {@code dest} matrix with sum of elements of {@code target} matrix
+     *         and {@code addendum} matrix
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static Matrix added(final Matrix target, final Matrix addendum, final Matrix dest) {
+        Validator.validateMatrixSizes(target, addendum, "Addition denied");
+        Validator.validateMatrixSizes(target, dest, "Addition denied");
+        for (int r = 0; r < target.height(); r++) {
+            for (int c = 0; c < target.width(); c++) {
+                dest.set(r, c, target.get(r, c) + addendum.get(r, c));
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Subtracts the {@code subtrahend} matrix elements from the {@code target}
      * matrix elements.
@@ -255,6 +488,20 @@ public final class MatMath {
      */
     public static Matrix sub(final Matrix target, final Matrix subtrahend) {
         Validator.validateMatrixSizes(target, subtrahend, "Subtraction denied");
+        if (target instanceof Mat t && subtrahend instanceof Mat s) {
+            final float[] targetData = t.data();
+            final float[] subtrahendData = s.data();
+            for (int r = 0; r < t.height(); r++) {
+                final int targetRow = r * t.stride();
+                final int subtrahendRow = r * s.stride();
+                for (int c = 0; c < t.width(); c++) {
+                    targetData[targetRow + c] -= subtrahendData[subtrahendRow + c];
+                }
+            }
+
+            return target;
+        }
+
         for (int r = 0; r < target.height(); r++) {
             for (int c = 0; c < subtrahend.width(); c++) {
                 target.set(r, c, target.get(r, c) - subtrahend.get(r, c));
@@ -280,8 +527,39 @@ public final class MatMath {
         return sub(new Mat(target), subtrahend);
     }
 
+    /**
+     * Writes difference of {@code target} and {@code subtrahend} matrices into
+     * {@code dest} matrix.
+     *
+     * @param target     matrix to be subtracted
+     * @param subtrahend matrix to subtract
+     * @param dest       matrix of the same size for result, can be any of
+     *                   operands
+     * @return {@code dest} matrix with components resulting {@code target} matrix
+     *         subtracted by {@code subtrahend} matrix
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static Matrix subtracted(final Matrix target, final Matrix subtrahend, final Matrix dest) {
+        Validator.validateMatrixSizes(target, subtrahend, "Subtraction denied");
+        Validator.validateMatrixSizes(target, dest, "Subtraction denied");
+        for (int r = 0; r < target.height(); r++) {
+            for (int c = 0; c < target.width(); c++) {
+                dest.set(r, c, target.get(r, c) - subtrahend.get(r, c));
+            }
+        }
+
+        return dest;
+    }
+
     /**
      * Calculates product of matrices.
+     * <p>
+     * If both matrices are {@link Mat} instances, cache-blocked kernel is used.
+     * Off-heap and mapped matrices are read by the same kernel in panels of
+     * rows, so they are not copied to the heap. If the first matrix is
+     * {@link SparseMat}, only its stored elements are multiplied.
      *
      * @param m1 first (left) matrix
      * @param m2 second (right) matrix
@@ -298,6 +576,25 @@ public final class MatMath {
                             m1.width(), m2.height(), m2.width()));
         }
 
+        if (m1 instanceof SparseMat sparse) {
+            final Mat result = new Mat(m1.height(), m2.width());
+            SparseMat.prodAdd(sparse, m2 instanceof Mat b ? b : new Mat(m2), result);
+
+            return result;
+        }
+        if (m1 instanceof Mat a && m2 instanceof Mat b) {
+            final Mat result = new Mat(a.height(), b.width());
+            Gemm.gemm(a.height(), b.width(), a.width(), 1,
+                    a.data(), 0, a.stride(),
+                    b.data(), 0, b.stride(),
+                    result.data(), 0, result.stride());
+
+            return result;
+        }
+        if (PanelProd.accepts(m1, m2)) {
+            return PanelProd.prod(m1, m2, PanelProd.gemm());
+        }
+
         final Matrix result = new Mat(m1.height(), m2.width());
         for (int r = 0; r < m1.height(); r++) {
             for (int c = 0; c < m2.width(); c++) {
@@ -313,6 +610,278 @@ public final class MatMath {
         return result;
     }
 
+    /**
+     * Writes product of matrices into {@code dest} matrix.
+     * <p>
+     * If {@code dest} is one of the operands, the product is computed in a
+     * temporary matrix first. Otherwise no memory is allocated, except a copy
+     * of the second matrix if the first one is {@link SparseMat} and the
+     * second one is not {@link Mat}. Packing buffers of the cache-blocked
+     * kernel are allocated once per thread and reused.
+     *
+     * @param m1   first (left) matrix
+     * @param m2   second (right) matrix
+     * @param dest matrix {@code m1.height()} x {@code m2.width()} for result
+     * @return {@code dest} matrix, which contains product of given matrices
+     * @throws IllegalArgumentException if the first matrix width is not equal to
+     *                                  the second matrix height, or if
+     *                                  {@code dest} matrix has inappropriate size
+     *
+     * @since 2.1.0
+     */
+    public static Matrix prod(final Matrix m1, final Matrix m2, final Matrix dest) {
+        if (dest.height() != m1.height() || dest.width() != m2.width()) {
+            throw new IllegalArgumentException(String.format(
+                    "Matrix product denied: product of matrices with sizes %dx%d and %dx%d cannot be written into matrix with size %dx%d",
+                    m1.height(), m1.width(), m2.height(), m2.width(), dest.height(), dest.width()));
+        }
+        if (dest == m1 || dest == m2) {
+            return copy(prod(m1, m2), dest);
+        }
+        if (m1.width() != m2.height()) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix product denied: matrices with sizes %dx%d and %dx%d", m1.height(),
+                            m1.width(), m2.height(), m2.width()));
+        }
+
+        if (m1 instanceof SparseMat sparse && dest instanceof Mat d) {
+            final float[] destData = d.data();
+            for (int r = 0; r < d.height(); r++) {
+                Arrays.fill(destData, r * d.stride(), r * d.stride() + d.width(), 0);
+            }
+            SparseMat.prodAdd(sparse, m2 instanceof Mat b ? b : new Mat(m2), d);
+
+            return dest;
+        }
+        if (m1 instanceof Mat a && m2 instanceof Mat b && dest instanceof Mat d) {
+            final float[] destData = d.data();
+            for (int r = 0; r < d.height(); r++) {
+                Arrays.fill(destData, r * d.stride(), r * d.stride() + d.width(), 0);
+            }
+            Gemm.gemm(a.height(), b.width(), a.width(), 1,
+                    a.data(), 0, a.stride(),
+                    b.data(), 0, b.stride(),
+                    destData, 0, d.stride());
+
+            return dest;
+        }
+
+        for (int r = 0; r < m1.height(); r++) {
+            for (int c = 0; c < m2.width(); c++) {
+                float value = 0;
+                for (int i = 0; i < m1.width(); i++) {
+                    value += m1.get(r, i) * m2.get(i, c);
+                }
+
+                dest.set(r, c, value);
+            }
+        }
+
+        return dest;
+    }
+
+    private static Matrix copy(final Matrix src, final Matrix dest) {
+        for (int r = 0; r < src.height(); r++) {
+            for (int c = 0; c < src.width(); c++) {
+                dest.set(r, c, src.get(r, c));
+            }
+        }
+
+        return dest;
+    }
+
+    /**
+     * Calculates product of chain of matrices in the order with the least
+     * count of multiply-adds.
+     * <p>
+     * The order is found by dynamic programming over sizes of matrices and is
+     * cached for repeated chains of the same sizes, then the products are
+     * computed by {@link #prod(Matrix, Matrix)}.
+     *
+     * @param matrices chain of matrices from left to right
+     * @return new matrix, which represents product of given matrices
+     * @throws IllegalArgumentException if chain is empty or width of any matrix
+     *                                  is not equal to height of the next one
+     *
+     * @since 2.1.0
+     */
+    public static Matrix prodChain(final Matrix... matrices) throws IllegalArgumentException {
+        if (matrices.length == 0) {
+            throw new IllegalArgumentException("Matrix product denied: chain is empty");
+        }
+
+        final int[] sizes = new int[matrices.length + 1];
+        sizes[0] = matrices[0].height();
+        for (int i = 0; i < matrices.length; i++) {
+            if (matrices[i].height() != sizes[i]) {
+                throw new IllegalArgumentException(
+                        String.format("Matrix product denied: matrices with sizes %dx%d and %dx%d",
+                                matrices[i - 1].height(), matrices[i - 1].width(),
+                                matrices[i].height(), matrices[i].width()));
+            }
+            sizes[i + 1] = matrices[i].width();
+        }
+        if (matrices.length == 1) {
+            return new Mat(matrices[0]);
+        }
+
+        return ChainPlan.of(sizes).prod(matrices, 0, matrices.length - 1);
+    }
+
+    /**
+     * Calculates product of matrices by Strassen-Winograd algorithm with
+     * {@link #STRASSEN_CUTOFF}.
+     *
+     * @param m1 first (left) matrix
+     * @param m2 second (right) matrix
+     * @return new matrix, which represents product of given matrices
+     * @throws IllegalArgumentException if the first matrix width is not equal to
+     *                                  the second matrix height
+     *
+     * @since 2.1.0
+     */
+    public static Matrix strassenProd(final Matrix m1, final Matrix m2) throws IllegalArgumentException {
+        return strassenProd(m1, m2, STRASSEN_CUTOFF);
+    }
+
+    /**
+     * Calculates product of matrices by Strassen-Winograd algorithm.
+     * <p>
+     * Halves of matrices are multiplied recursively with 7 products instead of
+     * 8 until any dimension is not greater than {@code cutoff}, then the
+     * cache-blocked kernel of {@link #prod(Matrix, Matrix)} is used. Temporary
+     * blocks of all recursion levels share one workspace of less than
+     * {@code (m * k + k * n + m * n) / 3} elements, which is allocated once.
+     * <p>
+     * Every recursion level saves 1/8 of multiply-adds, so the algorithm pays
+     * off for large square matrices, but its rounding error grows with
+     * recursion depth and is larger than error of the ordinary product.
+     * <p>
+     * Off-heap and mapped matrices are read in panels of rows, and every pair
+     * of panels is multiplied recursively, so they are not copied to the heap.
+     *
+     * @param m1     first (left) matrix
+     * @param m2     second (right) matrix
+     * @param cutoff maximal dimension of product computed without recursion
+     * @return new matrix, which represents product of given matrices
+     * @throws IllegalArgumentException if the first matrix width is not equal to
+     *                                  the second matrix height, or cutoff is not
+     *                                  positive
+     *
+     * @since 2.1.0
+     */
+    public static Matrix strassenProd(final Matrix m1, final Matrix m2, final int cutoff)
+            throws IllegalArgumentException {
+        if (m1.width() != m2.height()) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix product denied: matrices with sizes %dx%d and %dx%d", m1.height(),
+                            m1.width(), m2.height(), m2.width()));
+        }
+        if (cutoff < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix product denied: cutoff %d is not positive", cutoff));
+        }
+        if (PanelProd.accepts(m1, m2)) {
+            return PanelProd.prod(m1, m2, PanelProd.strassen(cutoff));
+        }
+
+        final Mat a = m1 instanceof Mat mat ? mat : new Mat(m1);
+        final Mat b = m2 instanceof Mat mat ? mat : new Mat(m2);
+        final Mat result = new Mat(a.height(), b.width());
+        final float[] workspace = new float[Strassen.workspace(a.height(), b.width(), a.width(), cutoff)];
+        Strassen.prod(a.height(), b.width(), a.width(),
+                a.data(), 0, a.stride(),
+                b.data(), 0, b.stride(),
+                result.data(), 0, result.stride(),
+                cutoff, workspace, 0);
+
+        return result;
+    }
+
+    /**
+     * Calculates product of matrices splitting the result into tiles computed
+     * as tasks of the common {@link ForkJoinPool}.
+     * <p>
+     * Products with less than {@link #PARALLEL_THRESHOLD} multiply-adds are
+     * computed sequentially by {@link #prod(Matrix, Matrix)}.
+     *
+     * @param m1 first (left) matrix
+     * @param m2 second (right) matrix
+     * @return matrix, which represents product of given matrices
+     * @throws IllegalArgumentException if the first matrix width is not equal to
+     *                                  the second matrix height
+     *
+     * @since 2.1.0
+     */
+    public static Matrix parallelProd(final Matrix m1, final Matrix m2) {
+        return parallelProd(m1, m2, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calculates product of matrices splitting the result into tiles computed
+     * as tasks of given pool.
+     * <p>
+     * Products with less than {@link #PARALLEL_THRESHOLD} multiply-adds are
+     * computed sequentially by {@link #prod(Matrix, Matrix)}.
+     *
+     * @param m1   first (left) matrix
+     * @param m2   second (right) matrix
+     * @param pool pool for tile computation
+     * @return matrix, which represents product of given matrices
+     * @throws IllegalArgumentException if the first matrix width is not equal to
+     *                                  the second matrix height
+     *
+     * @since 2.1.0
+     */
+    public static Matrix parallelProd(final Matrix m1, final Matrix m2, final ForkJoinPool pool) {
+        return parallelProd(m1, m2, pool, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Calculates product of matrices splitting the result into tiles computed
+     * as tasks of given pool.
+     * <p>
+     * Off-heap and mapped matrices are read in panels of rows, and the product
+     * of every pair of panels is split into tiles, so they are not copied to
+     * the heap.
+     *
+     * @param m1        first (left) matrix
+     * @param m2        second (right) matrix
+     * @param pool      pool for tile computation
+     * @param threshold minimal count of multiply-adds for parallel computation,
+     *                  smaller products are computed sequentially by
+     *                  {@link #prod(Matrix, Matrix)}
+     * @return matrix, which represents product of given matrices
+     * @throws IllegalArgumentException if the first matrix width is not equal to
+     *                                  the second matrix height
+     *
+     * @since 2.1.0
+     */
+    public static Matrix parallelProd(final Matrix m1, final Matrix m2, final ForkJoinPool pool,
+            final long threshold) {
+        if (m1.width() != m2.height()) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix product denied: matrices with sizes %dx%d and %dx%d", m1.height(),
+                            m1.width(), m2.height(), m2.width()));
+        }
+        if ((long) m1.height() * m2.width() * m1.width() < threshold) {
+            return prod(m1, m2);
+        }
+        if (PanelProd.accepts(m1, m2)) {
+            return PanelProd.prod(m1, m2, PanelProd.parallel(pool));
+        }
+
+        final Mat a = m1 instanceof Mat mat ? mat : new Mat(m1);
+        final Mat b = m2 instanceof Mat mat ? mat : new Mat(m2);
+        final Mat result = new Mat(a.height(), b.width());
+        pool.invoke(new GemmTask(a.height(), b.width(), a.width(),
+                a.data(), 0, a.stride(),
+                b.data(), 0, b.stride(),
+                result.data(), 0, result.stride()));
+
+        return result;
+    }
+
     /**
      * Calculates product of matrix and vector.
      *
@@ -327,22 +896,95 @@ public final class MatMath {
     public static Vector prod(final Matrix m, final Vector v) {
         if (m.width() != v.size()) {
             throw new IllegalArgumentException(
-                    String.format("Matrix and vector product denied: matrix with size %dx%d and vector with size",
+                    String.format("Matrix and vector product denied: matrix with size %dx%d and vector with size %d",
                             m.height(),
                             m.width(), v.size()));
         }
 
-        final Vector result = new Vec(m.height());
+        return prod(m, v, new Vec(m.height()));
+    }
+
+    /**
+     * Writes product of matrix and vector into {@code dest} vector.
+     * <p>
+     * If {@code dest} is {@code v}, the product is computed in a temporary
+     * vector first. Otherwise no memory is allocated, except arrays for a row
+     * and a copy of the vector if the matrix is off-heap or mapped, and a copy
+     * of the vector if the matrix is {@link SparseMat} and the vector is not
+     * {@link Vec}.
+     *
+     * @param m    matrix (left)
+     * @param v    column vector (right)
+     * @param dest vector of size {@code m.height()} for result
+     * @return {@code dest} vector, which contains product of given matrix and
+     *         vector
+     * @throws IllegalArgumentException if width of the matrix is not equal to the
+     *                                  vector size, or if {@code dest} vector
+     *                                  has inappropriate size
+     *
+     * @since 2.1.0
+     */
+    public static Vector prod(final Matrix m, final Vector v, final Vector dest) {
+        if (dest.size() != m.height()) {
+            throw new IllegalArgumentException(String.format(
+                    "Matrix and vector product denied: product with size %d cannot be written into vector with size %d",
+                    m.height(), dest.size()));
+        }
+        if (dest == v) {
+            final Vector result = prod(m, v);
+            for (int i = 0; i < result.size(); i++) {
+                dest.set(i, result.get(i));
+            }
+
+            return dest;
+        }
+        if (m.width() != v.size()) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix and vector product denied: matrix with size %dx%d and vector with size %d",
+                            m.height(), m.width(), v.size()));
+        }
+        if (m instanceof BufferMat buffered) {
+            return prod(buffered, v, dest);
+        }
+        if (m instanceof SparseMat sparse) {
+            return SparseMat.prod(sparse, v, dest);
+        }
+
         for (int i = 0; i < m.height(); i++) {
             float value = 0;
             for (int elem = 0; elem < v.size(); elem++) {
                 value += m.get(i, elem) * v.get(elem);
             }
 
-            result.set(i, value);
+            dest.set(i, value);
         }
 
-        return result;
+        return dest;
+    }
+
+    /**
+     * Streams rows of buffer-backed matrix in order with bulk reads, so mapped
+     * matrices are read sequentially.
+     */
+    private static Vector prod(final BufferMat m, final Vector v, final Vector dest) {
+        final int width = m.width();
+        final float[] row = new float[width];
+        final float[] x = new float[width];
+        for (int i = 0; i < width; i++) {
+            x[i] = v.get(i);
+        }
+
+        for (int r = 0; r < m.height(); r++) {
+            m.row(r, row);
+            float value = 0;
+            for (int c = 0; c < width; c++) {
+                value += row[c] * x[c];
+            }
+
+            dest.set(r, value);
+        }
+
+        return dest;
     }
 
     /**
@@ -354,6 +996,10 @@ public final class MatMath {
      * @since 1.0.0
      */
     public static Matrix triangulate(final Matrix m) {
+        if (m instanceof Mat mat) {
+            return triangulate(mat);
+        }
+
         int countOfSwaps = 0;
         final int maxSize = Math.min(m.height(), m.width());
 
@@ -392,6 +1038,51 @@ public final class MatMath {
         return m;
     }
 
+    private static Matrix triangulate(final Mat m) {
+        final float[] data = m.data();
+        final int stride = m.stride();
+        final int height = m.height();
+        final int width = m.width();
+        int countOfSwaps = 0;
+        final int maxSize = Math.min(height, width);
+
+        for (int i = 0; i < maxSize; i++) {
+            if (Validator.equals(data[i * stride + i], 0)) {
+                boolean isNonZeroFound = false;
+
+                for (int r = i + 1; r < height; r++) {
+                    if (!Validator.equals(data[r * stride + i], 0)) {
+                        swapRows(data, stride, width, i, r);
+                        countOfSwaps++;
+                        isNonZeroFound = true;
+                        break;
+                    }
+                }
+
+                if (!isNonZeroFound)
+                    continue;
+            }
+
+            final int pivotRow = i * stride;
+            for (int r = i + 1; r < height; r++) {
+                final int row = r * stride;
+                final float coefficient = -(data[row + i] / data[pivotRow + i]);
+
+                for (int c = i; c < width; c++) {
+                    data[row + c] += coefficient * data[pivotRow + c];
+                }
+            }
+        }
+
+        if (countOfSwaps % 2 == 1) {
+            for (int i = 0; i < width; i++) {
+                data[i] *= -1;
+            }
+        }
+
+        return m;
+    }
+
     /**
      * Copies given matrix and triangulates it.
      * 
@@ -450,7 +1141,10 @@ public final class MatMath {
     }
 
     /**
-     * Calculates matrix determinant using triangular table (blazingly fast).
+     * Calculates matrix determinant using LU decomposition (blazingly fast).
+     * <p>
+     * Symmetric positive definite matrices are decomposed by
+     * {@link CholeskyDecomposition} instead.
      * 
      * @param m matrix for determinant calculation
      * @return matrix determinant
@@ -462,18 +1156,20 @@ public final class MatMath {
         if (!square(m)) {
             throw new UnsupportedOperationException("Determinant does not exists: matrix is not square");
         }
-        Matrix triangularTable = triangulated(m);
 
-        float determinant = 1;
-        for (int i = 0; i < m.width(); i++) {
-            determinant *= triangularTable.get(i, i);
+        final CholeskyDecomposition cholesky = cholesky(m);
+        if (cholesky != null) {
+            return cholesky.det();
         }
 
-        return determinant;
+        return new LUDecomposition(m).det();
     }
 
     /**
-     * Constructs invertible matrix from given matrix.
+     * Constructs invertible matrix from given matrix using LU decomposition.
+     * <p>
+     * Symmetric positive definite matrices are decomposed by
+     * {@link CholeskyDecomposition} instead.
      *
      * @param m matrix for invertible matrix construction
      * @return invertible matrix
@@ -486,20 +1182,42 @@ public final class MatMath {
         if (!square(m)) {
             throw new UnsupportedOperationException("Invertible matrix does not exists: matrix is not square");
         }
-        final Matrix result = cofactorMatrix(m);
-        float determinant = 0;
-
-        for (int i = 0; i < m.width(); i++) {
-            determinant += m.get(0, i) * result.get(0, i);
+        final CholeskyDecomposition cholesky = cholesky(m);
+        if (cholesky != null) {
+            return cholesky.inverse();
         }
-
-        if (determinant == 0) {
+        final LUDecomposition lu = new LUDecomposition(m);
+        if (lu.singular()) {
             throw new RuntimeException("Invertible matrix does not exist: determinant is 0");
         }
-        transposeSquare(result);
-        mult(result, 1 / determinant);
 
-        return result;
+        return lu.inverse();
+    }
+
+    /**
+     * Returns Cholesky decomposition of given square matrix if it is
+     * symmetric and positive definite, and {@code null} otherwise. Symmetry and
+     * positive diagonal are checked first, so most of other matrices are
+     * rejected in O(n^2).
+     */
+    private static CholeskyDecomposition cholesky(final Matrix m) {
+        final int size = m.height();
+        if (size < 2) {
+            return null;
+        }
+        for (int r = 0; r < size; r++) {
+            if (!(m.get(r, r) > 0)) {
+                return null;
+            }
+            for (int c = 0; c < r; c++) {
+                if (m.get(r, c) != m.get(c, r)) {
+                    return null;
+                }
+            }
+        }
+
+        final CholeskyDecomposition result = new CholeskyDecomposition(m);
+        return result.positiveDefinite() ? result : null;
     }
 
     /**
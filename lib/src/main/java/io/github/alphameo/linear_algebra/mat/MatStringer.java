@@ -31,4 +31,29 @@ class MatStringer {
         }
         return sb.toString();
     }
+
+    public static String matrixToString(MatrixD m) {
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < m.height(); i++) {
+            if (i == 0) {
+                sb.append("⎡");
+            } else if (i == m.height() - 1) {
+                sb.append("⎣");
+            } else {
+                sb.append("⎢");
+            }
+            for (int j = 0; j < m.width(); j++) {
+                sb.append(String.format("%-5f ", m.get(i, j)));
+            }
+            if (i == 0) {
+                sb.append("⎤\n");
+            } else if (i == m.height() - 1) {
+                sb.append("⎦");
+            } else {
+                sb.append("⎥\n");
+            }
+        }
+        return sb.toString();
+    }
 }
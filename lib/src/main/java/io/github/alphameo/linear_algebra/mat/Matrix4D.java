@@ -0,0 +1,40 @@
+package io.github.alphameo.linear_algebra.mat;
+
+/**
+ * Interface for matrix 4x4 with double-precision elements.
+ *
+ * @since 2.1.0
+ */
+public interface Matrix4D extends MatrixD {
+
+    /**
+     * Safely returns element at given row and column inside matrix 4x4.
+     *
+     * @param r row of element
+     * @param c column of element
+     * @return element at given position
+     *
+     * @since 2.1.0
+     */
+    double get(Matrix4Row r, Matrix4Col c);
+
+    /**
+     * Safely sets value into given row index and column index inside matrix.
+     *
+     * @param r     row for putting value
+     * @param c     column for putting value
+     * @param value component value to be put
+     *
+     * @since 2.1.0
+     */
+    void set(Matrix4Row r, Matrix4Col c, double value);
+
+    /**
+     * Creates and returns a copy of current matrix 4x4.
+     *
+     * @return copy of matrix 4x4
+     *
+     * @since 2.1.0
+     */
+    Matrix4D clone();
+}
@@ -0,0 +1,89 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Matrix with elements stored outside of Java heap in direct buffers.
+ * <p>
+ * Elements are split into chunks of whole rows, so matrix can be larger than
+ * 2 GB. Off-heap memory is not scanned or copied by garbage collector. Matrix
+ * owns its memory: {@link #close()} releases references to buffers, memory is
+ * returned to the system when buffers become unreachable. Any access to
+ * elements of closed matrix throws {@link IllegalStateException}.
+ * <p>
+ * Matrix can be passed to any {@link MatMath} function as is.
+ *
+ * @since 2.1.0
+ */
+public final class OffHeapMat extends BufferMat {
+
+    /**
+     * Constructs new off-heap matrix {@code height} x {@code width} with all 0.
+     *
+     * @param height height of matrix for construction
+     * @param width  width of matrix for construction
+     * @throws IllegalArgumentException if one row is larger than 1 GB
+     *
+     * @since 2.1.0
+     */
+    public OffHeapMat(final int height, final int width) throws IllegalArgumentException {
+        this(height, width, rowsPerChunk(width));
+    }
+
+    /**
+     * Copies given matrix values into new off-heap matrix.
+     *
+     * @param m matrix for copying
+     * @throws IllegalArgumentException if one row is larger than 1 GB
+     *
+     * @since 2.1.0
+     */
+    public OffHeapMat(final Matrix m) throws IllegalArgumentException {
+        this(m.height(), m.width());
+        final float[] row = new float[m.width()];
+        for (int r = 0; r < m.height(); r++) {
+            if (m instanceof BufferMat other) {
+                other.row(r, row);
+            } else {
+                for (int c = 0; c < row.length; c++) {
+                    row[c] = m.get(r, c);
+                }
+            }
+            setRow(r, row);
+        }
+    }
+
+    OffHeapMat(final int height, final int width, final int rowsPerChunk) {
+        super(height, width, rowsPerChunk, allocate(height, width, rowsPerChunk));
+    }
+
+    private static FloatBuffer[] allocate(final int height, final int width, final int rowsPerChunk) {
+        if (height < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Matrix creation denied: height %d is negative", height));
+        }
+
+        final FloatBuffer[] chunks = new FloatBuffer[chunkCount(height, rowsPerChunk)];
+        for (int i = 0; i < chunks.length; i++) {
+            final int rows = Math.min(rowsPerChunk, height - i * rowsPerChunk);
+            chunks[i] = ByteBuffer.allocateDirect(rows * width * Float.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asFloatBuffer();
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Copies current matrix into new off-heap matrix.
+     *
+     * @return new off-heap matrix with the same elements
+     * @throws IllegalStateException if matrix is closed
+     */
+    @Override
+    public OffHeapMat clone() throws IllegalStateException {
+        return new OffHeapMat(this);
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Dense product of matrices with buffer-backed operands.
+ * <p>
+ * Buffer-backed operand is never copied whole: its rows are read with bulk
+ * reads into a panel of at most {@link #PANEL_ELEMENTS} elements, and every
+ * pair of left and right panels is multiplied by a {@link Kernel}. Rows of
+ * the left panel give rows of the result, rows of the right panel give the
+ * shared dimension, so the result is accumulated over right panels. If a
+ * buffer-backed right operand does not fit into one panel, it is read again
+ * for every left panel. Heap operands are passed to the kernel as they are.
+ *
+ * @since 2.1.0
+ */
+final class PanelProd {
+
+    /**
+     * Maximum count of elements in one panel (16 MB).
+     */
+    static final int PANEL_ELEMENTS = 1 << 22;
+
+    /**
+     * Computes {@code C += A * B} for row-major blocks.
+     */
+    @FunctionalInterface
+    interface Kernel {
+
+        /**
+         * Adds product of blocks to {@code C}.
+         *
+         * @param m    rows of {@code A} and {@code C}
+         * @param n    columns of {@code B} and {@code C}
+         * @param k    columns of {@code A} and rows of {@code B}
+         * @param a    left matrix data
+         * @param aOff offset of the first element of {@code A}
+         * @param lda  row stride of {@code A}
+         * @param b    right matrix data
+         * @param bOff offset of the first element of {@code B}
+         * @param ldb  row stride of {@code B}
+         * @param c    result matrix data
+         * @param cOff offset of the first element of {@code C}
+         * @param ldc  row stride of {@code C}
+         */
+        void prodAdd(int m, int n, int k,
+                float[] a, int aOff, int lda,
+                float[] b, int bOff, int ldb,
+                float[] c, int cOff, int ldc);
+    }
+
+    private PanelProd() {
+    }
+
+    /**
+     * Checks if product of given matrices can be computed by panels.
+     *
+     * @param m1 first (left) matrix
+     * @param m2 second (right) matrix
+     * @return {@code true} if both matrices are {@link Mat} or
+     *         {@link BufferMat} and at least one of them is {@link BufferMat}
+     */
+    static boolean accepts(final Matrix m1, final Matrix m2) {
+        return (m1 instanceof BufferMat || m2 instanceof BufferMat)
+                && (m1 instanceof Mat || m1 instanceof BufferMat)
+                && (m2 instanceof Mat || m2 instanceof BufferMat);
+    }
+
+    /**
+     * Returns kernel of sequential blocked multiplication.
+     *
+     * @return kernel computing product by {@link Gemm}
+     */
+    static Kernel gemm() {
+        return (m, n, k, a, aOff, lda, b, bOff, ldb, c, cOff, ldc) -> Gemm.gemm(m, n, k, 1,
+                a, aOff, lda, b, bOff, ldb, c, cOff, ldc);
+    }
+
+    /**
+     * Returns kernel splitting every product into tiles computed as tasks of
+     * given pool.
+     *
+     * @param pool pool for tile computation
+     * @return kernel computing product by {@link GemmTask}
+     */
+    static Kernel parallel(final ForkJoinPool pool) {
+        return (m, n, k, a, aOff, lda, b, bOff, ldb, c, cOff, ldc) -> pool.invoke(new GemmTask(m, n, k,
+                a, aOff, lda, b, bOff, ldb, c, cOff, ldc));
+    }
+
+    /**
+     * Returns kernel of Strassen-Winograd multiplication. Product of panels is
+     * computed into a temporary block and then added to the result. The
+     * temporary block and the Strassen workspace are allocated by the first
+     * (largest) product of panels and reused by the next ones, so the kernel
+     * must be used for one product at a time.
+     *
+     * @param cutoff maximal dimension of product computed by {@link Gemm}
+     * @return kernel computing product by {@link Strassen}
+     */
+    static Kernel strassen(final int cutoff) {
+        return new StrassenKernel(cutoff);
+    }
+
+    /**
+     * Calculates product of matrices accepted by {@link #accepts}.
+     *
+     * @param m1     first (left) matrix
+     * @param m2     second (right) matrix
+     * @param kernel kernel for products of panels
+     * @return matrix, which represents product of given matrices
+     * @throws IllegalStateException if buffer-backed matrix is closed
+     */
+    static Mat prod(final Matrix m1, final Matrix m2, final Kernel kernel) throws IllegalStateException {
+        return prod(m1, m2, kernel, PANEL_ELEMENTS);
+    }
+
+    /**
+     * Calculates product of matrices accepted by {@link #accepts} with given
+     * size of panels.
+     *
+     * @param m1            first (left) matrix
+     * @param m2            second (right) matrix
+     * @param kernel        kernel for products of panels
+     * @param panelElements maximum count of elements in one panel, at least
+     *                      one row is read anyway
+     * @return matrix, which represents product of given matrices
+     * @throws IllegalStateException if buffer-backed matrix is closed
+     */
+    static Mat prod(final Matrix m1, final Matrix m2, final Kernel kernel, final int panelElements)
+            throws IllegalStateException {
+        final int m = m1.height();
+        final int n = m2.width();
+        final int k = m1.width();
+        final Mat result = new Mat(m, n);
+
+        final BufferMat bufferedA = m1 instanceof BufferMat buffered ? buffered : null;
+        final BufferMat bufferedB = m2 instanceof BufferMat buffered ? buffered : null;
+        final int aRows = bufferedA != null ? panelRows(panelElements, k, m) : Math.max(m, 1);
+        final int bRows = bufferedB != null ? panelRows(panelElements, n, k) : Math.max(k, 1);
+        final float[] a = bufferedA != null ? new float[aRows * k] : ((Mat) m1).data();
+        final float[] b = bufferedB != null ? new float[bRows * n] : ((Mat) m2).data();
+        final int lda = bufferedA != null ? k : ((Mat) m1).stride();
+        final int ldb = bufferedB != null ? n : ((Mat) m2).stride();
+
+        for (int r = 0; r < m; r += aRows) {
+            final int rows = Math.min(aRows, m - r);
+            final int aOff;
+            if (bufferedA != null) {
+                bufferedA.rows(r, rows, a);
+                aOff = 0;
+            } else {
+                aOff = r * lda;
+            }
+
+            for (int p = 0; p < k; p += bRows) {
+                final int depth = Math.min(bRows, k - p);
+                final int bOff;
+                if (bufferedB != null) {
+                    if (r == 0 || bRows < k) {
+                        bufferedB.rows(p, depth, b);
+                    }
+                    bOff = 0;
+                } else {
+                    bOff = p * ldb;
+                }
+
+                kernel.prodAdd(rows, n, depth,
+                        a, aOff + p, lda,
+                        b, bOff, ldb,
+                        result.data(), r * result.stride(), result.stride());
+            }
+        }
+
+        return result;
+    }
+
+    private static int panelRows(final int panelElements, final int width, final int height) {
+        return Math.max(1, Math.min(height, panelElements / Math.max(width, 1)));
+    }
+
+    /**
+     * Strassen-Winograd kernel with temporary block and workspace reused
+     * between products of panels.
+     */
+    private static final class StrassenKernel implements Kernel {
+
+        private final int cutoff;
+        private float[] product = new float[0];
+        private float[] workspace = new float[0];
+
+        StrassenKernel(final int cutoff) {
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        public void prodAdd(final int m, final int n, final int k,
+                final float[] a, final int aOff, final int lda,
+                final float[] b, final int bOff, final int ldb,
+                final float[] c, final int cOff, final int ldc) {
+            if (product.length < m * n) {
+                product = new float[m * n];
+            }
+            final int size = Strassen.workspace(m, n, k, cutoff);
+            if (workspace.length < size) {
+                workspace = new float[size];
+            }
+
+            Strassen.prod(m, n, k, a, aOff, lda, b, bOff, ldb, product, 0, n, cutoff, workspace, 0);
+            for (int r = 0; r < m; r++) {
+                final int cRow = cOff + r * ldc;
+                for (int j = 0; j < n; j++) {
+                    c[cRow + j] += product[r * n + j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Kernels of batched transformation of points by matrix 4x4 stored as 16
+ * row-major floats.
+ * <p>
+ * SoA and interleaved XYZW layouts use {@link SimdPointKernels} if
+ * {@code jdk.incubator.vector} module is present in the boot layer, and
+ * scalar loops otherwise. Scalar loops are forced by system property
+ * {@value #SIMD_PROPERTY} set to {@code false}. Batches of at least
+ * {@link Mat4Math#PARALLEL_POINTS_THRESHOLD} points are split into chunks of
+ * {@link #CHUNK} points computed in the common {@link ForkJoinPool}.
+ *
+ * @since 2.1.0
+ */
+final class PointKernels {
+
+    /**
+     * System property, which disables Vector API kernels if set to
+     * {@code false}.
+     */
+    static final String SIMD_PROPERTY = "io.github.alphameo.linear_algebra.simd";
+
+    /**
+     * {@code true} if Vector API kernels are used.
+     */
+    static final boolean SIMD = simdAvailable();
+
+    /**
+     * Points in chunk of parallel task and in staging array of buffers
+     * without accessible array.
+     */
+    static final int CHUNK = 1 << 14;
+
+    private PointKernels() {
+    }
+
+    private static boolean simdAvailable() {
+        if (!Boolean.parseBoolean(System.getProperty(SIMD_PROPERTY, "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+
+        try {
+            return SimdPointKernels.lanes() >= 4 && SimdPointKernels.lanes() % 4 == 0;
+        } catch (final LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Action on range of points.
+     */
+    @FunctionalInterface
+    private interface Range {
+        void run(int from, int to);
+    }
+
+    /**
+     * Splits range in halves until it is not larger than {@link #CHUNK}.
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Range range;
+        private final int from;
+        private final int to;
+
+        RangeTask(final Range range, final int from, final int to) {
+            this.range = range;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                range.run(from, to);
+                return;
+            }
+
+            final int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(range, from, middle), new RangeTask(range, middle, to));
+        }
+    }
+
+    private static void run(final Range range, final int count, final int threshold) {
+        if (count >= threshold) {
+            ForkJoinPool.commonPool().invoke(new RangeTask(range, 0, count));
+        } else {
+            range.run(0, count);
+        }
+    }
+
+    /**
+     * Transforms {@code count} points of arrays starting at given offsets.
+     */
+    static void transform(final float[] m, final PointLayout layout, final int count,
+            final float[] src, final int srcOffset, final float[] dst, final int dstOffset,
+            final int threshold) {
+        run((from, to) -> transform(m, layout, src, srcOffset, count, dst, dstOffset, count, from, to),
+                count, threshold);
+    }
+
+    /**
+     * Transforms {@code count} points of buffers starting at given absolute
+     * indices, staging chunks through heap arrays.
+     */
+    static void transform(final float[] m, final PointLayout layout, final int count,
+            final FloatBuffer src, final int srcIndex, final FloatBuffer dst, final int dstIndex,
+            final int threshold) {
+        final int components = layout.components();
+        run((from, to) -> {
+            final float[] chunk = new float[Math.min(CHUNK, to - from) * components];
+            for (int start = from; start < to; start += CHUNK) {
+                final int points = Math.min(CHUNK, to - start);
+                if (layout.planar()) {
+                    for (int k = 0; k < components; k++) {
+                        src.get(srcIndex + k * count + start, chunk, k * points, points);
+                    }
+                    transform(m, layout, chunk, 0, points, chunk, 0, points, 0, points);
+                    for (int k = 0; k < components; k++) {
+                        dst.put(dstIndex + k * count + start, chunk, k * points, points);
+                    }
+                } else {
+                    src.get(srcIndex + start * components, chunk, 0, points * components);
+                    transform(m, layout, chunk, 0, 0, chunk, 0, 0, 0, points);
+                    dst.put(dstIndex + start * components, chunk, 0, points * components);
+                }
+            }
+        }, count, threshold);
+    }
+
+    /**
+     * Transforms points {@code [from, to)}. Component {@code k} of point
+     * {@code i} is at {@code base + k * plane + i} for SoA layouts and at
+     * {@code base + i * components + k} for interleaved layouts.
+     */
+    static void transform(final float[] m, final PointLayout layout,
+            final float[] src, final int srcBase, final int srcPlane,
+            final float[] dst, final int dstBase, final int dstPlane,
+            final int from, final int to) {
+        switch (layout) {
+            case XYZ -> transformXyz(m, src, srcBase, dst, dstBase, from, to);
+            case XYZW -> {
+                final int start = SIMD ? SimdPointKernels.transformInterleaved4(m, src, srcBase, dst, dstBase, from, to)
+                        : from;
+                transformXyzw(m, src, srcBase, dst, dstBase, start, to);
+            }
+            case SOA_XYZ, SOA_XYZW -> {
+                final int start = SIMD
+                        ? SimdPointKernels.transformPlanar(m, layout.components(), src, srcBase, srcPlane,
+                                dst, dstBase, dstPlane, from, to)
+                        : from;
+                transformPlanar(m, layout.components(), src, srcBase, srcPlane, dst, dstBase, dstPlane, start, to);
+            }
+        }
+    }
+
+    private static void transformXyz(final float[] m, final float[] src, final int srcBase,
+            final float[] dst, final int dstBase, final int from, final int to) {
+        final float m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        final float m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        final float m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        for (int i = from; i < to; i++) {
+            final int s = srcBase + 3 * i;
+            final int d = dstBase + 3 * i;
+            final float x = src[s], y = src[s + 1], z = src[s + 2];
+            dst[d] = m00 * x + m01 * y + m02 * z + m03;
+            dst[d + 1] = m10 * x + m11 * y + m12 * z + m13;
+            dst[d + 2] = m20 * x + m21 * y + m22 * z + m23;
+        }
+    }
+
+    private static void transformXyzw(final float[] m, final float[] src, final int srcBase,
+            final float[] dst, final int dstBase, final int from, final int to) {
+        final float m00 = m[0], m01 = m[1], m02 = m[2], m03 = m[3];
+        final float m10 = m[4], m11 = m[5], m12 = m[6], m13 = m[7];
+        final float m20 = m[8], m21 = m[9], m22 = m[10], m23 = m[11];
+        final float m30 = m[12], m31 = m[13], m32 = m[14], m33 = m[15];
+        for (int i = from; i < to; i++) {
+            final int s = srcBase + 4 * i;
+            final int d = dstBase + 4 * i;
+            final float x = src[s], y = src[s + 1], z = src[s + 2], w = src[s + 3];
+            dst[d] = m00 * x + m01 * y + m02 * z + m03 * w;
+            dst[d + 1] = m10 * x + m11 * y + m12 * z + m13 * w;
+            dst[d + 2] = m20 * x + m21 * y + m22 * z + m23 * w;
+            dst[d + 3] = m30 * x + m31 * y + m32 * z + m33 * w;
+        }
+    }
+
+    private static void transformPlanar(final float[] m, final int components,
+            final float[] src, final int srcBase, final int srcPlane,
+            final float[] dst, final int dstBase, final int dstPlane,
+            final int from, final int to) {
+        final boolean hasW = components == 4;
+        for (int i = from; i < to; i++) {
+            final float x = src[srcBase + i];
+            final float y = src[srcBase + srcPlane + i];
+            final float z = src[srcBase + 2 * srcPlane + i];
+            final float w = hasW ? src[srcBase + 3 * srcPlane + i] : 1;
+            for (int r = 0; r < components; r++) {
+                final int row = 4 * r;
+                dst[dstBase + r * dstPlane + i] = m[row] * x + m[row + 1] * y + m[row + 2] * z + m[row + 3] * w;
+            }
+        }
+    }
+}
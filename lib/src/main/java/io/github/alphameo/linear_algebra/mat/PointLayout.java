@@ -0,0 +1,71 @@
+package io.github.alphameo.linear_algebra.mat;
+
+/**
+ * Layout of points in array or buffer for
+ * {@link Mat4Math#transformPoints(Matrix4, float[], float[], PointLayout)}.
+ * <p>
+ * Interleaved layouts store components of every point next to each other
+ * ({@code x0 y0 z0 x1 y1 z1 ...}), structure-of-arrays (SoA) layouts store
+ * planes of equal length one after another ({@code x0 x1 ... y0 y1 ... z0 z1
+ * ...}). Layouts without {@code w} component describe points with implied
+ * {@code w = 1}.
+ *
+ * @since 2.1.0
+ */
+public enum PointLayout {
+    /**
+     * Interleaved {@code x, y, z} components.
+     *
+     * @since 2.1.0
+     */
+    XYZ(3, false),
+    /**
+     * Interleaved {@code x, y, z, w} components.
+     *
+     * @since 2.1.0
+     */
+    XYZW(4, false),
+    /**
+     * Planes of {@code x}, {@code y} and {@code z} components.
+     *
+     * @since 2.1.0
+     */
+    SOA_XYZ(3, true),
+    /**
+     * Planes of {@code x}, {@code y}, {@code z} and {@code w} components.
+     *
+     * @since 2.1.0
+     */
+    SOA_XYZW(4, true);
+
+    private final int components;
+    private final boolean planar;
+
+    PointLayout(final int components, final boolean planar) {
+        this.components = components;
+        this.planar = planar;
+    }
+
+    /**
+     * Returns count of stored components of every point.
+     *
+     * @return 3 or 4
+     *
+     * @since 2.1.0
+     */
+    public int components() {
+        return components;
+    }
+
+    /**
+     * Returns {@code true} if components are stored in separate planes.
+     *
+     * @return {@code true} for SoA layouts, and {@code false} for interleaved
+     *         layouts
+     *
+     * @since 2.1.0
+     */
+    public boolean planar() {
+        return planar;
+    }
+}
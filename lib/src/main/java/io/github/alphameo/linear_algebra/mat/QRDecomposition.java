@@ -0,0 +1,602 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Householder QR decomposition of matrix with at least as many rows as
+ * columns.
+ * <p>
+ * For matrix {@code A} of size {@code m x n} finds {@code m x n} matrix
+ * {@code Q} with orthonormal columns and upper triangular {@code n x n}
+ * matrix {@code R}, such that {@code A = Q * R}. Least squares problems are
+ * solved through {@code R * x = transpose(Q) * b} without forming
+ * {@code transpose(A) * A}, so condition number of the problem is not
+ * squared.
+ * <p>
+ * Reflectors are computed by panels of {@link #BLOCK} columns and applied to
+ * the rest of the matrix at once in compact WY form
+ * {@code I - V * T * transpose(V)}, so the most of the work is done by the
+ * matrix product kernel. Matrices, which do not fit in memory, can be
+ * processed by row batches with {@link Streaming}.
+ *
+ * @since 2.1.0
+ */
+public class QRDecomposition {
+
+    /**
+     * Columns in panel of blocked decomposition.
+     */
+    private static final int BLOCK = 32;
+
+    private final int height;
+    private final int width;
+    /**
+     * {@code R} on and above the diagonal, Householder vectors without their
+     * unit first elements below the diagonal.
+     */
+    private final float[] qr;
+    private final float[] tau;
+    private final boolean fullRank;
+
+    /**
+     * Decomposes given matrix.
+     *
+     * @param m matrix for decomposition with at least as many rows as columns
+     * @throws UnsupportedOperationException if matrix has more columns than
+     *                                       rows
+     *
+     * @since 2.1.0
+     */
+    public QRDecomposition(final Matrix m) throws UnsupportedOperationException {
+        if (m.height() < m.width()) {
+            throw new UnsupportedOperationException(
+                    "QR decomposition does not exist: matrix has more columns than rows");
+        }
+
+        height = m.height();
+        width = m.width();
+        qr = new Mat(m).data();
+        tau = new float[width];
+        factor(qr, height, width, width, tau);
+        fullRank = fullRank(qr, width, width);
+    }
+
+    /**
+     * Decomposes {@code rows x cols} row-major matrix {@code a} in place
+     * computing the first {@code reflectors} Householder reflectors and
+     * applying them to all columns.
+     */
+    static void factor(final float[] a, final int rows, final int cols, final int reflectors, final float[] tau) {
+        final double[] w = new double[cols];
+        for (int start = 0; start < reflectors; start += BLOCK) {
+            final int end = Math.min(start + BLOCK, reflectors);
+            for (int k = start; k < end; k++) {
+                reflect(a, rows, cols, k, end, tau, w);
+            }
+            if (end < cols) {
+                applyBlock(a, rows, cols, start, end, tau);
+            }
+        }
+    }
+
+    /**
+     * Computes reflector of column {@code k} and applies it to columns
+     * {@code (k, end)} walking rows.
+     */
+    private static void reflect(final float[] a, final int rows, final int cols, final int k, final int end,
+            final float[] tau, final double[] w) {
+        final int diagonalIndex = k * cols + k;
+        double norm2 = 0;
+        for (int i = k + 1; i < rows; i++) {
+            final double value = a[i * cols + k];
+            norm2 += value * value;
+        }
+        if (norm2 == 0) {
+            tau[k] = 0;
+            return;
+        }
+
+        final double alpha = a[diagonalIndex];
+        final double norm = Math.sqrt(alpha * alpha + norm2);
+        final double beta = alpha > 0 ? -norm : norm;
+        tau[k] = (float) ((beta - alpha) / beta);
+        final double scale = 1 / (alpha - beta);
+        for (int i = k + 1; i < rows; i++) {
+            a[i * cols + k] = (float) (a[i * cols + k] * scale);
+        }
+        a[diagonalIndex] = (float) beta;
+
+        if (k + 1 == end) {
+            return;
+        }
+        for (int j = k + 1; j < end; j++) {
+            w[j] = a[k * cols + j];
+        }
+        for (int i = k + 1; i < rows; i++) {
+            final int row = i * cols;
+            final double v = a[row + k];
+            for (int j = k + 1; j < end; j++) {
+                w[j] += v * a[row + j];
+            }
+        }
+        for (int j = k + 1; j < end; j++) {
+            w[j] *= tau[k];
+            a[k * cols + j] -= (float) w[j];
+        }
+        for (int i = k + 1; i < rows; i++) {
+            final int row = i * cols;
+            final double v = a[row + k];
+            for (int j = k + 1; j < end; j++) {
+                a[row + j] -= (float) (v * w[j]);
+            }
+        }
+    }
+
+    /**
+     * Applies {@code transpose(H_start * ... * H_(end-1)) = I - V * transpose(T)
+     * * transpose(V)} to columns {@code [end, cols)}.
+     */
+    private static void applyBlock(final float[] a, final int rows, final int cols, final int start,
+            final int end, final float[] tau) {
+        final int nb = end - start;
+        final int length = rows - start;
+        final int rest = cols - end;
+
+        // explicit V (length x nb) and its transpose with unit diagonal
+        final float[] v = new float[length * nb];
+        final float[] vt = new float[nb * length];
+        for (int i = 0; i < length; i++) {
+            final int row = (start + i) * cols + start;
+            for (int p = 0; p < nb && p <= i; p++) {
+                final float value = p == i ? 1 : a[row + p];
+                v[i * nb + p] = value;
+                vt[p * length + i] = value;
+            }
+        }
+
+        final double[] t = triangularFactor(v, length, nb, tau, start);
+
+        // W = transpose(V) * C
+        final float[] w = new float[nb * rest];
+        Gemm.gemm(nb, rest, length, 1,
+                vt, 0, length,
+                a, start * cols + end, cols,
+                w, 0, rest);
+
+        // W = transpose(T) * W, from the bottom row, which needs all rows above
+        for (int i = nb - 1; i >= 0; i--) {
+            for (int c = 0; c < rest; c++) {
+                double value = 0;
+                for (int p = 0; p <= i; p++) {
+                    value += t[p * nb + i] * w[p * rest + c];
+                }
+                w[i * rest + c] = (float) value;
+            }
+        }
+
+        // C -= V * W
+        Gemm.gemm(length, rest, nb, -1,
+                v, 0, nb,
+                w, 0, rest,
+                a, start * cols + end, cols);
+    }
+
+    /**
+     * Builds upper triangular {@code T}, such that
+     * {@code H_0 * ... * H_(nb-1) = I - V * T * transpose(V)}.
+     */
+    private static double[] triangularFactor(final float[] v, final int length, final int nb,
+            final float[] tau, final int start) {
+        final double[] gram = new double[nb * nb];
+        for (int i = 0; i < length; i++) {
+            final int row = i * nb;
+            for (int p = 0; p < nb; p++) {
+                final double value = v[row + p];
+                if (value == 0) {
+                    continue;
+                }
+                for (int q = p + 1; q < nb; q++) {
+                    gram[p * nb + q] += value * v[row + q];
+                }
+            }
+        }
+
+        final double[] t = new double[nb * nb];
+        for (int i = 0; i < nb; i++) {
+            final double tauI = tau[start + i];
+            t[i * nb + i] = tauI;
+            for (int p = 0; p < i; p++) {
+                double value = 0;
+                for (int q = p; q < i; q++) {
+                    value += t[p * nb + q] * gram[q * nb + i];
+                }
+                t[p * nb + i] = -tauI * value;
+            }
+        }
+
+        return t;
+    }
+
+    private static boolean fullRank(final float[] r, final int cols, final int size) {
+        for (int i = 0; i < size; i++) {
+            if (r[i * cols + i] == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns height of decomposed matrix.
+     *
+     * @return height of decomposed matrix
+     *
+     * @since 2.1.0
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Returns width of decomposed matrix.
+     *
+     * @return width of decomposed matrix
+     *
+     * @since 2.1.0
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Returns {@code true} if decomposed matrix has full column rank (diagonal
+     * of {@code R} has no 0).
+     *
+     * @return {@code true} if decomposed matrix has full column rank, and
+     *         {@code false} otherwise
+     *
+     * @since 2.1.0
+     */
+    public boolean fullRank() {
+        return fullRank;
+    }
+
+    /**
+     * Constructs upper triangular factor {@code R}.
+     *
+     * @return new {@code n x n} matrix {@code R}
+     *
+     * @since 2.1.0
+     */
+    public Matrix r() {
+        final Mat result = new Mat(width);
+        final float[] data = result.data();
+        for (int r = 0; r < width; r++) {
+            System.arraycopy(qr, r * width + r, data, r * width + r, width - r);
+        }
+
+        return result;
+    }
+
+    /**
+     * Constructs economy-size factor {@code Q}.
+     *
+     * @return new {@code m x n} matrix {@code Q} with orthonormal columns
+     *
+     * @since 2.1.0
+     */
+    public Matrix q() {
+        final Mat result = new Mat(height, width);
+        final float[] data = result.data();
+        for (int i = 0; i < width; i++) {
+            data[i * width + i] = 1;
+        }
+        for (int k = width - 1; k >= 0; k--) {
+            applyReflector(k, data, width);
+        }
+
+        return result;
+    }
+
+    /**
+     * Applies reflector {@code k} to {@code height x cols} row-major matrix
+     * {@code x}.
+     */
+    private void applyReflector(final int k, final float[] x, final int cols) {
+        final float tauK = tau[k];
+        if (tauK == 0) {
+            return;
+        }
+
+        final double[] w = new double[cols];
+        for (int c = 0; c < cols; c++) {
+            w[c] = x[k * cols + c];
+        }
+        for (int i = k + 1; i < height; i++) {
+            final double v = qr[i * width + k];
+            final int row = i * cols;
+            for (int c = 0; c < cols; c++) {
+                w[c] += v * x[row + c];
+            }
+        }
+        for (int c = 0; c < cols; c++) {
+            w[c] *= tauK;
+            x[k * cols + c] -= (float) w[c];
+        }
+        for (int i = k + 1; i < height; i++) {
+            final double v = qr[i * width + k];
+            final int row = i * cols;
+            for (int c = 0; c < cols; c++) {
+                x[row + c] -= (float) (v * w[c]);
+            }
+        }
+    }
+
+    /**
+     * Finds {@code x} minimizing {@code |A * x - b|}.
+     *
+     * @param b right-hand side vector of size {@link #height()}
+     * @return new vector {@code x} of size {@link #width()}
+     * @throws IllegalArgumentException if vector size is not equal to matrix
+     *                                  height
+     * @throws RuntimeException         if decomposed matrix does not have full
+     *                                  column rank
+     *
+     * @since 2.1.0
+     */
+    public Vector solveLeastSquares(final Vector b) throws RuntimeException {
+        if (b.size() != height) {
+            throw new IllegalArgumentException(String.format(
+                    "Least squares solution denied: matrix with size %dx%d and vector with size %d",
+                    height, width, b.size()));
+        }
+
+        final float[] x = new float[height];
+        for (int i = 0; i < height; i++) {
+            x[i] = b.get(i);
+        }
+        solveInPlace(x, 1);
+
+        final float[] result = new float[width];
+        System.arraycopy(x, 0, result, 0, width);
+
+        return new Vec(result);
+    }
+
+    /**
+     * Finds {@code X} minimizing {@code |A * X - B|} for all columns of
+     * {@code B} at once.
+     *
+     * @param b right-hand side matrix of height {@link #height()}
+     * @return new matrix {@code X} of height {@link #width()}
+     * @throws IllegalArgumentException if matrix {@code B} height is not equal to
+     *                                  decomposed matrix height
+     * @throws RuntimeException         if decomposed matrix does not have full
+     *                                  column rank
+     *
+     * @since 2.1.0
+     */
+    public Matrix solveLeastSquares(final Matrix b) throws RuntimeException {
+        if (b.height() != height) {
+            throw new IllegalArgumentException(String.format(
+                    "Least squares solution denied: matrices with sizes %dx%d and %dx%d",
+                    height, width, b.height(), b.width()));
+        }
+
+        final int cols = b.width();
+        final Mat x = new Mat(b);
+        solveInPlace(x.data(), cols);
+
+        final Mat result = new Mat(width, cols);
+        System.arraycopy(x.data(), 0, result.data(), 0, width * cols);
+
+        return result;
+    }
+
+    /**
+     * Replaces top {@code n} rows of {@code height x cols} row-major matrix
+     * {@code x} with least squares solutions.
+     */
+    private void solveInPlace(final float[] x, final int cols) throws RuntimeException {
+        if (!fullRank) {
+            throw new RuntimeException("Least squares solution denied: matrix does not have full column rank");
+        }
+
+        for (int k = 0; k < width; k++) {
+            applyReflector(k, x, cols);
+        }
+        backSubstitute(qr, width, width, x, cols);
+    }
+
+    /**
+     * Replaces top {@code size} rows of {@code x} with solution of
+     * {@code R * X = X}, where {@code R} is upper triangle of {@code r} with
+     * row stride {@code stride}.
+     */
+    static void backSubstitute(final float[] r, final int stride, final int size, final float[] x,
+            final int cols) {
+        for (int i = size - 1; i >= 0; i--) {
+            final int row = i * stride;
+            for (int c = 0; c < cols; c++) {
+                double value = x[i * cols + c];
+                for (int k = i + 1; k < size; k++) {
+                    value -= (double) r[row + k] * x[k * cols + c];
+                }
+                x[i * cols + c] = (float) (value / r[row + i]);
+            }
+        }
+    }
+
+    /**
+     * Streaming QR decomposition, which accumulates factor {@code R} and
+     * {@code transpose(Q) * b} over batches of rows without keeping the rows.
+     * <p>
+     * Every batch is stacked under the current {@code R} and the stack is
+     * decomposed again, so memory is proportional to the width and the batch
+     * size only.
+     *
+     * @since 2.1.0
+     */
+    public static final class Streaming {
+
+        private final int width;
+        /**
+         * {@code [R | transpose(Q) * b]} of size {@code width x (width + 1)}.
+         */
+        private float[] augmented;
+        private double residual2;
+        private long rows;
+
+        /**
+         * Constructs empty streaming decomposition for matrices of given width.
+         *
+         * @param width count of columns of decomposed matrix
+         * @throws IllegalArgumentException if width is not positive
+         *
+         * @since 2.1.0
+         */
+        public Streaming(final int width) throws IllegalArgumentException {
+            if (width <= 0) {
+                throw new IllegalArgumentException(
+                        String.format("QR decomposition creation denied: width %d is not positive", width));
+            }
+
+            this.width = width;
+            augmented = new float[width * (width + 1)];
+        }
+
+        /**
+         * Adds batch of rows of decomposed matrix with 0 right-hand sides.
+         *
+         * @param batch rows of decomposed matrix
+         * @return current decomposition
+         * @throws IllegalArgumentException if batch width is not equal to
+         *                                  decomposition width
+         *
+         * @since 2.1.0
+         */
+        public Streaming add(final Matrix batch) throws IllegalArgumentException {
+            return add(batch, null);
+        }
+
+        /**
+         * Adds batch of rows of decomposed matrix with their right-hand sides.
+         *
+         * @param batch rows of decomposed matrix
+         * @param b     right-hand sides of rows of the batch
+         * @return current decomposition
+         * @throws IllegalArgumentException if batch width is not equal to
+         *                                  decomposition width or vector size is
+         *                                  not equal to batch height
+         *
+         * @since 2.1.0
+         */
+        public Streaming add(final Matrix batch, final Vector b) throws IllegalArgumentException {
+            if (batch.width() != width) {
+                throw new IllegalArgumentException(String.format(
+                        "QR decomposition update denied: batch with width %d for matrix with width %d",
+                        batch.width(), width));
+            }
+            if (b != null && b.size() != batch.height()) {
+                throw new IllegalArgumentException(String.format(
+                        "QR decomposition update denied: batch with height %d and vector with size %d",
+                        batch.height(), b.size()));
+            }
+
+            final int cols = width + 1;
+            final int stackRows = width + batch.height();
+            final float[] stack = new float[stackRows * cols];
+            System.arraycopy(augmented, 0, stack, 0, augmented.length);
+            for (int r = 0; r < batch.height(); r++) {
+                final int row = (width + r) * cols;
+                for (int c = 0; c < width; c++) {
+                    stack[row + c] = batch.get(r, c);
+                }
+                stack[row + width] = b == null ? 0 : b.get(r);
+            }
+
+            factor(stack, stackRows, cols, width, new float[width]);
+
+            for (int r = width; r < stackRows; r++) {
+                final double value = stack[r * cols + width];
+                residual2 += value * value;
+            }
+            for (int r = 0; r < width; r++) {
+                final int row = r * cols;
+                System.arraycopy(stack, row + r, augmented, row + r, cols - r);
+            }
+            rows += batch.height();
+
+            return this;
+        }
+
+        /**
+         * Returns count of added rows.
+         *
+         * @return count of added rows
+         *
+         * @since 2.1.0
+         */
+        public long rows() {
+            return rows;
+        }
+
+        /**
+         * Constructs upper triangular factor {@code R} of all added rows.
+         * <p>
+         * Rows of {@code R} can differ in sign from {@link QRDecomposition#r()}
+         * of the whole matrix.
+         *
+         * @return new {@code n x n} matrix {@code R}
+         *
+         * @since 2.1.0
+         */
+        public Matrix r() {
+            final Mat result = new Mat(width);
+            final float[] data = result.data();
+            for (int r = 0; r < width; r++) {
+                System.arraycopy(augmented, r * (width + 1) + r, data, r * width + r, width - r);
+            }
+
+            return result;
+        }
+
+        /**
+         * Finds {@code x} minimizing {@code |A * x - b|} over all added rows.
+         *
+         * @return new vector {@code x} of size of decomposition width
+         * @throws RuntimeException if added rows do not have full column rank
+         *
+         * @since 2.1.0
+         */
+        public Vector solveLeastSquares() throws RuntimeException {
+            final int cols = width + 1;
+            if (!fullRank(augmented, cols, width)) {
+                throw new RuntimeException(
+                        "Least squares solution denied: matrix does not have full column rank");
+            }
+
+            final float[] x = new float[width];
+            for (int i = 0; i < width; i++) {
+                x[i] = augmented[i * cols + width];
+            }
+            backSubstitute(augmented, cols, width, x, 1);
+
+            return new Vec(x);
+        }
+
+        /**
+         * Returns norm of residual {@code |A * x - b|} of least squares
+         * solution over all added rows.
+         *
+         * @return norm of residual
+         *
+         * @since 2.1.0
+         */
+        public float residualNorm() {
+            return (float) Math.sqrt(residual2);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernels of point transformation.
+ * <p>
+ * Must be accessed only through {@link PointKernels}, which checks that
+ * {@code jdk.incubator.vector} module is present.
+ *
+ * @since 2.1.0
+ */
+final class SimdPointKernels {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    /**
+     * Shuffles broadcasting component {@code k} of every point of 4 lanes over
+     * the lanes of the point.
+     */
+    private static final VectorShuffle<Float>[] BROADCASTS = broadcasts();
+
+    private SimdPointKernels() {
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static VectorShuffle<Float>[] broadcasts() {
+        final VectorShuffle<Float>[] result = new VectorShuffle[4];
+        for (int k = 0; k < 4; k++) {
+            final int component = k;
+            result[k] = VectorShuffle.fromOp(SPECIES, i -> (i & ~3) + component);
+        }
+
+        return result;
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Transforms points {@code [from, to)} of SoA layout by lanes and returns
+     * index of the first not transformed point.
+     */
+    static int transformPlanar(final float[] m, final int components,
+            final float[] src, final int srcBase, final int srcPlane,
+            final float[] dst, final int dstBase, final int dstPlane,
+            final int from, final int to) {
+        final int lanes = SPECIES.length();
+        final boolean hasW = components == 4;
+        int i = from;
+        for (; i + lanes <= to; i += lanes) {
+            final FloatVector x = FloatVector.fromArray(SPECIES, src, srcBase + i);
+            final FloatVector y = FloatVector.fromArray(SPECIES, src, srcBase + srcPlane + i);
+            final FloatVector z = FloatVector.fromArray(SPECIES, src, srcBase + 2 * srcPlane + i);
+            final FloatVector w = hasW ? FloatVector.fromArray(SPECIES, src, srcBase + 3 * srcPlane + i) : null;
+            for (int r = 0; r < components; r++) {
+                final int row = 4 * r;
+                FloatVector value = x.mul(m[row]).add(y.mul(m[row + 1])).add(z.mul(m[row + 2]));
+                value = hasW ? value.add(w.mul(m[row + 3])) : value.add(m[row + 3]);
+                value.intoArray(dst, dstBase + r * dstPlane + i);
+            }
+        }
+
+        return i;
+    }
+
+    /**
+     * Transforms points {@code [from, to)} of interleaved XYZW layout, several
+     * points per vector, and returns index of the first not transformed point.
+     * Every component is broadcast over the lanes of its point and multiplied
+     * by the matching column of the matrix repeated for every point.
+     */
+    static int transformInterleaved4(final float[] m,
+            final float[] src, final int srcBase,
+            final float[] dst, final int dstBase,
+            final int from, final int to) {
+        final int lanes = SPECIES.length();
+        final int points = lanes / 4;
+        final float[] pattern = new float[lanes];
+        final FloatVector[] columns = new FloatVector[4];
+        for (int k = 0; k < 4; k++) {
+            for (int i = 0; i < lanes; i++) {
+                pattern[i] = m[4 * (i & 3) + k];
+            }
+            columns[k] = FloatVector.fromArray(SPECIES, pattern, 0);
+        }
+
+        int i = from;
+        for (; i + points <= to; i += points) {
+            final FloatVector v = FloatVector.fromArray(SPECIES, src, srcBase + 4 * i);
+            v.rearrange(BROADCASTS[0]).mul(columns[0])
+                    .add(v.rearrange(BROADCASTS[1]).mul(columns[1]))
+                    .add(v.rearrange(BROADCASTS[2]).mul(columns[2]))
+                    .add(v.rearrange(BROADCASTS[3]).mul(columns[3]))
+                    .intoArray(dst, dstBase + 4 * i);
+        }
+
+        return i;
+    }
+}
@@ -0,0 +1,791 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Singular value decomposition of matrix.
+ * <p>
+ * For matrix {@code A} of size {@code m x n} finds singular values
+ * {@code s_0 >= s_1 >= ... >= 0} and matrices {@code U} and {@code V} with
+ * orthonormal columns, such that {@code A = U * diag(s) * transpose(V)}.
+ * <p>
+ * {@link #SingularValueDecomposition(Matrix)} computes exact economy-size
+ * decomposition: matrix is reduced to bidiagonal form by Householder
+ * reflectors, then singular values of bidiagonal matrix are found by implicit
+ * shifted QR iterations (Golub-Kahan), in double precision. Matrix, which
+ * is at least twice as tall as wide, is reduced to triangular form by
+ * {@link QRDecomposition} first, so only the small triangular factor is
+ * bidiagonalized.
+ * <p>
+ * {@link #truncated(Matrix, int, int, int, ForkJoinPool)} computes
+ * approximation of the largest singular values by randomized range finder:
+ * orthonormal basis {@code Q} of {@code A * G} for random Gaussian matrix
+ * {@code G} with {@code rank + oversampling} columns captures dominant
+ * subspace of columns of {@code A}, then exact decomposition of small matrix
+ * {@code transpose(Q) * A} gives the result. All matrix products are done by
+ * {@link MatMath#parallelProd(Matrix, Matrix, ForkJoinPool)}, so for large
+ * matrices the most of the work is split between threads.
+ *
+ * @since 2.1.0
+ */
+public class SingularValueDecomposition {
+
+    /**
+     * Oversampling of {@link #truncated(Matrix, int)}.
+     *
+     * @since 2.1.0
+     */
+    public static final int DEFAULT_OVERSAMPLING = 10;
+
+    /**
+     * Power iterations of {@link #truncated(Matrix, int)}.
+     *
+     * @since 2.1.0
+     */
+    public static final int DEFAULT_POWER_ITERATIONS = 2;
+
+    private static final double EPS = Math.ulp(1.0);
+    private static final double TINY = Math.scalb(1.0, -966);
+
+    /**
+     * Maximal count of QR iterations for one singular value.
+     */
+    private static final int MAX_ITERATIONS = 75;
+
+    /**
+     * Minimal ratio of height and width of matrix, which is reduced to
+     * triangular {@code R} by {@link QRDecomposition} before
+     * bidiagonalization: blocked QR does the most of the work by the matrix
+     * product kernel, and bidiagonalization of {@code R} is much cheaper.
+     */
+    private static final int QR_RATIO = 2;
+
+    /**
+     * Seed of random matrix, so truncated decomposition is reproducible.
+     */
+    private static final long SEED = 0x5DEECE66DL;
+
+    private final int height;
+    private final int width;
+    /**
+     * Singular values from the largest to the smallest.
+     */
+    private final float[] values;
+    /**
+     * {@code height x values.length} matrix of left singular vectors.
+     */
+    private final Mat u;
+    /**
+     * {@code width x values.length} matrix of right singular vectors.
+     */
+    private final Mat v;
+
+    /**
+     * Decomposes given matrix computing all singular values and economy-size
+     * {@code U} and {@code V}.
+     *
+     * @param m matrix for decomposition
+     * @throws RuntimeException if QR iterations do not converge
+     *
+     * @since 2.1.0
+     */
+    public SingularValueDecomposition(final Matrix m) throws RuntimeException {
+        height = m.height();
+        width = m.width();
+        // bidiagonalization works for tall matrices, so wide matrix is
+        // transposed and its factors are swapped
+        final boolean wide = height < width;
+        final Matrix tall = wide ? MatMath.transposed(m) : m;
+        final int rows = tall.height();
+        final int cols = tall.width();
+
+        final double[] s = new double[cols];
+        final Mat left;
+        final Mat right;
+        if (rows >= QR_RATIO * cols) {
+            final QRDecomposition qr = new QRDecomposition(tall);
+            final double[] leftR = new double[cols * cols];
+            final double[] rightR = new double[cols * cols];
+            decompose(columnMajor(qr.r()), cols, cols, s, leftR, rightR);
+            final Matrix product = MatMath.prod(qr.q(), fromColumns(leftR, cols, cols));
+            left = product instanceof Mat mat ? mat : new Mat(product);
+            right = fromColumns(rightR, cols, cols);
+        } else {
+            final double[] leftA = new double[cols * rows];
+            final double[] rightA = new double[cols * cols];
+            decompose(columnMajor(tall), rows, cols, s, leftA, rightA);
+            left = fromColumns(leftA, rows, cols);
+            right = fromColumns(rightA, cols, cols);
+        }
+
+        values = new float[cols];
+        for (int i = 0; i < cols; i++) {
+            values[i] = (float) s[i];
+        }
+        u = wide ? right : left;
+        v = wide ? left : right;
+    }
+
+    private SingularValueDecomposition(final int height, final int width, final float[] values, final Mat u,
+            final Mat v) {
+        this.height = height;
+        this.width = width;
+        this.values = values;
+        this.u = u;
+        this.v = v;
+    }
+
+    /**
+     * Computes approximation of {@code rank} largest singular values and their
+     * singular vectors with {@link #DEFAULT_OVERSAMPLING} and
+     * {@link #DEFAULT_POWER_ITERATIONS}, matrix products are split between
+     * threads of common pool.
+     *
+     * @param m    matrix for decomposition
+     * @param rank count of singular values
+     * @return new decomposition with {@code rank} singular values
+     * @throws IllegalArgumentException if rank is not in range from 1 to the
+     *                                  least of matrix sizes
+     * @throws RuntimeException         if QR iterations do not converge
+     *
+     * @since 2.1.0
+     */
+    public static SingularValueDecomposition truncated(final Matrix m, final int rank)
+            throws IllegalArgumentException, RuntimeException {
+        return truncated(m, rank, DEFAULT_OVERSAMPLING, DEFAULT_POWER_ITERATIONS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes approximation of {@code rank} largest singular values and their
+     * singular vectors by randomized range finder.
+     * <p>
+     * Error of approximation decreases with oversampling and decreases
+     * rapidly with power iterations, every of which costs two products with
+     * {@code A}. For matrix {@code m x n} and {@code l = rank + oversampling}
+     * decomposition costs O(m * n * l) operations in products and O(m * l^2)
+     * in QR decompositions.
+     *
+     * @param m               matrix for decomposition
+     * @param rank            count of singular values
+     * @param oversampling    count of extra columns of random matrix
+     * @param powerIterations count of multiplications of basis by
+     *                        {@code A * transpose(A)}
+     * @param pool            pool for matrix products
+     * @return new decomposition with {@code rank} singular values
+     * @throws IllegalArgumentException if rank is not in range from 1 to the
+     *                                  least of matrix sizes, or oversampling
+     *                                  or count of power iterations is
+     *                                  negative
+     * @throws RuntimeException         if QR iterations do not converge
+     *
+     * @since 2.1.0
+     */
+    public static SingularValueDecomposition truncated(final Matrix m, final int rank, final int oversampling,
+            final int powerIterations, final ForkJoinPool pool) throws IllegalArgumentException, RuntimeException {
+        final int height = m.height();
+        final int width = m.width();
+        if (rank < 1 || rank > Math.min(height, width)) {
+            throw new IllegalArgumentException(String.format(
+                    "Singular value decomposition denied: rank %d of matrix with size %dx%d", rank, height, width));
+        }
+        if (oversampling < 0 || powerIterations < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Singular value decomposition denied: oversampling %d and %d power iterations",
+                    oversampling, powerIterations));
+        }
+
+        final int samples = Math.min(rank + oversampling, Math.min(height, width));
+        final Random random = new Random(SEED);
+        final Mat gaussian = new Mat(width, samples);
+        final float[] gaussianData = gaussian.data();
+        for (int i = 0; i < gaussianData.length; i++) {
+            gaussianData[i] = (float) random.nextGaussian();
+        }
+
+        final Matrix transposed = MatMath.transposed(m);
+        Matrix q = new QRDecomposition(MatMath.parallelProd(m, gaussian, pool)).q();
+        for (int i = 0; i < powerIterations; i++) {
+            final Matrix z = new QRDecomposition(MatMath.parallelProd(transposed, q, pool)).q();
+            q = new QRDecomposition(MatMath.parallelProd(m, z, pool)).q();
+        }
+
+        // transpose(Q * A) = W * S * transpose(Z), so A ~ (Q * Z) * S * transpose(W)
+        final SingularValueDecomposition small = new SingularValueDecomposition(
+                MatMath.parallelProd(transposed, q, pool));
+        final float[] values = new float[rank];
+        System.arraycopy(small.values, 0, values, 0, rank);
+
+        final Matrix left = MatMath.parallelProd(q, columns(small.v, rank), pool);
+
+        return new SingularValueDecomposition(height, width, values,
+                left instanceof Mat mat ? mat : new Mat(left), columns(small.u, rank));
+    }
+
+    /**
+     * Golub-Kahan decomposition of column-major {@code rows x cols} matrix
+     * {@code a} with {@code rows >= cols}, which is destroyed. Singular values
+     * are written into {@code s} in descending order, columns of {@code U} and
+     * {@code V} are written into column-major {@code u} and {@code v}.
+     */
+    private static void decompose(final double[] a, final int m, final int n, final double[] s, final double[] u,
+            final double[] v) throws RuntimeException {
+        final double[] e = new double[n];
+        final double[] work = new double[m];
+        final double[] d = new double[Math.min(m + 1, n)];
+
+        // reduction to bidiagonal form: diagonal in d, superdiagonal in e
+        final int nct = Math.min(m - 1, n);
+        final int nrt = Math.max(0, Math.min(n - 2, m));
+        for (int k = 0; k < Math.max(nct, nrt); k++) {
+            final int colK = k * m;
+            if (k < nct) {
+                double norm2 = 0;
+                for (int i = k; i < m; i++) {
+                    norm2 += a[colK + i] * a[colK + i];
+                }
+                d[k] = Math.sqrt(norm2);
+                if (d[k] != 0) {
+                    if (a[colK + k] < 0) {
+                        d[k] = -d[k];
+                    }
+                    for (int i = k; i < m; i++) {
+                        a[colK + i] /= d[k];
+                    }
+                    a[colK + k] += 1;
+                }
+                d[k] = -d[k];
+            }
+            for (int j = k + 1; j < n; j++) {
+                final int colJ = j * m;
+                if (k < nct && d[k] != 0) {
+                    double t = 0;
+                    for (int i = k; i < m; i++) {
+                        t += a[colK + i] * a[colJ + i];
+                    }
+                    t = -t / a[colK + k];
+                    for (int i = k; i < m; i++) {
+                        a[colJ + i] += t * a[colK + i];
+                    }
+                }
+                e[j] = a[colJ + k];
+            }
+            if (k < nct) {
+                System.arraycopy(a, colK + k, u, colK + k, m - k);
+            }
+            if (k < nrt) {
+                double norm2 = 0;
+                for (int i = k + 1; i < n; i++) {
+                    norm2 += e[i] * e[i];
+                }
+                e[k] = Math.sqrt(norm2);
+                if (e[k] != 0) {
+                    if (e[k + 1] < 0) {
+                        e[k] = -e[k];
+                    }
+                    for (int i = k + 1; i < n; i++) {
+                        e[i] /= e[k];
+                    }
+                    e[k + 1] += 1;
+                }
+                e[k] = -e[k];
+                if (k + 1 < m && e[k] != 0) {
+                    for (int i = k + 1; i < m; i++) {
+                        work[i] = 0;
+                    }
+                    for (int j = k + 1; j < n; j++) {
+                        final int colJ = j * m;
+                        for (int i = k + 1; i < m; i++) {
+                            work[i] += e[j] * a[colJ + i];
+                        }
+                    }
+                    for (int j = k + 1; j < n; j++) {
+                        final int colJ = j * m;
+                        final double t = -e[j] / e[k + 1];
+                        for (int i = k + 1; i < m; i++) {
+                            a[colJ + i] += t * work[i];
+                        }
+                    }
+                }
+                System.arraycopy(e, k + 1, v, k * n + k + 1, n - k - 1);
+            }
+        }
+
+        int p = Math.min(n, m + 1);
+        if (nct < n) {
+            d[nct] = a[nct * m + nct];
+        }
+        if (m < p) {
+            d[p - 1] = 0;
+        }
+        if (nrt + 1 < p) {
+            e[nrt] = a[(p - 1) * m + nrt];
+        }
+        e[p - 1] = 0;
+
+        generateU(u, d, m, n, nct);
+        generateV(v, e, n, nrt);
+        iterate(d, e, u, v, m, n, p);
+        System.arraycopy(d, 0, s, 0, n);
+    }
+
+    /**
+     * Accumulates left reflectors stored in columns of {@code u}.
+     */
+    private static void generateU(final double[] u, final double[] d, final int m, final int n, final int nct) {
+        for (int j = nct; j < n; j++) {
+            for (int i = 0; i < m; i++) {
+                u[j * m + i] = 0;
+            }
+            u[j * m + j] = 1;
+        }
+        for (int k = nct - 1; k >= 0; k--) {
+            final int colK = k * m;
+            if (d[k] != 0) {
+                for (int j = k + 1; j < n; j++) {
+                    final int colJ = j * m;
+                    double t = 0;
+                    for (int i = k; i < m; i++) {
+                        t += u[colK + i] * u[colJ + i];
+                    }
+                    t = -t / u[colK + k];
+                    for (int i = k; i < m; i++) {
+                        u[colJ + i] += t * u[colK + i];
+                    }
+                }
+                for (int i = k; i < m; i++) {
+                    u[colK + i] = -u[colK + i];
+                }
+                u[colK + k] += 1;
+                for (int i = 0; i < k; i++) {
+                    u[colK + i] = 0;
+                }
+            } else {
+                for (int i = 0; i < m; i++) {
+                    u[colK + i] = 0;
+                }
+                u[colK + k] = 1;
+            }
+        }
+    }
+
+    /**
+     * Accumulates right reflectors stored in columns of {@code v}.
+     */
+    private static void generateV(final double[] v, final double[] e, final int n, final int nrt) {
+        for (int k = n - 1; k >= 0; k--) {
+            final int colK = k * n;
+            if (k < nrt && e[k] != 0) {
+                for (int j = k + 1; j < n; j++) {
+                    final int colJ = j * n;
+                    double t = 0;
+                    for (int i = k + 1; i < n; i++) {
+                        t += v[colK + i] * v[colJ + i];
+                    }
+                    t = -t / v[colK + k + 1];
+                    for (int i = k + 1; i < n; i++) {
+                        v[colJ + i] += t * v[colK + i];
+                    }
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                v[colK + i] = 0;
+            }
+            v[colK + k] = 1;
+        }
+    }
+
+    /**
+     * Implicit shifted QR iterations on bidiagonal matrix of order {@code p}
+     * with diagonal {@code d} and superdiagonal {@code e}, rotations are
+     * applied to columns of {@code u} and {@code v}.
+     */
+    private static void iterate(final double[] d, final double[] e, final double[] u, final double[] v,
+            final int m, final int n, int p) throws RuntimeException {
+        final int last = p - 1;
+        int iteration = 0;
+        while (p > 0) {
+            if (iteration > MAX_ITERATIONS) {
+                throw new RuntimeException("Singular value decomposition denied: QR iterations do not converge");
+            }
+
+            // kind 4: d[p - 1] is converged, kind 3: QR step on d[k..p - 1],
+            // kind 2: d[k - 1] is negligible, kind 1: d[p - 1] is negligible
+            int k;
+            for (k = p - 2; k >= 0; k--) {
+                if (Math.abs(e[k]) <= TINY + EPS * (Math.abs(d[k]) + Math.abs(d[k + 1]))) {
+                    e[k] = 0;
+                    break;
+                }
+            }
+            final int kind;
+            if (k == p - 2) {
+                kind = 4;
+            } else {
+                int ks;
+                for (ks = p - 1; ks > k; ks--) {
+                    final double t = (ks != p ? Math.abs(e[ks]) : 0) + (ks != k + 1 ? Math.abs(e[ks - 1]) : 0);
+                    if (Math.abs(d[ks]) <= TINY + EPS * t) {
+                        d[ks] = 0;
+                        break;
+                    }
+                }
+                if (ks == k) {
+                    kind = 3;
+                } else if (ks == p - 1) {
+                    kind = 1;
+                } else {
+                    kind = 2;
+                    k = ks;
+                }
+            }
+            k++;
+
+            switch (kind) {
+                case 1 -> {
+                    double f = e[p - 2];
+                    e[p - 2] = 0;
+                    for (int j = p - 2; j >= k; j--) {
+                        final double t = Math.hypot(d[j], f);
+                        final double cs = d[j] / t;
+                        final double sn = f / t;
+                        d[j] = t;
+                        if (j != k) {
+                            f = -sn * e[j - 1];
+                            e[j - 1] = cs * e[j - 1];
+                        }
+                        rotate(v, n, j, p - 1, cs, sn);
+                    }
+                }
+                case 2 -> {
+                    double f = e[k - 1];
+                    e[k - 1] = 0;
+                    for (int j = k; j < p; j++) {
+                        final double t = Math.hypot(d[j], f);
+                        final double cs = d[j] / t;
+                        final double sn = f / t;
+                        d[j] = t;
+                        f = -sn * e[j];
+                        e[j] = cs * e[j];
+                        rotate(u, m, j, k - 1, cs, sn);
+                    }
+                }
+                case 3 -> {
+                    final double scale = Math.max(Math.max(Math.max(Math.max(
+                            Math.abs(d[p - 1]), Math.abs(d[p - 2])), Math.abs(e[p - 2])),
+                            Math.abs(d[k])), Math.abs(e[k]));
+                    final double sp = d[p - 1] / scale;
+                    final double spm1 = d[p - 2] / scale;
+                    final double epm1 = e[p - 2] / scale;
+                    final double sk = d[k] / scale;
+                    final double ek = e[k] / scale;
+                    final double b = ((spm1 + sp) * (spm1 - sp) + epm1 * epm1) / 2;
+                    final double c = (sp * epm1) * (sp * epm1);
+                    double shift = 0;
+                    if (b != 0 || c != 0) {
+                        shift = Math.sqrt(b * b + c);
+                        if (b < 0) {
+                            shift = -shift;
+                        }
+                        shift = c / (b + shift);
+                    }
+                    double f = (sk + sp) * (sk - sp) + shift;
+                    double g = sk * ek;
+                    for (int j = k; j < p - 1; j++) {
+                        double t = Math.hypot(f, g);
+                        double cs = f / t;
+                        double sn = g / t;
+                        if (j != k) {
+                            e[j - 1] = t;
+                        }
+                        f = cs * d[j] + sn * e[j];
+                        e[j] = cs * e[j] - sn * d[j];
+                        g = sn * d[j + 1];
+                        d[j + 1] = cs * d[j + 1];
+                        rotate(v, n, j, j + 1, cs, sn);
+                        t = Math.hypot(f, g);
+                        cs = f / t;
+                        sn = g / t;
+                        d[j] = t;
+                        f = cs * e[j] + sn * d[j + 1];
+                        d[j + 1] = -sn * e[j] + cs * d[j + 1];
+                        g = sn * e[j + 1];
+                        e[j + 1] = cs * e[j + 1];
+                        if (j < m - 1) {
+                            rotate(u, m, j, j + 1, cs, sn);
+                        }
+                    }
+                    e[p - 2] = f;
+                    iteration++;
+                }
+                default -> {
+                    if (d[k] <= 0) {
+                        d[k] = d[k] < 0 ? -d[k] : 0;
+                        for (int i = 0; i < n; i++) {
+                            v[k * n + i] = -v[k * n + i];
+                        }
+                    }
+                    while (k < last && d[k] < d[k + 1]) {
+                        final double t = d[k];
+                        d[k] = d[k + 1];
+                        d[k + 1] = t;
+                        swap(v, n, k, k + 1);
+                        swap(u, m, k, k + 1);
+                        k++;
+                    }
+                    iteration = 0;
+                    p--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Rotates columns {@code j} and {@code k} of column-major matrix:
+     * {@code (x_j, x_k) = (cs * x_j + sn * x_k, cs * x_k - sn * x_j)}.
+     */
+    private static void rotate(final double[] x, final int rows, final int j, final int k, final double cs,
+            final double sn) {
+        final int colJ = j * rows;
+        final int colK = k * rows;
+        for (int i = 0; i < rows; i++) {
+            final double t = cs * x[colJ + i] + sn * x[colK + i];
+            x[colK + i] = -sn * x[colJ + i] + cs * x[colK + i];
+            x[colJ + i] = t;
+        }
+    }
+
+    private static void swap(final double[] x, final int rows, final int j, final int k) {
+        for (int i = 0; i < rows; i++) {
+            final double t = x[j * rows + i];
+            x[j * rows + i] = x[k * rows + i];
+            x[k * rows + i] = t;
+        }
+    }
+
+    /**
+     * Constructs column-major copy of given matrix in double precision.
+     */
+    private static double[] columnMajor(final Matrix m) {
+        final Mat mat = m instanceof Mat x ? x : new Mat(m);
+        final int rows = mat.height();
+        final float[] data = mat.data();
+        final int stride = mat.stride();
+        final double[] result = new double[rows * mat.width()];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < mat.width(); c++) {
+                result[c * rows + r] = data[r * stride + c];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Constructs row-major matrix from first {@code count} columns of
+     * column-major {@code x} with {@code rows} rows.
+     */
+    private static Mat fromColumns(final double[] x, final int rows, final int count) {
+        final Mat result = new Mat(rows, count);
+        final float[] data = result.data();
+        for (int c = 0; c < count; c++) {
+            for (int r = 0; r < rows; r++) {
+                data[r * count + c] = (float) x[c * rows + r];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Constructs matrix from first {@code count} columns of given matrix.
+     */
+    private static Mat columns(final Mat m, final int count) {
+        final Mat result = new Mat(m.height(), count);
+        final float[] data = result.data();
+        final float[] src = m.data();
+        for (int r = 0; r < m.height(); r++) {
+            System.arraycopy(src, r * m.stride(), data, r * count, count);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns height of decomposed matrix.
+     *
+     * @return height of decomposed matrix
+     *
+     * @since 2.1.0
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Returns width of decomposed matrix.
+     *
+     * @return width of decomposed matrix
+     *
+     * @since 2.1.0
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Returns count of computed singular values.
+     *
+     * @return the least of matrix sizes, or rank of truncated decomposition
+     *
+     * @since 2.1.0
+     */
+    public int count() {
+        return values.length;
+    }
+
+    /**
+     * Returns singular value with given index.
+     *
+     * @param i index of singular value, 0 for the largest one
+     * @return singular value
+     * @throws ArrayIndexOutOfBoundsException if index is out of computed
+     *                                        singular values
+     *
+     * @since 2.1.0
+     */
+    public float singularValue(final int i) {
+        return values[i];
+    }
+
+    /**
+     * Constructs vector of singular values from the largest to the smallest.
+     *
+     * @return new vector of size {@link #count()}
+     *
+     * @since 2.1.0
+     */
+    public Vector singularValues() {
+        return new Vec(values);
+    }
+
+    /**
+     * Constructs matrix with left singular vectors as columns.
+     *
+     * @return new matrix {@link #height()} x {@link #count()}
+     *
+     * @since 2.1.0
+     */
+    public Matrix u() {
+        return new Mat(u);
+    }
+
+    /**
+     * Constructs matrix with right singular vectors as columns.
+     *
+     * @return new matrix {@link #width()} x {@link #count()}
+     *
+     * @since 2.1.0
+     */
+    public Matrix v() {
+        return new Mat(v);
+    }
+
+    /**
+     * Estimates numerical rank as count of singular values greater than
+     * {@code max(m, n) * s_0 * ulp(1f)}.
+     * <p>
+     * Rank of truncated decomposition is not greater than {@link #count()}.
+     *
+     * @return numerical rank of decomposed matrix
+     *
+     * @since 2.1.0
+     */
+    public int rank() {
+        final double tolerance = tolerance();
+        int result = 0;
+        while (result < values.length && values[result] > tolerance) {
+            result++;
+        }
+
+        return result;
+    }
+
+    private double tolerance() {
+        return values.length == 0 ? 0 : (double) Math.max(height, width) * values[0] * Math.ulp(1f);
+    }
+
+    /**
+     * Calculates ratio of the largest and the smallest singular values.
+     *
+     * @return condition number in 2-norm, or infinity for singular matrix
+     *
+     * @since 2.1.0
+     */
+    public float cond() {
+        if (values.length == 0) {
+            return 0;
+        }
+
+        return values[0] / values[values.length - 1];
+    }
+
+    /**
+     * Calculates Moore-Penrose pseudo-inverse {@code V * diag(1 / s) *
+     * transpose(U)}, singular values, which are not greater than tolerance of
+     * {@link #rank()}, are treated as zero.
+     *
+     * @return new {@code n x m} matrix, which is pseudo-inverse of decomposed
+     *         matrix
+     *
+     * @since 2.1.0
+     */
+    public Matrix pseudoInverse() {
+        final int rank = rank();
+        if (rank == 0) {
+            return new Mat(width, height);
+        }
+
+        final Mat scaled = columns(v, rank);
+        final float[] data = scaled.data();
+        for (int r = 0; r < width; r++) {
+            for (int c = 0; c < rank; c++) {
+                data[r * rank + c] /= values[c];
+            }
+        }
+
+        return MatMath.prod(scaled, MatMath.transposed(columns(u, rank)));
+    }
+
+    /**
+     * Calculates best approximation {@code U_k * diag(s_k) * transpose(V_k)}
+     * of decomposed matrix by matrix of rank {@code k}.
+     *
+     * @param k rank of approximation
+     * @return new {@code m x n} matrix of rank not greater than {@code k}
+     * @throws IllegalArgumentException if {@code k} is not in range from 1 to
+     *                                  {@link #count()}
+     *
+     * @since 2.1.0
+     */
+    public Matrix approximation(final int k) throws IllegalArgumentException {
+        if (k < 1 || k > values.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Low-rank approximation denied: rank %d of decomposition with %d singular values",
+                    k, values.length));
+        }
+
+        final Mat scaled = columns(u, k);
+        final float[] data = scaled.data();
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < k; c++) {
+                data[r * k + c] *= values[c];
+            }
+        }
+
+        return MatMath.prod(scaled, MatMath.transposed(columns(v, k)));
+    }
+}
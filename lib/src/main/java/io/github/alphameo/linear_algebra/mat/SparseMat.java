@@ -0,0 +1,455 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+
+import io.github.alphameo.linear_algebra.Equatable;
+import io.github.alphameo.linear_algebra.Validator;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Sparse matrix in compressed sparse row (CSR) form.
+ * <p>
+ * Only non-zero elements are stored: for row {@code r} their columns are
+ * {@code cols[rowStarts[r]..rowStarts[r + 1])} in ascending order, and values
+ * are at the same positions of {@code values}. Memory and time of
+ * {@link MatMath#prod(Matrix, Vector)}, {@link MatMath#prod(Matrix, Matrix)}
+ * and {@link MatMath#added(Matrix, Matrix)} for sparse matrices are
+ * proportional to count of stored elements instead of {@code height * width}.
+ * <p>
+ * Structure of the matrix is fixed: {@link #set(int, int, float)} can change
+ * only stored elements. Use {@link Builder} to construct matrices.
+ *
+ * @since 2.1.0
+ */
+public final class SparseMat implements Matrix, Equatable<Matrix> {
+
+    private final int height;
+    private final int width;
+    private final int[] rowStarts;
+    private final int[] cols;
+    private final float[] values;
+
+    private SparseMat(final int height, final int width, final int[] rowStarts, final int[] cols,
+            final float[] values) {
+        this.height = height;
+        this.width = width;
+        this.rowStarts = rowStarts;
+        this.cols = cols;
+        this.values = values;
+    }
+
+    /**
+     * Copies non-zero values of given matrix into new sparse matrix.
+     *
+     * @param m matrix for copying
+     *
+     * @since 2.1.0
+     */
+    public SparseMat(final Matrix m) {
+        this(fromDense(m));
+    }
+
+    private SparseMat(final SparseMat m) {
+        this(m.height, m.width, m.rowStarts.clone(), m.cols.clone(), m.values.clone());
+    }
+
+    private static SparseMat fromDense(final Matrix m) {
+        if (m instanceof SparseMat sparse) {
+            return sparse;
+        }
+
+        final Builder builder = new Builder(m.height(), m.width());
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                final float value = m.get(r, c);
+                if (value != 0) {
+                    builder.add(r, c, value);
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Builder of sparse matrix from (row, column, value) triplets in any order.
+     * Values of repeated positions are summed.
+     *
+     * @since 2.1.0
+     */
+    public static final class Builder {
+
+        private final int height;
+        private final int width;
+        private int size;
+        private int[] rows = new int[16];
+        private int[] cols = new int[16];
+        private float[] values = new float[16];
+
+        /**
+         * Constructs builder of sparse matrix {@code height} x {@code width}.
+         *
+         * @param height height of matrix
+         * @param width  width of matrix
+         * @throws IllegalArgumentException if any size is negative
+         *
+         * @since 2.1.0
+         */
+        public Builder(final int height, final int width) throws IllegalArgumentException {
+            if (height < 0 || width < 0) {
+                throw new IllegalArgumentException(
+                        String.format("Matrix creation denied: size %dx%d is negative", height, width));
+            }
+
+            this.height = height;
+            this.width = width;
+        }
+
+        /**
+         * Adds value to element under given row and column.
+         *
+         * @param r     row index
+         * @param c     column index
+         * @param value value to add
+         * @return this builder
+         * @throws IllegalArgumentException if position is out of matrix bounds
+         *
+         * @since 2.1.0
+         */
+        public Builder add(final int r, final int c, final float value) throws IllegalArgumentException {
+            if (r < 0 || r >= height) {
+                throw new IllegalArgumentException(String.format("Row %d is out of SparseMat bounds", r));
+            }
+            if (c < 0 || c >= width) {
+                throw new IllegalArgumentException(String.format("Column %d is out of SparseMat bounds", c));
+            }
+
+            if (size == rows.length) {
+                final int capacity = size * 2;
+                rows = Arrays.copyOf(rows, capacity);
+                cols = Arrays.copyOf(cols, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            rows[size] = r;
+            cols[size] = c;
+            values[size] = value;
+            size++;
+
+            return this;
+        }
+
+        /**
+         * Constructs sparse matrix from added triplets. Elements which sum up to
+         * 0 are not stored.
+         *
+         * @return new sparse matrix
+         *
+         * @since 2.1.0
+         */
+        public SparseMat build() {
+            // counting sort by column and then stable counting sort by row
+            // gives row-major order with ascending columns in O(nnz + h + w)
+            final int[] byCol = new int[size];
+            final int[] colStarts = new int[width + 1];
+            for (int i = 0; i < size; i++) {
+                colStarts[cols[i] + 1]++;
+            }
+            for (int c = 0; c < width; c++) {
+                colStarts[c + 1] += colStarts[c];
+            }
+            for (int i = 0; i < size; i++) {
+                byCol[colStarts[cols[i]]++] = i;
+            }
+
+            final int[] sorted = new int[size];
+            final int[] rowStarts = new int[height + 1];
+            for (int i = 0; i < size; i++) {
+                rowStarts[rows[i] + 1]++;
+            }
+            for (int r = 0; r < height; r++) {
+                rowStarts[r + 1] += rowStarts[r];
+            }
+            final int[] next = Arrays.copyOf(rowStarts, height);
+            for (final int i : byCol) {
+                sorted[next[rows[i]]++] = i;
+            }
+
+            final int[] resultCols = new int[size];
+            final float[] resultValues = new float[size];
+            final int[] resultRowStarts = new int[height + 1];
+            int count = 0;
+            for (int r = 0; r < height; r++) {
+                resultRowStarts[r] = count;
+                int k = rowStarts[r];
+                while (k < rowStarts[r + 1]) {
+                    final int c = cols[sorted[k]];
+                    float sum = 0;
+                    while (k < rowStarts[r + 1] && cols[sorted[k]] == c) {
+                        sum += values[sorted[k]];
+                        k++;
+                    }
+                    if (sum != 0) {
+                        resultCols[count] = c;
+                        resultValues[count] = sum;
+                        count++;
+                    }
+                }
+            }
+            resultRowStarts[height] = count;
+
+            return new SparseMat(height, width, resultRowStarts,
+                    Arrays.copyOf(resultCols, count), Arrays.copyOf(resultValues, count));
+        }
+    }
+
+    @Override
+    public float get(final int r, final int c) throws ArrayIndexOutOfBoundsException {
+        final int position = position(r, c);
+        return position < 0 ? 0 : values[position];
+    }
+
+    /**
+     * Sets value of stored element. Setting 0 to not stored element has no
+     * effect.
+     *
+     * @param r     row index
+     * @param c     column index
+     * @param value new value
+     * @throws ArrayIndexOutOfBoundsException if position is out of matrix bounds
+     * @throws UnsupportedOperationException  if element is not stored and value
+     *                                        is not 0
+     */
+    @Override
+    public void set(final int r, final int c, final float value)
+            throws ArrayIndexOutOfBoundsException, UnsupportedOperationException {
+        final int position = position(r, c);
+        if (position >= 0) {
+            values[position] = value;
+        } else if (value != 0) {
+            throw new UnsupportedOperationException(String.format(
+                    "Matrix modification denied: element (%d, %d) is not stored in sparse matrix", r, c));
+        }
+    }
+
+    private int position(final int r, final int c) throws ArrayIndexOutOfBoundsException {
+        if (r < 0 || r >= height) {
+            throw new ArrayIndexOutOfBoundsException(String.format("Row %d is out of SparseMat bounds", r));
+        }
+        if (c < 0 || c >= width) {
+            throw new ArrayIndexOutOfBoundsException(String.format("Column %d is out of SparseMat bounds", c));
+        }
+
+        final int position = Arrays.binarySearch(cols, rowStarts[r], rowStarts[r + 1], c);
+        return position < 0 ? -1 : position;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Returns count of stored (non-zero) elements.
+     *
+     * @return count of stored elements
+     *
+     * @since 2.1.0
+     */
+    public int nonZeros() {
+        return values.length;
+    }
+
+    /**
+     * Returns positions of rows in {@link #columns()} and {@link #values()}:
+     * stored elements of row {@code r} are at positions from
+     * {@code rowStarts()[r]} inclusive to {@code rowStarts()[r + 1]} exclusive.
+     *
+     * @return copy of row positions with length {@code height() + 1}
+     *
+     * @since 2.1.0
+     */
+    public int[] rowStarts() {
+        return rowStarts.clone();
+    }
+
+    /**
+     * Returns column indices of stored elements, ascending within each row.
+     *
+     * @return copy of column indices
+     *
+     * @since 2.1.0
+     */
+    public int[] columns() {
+        return cols.clone();
+    }
+
+    /**
+     * Returns values of stored elements.
+     *
+     * @return copy of values
+     *
+     * @since 2.1.0
+     */
+    public float[] values() {
+        return values.clone();
+    }
+
+    /**
+     * Calculates product of current matrix and vector.
+     *
+     * @param v column vector (right)
+     * @return new vector, which represents product of current matrix and given
+     *         vector
+     * @throws IllegalArgumentException if width of the matrix is not equal to the
+     *                                  vector size
+     *
+     * @since 2.1.0
+     */
+    public Vector prod(final Vector v) {
+        return MatMath.prod(this, v);
+    }
+
+    /**
+     * Calculates product of current and given matrices.
+     *
+     * @param m second (right) matrix
+     * @return new dense matrix, which represents product of matrices
+     * @throws IllegalArgumentException if the current matrix width is not equal
+     *                                  to the given matrix height
+     *
+     * @since 2.1.0
+     */
+    public Matrix prod(final Matrix m) {
+        return MatMath.prod(this, m);
+    }
+
+    /**
+     * Calculates sum of current and given sparse matrices.
+     *
+     * @param addendum sparse matrix to add
+     * @return new sparse matrix with sum of matrices
+     * @throws IllegalArgumentException if matrices have different sizes
+     *
+     * @since 2.1.0
+     */
+    public SparseMat added(final SparseMat addendum) {
+        return added(this, addendum);
+    }
+
+    /**
+     * Writes {@code m * v} into {@code dest}, which is not {@code v}.
+     */
+    static Vector prod(final SparseMat m, final Vector v, final Vector dest) {
+        final float[] x = v instanceof Vec ? null : new float[v.size()];
+        if (x != null) {
+            for (int i = 0; i < x.length; i++) {
+                x[i] = v.get(i);
+            }
+        }
+
+        for (int r = 0; r < m.height; r++) {
+            float value = 0;
+            if (x == null) {
+                for (int k = m.rowStarts[r]; k < m.rowStarts[r + 1]; k++) {
+                    value += m.values[k] * v.get(m.cols[k]);
+                }
+            } else {
+                for (int k = m.rowStarts[r]; k < m.rowStarts[r + 1]; k++) {
+                    value += m.values[k] * x[m.cols[k]];
+                }
+            }
+
+            dest.set(r, value);
+        }
+
+        return dest;
+    }
+
+    /**
+     * Adds {@code m1 * m2} to {@code dest}: every stored element of row
+     * {@code r} scales a row of {@code m2} added to row {@code r} of result.
+     */
+    static void prodAdd(final SparseMat m1, final Mat m2, final Mat dest) {
+        final float[] b = m2.data();
+        final float[] c = dest.data();
+        final int n = m2.width();
+        for (int r = 0; r < m1.height; r++) {
+            final int cRow = r * dest.stride();
+            for (int k = m1.rowStarts[r]; k < m1.rowStarts[r + 1]; k++) {
+                final float value = m1.values[k];
+                final int bRow = m1.cols[k] * m2.stride();
+                for (int j = 0; j < n; j++) {
+                    c[cRow + j] += value * b[bRow + j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges rows of sparse matrices of the same size.
+     */
+    static SparseMat added(final SparseMat m1, final SparseMat m2) {
+        Validator.validateMatrixSizes(m1, m2, "Addition denied");
+
+        final int[] rowStarts = new int[m1.height + 1];
+        final int[] cols = new int[m1.values.length + m2.values.length];
+        final float[] values = new float[cols.length];
+        int count = 0;
+        for (int r = 0; r < m1.height; r++) {
+            rowStarts[r] = count;
+            int i = m1.rowStarts[r];
+            int j = m2.rowStarts[r];
+            final int iEnd = m1.rowStarts[r + 1];
+            final int jEnd = m2.rowStarts[r + 1];
+            while (i < iEnd || j < jEnd) {
+                final int c;
+                final float value;
+                if (j >= jEnd || i < iEnd && m1.cols[i] < m2.cols[j]) {
+                    c = m1.cols[i];
+                    value = m1.values[i++];
+                } else if (i >= iEnd || m2.cols[j] < m1.cols[i]) {
+                    c = m2.cols[j];
+                    value = m2.values[j++];
+                } else {
+                    c = m1.cols[i];
+                    value = m1.values[i++] + m2.values[j++];
+                }
+                if (value != 0) {
+                    cols[count] = c;
+                    values[count] = value;
+                    count++;
+                }
+            }
+        }
+        rowStarts[m1.height] = count;
+
+        return new SparseMat(m1.height, m1.width, rowStarts, Arrays.copyOf(cols, count),
+                Arrays.copyOf(values, count));
+    }
+
+    @Override
+    public boolean equalsTo(final Matrix m) {
+        return MatMath.equals(this, m);
+    }
+
+    @Override
+    public boolean equalsEpsilonTo(final Matrix other, final float eps) {
+        return MatMath.equalsEpsilon(this, other, eps);
+    }
+
+    @Override
+    public SparseMat clone() {
+        return new SparseMat(this);
+    }
+
+    @Override
+    public String toString() {
+        return MatStringer.matrixToString(this);
+    }
+}
@@ -0,0 +1,190 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Arrays;
+
+/**
+ * Strassen-Winograd matrix multiplication over row-major arrays.
+ * <p>
+ * Product of halves is computed with 7 recursive products and 15 additions
+ * instead of 8 products, so every recursion level saves 1/8 of
+ * multiply-adds. Recursion stops when any dimension is not greater than the
+ * cutoff, then {@link Gemm} computes the product. Odd dimensions are peeled:
+ * the even part is multiplied recursively, and the last row, column and
+ * rank-1 update are computed by {@link Gemm}.
+ * <p>
+ * Temporary blocks of all levels are allocated once in a single workspace:
+ * every level uses {@code X} ({@code m/2 x k/2}), {@code Y}
+ * ({@code k/2 x n/2}) and {@code Z} ({@code m/2 x n/2}) and passes the rest
+ * of the workspace to the next level, other intermediate results are kept in
+ * quadrants of {@code C} (schedule of Douglas et al.).
+ *
+ * @since 2.1.0
+ */
+final class Strassen {
+
+    private Strassen() {
+    }
+
+    /**
+     * Calculates size of workspace for product with given dimensions.
+     *
+     * @param m      rows of {@code A} and {@code C}
+     * @param n      columns of {@code B} and {@code C}
+     * @param k      columns of {@code A} and rows of {@code B}
+     * @param cutoff maximal dimension of product computed by {@link Gemm}
+     * @return count of workspace elements
+     */
+    static int workspace(final int m, final int n, final int k, final int cutoff) {
+        long result = 0;
+        int hm = m;
+        int hn = n;
+        int hk = k;
+        while (Math.min(hm, Math.min(hn, hk)) > cutoff) {
+            hm /= 2;
+            hn /= 2;
+            hk /= 2;
+            result += (long) hm * hk + (long) hk * hn + (long) hm * hn;
+        }
+
+        return Math.toIntExact(result);
+    }
+
+    /**
+     * Computes {@code C = A * B} for row-major blocks.
+     *
+     * @param m      rows of {@code A} and {@code C}
+     * @param n      columns of {@code B} and {@code C}
+     * @param k      columns of {@code A} and rows of {@code B}
+     * @param a      left matrix data
+     * @param aOff   offset of the first element of {@code A}
+     * @param lda    row stride of {@code A}
+     * @param b      right matrix data
+     * @param bOff   offset of the first element of {@code B}
+     * @param ldb    row stride of {@code B}
+     * @param c      result matrix data
+     * @param cOff   offset of the first element of {@code C}
+     * @param ldc    row stride of {@code C}
+     * @param cutoff maximal dimension of product computed by {@link Gemm}
+     * @param w      workspace of at least {@link #workspace} elements after
+     *               {@code wOff}
+     * @param wOff   offset of the first element of workspace
+     */
+    static void prod(final int m, final int n, final int k,
+            final float[] a, final int aOff, final int lda,
+            final float[] b, final int bOff, final int ldb,
+            final float[] c, final int cOff, final int ldc,
+            final int cutoff, final float[] w, final int wOff) {
+        if (Math.min(m, Math.min(n, k)) <= cutoff) {
+            zero(m, n, c, cOff, ldc);
+            Gemm.gemm(m, n, k, 1, a, aOff, lda, b, bOff, ldb, c, cOff, ldc);
+            return;
+        }
+
+        final int hm = m / 2;
+        final int hn = n / 2;
+        final int hk = k / 2;
+        final int a11 = aOff;
+        final int a12 = aOff + hk;
+        final int a21 = aOff + hm * lda;
+        final int a22 = a21 + hk;
+        final int b11 = bOff;
+        final int b12 = bOff + hn;
+        final int b21 = bOff + hk * ldb;
+        final int b22 = b21 + hn;
+        final int c11 = cOff;
+        final int c12 = cOff + hn;
+        final int c21 = cOff + hm * ldc;
+        final int c22 = c21 + hn;
+        final int x = wOff;
+        final int y = x + hm * hk;
+        final int z = y + hk * hn;
+        final int next = z + hm * hn;
+
+        // C21 = P7 = (A11 - A21) * (B22 - B12)
+        combine(hm, hk, a, a11, lda, -1, a, a21, lda, w, x, hk);
+        combine(hk, hn, b, b22, ldb, -1, b, b12, ldb, w, y, hn);
+        prod(hm, hn, hk, w, x, hk, w, y, hn, c, c21, ldc, cutoff, w, next);
+        // C22 = P5 = S1 * T1, S1 = A21 + A22, T1 = B12 - B11
+        combine(hm, hk, a, a21, lda, 1, a, a22, lda, w, x, hk);
+        combine(hk, hn, b, b12, ldb, -1, b, b11, ldb, w, y, hn);
+        prod(hm, hn, hk, w, x, hk, w, y, hn, c, c22, ldc, cutoff, w, next);
+        // C12 = P6 = S2 * T2, S2 = S1 - A11, T2 = B22 - T1
+        combine(hm, hk, w, x, hk, -1, a, a11, lda, w, x, hk);
+        combine(hk, hn, b, b22, ldb, -1, w, y, hn, w, y, hn);
+        prod(hm, hn, hk, w, x, hk, w, y, hn, c, c12, ldc, cutoff, w, next);
+        // C11 = P3 = (A12 - S2) * B22
+        combine(hm, hk, a, a12, lda, -1, w, x, hk, w, x, hk);
+        prod(hm, hn, hk, w, x, hk, b, b22, ldb, c, c11, ldc, cutoff, w, next);
+        // Z = P1 = A11 * B11
+        prod(hm, hn, hk, a, a11, lda, b, b11, ldb, w, z, hn, cutoff, w, next);
+
+        // C12 = U2 = P1 + P6, C21 = U3 = U2 + P7, C12 = U4 = U2 + P5,
+        // C22 = U3 + P5, C12 = U4 + P3
+        combine(hm, hn, w, z, hn, 1, c, c12, ldc, c, c12, ldc);
+        combine(hm, hn, c, c12, ldc, 1, c, c21, ldc, c, c21, ldc);
+        combine(hm, hn, c, c12, ldc, 1, c, c22, ldc, c, c12, ldc);
+        combine(hm, hn, c, c21, ldc, 1, c, c22, ldc, c, c22, ldc);
+        combine(hm, hn, c, c12, ldc, 1, c, c11, ldc, c, c12, ldc);
+        // C11 = P4 = A22 * (T2 - B21), C21 = U3 - P4
+        combine(hk, hn, w, y, hn, -1, b, b21, ldb, w, y, hn);
+        prod(hm, hn, hk, a, a22, lda, w, y, hn, c, c11, ldc, cutoff, w, next);
+        combine(hm, hn, c, c21, ldc, -1, c, c11, ldc, c, c21, ldc);
+        // C11 = P2 + P1 = A12 * B21 + Z
+        prod(hm, hn, hk, a, a12, lda, b, b21, ldb, c, c11, ldc, cutoff, w, next);
+        combine(hm, hn, c, c11, ldc, 1, w, z, hn, c, c11, ldc);
+
+        peel(m, n, k, 2 * hm, 2 * hn, 2 * hk, a, aOff, lda, b, bOff, ldb, c, cOff, ldc);
+    }
+
+    /**
+     * Completes product of even parts {@code me x ke} and {@code ke x ne} with
+     * the last row, column and shared index of odd dimensions.
+     */
+    private static void peel(final int m, final int n, final int k, final int me, final int ne, final int ke,
+            final float[] a, final int aOff, final int lda,
+            final float[] b, final int bOff, final int ldb,
+            final float[] c, final int cOff, final int ldc) {
+        if (k > ke) {
+            Gemm.gemm(me, ne, 1, 1, a, aOff + ke, lda, b, bOff + ke * ldb, ldb, c, cOff, ldc);
+        }
+        if (n > ne) {
+            zero(m, 1, c, cOff + ne, ldc);
+            Gemm.gemm(m, 1, k, 1, a, aOff, lda, b, bOff + ne, ldb, c, cOff + ne, ldc);
+        }
+        if (m > me) {
+            zero(1, ne, c, cOff + me * ldc, ldc);
+            Gemm.gemm(1, ne, k, 1, a, aOff + me * lda, lda, b, bOff, ldb, c, cOff + me * ldc, ldc);
+        }
+    }
+
+    /**
+     * Computes {@code D = X + sign * Y} for row-major blocks, {@code D} may be
+     * one of the operands.
+     */
+    private static void combine(final int rows, final int cols,
+            final float[] x, final int xOff, final int ldx,
+            final float sign,
+            final float[] y, final int yOff, final int ldy,
+            final float[] d, final int dOff, final int ldd) {
+        for (int r = 0; r < rows; r++) {
+            final int xRow = xOff + r * ldx;
+            final int yRow = yOff + r * ldy;
+            final int dRow = dOff + r * ldd;
+            if (sign > 0) {
+                for (int j = 0; j < cols; j++) {
+                    d[dRow + j] = x[xRow + j] + y[yRow + j];
+                }
+            } else {
+                for (int j = 0; j < cols; j++) {
+                    d[dRow + j] = x[xRow + j] - y[yRow + j];
+                }
+            }
+        }
+    }
+
+    private static void zero(final int rows, final int cols, final float[] c, final int cOff, final int ldc) {
+        for (int r = 0; r < rows; r++) {
+            Arrays.fill(c, cOff + r * ldc, cOff + r * ldc + cols, 0);
+        }
+    }
+}
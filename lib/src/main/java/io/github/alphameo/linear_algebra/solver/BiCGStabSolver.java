@@ -0,0 +1,101 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Right-preconditioned biconjugate gradient stabilized (BiCGSTAB) solver of
+ * linear systems with non-symmetric matrix.
+ * <p>
+ * Every iteration costs two matrix-vector products, two preconditioner
+ * applications and O(n) vector operations. If the method breaks down
+ * (a scalar it divides by becomes 0), iterations stop and
+ * {@link #converged()} is {@code false}.
+ *
+ * @since 2.1.0
+ */
+public class BiCGStabSolver extends IterativeSolver {
+
+    /**
+     * Constructs solver without factored matrix.
+     *
+     * @since 2.1.0
+     */
+    public BiCGStabSolver() {
+    }
+
+    /**
+     * Constructs solver for given matrix.
+     *
+     * @param m square matrix of linear system
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 2.1.0
+     */
+    public BiCGStabSolver(final Matrix m) throws UnsupportedOperationException {
+        super(m);
+    }
+
+    @Override
+    void iterate(final Vector b, final Vec x) {
+        final int size = size();
+        final Vec r = new Vec(size);
+        final Vec shadow = new Vec(size);
+        final Vec p = new Vec(size);
+        final Vec v = new Vec(size);
+        final Vec preconditioned = new Vec(size);
+        final Vec t = new Vec(size);
+
+        residual(b, x, r);
+        if (report(0, norm(r))) {
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            shadow.set(i, r.get(i));
+        }
+        double rho = 1;
+        double alpha = 1;
+        double omega = 1;
+        for (int iteration = 1; iteration <= maxIterations(); iteration++) {
+            final double rhoNext = dot(shadow, r);
+            if (rhoNext == 0 || omega == 0) {
+                return;
+            }
+
+            final float beta = (float) ((rhoNext / rho) * (alpha / omega));
+            rho = rhoNext;
+            for (int i = 0; i < size; i++) {
+                p.set(i, r.get(i) + beta * (p.get(i) - (float) omega * v.get(i)));
+            }
+
+            precondition(p, preconditioned);
+            prod(preconditioned, v);
+            final double shadowV = dot(shadow, v);
+            if (shadowV == 0) {
+                return;
+            }
+            alpha = rho / shadowV;
+            axpy((float) alpha, preconditioned, x);
+
+            // r becomes s = r - alpha * v
+            axpy((float) -alpha, v, r);
+            final float sNorm = norm(r);
+            if (reached(sNorm)) {
+                report(iteration, sNorm);
+                return;
+            }
+
+            precondition(r, preconditioned);
+            prod(preconditioned, t);
+            final double tt = dot(t, t);
+            omega = tt == 0 ? 0 : dot(t, r) / tt;
+            axpy((float) omega, preconditioned, x);
+            axpy((float) -omega, t, r);
+            if (report(iteration, norm(r))) {
+                return;
+            }
+        }
+    }
+}
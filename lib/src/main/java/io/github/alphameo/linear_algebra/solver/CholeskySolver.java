@@ -0,0 +1,101 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import io.github.alphameo.linear_algebra.mat.CholeskyDecomposition;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Solver of linear systems with symmetric positive definite matrix using
+ * {@link CholeskyDecomposition}.
+ * <p>
+ * {@code solve} methods can be called from several threads after
+ * {@link #factor(Matrix)} unless the factor is changed through
+ * {@link #decomposition()} at the same time.
+ *
+ * @since 2.1.0
+ */
+public class CholeskySolver implements Solver {
+
+    private CholeskyDecomposition cholesky;
+
+    /**
+     * Constructs solver without factored matrix.
+     *
+     * @since 2.1.0
+     */
+    public CholeskySolver() {
+    }
+
+    /**
+     * Constructs solver and factors given matrix.
+     *
+     * @param m symmetric positive definite matrix of linear system
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 2.1.0
+     */
+    public CholeskySolver(final Matrix m) throws UnsupportedOperationException {
+        cholesky = new CholeskyDecomposition(m);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if matrix is not square
+     */
+    @Override
+    public CholeskySolver factor(final Matrix m) throws UnsupportedOperationException {
+        cholesky = new CholeskyDecomposition(m);
+
+        return this;
+    }
+
+    /**
+     * Returns cached decomposition.
+     *
+     * @return decomposition of factored matrix
+     * @throws IllegalStateException if no matrix is factored
+     *
+     * @since 2.1.0
+     */
+    public CholeskyDecomposition decomposition() throws IllegalStateException {
+        validateFactored();
+
+        return cholesky;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if vector size is not equal to matrix size
+     * @throws RuntimeException         if factored matrix is not positive
+     *                                  definite
+     */
+    @Override
+    public Vector solve(final Vector b) throws IllegalStateException {
+        validateFactored();
+
+        return cholesky.solve(b);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if matrix {@code B} height is not equal to
+     *                                  factored matrix size
+     * @throws RuntimeException         if factored matrix is not positive
+     *                                  definite
+     */
+    @Override
+    public Matrix solve(final Matrix b) throws IllegalStateException {
+        validateFactored();
+
+        return cholesky.solve(b);
+    }
+
+    private void validateFactored() throws IllegalStateException {
+        if (cholesky == null) {
+            throw new IllegalStateException("Linear system solution denied: matrix is not factored");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Preconditioned conjugate gradient solver of linear systems with symmetric
+ * positive definite matrix. Preconditioner must be symmetric positive
+ * definite as well, for example {@link JacobiPreconditioner} or
+ * {@link IncompleteCholeskyPreconditioner}.
+ * <p>
+ * Every iteration costs one matrix-vector product, one preconditioner
+ * application and O(n) vector operations. If matrix is found not positive
+ * definite, {@code solve} throws {@link RuntimeException}.
+ *
+ * @since 2.1.0
+ */
+public class ConjugateGradientSolver extends IterativeSolver {
+
+    /**
+     * Constructs solver without factored matrix.
+     *
+     * @since 2.1.0
+     */
+    public ConjugateGradientSolver() {
+    }
+
+    /**
+     * Constructs solver for given matrix.
+     *
+     * @param m symmetric positive definite matrix of linear system
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 2.1.0
+     */
+    public ConjugateGradientSolver(final Matrix m) throws UnsupportedOperationException {
+        super(m);
+    }
+
+    @Override
+    void iterate(final Vector b, final Vec x) {
+        final int size = size();
+        final Vec r = new Vec(size);
+        final Vec z = new Vec(size);
+        final Vec p = new Vec(size);
+        final Vec ap = new Vec(size);
+
+        residual(b, x, r);
+        if (report(0, norm(r))) {
+            return;
+        }
+
+        precondition(r, p);
+        double rz = dot(r, p);
+        for (int iteration = 1; iteration <= maxIterations(); iteration++) {
+            prod(p, ap);
+            final double pap = dot(p, ap);
+            if (!(pap > 0)) {
+                throw new RuntimeException(
+                        "Conjugate gradient solution denied: matrix is not positive definite");
+            }
+
+            final float alpha = (float) (rz / pap);
+            axpy(alpha, p, x);
+            axpy(-alpha, ap, r);
+            if (report(iteration, norm(r))) {
+                return;
+            }
+
+            precondition(r, z);
+            final double rzNext = dot(r, z);
+            final float beta = (float) (rzNext / rz);
+            rz = rzNext;
+            for (int i = 0; i < size; i++) {
+                p.set(i, z.get(i) + beta * p.get(i));
+            }
+        }
+    }
+}
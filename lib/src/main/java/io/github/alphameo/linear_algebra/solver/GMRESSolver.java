@@ -0,0 +1,185 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import java.util.Arrays;
+
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Restarted right-preconditioned generalized minimal residual (GMRES(m))
+ * solver of linear systems with non-symmetric matrix.
+ * <p>
+ * Every iteration costs one matrix-vector product, one preconditioner
+ * application and orthogonalization against all previous basis vectors of
+ * the cycle, which is restarted after {@link #restart()} iterations to keep
+ * memory at {@code restart() + 1} vectors.
+ *
+ * @since 2.1.0
+ */
+public class GMRESSolver extends IterativeSolver {
+
+    /**
+     * Default count of iterations between restarts.
+     *
+     * @since 2.1.0
+     */
+    public static final int DEFAULT_RESTART = 30;
+
+    private final int restart;
+
+    /**
+     * Constructs solver without factored matrix with
+     * {@link #DEFAULT_RESTART}.
+     *
+     * @since 2.1.0
+     */
+    public GMRESSolver() {
+        this(DEFAULT_RESTART);
+    }
+
+    /**
+     * Constructs solver without factored matrix.
+     *
+     * @param restart positive count of iterations between restarts
+     * @throws IllegalArgumentException if count is not positive
+     *
+     * @since 2.1.0
+     */
+    public GMRESSolver(final int restart) throws IllegalArgumentException {
+        if (restart <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("GMRES creation denied: restart %d is not positive", restart));
+        }
+
+        this.restart = restart;
+    }
+
+    /**
+     * Constructs solver for given matrix with {@link #DEFAULT_RESTART}.
+     *
+     * @param m square matrix of linear system
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 2.1.0
+     */
+    public GMRESSolver(final Matrix m) throws UnsupportedOperationException {
+        super(m);
+        restart = DEFAULT_RESTART;
+    }
+
+    /**
+     * Returns count of iterations between restarts.
+     *
+     * @return count of iterations between restarts
+     *
+     * @since 2.1.0
+     */
+    public int restart() {
+        return restart;
+    }
+
+    @Override
+    void iterate(final Vector b, final Vec x) {
+        final int size = size();
+        final Vec[] basis = new Vec[restart + 1];
+        for (int i = 0; i < basis.length; i++) {
+            basis[i] = new Vec(size);
+        }
+        final Vec preconditioned = new Vec(size);
+        final double[][] h = new double[restart + 1][restart];
+        final double[] cos = new double[restart];
+        final double[] sin = new double[restart];
+        final double[] g = new double[restart + 1];
+        final double[] y = new double[restart];
+
+        residual(b, x, basis[0]);
+        float residualNorm = norm(basis[0]);
+        if (report(0, residualNorm)) {
+            return;
+        }
+
+        int iteration = 0;
+        while (iteration < maxIterations()) {
+            if (iteration > 0) {
+                residual(b, x, basis[0]);
+                residualNorm = norm(basis[0]);
+            }
+            scale(1 / residualNorm, basis[0]);
+            Arrays.fill(g, 0);
+            g[0] = residualNorm;
+
+            int j = 0;
+            boolean done = false;
+            while (j < restart && iteration < maxIterations() && !done) {
+                final Vec w = basis[j + 1];
+                precondition(basis[j], preconditioned);
+                prod(preconditioned, w);
+
+                // modified Gram-Schmidt
+                for (int i = 0; i <= j; i++) {
+                    h[i][j] = dot(w, basis[i]);
+                    axpy((float) -h[i][j], basis[i], w);
+                }
+                h[j + 1][j] = norm(w);
+
+                for (int i = 0; i < j; i++) {
+                    final double tmp = cos[i] * h[i][j] + sin[i] * h[i + 1][j];
+                    h[i + 1][j] = -sin[i] * h[i][j] + cos[i] * h[i + 1][j];
+                    h[i][j] = tmp;
+                }
+                final double radius = Math.hypot(h[j][j], h[j + 1][j]);
+                final boolean breakdown = h[j + 1][j] == 0;
+                if (!breakdown) {
+                    scale((float) (1 / h[j + 1][j]), w);
+                }
+                cos[j] = radius == 0 ? 1 : h[j][j] / radius;
+                sin[j] = radius == 0 ? 0 : h[j + 1][j] / radius;
+                h[j][j] = radius;
+                h[j + 1][j] = 0;
+                g[j + 1] = -sin[j] * g[j];
+                g[j] = cos[j] * g[j];
+
+                j++;
+                iteration++;
+                done = report(iteration, (float) Math.abs(g[j])) || breakdown;
+            }
+
+            update(h, g, y, j, basis, preconditioned, x);
+            if (done) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Solves triangular least squares system of the cycle and adds
+     * {@code M^-1 * V * y} to {@code x}.
+     */
+    private void update(final double[][] h, final double[] g, final double[] y, final int count,
+            final Vec[] basis, final Vec preconditioned, final Vec x) {
+        for (int i = count - 1; i >= 0; i--) {
+            double value = g[i];
+            for (int k = i + 1; k < count; k++) {
+                value -= h[i][k] * y[k];
+            }
+            y[i] = h[i][i] == 0 ? 0 : value / h[i][i];
+        }
+
+        final Vec combination = basis[count];
+        for (int i = 0; i < combination.size(); i++) {
+            combination.set(i, 0);
+        }
+        for (int i = 0; i < count; i++) {
+            axpy((float) y[i], basis[i], combination);
+        }
+        precondition(combination, preconditioned);
+        axpy(1, preconditioned, x);
+    }
+
+    private static void scale(final float multiplier, final Vec v) {
+        for (int i = 0; i < v.size(); i++) {
+            v.set(i, v.get(i) * multiplier);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import io.github.alphameo.linear_algebra.mat.MatMath;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.mat.SparseMat;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Incomplete Cholesky preconditioner without fill-in (IC(0)):
+ * {@code M = L * L^T}, where {@code L} is lower triangular with non-zero
+ * elements only where the lower triangle of symmetric positive definite
+ * {@code A} has them.
+ * <p>
+ * Only the lower triangle of {@code A} is read. Matrices other than
+ * {@link SparseMat} are converted to it first.
+ *
+ * @since 2.1.0
+ */
+public class IncompleteCholeskyPreconditioner implements Preconditioner {
+
+    private int size;
+    private int[] rowStarts;
+    private int[] cols;
+    private float[] values;
+
+    /**
+     * Constructs preconditioner without factored matrix.
+     *
+     * @since 2.1.0
+     */
+    public IncompleteCholeskyPreconditioner() {
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if matrix is not square
+     * @throws RuntimeException              if factorization breaks down
+     *                                       because of non-positive pivot
+     */
+    @Override
+    public IncompleteCholeskyPreconditioner factor(final Matrix m) throws UnsupportedOperationException {
+        if (!MatMath.square(m)) {
+            throw new UnsupportedOperationException(
+                    "Incomplete Cholesky decomposition does not exist: matrix is not square");
+        }
+
+        final SparseMat sparse = m instanceof SparseMat s ? s : new SparseMat(m);
+        final int n = sparse.height();
+        final int[] aRowStarts = sparse.rowStarts();
+        final int[] aCols = sparse.columns();
+        final float[] aValues = sparse.values();
+
+        // lower triangle with diagonal stored last in every row
+        final int[] lRowStarts = new int[n + 1];
+        for (int r = 0; r < n; r++) {
+            int count = 1;
+            for (int k = aRowStarts[r]; k < aRowStarts[r + 1] && aCols[k] < r; k++) {
+                count++;
+            }
+            lRowStarts[r + 1] = lRowStarts[r] + count;
+        }
+        final int[] lCols = new int[lRowStarts[n]];
+        final float[] lValues = new float[lRowStarts[n]];
+
+        for (int r = 0; r < n; r++) {
+            int position = lRowStarts[r];
+            float diagonal = 0;
+            for (int k = aRowStarts[r]; k < aRowStarts[r + 1] && aCols[k] <= r; k++) {
+                if (aCols[k] == r) {
+                    diagonal = aValues[k];
+                } else {
+                    lCols[position] = aCols[k];
+                    lValues[position] = aValues[k];
+                    position++;
+                }
+            }
+
+            for (int k = lRowStarts[r]; k < position; k++) {
+                final int c = lCols[k];
+                final float value = (lValues[k] - dot(lCols, lValues, lRowStarts[r], k,
+                        lRowStarts[c], lRowStarts[c + 1] - 1)) / lValues[lRowStarts[c + 1] - 1];
+                lValues[k] = value;
+                diagonal -= value * value;
+            }
+
+            if (!(diagonal > 0)) {
+                throw new RuntimeException(String.format(
+                        "Incomplete Cholesky decomposition does not exist: pivot %d is not positive", r));
+            }
+            lCols[position] = r;
+            lValues[position] = (float) Math.sqrt(diagonal);
+        }
+
+        size = n;
+        rowStarts = lRowStarts;
+        cols = lCols;
+        values = lValues;
+
+        return this;
+    }
+
+    /**
+     * Calculates dot product of two row segments with ascending columns.
+     */
+    private static float dot(final int[] cols, final float[] values, int i, final int iEnd, int j,
+            final int jEnd) {
+        float result = 0;
+        while (i < iEnd && j < jEnd) {
+            if (cols[i] < cols[j]) {
+                i++;
+            } else if (cols[i] > cols[j]) {
+                j++;
+            } else {
+                result += values[i++] * values[j++];
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public Vector apply(final Vector r, final Vector dest) throws IllegalStateException {
+        if (values == null) {
+            throw new IllegalStateException("Preconditioning denied: matrix is not factored");
+        }
+
+        final float[] y = new float[size];
+        for (int i = 0; i < size; i++) {
+            final int diagonal = rowStarts[i + 1] - 1;
+            float value = r.get(i);
+            for (int k = rowStarts[i]; k < diagonal; k++) {
+                value -= values[k] * y[cols[k]];
+            }
+            y[i] = value / values[diagonal];
+        }
+
+        for (int i = size - 1; i >= 0; i--) {
+            final int diagonal = rowStarts[i + 1] - 1;
+            final float value = y[i] / values[diagonal];
+            y[i] = value;
+            for (int k = rowStarts[i]; k < diagonal; k++) {
+                y[cols[k]] -= values[k] * value;
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            dest.set(i, y[i]);
+        }
+
+        return dest;
+    }
+}
@@ -0,0 +1,394 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import io.github.alphameo.linear_algebra.mat.Mat;
+import io.github.alphameo.linear_algebra.mat.MatMath;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Base of solvers, which approximate solution of {@code A * x = b} by
+ * iterations using only products {@code A * v} computed by
+ * {@link MatMath#prod(Matrix, Vector, Vector)}, so matrix is never factored
+ * nor copied. With {@link io.github.alphameo.linear_algebra.mat.SparseMat}
+ * every iteration costs time proportional to count of non-zero elements.
+ * <p>
+ * Iterations stop when relative residual {@code |b - A * x| / |b|} is not
+ * greater than {@link #tolerance()} or after {@link #maxIterations()}
+ * iterations. Result of the last solution is described by
+ * {@link #converged()}, {@link #iterations()} and {@link #residual()}, so
+ * solver instance must not be shared between threads.
+ *
+ * @since 2.1.0
+ */
+public abstract class IterativeSolver implements Solver {
+
+    /**
+     * Default maximal relative residual of solution.
+     *
+     * @since 2.1.0
+     */
+    public static final float DEFAULT_TOLERANCE = 1e-5f;
+
+    /**
+     * Default maximal count of iterations.
+     *
+     * @since 2.1.0
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+    private Matrix matrix;
+    private Preconditioner preconditioner;
+    private float tolerance = DEFAULT_TOLERANCE;
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+    private Vector initialGuess;
+    private ResidualListener listener;
+
+    private float rhsNorm;
+    private int iterations;
+    private float residual;
+    private boolean converged;
+
+    IterativeSolver() {
+    }
+
+    IterativeSolver(final Matrix m) throws UnsupportedOperationException {
+        setMatrix(m);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Matrix is kept by reference and preconditioner, if any, is built for
+     * it.
+     *
+     * @throws UnsupportedOperationException if matrix is not square
+     */
+    @Override
+    public IterativeSolver factor(final Matrix m) throws UnsupportedOperationException {
+        setMatrix(m);
+
+        return this;
+    }
+
+    private void setMatrix(final Matrix m) throws UnsupportedOperationException {
+        if (!MatMath.square(m)) {
+            throw new UnsupportedOperationException("Iterative solution does not exist: matrix is not square");
+        }
+
+        matrix = m;
+        if (preconditioner != null) {
+            preconditioner.factor(m);
+        }
+    }
+
+    /**
+     * Sets preconditioner, which is built for the matrix on
+     * {@link #factor(Matrix)}.
+     *
+     * @param preconditioner preconditioner or {@code null} for none
+     * @return current solver
+     *
+     * @since 2.1.0
+     */
+    public IterativeSolver preconditioner(final Preconditioner preconditioner) {
+        this.preconditioner = preconditioner;
+        if (preconditioner != null && matrix != null) {
+            preconditioner.factor(matrix);
+        }
+
+        return this;
+    }
+
+    /**
+     * Sets maximal relative residual of solution.
+     *
+     * @param tolerance positive maximal relative residual
+     * @return current solver
+     * @throws IllegalArgumentException if tolerance is not positive
+     *
+     * @since 2.1.0
+     */
+    public IterativeSolver tolerance(final float tolerance) throws IllegalArgumentException {
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException(
+                    String.format("Tolerance setting denied: tolerance %f is not positive", tolerance));
+        }
+
+        this.tolerance = tolerance;
+
+        return this;
+    }
+
+    /**
+     * Sets maximal count of iterations.
+     *
+     * @param maxIterations positive maximal count of iterations
+     * @return current solver
+     * @throws IllegalArgumentException if count is not positive
+     *
+     * @since 2.1.0
+     */
+    public IterativeSolver maxIterations(final int maxIterations) throws IllegalArgumentException {
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Iterations limit setting denied: count %d is not positive", maxIterations));
+        }
+
+        this.maxIterations = maxIterations;
+
+        return this;
+    }
+
+    /**
+     * Sets initial approximation of solution (warm start), for example
+     * solution of previous similar system. Vector is copied on every solution
+     * and is not modified.
+     *
+     * @param initialGuess initial approximation or {@code null} for 0 vector
+     * @return current solver
+     *
+     * @since 2.1.0
+     */
+    public IterativeSolver initialGuess(final Vector initialGuess) {
+        this.initialGuess = initialGuess;
+
+        return this;
+    }
+
+    /**
+     * Sets listener, which is called with relative residual of initial guess
+     * and after every iteration.
+     *
+     * @param listener listener or {@code null} for none
+     * @return current solver
+     *
+     * @since 2.1.0
+     */
+    public IterativeSolver listener(final ResidualListener listener) {
+        this.listener = listener;
+
+        return this;
+    }
+
+    /**
+     * Returns maximal relative residual of solution.
+     *
+     * @return maximal relative residual
+     *
+     * @since 2.1.0
+     */
+    public float tolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Returns maximal count of iterations.
+     *
+     * @return maximal count of iterations
+     *
+     * @since 2.1.0
+     */
+    public int maxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Returns {@code true} if the last solution reached tolerance.
+     *
+     * @return {@code true} if the last solution reached tolerance, and
+     *         {@code false} otherwise
+     *
+     * @since 2.1.0
+     */
+    public boolean converged() {
+        return converged;
+    }
+
+    /**
+     * Returns count of iterations of the last solution.
+     *
+     * @return count of iterations
+     *
+     * @since 2.1.0
+     */
+    public int iterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns relative residual {@code |b - A * x| / |b|} of the last
+     * solution as estimated by the method.
+     *
+     * @return relative residual
+     *
+     * @since 2.1.0
+     */
+    public float residual() {
+        return residual;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If tolerance is not reached within {@link #maxIterations()} iterations,
+     * the last approximation is returned and {@link #converged()} is
+     * {@code false}.
+     *
+     * @throws IllegalArgumentException if vector or initial guess size is not
+     *                                  equal to matrix size
+     */
+    @Override
+    public Vector solve(final Vector b) throws IllegalStateException {
+        if (matrix == null) {
+            throw new IllegalStateException("Linear system solution denied: matrix is not factored");
+        }
+        final int size = matrix.height();
+        if (b.size() != size) {
+            throw new IllegalArgumentException(String.format(
+                    "Linear system solution denied: matrix with size %dx%d and vector with size %d",
+                    size, size, b.size()));
+        }
+        if (initialGuess != null && initialGuess.size() != size) {
+            throw new IllegalArgumentException(String.format(
+                    "Linear system solution denied: matrix with size %dx%d and initial guess with size %d",
+                    size, size, initialGuess.size()));
+        }
+
+        iterations = 0;
+        residual = 0;
+        converged = true;
+        rhsNorm = norm(b);
+        if (rhsNorm == 0) {
+            return new Vec(size);
+        }
+
+        final Vec x = initialGuess == null ? new Vec(size) : new Vec(initialGuess);
+        iterate(b, x);
+
+        return x;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Columns are solved one by one, {@link #converged()} is {@code true} only
+     * if all of them converged, while {@link #iterations()} and
+     * {@link #residual()} describe the last column.
+     *
+     * @throws IllegalArgumentException if matrix {@code B} height or initial
+     *                                  guess size is not equal to matrix size
+     */
+    @Override
+    public Matrix solve(final Matrix b) throws IllegalStateException {
+        final Mat result = new Mat(b.height(), b.width());
+        final Vec column = new Vec(b.height());
+        boolean allConverged = true;
+        for (int c = 0; c < b.width(); c++) {
+            for (int r = 0; r < b.height(); r++) {
+                column.set(r, b.get(r, c));
+            }
+
+            final Vector x = solve(column);
+            allConverged &= converged;
+            for (int r = 0; r < b.height(); r++) {
+                result.set(r, c, x.get(r));
+            }
+        }
+        converged = allConverged;
+
+        return result;
+    }
+
+    /**
+     * Improves approximation {@code x} of solution of {@code A * x = b}
+     * calling {@link #report(int, float)} after every iteration, until it
+     * returns {@code true} or {@link #maxIterations()} is reached.
+     */
+    abstract void iterate(Vector b, Vec x);
+
+    /**
+     * Records absolute residual norm after given count of iterations and
+     * notifies listener.
+     *
+     * @return {@code true} if tolerance is reached
+     */
+    final boolean report(final int iteration, final float residualNorm) {
+        iterations = iteration;
+        residual = residualNorm / rhsNorm;
+        converged = residual <= tolerance;
+        if (listener != null) {
+            listener.iteration(iteration, residual);
+        }
+
+        return converged;
+    }
+
+    /**
+     * Returns {@code true} if given absolute residual norm reaches tolerance.
+     */
+    final boolean reached(final float residualNorm) {
+        return residualNorm / rhsNorm <= tolerance;
+    }
+
+    final int size() {
+        return matrix.height();
+    }
+
+    /**
+     * Writes {@code A * v} into {@code dest}.
+     */
+    final void prod(final Vector v, final Vec dest) {
+        MatMath.prod(matrix, v, dest);
+    }
+
+    /**
+     * Writes {@code b - A * x} into {@code dest}.
+     */
+    final void residual(final Vector b, final Vector x, final Vec dest) {
+        MatMath.prod(matrix, x, dest);
+        for (int i = 0; i < dest.size(); i++) {
+            dest.set(i, b.get(i) - dest.get(i));
+        }
+    }
+
+    /**
+     * Writes {@code M^-1 * r} into {@code dest}, which is copy of {@code r}
+     * without preconditioner.
+     */
+    final void precondition(final Vector r, final Vec dest) {
+        if (preconditioner != null) {
+            preconditioner.apply(r, dest);
+            return;
+        }
+
+        for (int i = 0; i < dest.size(); i++) {
+            dest.set(i, r.get(i));
+        }
+    }
+
+    /**
+     * Calculates dot product accumulating it in double precision.
+     */
+    static double dot(final Vector v1, final Vector v2) {
+        double result = 0;
+        for (int i = 0; i < v1.size(); i++) {
+            result += (double) v1.get(i) * v2.get(i);
+        }
+
+        return result;
+    }
+
+    static float norm(final Vector v) {
+        return (float) Math.sqrt(dot(v, v));
+    }
+
+    /**
+     * Adds {@code alpha * x} to {@code dest}.
+     */
+    static void axpy(final float alpha, final Vector x, final Vector dest) {
+        for (int i = 0; i < dest.size(); i++) {
+            dest.set(i, dest.get(i) + alpha * x.get(i));
+        }
+    }
+}
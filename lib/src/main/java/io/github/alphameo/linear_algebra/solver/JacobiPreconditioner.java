@@ -0,0 +1,62 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import io.github.alphameo.linear_algebra.mat.MatMath;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Jacobi (diagonal) preconditioner: {@code M} is the diagonal of {@code A}.
+ *
+ * @since 2.1.0
+ */
+public class JacobiPreconditioner implements Preconditioner {
+
+    private float[] inverseDiagonal;
+
+    /**
+     * Constructs preconditioner without factored matrix.
+     *
+     * @since 2.1.0
+     */
+    public JacobiPreconditioner() {
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if matrix is not square
+     * @throws RuntimeException              if any diagonal element is 0
+     */
+    @Override
+    public JacobiPreconditioner factor(final Matrix m) throws UnsupportedOperationException {
+        if (!MatMath.square(m)) {
+            throw new UnsupportedOperationException("Jacobi preconditioner does not exist: matrix is not square");
+        }
+
+        final float[] result = new float[m.height()];
+        for (int i = 0; i < result.length; i++) {
+            final float diagonal = m.get(i, i);
+            if (diagonal == 0) {
+                throw new RuntimeException(String.format(
+                        "Jacobi preconditioner does not exist: diagonal element %d is 0", i));
+            }
+            result[i] = 1 / diagonal;
+        }
+        inverseDiagonal = result;
+
+        return this;
+    }
+
+    @Override
+    public Vector apply(final Vector r, final Vector dest) throws IllegalStateException {
+        if (inverseDiagonal == null) {
+            throw new IllegalStateException("Preconditioning denied: matrix is not factored");
+        }
+
+        for (int i = 0; i < inverseDiagonal.length; i++) {
+            dest.set(i, r.get(i) * inverseDiagonal[i]);
+        }
+
+        return dest;
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import io.github.alphameo.linear_algebra.mat.LUDecomposition;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Solver of square linear systems using {@link LUDecomposition}.
+ * <p>
+ * Factorization is immutable, so {@code solve} methods can be called from
+ * several threads after {@link #factor(Matrix)}.
+ *
+ * @since 2.1.0
+ */
+public class LUSolver implements Solver {
+
+    private LUDecomposition lu;
+
+    /**
+     * Constructs solver without factored matrix.
+     *
+     * @since 2.1.0
+     */
+    public LUSolver() {
+    }
+
+    /**
+     * Constructs solver and factors given matrix.
+     *
+     * @param m square matrix of linear system
+     * @throws UnsupportedOperationException if matrix is not square
+     *
+     * @since 2.1.0
+     */
+    public LUSolver(final Matrix m) throws UnsupportedOperationException {
+        lu = new LUDecomposition(m);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if matrix is not square
+     */
+    @Override
+    public LUSolver factor(final Matrix m) throws UnsupportedOperationException {
+        lu = new LUDecomposition(m);
+
+        return this;
+    }
+
+    /**
+     * Returns cached decomposition.
+     *
+     * @return decomposition of factored matrix
+     * @throws IllegalStateException if no matrix is factored
+     *
+     * @since 2.1.0
+     */
+    public LUDecomposition decomposition() throws IllegalStateException {
+        validateFactored();
+
+        return lu;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if vector size is not equal to matrix size
+     * @throws RuntimeException         if factored matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b) throws IllegalStateException {
+        validateFactored();
+
+        return lu.solve(b);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if matrix {@code B} height is not equal to
+     *                                  factored matrix size
+     * @throws RuntimeException         if factored matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b) throws IllegalStateException {
+        validateFactored();
+
+        return lu.solve(b);
+    }
+
+    private void validateFactored() throws IllegalStateException {
+        if (lu == null) {
+            throw new IllegalStateException("Linear system solution denied: matrix is not factored");
+        }
+    }
+}
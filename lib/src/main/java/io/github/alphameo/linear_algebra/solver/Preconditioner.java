@@ -0,0 +1,36 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Interface for preconditioner {@code M} of {@link IterativeSolver}, which
+ * approximates matrix {@code A} of linear system, while {@code M^-1 * r} is
+ * cheap to compute.
+ *
+ * @since 2.1.0
+ */
+public interface Preconditioner {
+
+    /**
+     * Builds preconditioner for given matrix.
+     *
+     * @param m matrix of linear system
+     * @return current preconditioner
+     *
+     * @since 2.1.0
+     */
+    Preconditioner factor(Matrix m);
+
+    /**
+     * Writes {@code M^-1 * r} into {@code dest} vector.
+     *
+     * @param r    vector to precondition
+     * @param dest vector of the same size for result, not {@code r}
+     * @return {@code dest} vector
+     * @throws IllegalStateException if no matrix is factored
+     *
+     * @since 2.1.0
+     */
+    Vector apply(Vector r, Vector dest) throws IllegalStateException;
+}
@@ -0,0 +1,22 @@
+package io.github.alphameo.linear_algebra.solver;
+
+/**
+ * Listener of convergence of {@link IterativeSolver}.
+ *
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface ResidualListener {
+
+    /**
+     * Is called by solver after each iteration.
+     *
+     * @param iteration count of completed iterations, {@code 0} for initial
+     *                  guess
+     * @param residual  relative residual {@code |b - A * x| / |b|} of current
+     *                  approximation
+     *
+     * @since 2.1.0
+     */
+    void iteration(int iteration, float residual);
+}
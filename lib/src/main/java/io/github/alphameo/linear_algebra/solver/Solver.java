@@ -0,0 +1,47 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * Interface for solver of linear systems {@code A * x = b}, which factors
+ * matrix {@code A} once and reuses the factorization for any count of
+ * right-hand sides.
+ *
+ * @since 2.1.0
+ */
+public interface Solver {
+
+    /**
+     * Factors given matrix and caches the factorization for further solutions.
+     *
+     * @param m matrix of linear system
+     * @return current solver
+     *
+     * @since 2.1.0
+     */
+    Solver factor(Matrix m);
+
+    /**
+     * Solves {@code A * x = b} with factored matrix.
+     *
+     * @param b right-hand side vector
+     * @return new vector {@code x}
+     * @throws IllegalStateException if no matrix is factored
+     *
+     * @since 2.1.0
+     */
+    Vector solve(Vector b) throws IllegalStateException;
+
+    /**
+     * Solves {@code A * X = B} with factored matrix for all columns of
+     * {@code B} at once.
+     *
+     * @param b right-hand side matrix, each column is a separate right-hand side
+     * @return new matrix {@code X}
+     * @throws IllegalStateException if no matrix is factored
+     *
+     * @since 2.1.0
+     */
+    Matrix solve(Matrix b) throws IllegalStateException;
+}
@@ -0,0 +1,6 @@
+/**
+ * Package for solvers of linear systems.
+ *
+ * @since 2.1.0
+ */
+package io.github.alphameo.linear_algebra.solver;
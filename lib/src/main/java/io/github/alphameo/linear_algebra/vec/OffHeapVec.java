@@ -0,0 +1,149 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Vector with components stored outside of Java heap in direct buffers.
+ * <p>
+ * Components are split into chunks of at most 1 GB, so vector can be larger
+ * than 2 GB. Vector owns its memory: {@link #close()} releases references to
+ * buffers, memory is returned to the system when buffers become unreachable.
+ * Any access to components of closed vector throws
+ * {@link IllegalStateException}.
+ *
+ * @since 2.1.0
+ */
+public final class OffHeapVec implements Vector, AutoCloseable {
+
+    /**
+     * Binary logarithm of count of components in one chunk.
+     */
+    private static final int CHUNK_SHIFT = 28;
+
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final int size;
+    private FloatBuffer[] chunks;
+
+    /**
+     * Constructs new off-heap vector of given size with all 0.
+     *
+     * @param size size of vector for construction
+     * @throws IllegalArgumentException if size is negative
+     *
+     * @since 2.1.0
+     */
+    public OffHeapVec(final int size) throws IllegalArgumentException {
+        if (size < 0) {
+            throw new IllegalArgumentException(String.format("Vector creation denied: size %d is negative", size));
+        }
+
+        this.size = size;
+        this.chunks = new FloatBuffer[(int) (((long) size + CHUNK_MASK) >>> CHUNK_SHIFT)];
+        for (int i = 0; i < chunks.length; i++) {
+            final int length = (int) Math.min(1L << CHUNK_SHIFT, size - ((long) i << CHUNK_SHIFT));
+            chunks[i] = ByteBuffer.allocateDirect(length * Float.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asFloatBuffer();
+        }
+    }
+
+    /**
+     * Copies given vector values into new off-heap vector.
+     *
+     * @param v vector for copying
+     *
+     * @since 2.1.0
+     */
+    public OffHeapVec(final Vector v) {
+        this(v.size());
+        for (int i = 0; i < size; i++) {
+            set(i, v.get(i));
+        }
+    }
+
+    @Override
+    public float get(final int i) throws IllegalStateException {
+        checkIndex(i);
+        return chunks()[i >>> CHUNK_SHIFT].get(i & CHUNK_MASK);
+    }
+
+    @Override
+    public void set(final int i, final float value) throws IllegalStateException {
+        checkIndex(i);
+        chunks()[i >>> CHUNK_SHIFT].put(i & CHUNK_MASK, value);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if vector is not closed.
+     *
+     * @return {@code true} if components of vector can be accessed, and
+     *         {@code false} otherwise
+     *
+     * @since 2.1.0
+     */
+    public boolean isOpen() {
+        return chunks != null;
+    }
+
+    /**
+     * Releases buffers of vector. Subsequent access to components throws
+     * {@link IllegalStateException}. Closing closed vector has no effect.
+     *
+     * @since 2.1.0
+     */
+    @Override
+    public void close() {
+        chunks = null;
+    }
+
+    /**
+     * Copies current vector into new off-heap vector.
+     *
+     * @return new off-heap vector with the same components
+     * @throws IllegalStateException if vector is closed
+     */
+    @Override
+    public OffHeapVec clone() throws IllegalStateException {
+        return new OffHeapVec(this);
+    }
+
+    private FloatBuffer[] chunks() throws IllegalStateException {
+        final FloatBuffer[] result = chunks;
+        if (result == null) {
+            throw new IllegalStateException("Vector access denied: vector is closed");
+        }
+
+        return result;
+    }
+
+    private void checkIndex(final int i) {
+        if (i < 0 || i >= size) {
+            throw new ArrayIndexOutOfBoundsException(String.format("Index %d is out of vector bounds", i));
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (!isOpen()) {
+            return String.format("closed vector of size %d", size);
+        }
+
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+
+        return sb.append(']').toString();
+    }
+}
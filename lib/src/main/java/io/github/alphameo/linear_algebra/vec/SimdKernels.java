@@ -0,0 +1,84 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernels for float arrays.
+ * <p>
+ * Must be accessed only through {@link VecKernels}, which checks that
+ * {@code jdk.incubator.vector} module is present.
+ *
+ * @since 2.1.0
+ */
+final class SimdKernels {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private SimdKernels() {
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    static float dot(final float[] a, final float[] b) {
+        final int bound = SPECIES.loopBound(a.length);
+        int i = 0;
+        float sum = 0;
+        if (bound > 0) {
+            FloatVector acc = FloatVector.zero(SPECIES);
+            for (; i < bound; i += SPECIES.length()) {
+                final FloatVector va = FloatVector.fromArray(SPECIES, a, i);
+                final FloatVector vb = FloatVector.fromArray(SPECIES, b, i);
+                acc = acc.add(va.mul(vb));
+            }
+            sum = acc.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+
+        return sum;
+    }
+
+    static void add(final float[] target, final float[] addendum) {
+        final int bound = SPECIES.loopBound(target.length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, target, i)
+                    .add(FloatVector.fromArray(SPECIES, addendum, i))
+                    .intoArray(target, i);
+        }
+        for (; i < target.length; i++) {
+            target[i] += addendum[i];
+        }
+    }
+
+    static void sub(final float[] target, final float[] subtrahend) {
+        final int bound = SPECIES.loopBound(target.length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, target, i)
+                    .sub(FloatVector.fromArray(SPECIES, subtrahend, i))
+                    .intoArray(target, i);
+        }
+        for (; i < target.length; i++) {
+            target[i] -= subtrahend[i];
+        }
+    }
+
+    static void mult(final float[] target, final float multiplier) {
+        final int bound = SPECIES.loopBound(target.length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, target, i)
+                    .mul(multiplier)
+                    .intoArray(target, i);
+        }
+        for (; i < target.length; i++) {
+            target[i] *= multiplier;
+        }
+    }
+}
@@ -67,6 +67,17 @@ public class Vec implements Vector, Equatable<Vector> {
         return entries.length;
     }
 
+    /**
+     * Returns backing array of vector components.
+     *
+     * @return backing array
+     *
+     * @since 2.1.0
+     */
+    float[] data() {
+        return entries;
+    }
+
     /**
      * Calculates square of vector length.
      * <p>
@@ -0,0 +1,266 @@
+package io.github.alphameo.linear_algebra.vec;
+
+/**
+ * Array of vectors of size 2 packed into one primitive array
+ * ({@code x0 y0 x1 y1 ...}).
+ * <p>
+ * Vectors are accessed by index without creating objects, bulk operations
+ * mirror {@link Vec2Math} over the whole array.
+ *
+ * @since 2.1.0
+ */
+public final class Vec2Array extends VecArray {
+
+    /**
+     * Constructs new array of {@code size} vectors of size 2 with all 0.
+     *
+     * @param size count of vectors
+     * @throws IllegalArgumentException if size is negative
+     *
+     * @since 2.1.0
+     */
+    /**
+     * Constructs new empty array of vectors of size 2.
+     *
+     * @since 2.1.0
+     */
+    public Vec2Array() {
+        this(0);
+    }
+
+    public Vec2Array(final int size) throws IllegalArgumentException {
+        super(2, allocate(size, 2));
+    }
+
+    /**
+     * Constructs new array of vectors of size 2 from copy of packed
+     * components.
+     *
+     * @param components packed components of vectors
+     * @throws IllegalArgumentException if count of components is not multiple
+     *                                  of 2
+     *
+     * @since 2.1.0
+     */
+    public Vec2Array(final float... components) throws IllegalArgumentException {
+        super(2, components.clone());
+    }
+
+    /**
+     * Copies given vectors of size 2 into new array.
+     *
+     * @param vectors vectors of size 2 for copying
+     *
+     * @since 2.1.0
+     */
+    public Vec2Array(final Vector2... vectors) {
+        this(vectors.length);
+        for (int i = 0; i < vectors.length; i++) {
+            set(i, vectors[i]);
+        }
+    }
+
+    /**
+     * Copies given array of vectors of size 2.
+     *
+     * @param other array for copying
+     *
+     * @since 2.1.0
+     */
+    public Vec2Array(final Vec2Array other) {
+        super(2, other.data().clone());
+    }
+
+    /**
+     * Returns {@code x} component of vector {@code i}.
+     *
+     * @param i index of vector
+     * @return {@code x} component
+     *
+     * @since 2.1.0
+     */
+    public float x(final int i) {
+        return data()[2 * i];
+    }
+
+    /**
+     * Returns {@code y} component of vector {@code i}.
+     *
+     * @param i index of vector
+     * @return {@code y} component
+     *
+     * @since 2.1.0
+     */
+    public float y(final int i) {
+        return data()[2 * i + 1];
+    }
+
+    /**
+     * Sets {@code x} component of vector {@code i}.
+     *
+     * @param i     index of vector
+     * @param value new {@code x} component
+     *
+     * @since 2.1.0
+     */
+    public void setX(final int i, final float value) {
+        data()[2 * i] = value;
+    }
+
+    /**
+     * Sets {@code y} component of vector {@code i}.
+     *
+     * @param i     index of vector
+     * @param value new {@code y} component
+     *
+     * @since 2.1.0
+     */
+    public void setY(final int i, final float value) {
+        data()[2 * i + 1] = value;
+    }
+
+    /**
+     * Copies vector {@code i} into new vector of size 2.
+     *
+     * @return new vector of size 2
+     *
+     * @since 2.1.0
+     */
+    public Vector2 get(final int i) {
+        final float[] entries = data();
+        final int base = 2 * i;
+
+        return new Vec2(entries[base], entries[base + 1]);
+    }
+
+    /**
+     * Copies vector {@code i} into {@code dest} vector of size 2.
+     *
+     * @param i    index of vector
+     * @param dest vector of size 2 for result
+     * @return {@code dest} vector
+     *
+     * @since 2.1.0
+     */
+    public Vector2 get(final int i, final Vector2 dest) {
+        final float[] entries = data();
+        final int base = 2 * i;
+        dest.setX(entries[base]);
+        dest.setY(entries[base + 1]);
+
+        return dest;
+    }
+
+    /**
+     * Sets components of vector {@code i}.
+     *
+     * @param i index of vector
+     * @param x x component
+     * @param y y component
+     *
+     * @since 2.1.0
+     */
+    public void set(final int i, final float x, final float y) {
+        final float[] entries = data();
+        final int base = 2 * i;
+        entries[base] = x;
+        entries[base + 1] = y;
+    }
+
+    /**
+     * Copies components of given vector of size 2 into vector {@code i}.
+     *
+     * @param i index of vector
+     * @param v vector of size 2 for copying
+     *
+     * @since 2.1.0
+     */
+    public void set(final int i, final Vector2 v) {
+        set(i, v.x(), v.y());
+    }
+
+    @Override
+    public Vec2Array mult(final float multiplier) {
+        super.mult(multiplier);
+
+        return this;
+    }
+
+    /**
+     * Copies array and multiplies components of all vectors by a scalar value.
+     *
+     * @param multiplier scalar value
+     * @return new array with multiplied vectors of current array
+     *
+     * @since 2.1.0
+     */
+    public Vec2Array multiplied(final float multiplier) {
+        return new Vec2Array(this).mult(multiplier);
+    }
+
+    @Override
+    public Vec2Array add(final VecArray addendum) throws IllegalArgumentException {
+        super.add(addendum);
+
+        return this;
+    }
+
+    /**
+     * Copies array and adds vectors of {@code addendum} array to its vectors
+     * with equal indices.
+     *
+     * @param addendum array to add
+     * @return new array with sums of vectors
+     * @throws IllegalArgumentException if arrays have different sizes
+     *
+     * @since 2.1.0
+     */
+    public Vec2Array added(final VecArray addendum) throws IllegalArgumentException {
+        return new Vec2Array(this).add(addendum);
+    }
+
+    @Override
+    public Vec2Array sub(final VecArray subtrahend) throws IllegalArgumentException {
+        super.sub(subtrahend);
+
+        return this;
+    }
+
+    /**
+     * Copies array and subtracts vectors of {@code subtrahend} array from its
+     * vectors with equal indices.
+     *
+     * @param subtrahend array to subtract
+     * @return new array with differences of vectors
+     * @throws IllegalArgumentException if arrays have different sizes
+     *
+     * @since 2.1.0
+     */
+    public Vec2Array subtracted(final VecArray subtrahend) throws IllegalArgumentException {
+        return new Vec2Array(this).sub(subtrahend);
+    }
+
+    @Override
+    public Vec2Array normalize() throws ArithmeticException {
+        super.normalize();
+
+        return this;
+    }
+
+    /**
+     * Copies array and normalizes all its vectors.
+     *
+     * @return new array with normalized vectors of current array
+     * @throws ArithmeticException if length of any vector equals 0
+     *
+     * @since 2.1.0
+     */
+    public Vec2Array normalized() throws ArithmeticException {
+        return new Vec2Array(this).normalize();
+    }
+
+    @Override
+    public Vec2Array clone() {
+        return new Vec2Array(this);
+    }
+}
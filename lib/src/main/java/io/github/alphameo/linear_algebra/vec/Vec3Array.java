@@ -0,0 +1,335 @@
+package io.github.alphameo.linear_algebra.vec;
+
+/**
+ * Array of vectors of size 3 packed into one primitive array
+ * ({@code x0 y0 z0 x1 y1 z1 ...}).
+ * <p>
+ * Vectors are accessed by index without creating objects, bulk operations
+ * mirror {@link Vec3Math} over the whole array.
+ *
+ * @since 2.1.0
+ */
+public final class Vec3Array extends VecArray {
+
+    /**
+     * Constructs new array of {@code size} vectors of size 3 with all 0.
+     *
+     * @param size count of vectors
+     * @throws IllegalArgumentException if size is negative
+     *
+     * @since 2.1.0
+     */
+    /**
+     * Constructs new empty array of vectors of size 3.
+     *
+     * @since 2.1.0
+     */
+    public Vec3Array() {
+        this(0);
+    }
+
+    public Vec3Array(final int size) throws IllegalArgumentException {
+        super(3, allocate(size, 3));
+    }
+
+    /**
+     * Constructs new array of vectors of size 3 from copy of packed
+     * components.
+     *
+     * @param components packed components of vectors
+     * @throws IllegalArgumentException if count of components is not multiple
+     *                                  of 3
+     *
+     * @since 2.1.0
+     */
+    public Vec3Array(final float... components) throws IllegalArgumentException {
+        super(3, components.clone());
+    }
+
+    /**
+     * Copies given vectors of size 3 into new array.
+     *
+     * @param vectors vectors of size 3 for copying
+     *
+     * @since 2.1.0
+     */
+    public Vec3Array(final Vector3... vectors) {
+        this(vectors.length);
+        for (int i = 0; i < vectors.length; i++) {
+            set(i, vectors[i]);
+        }
+    }
+
+    /**
+     * Copies given array of vectors of size 3.
+     *
+     * @param other array for copying
+     *
+     * @since 2.1.0
+     */
+    public Vec3Array(final Vec3Array other) {
+        super(3, other.data().clone());
+    }
+
+    /**
+     * Returns {@code x} component of vector {@code i}.
+     *
+     * @param i index of vector
+     * @return {@code x} component
+     *
+     * @since 2.1.0
+     */
+    public float x(final int i) {
+        return data()[3 * i];
+    }
+
+    /**
+     * Returns {@code y} component of vector {@code i}.
+     *
+     * @param i index of vector
+     * @return {@code y} component
+     *
+     * @since 2.1.0
+     */
+    public float y(final int i) {
+        return data()[3 * i + 1];
+    }
+
+    /**
+     * Returns {@code z} component of vector {@code i}.
+     *
+     * @param i index of vector
+     * @return {@code z} component
+     *
+     * @since 2.1.0
+     */
+    public float z(final int i) {
+        return data()[3 * i + 2];
+    }
+
+    /**
+     * Sets {@code x} component of vector {@code i}.
+     *
+     * @param i     index of vector
+     * @param value new {@code x} component
+     *
+     * @since 2.1.0
+     */
+    public void setX(final int i, final float value) {
+        data()[3 * i] = value;
+    }
+
+    /**
+     * Sets {@code y} component of vector {@code i}.
+     *
+     * @param i     index of vector
+     * @param value new {@code y} component
+     *
+     * @since 2.1.0
+     */
+    public void setY(final int i, final float value) {
+        data()[3 * i + 1] = value;
+    }
+
+    /**
+     * Sets {@code z} component of vector {@code i}.
+     *
+     * @param i     index of vector
+     * @param value new {@code z} component
+     *
+     * @since 2.1.0
+     */
+    public void setZ(final int i, final float value) {
+        data()[3 * i + 2] = value;
+    }
+
+    /**
+     * Copies vector {@code i} into new vector of size 3.
+     *
+     * @return new vector of size 3
+     *
+     * @since 2.1.0
+     */
+    public Vector3 get(final int i) {
+        final float[] entries = data();
+        final int base = 3 * i;
+
+        return new Vec3(entries[base], entries[base + 1], entries[base + 2]);
+    }
+
+    /**
+     * Copies vector {@code i} into {@code dest} vector of size 3.
+     *
+     * @param i    index of vector
+     * @param dest vector of size 3 for result
+     * @return {@code dest} vector
+     *
+     * @since 2.1.0
+     */
+    public Vector3 get(final int i, final Vector3 dest) {
+        final float[] entries = data();
+        final int base = 3 * i;
+        dest.setX(entries[base]);
+        dest.setY(entries[base + 1]);
+        dest.setZ(entries[base + 2]);
+
+        return dest;
+    }
+
+    /**
+     * Sets components of vector {@code i}.
+     *
+     * @param i index of vector
+     * @param x x component
+     * @param y y component
+     * @param z z component
+     *
+     * @since 2.1.0
+     */
+    public void set(final int i, final float x, final float y, final float z) {
+        final float[] entries = data();
+        final int base = 3 * i;
+        entries[base] = x;
+        entries[base + 1] = y;
+        entries[base + 2] = z;
+    }
+
+    /**
+     * Copies components of given vector of size 3 into vector {@code i}.
+     *
+     * @param i index of vector
+     * @param v vector of size 3 for copying
+     *
+     * @since 2.1.0
+     */
+    public void set(final int i, final Vector3 v) {
+        set(i, v.x(), v.y(), v.z());
+    }
+
+    @Override
+    public Vec3Array mult(final float multiplier) {
+        super.mult(multiplier);
+
+        return this;
+    }
+
+    /**
+     * Copies array and multiplies components of all vectors by a scalar value.
+     *
+     * @param multiplier scalar value
+     * @return new array with multiplied vectors of current array
+     *
+     * @since 2.1.0
+     */
+    public Vec3Array multiplied(final float multiplier) {
+        return new Vec3Array(this).mult(multiplier);
+    }
+
+    @Override
+    public Vec3Array add(final VecArray addendum) throws IllegalArgumentException {
+        super.add(addendum);
+
+        return this;
+    }
+
+    /**
+     * Copies array and adds vectors of {@code addendum} array to its vectors
+     * with equal indices.
+     *
+     * @param addendum array to add
+     * @return new array with sums of vectors
+     * @throws IllegalArgumentException if arrays have different sizes
+     *
+     * @since 2.1.0
+     */
+    public Vec3Array added(final VecArray addendum) throws IllegalArgumentException {
+        return new Vec3Array(this).add(addendum);
+    }
+
+    @Override
+    public Vec3Array sub(final VecArray subtrahend) throws IllegalArgumentException {
+        super.sub(subtrahend);
+
+        return this;
+    }
+
+    /**
+     * Copies array and subtracts vectors of {@code subtrahend} array from its
+     * vectors with equal indices.
+     *
+     * @param subtrahend array to subtract
+     * @return new array with differences of vectors
+     * @throws IllegalArgumentException if arrays have different sizes
+     *
+     * @since 2.1.0
+     */
+    public Vec3Array subtracted(final VecArray subtrahend) throws IllegalArgumentException {
+        return new Vec3Array(this).sub(subtrahend);
+    }
+
+    @Override
+    public Vec3Array normalize() throws ArithmeticException {
+        super.normalize();
+
+        return this;
+    }
+
+    /**
+     * Copies array and normalizes all its vectors.
+     *
+     * @return new array with normalized vectors of current array
+     * @throws ArithmeticException if length of any vector equals 0
+     *
+     * @since 2.1.0
+     */
+    public Vec3Array normalized() throws ArithmeticException {
+        return new Vec3Array(this).normalize();
+    }
+
+    /**
+     * Calculates cross products of vectors with equal indices of current and
+     * given arrays.
+     *
+     * @param v    second array
+     * @param dest array for products, can be current or {@code v} array
+     * @return {@code dest} array
+     * @throws IllegalArgumentException if arrays have different sizes
+     *
+     * @since 2.1.0
+     */
+    public Vec3Array cross(final Vec3Array v, final Vec3Array dest) throws IllegalArgumentException {
+        validateSizes(v, "Cross product denied");
+        validateSizes(dest, "Cross product denied");
+        final float[] a = data();
+        final float[] b = v.data();
+        final float[] c = dest.data();
+        for (int i = 0; i < a.length; i += 3) {
+            final float ax = a[i], ay = a[i + 1], az = a[i + 2];
+            final float bx = b[i], by = b[i + 1], bz = b[i + 2];
+            c[i] = ay * bz - az * by;
+            c[i + 1] = az * bx - ax * bz;
+            c[i + 2] = ax * by - ay * bx;
+        }
+
+        return dest;
+    }
+
+    /**
+     * Calculates cross products of vectors with equal indices of current and
+     * given arrays.
+     *
+     * @param v second array
+     * @return new array of cross products
+     * @throws IllegalArgumentException if arrays have different sizes
+     *
+     * @since 2.1.0
+     */
+    public Vec3Array cross(final Vec3Array v) throws IllegalArgumentException {
+        return cross(v, new Vec3Array(size()));
+    }
+
+    @Override
+    public Vec3Array clone() {
+        return new Vec3Array(this);
+    }
+}
@@ -0,0 +1,320 @@
+package io.github.alphameo.linear_algebra.vec;
+
+/**
+ * Array of vectors of size 4 packed into one primitive array
+ * ({@code x0 y0 z0 w0 x1 y1 z1 w1 ...}).
+ * <p>
+ * Vectors are accessed by index without creating objects, bulk operations
+ * mirror {@link Vec4Math} over the whole array.
+ *
+ * @since 2.1.0
+ */
+public final class Vec4Array extends VecArray {
+
+    /**
+     * Constructs new array of {@code size} vectors of size 4 with all 0.
+     *
+     * @param size count of vectors
+     * @throws IllegalArgumentException if size is negative
+     *
+     * @since 2.1.0
+     */
+    /**
+     * Constructs new empty array of vectors of size 4.
+     *
+     * @since 2.1.0
+     */
+    public Vec4Array() {
+        this(0);
+    }
+
+    public Vec4Array(final int size) throws IllegalArgumentException {
+        super(4, allocate(size, 4));
+    }
+
+    /**
+     * Constructs new array of vectors of size 4 from copy of packed
+     * components.
+     *
+     * @param components packed components of vectors
+     * @throws IllegalArgumentException if count of components is not multiple
+     *                                  of 4
+     *
+     * @since 2.1.0
+     */
+    public Vec4Array(final float... components) throws IllegalArgumentException {
+        super(4, components.clone());
+    }
+
+    /**
+     * Copies given vectors of size 4 into new array.
+     *
+     * @param vectors vectors of size 4 for copying
+     *
+     * @since 2.1.0
+     */
+    public Vec4Array(final Vector4... vectors) {
+        this(vectors.length);
+        for (int i = 0; i < vectors.length; i++) {
+            set(i, vectors[i]);
+        }
+    }
+
+    /**
+     * Copies given array of vectors of size 4.
+     *
+     * @param other array for copying
+     *
+     * @since 2.1.0
+     */
+    public Vec4Array(final Vec4Array other) {
+        super(4, other.data().clone());
+    }
+
+    /**
+     * Returns {@code x} component of vector {@code i}.
+     *
+     * @param i index of vector
+     * @return {@code x} component
+     *
+     * @since 2.1.0
+     */
+    public float x(final int i) {
+        return data()[4 * i];
+    }
+
+    /**
+     * Returns {@code y} component of vector {@code i}.
+     *
+     * @param i index of vector
+     * @return {@code y} component
+     *
+     * @since 2.1.0
+     */
+    public float y(final int i) {
+        return data()[4 * i + 1];
+    }
+
+    /**
+     * Returns {@code z} component of vector {@code i}.
+     *
+     * @param i index of vector
+     * @return {@code z} component
+     *
+     * @since 2.1.0
+     */
+    public float z(final int i) {
+        return data()[4 * i + 2];
+    }
+
+    /**
+     * Returns {@code w} component of vector {@code i}.
+     *
+     * @param i index of vector
+     * @return {@code w} component
+     *
+     * @since 2.1.0
+     */
+    public float w(final int i) {
+        return data()[4 * i + 3];
+    }
+
+    /**
+     * Sets {@code x} component of vector {@code i}.
+     *
+     * @param i     index of vector
+     * @param value new {@code x} component
+     *
+     * @since 2.1.0
+     */
+    public void setX(final int i, final float value) {
+        data()[4 * i] = value;
+    }
+
+    /**
+     * Sets {@code y} component of vector {@code i}.
+     *
+     * @param i     index of vector
+     * @param value new {@code y} component
+     *
+     * @since 2.1.0
+     */
+    public void setY(final int i, final float value) {
+        data()[4 * i + 1] = value;
+    }
+
+    /**
+     * Sets {@code z} component of vector {@code i}.
+     *
+     * @param i     index of vector
+     * @param value new {@code z} component
+     *
+     * @since 2.1.0
+     */
+    public void setZ(final int i, final float value) {
+        data()[4 * i + 2] = value;
+    }
+
+    /**
+     * Sets {@code w} component of vector {@code i}.
+     *
+     * @param i     index of vector
+     * @param value new {@code w} component
+     *
+     * @since 2.1.0
+     */
+    public void setW(final int i, final float value) {
+        data()[4 * i + 3] = value;
+    }
+
+    /**
+     * Copies vector {@code i} into new vector of size 4.
+     *
+     * @return new vector of size 4
+     *
+     * @since 2.1.0
+     */
+    public Vector4 get(final int i) {
+        final float[] entries = data();
+        final int base = 4 * i;
+
+        return new Vec4(entries[base], entries[base + 1], entries[base + 2], entries[base + 3]);
+    }
+
+    /**
+     * Copies vector {@code i} into {@code dest} vector of size 4.
+     *
+     * @param i    index of vector
+     * @param dest vector of size 4 for result
+     * @return {@code dest} vector
+     *
+     * @since 2.1.0
+     */
+    public Vector4 get(final int i, final Vector4 dest) {
+        final float[] entries = data();
+        final int base = 4 * i;
+        dest.setX(entries[base]);
+        dest.setY(entries[base + 1]);
+        dest.setZ(entries[base + 2]);
+        dest.setW(entries[base + 3]);
+
+        return dest;
+    }
+
+    /**
+     * Sets components of vector {@code i}.
+     *
+     * @param i index of vector
+     * @param x x component
+     * @param y y component
+     * @param z z component
+     * @param w w component
+     *
+     * @since 2.1.0
+     */
+    public void set(final int i, final float x, final float y, final float z, final float w) {
+        final float[] entries = data();
+        final int base = 4 * i;
+        entries[base] = x;
+        entries[base + 1] = y;
+        entries[base + 2] = z;
+        entries[base + 3] = w;
+    }
+
+    /**
+     * Copies components of given vector of size 4 into vector {@code i}.
+     *
+     * @param i index of vector
+     * @param v vector of size 4 for copying
+     *
+     * @since 2.1.0
+     */
+    public void set(final int i, final Vector4 v) {
+        set(i, v.x(), v.y(), v.z(), v.w());
+    }
+
+    @Override
+    public Vec4Array mult(final float multiplier) {
+        super.mult(multiplier);
+
+        return this;
+    }
+
+    /**
+     * Copies array and multiplies components of all vectors by a scalar value.
+     *
+     * @param multiplier scalar value
+     * @return new array with multiplied vectors of current array
+     *
+     * @since 2.1.0
+     */
+    public Vec4Array multiplied(final float multiplier) {
+        return new Vec4Array(this).mult(multiplier);
+    }
+
+    @Override
+    public Vec4Array add(final VecArray addendum) throws IllegalArgumentException {
+        super.add(addendum);
+
+        return this;
+    }
+
+    /**
+     * Copies array and adds vectors of {@code addendum} array to its vectors
+     * with equal indices.
+     *
+     * @param addendum array to add
+     * @return new array with sums of vectors
+     * @throws IllegalArgumentException if arrays have different sizes
+     *
+     * @since 2.1.0
+     */
+    public Vec4Array added(final VecArray addendum) throws IllegalArgumentException {
+        return new Vec4Array(this).add(addendum);
+    }
+
+    @Override
+    public Vec4Array sub(final VecArray subtrahend) throws IllegalArgumentException {
+        super.sub(subtrahend);
+
+        return this;
+    }
+
+    /**
+     * Copies array and subtracts vectors of {@code subtrahend} array from its
+     * vectors with equal indices.
+     *
+     * @param subtrahend array to subtract
+     * @return new array with differences of vectors
+     * @throws IllegalArgumentException if arrays have different sizes
+     *
+     * @since 2.1.0
+     */
+    public Vec4Array subtracted(final VecArray subtrahend) throws IllegalArgumentException {
+        return new Vec4Array(this).sub(subtrahend);
+    }
+
+    @Override
+    public Vec4Array normalize() throws ArithmeticException {
+        super.normalize();
+
+        return this;
+    }
+
+    /**
+     * Copies array and normalizes all its vectors.
+     *
+     * @return new array with normalized vectors of current array
+     * @throws ArithmeticException if length of any vector equals 0
+     *
+     * @since 2.1.0
+     */
+    public Vec4Array normalized() throws ArithmeticException {
+        return new Vec4Array(this).normalize();
+    }
+
+    @Override
+    public Vec4Array clone() {
+        return new Vec4Array(this);
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import java.util.Arrays;
+
+import io.github.alphameo.linear_algebra.Equatable;
+
+/**
+ * Default implementation of vector with size 4 and double-precision
+ * components ({@code Vector4D interface}).
+ *
+ * @since 2.1.0
+ */
+public class Vec4D implements Vector4D, Equatable<Vector4D> {
+
+    private final double[] entries;
+
+    /**
+     * Constructs new vector of size 4 with all 0.
+     *
+     * @since 2.1.0
+     */
+    public Vec4D() {
+        entries = new double[4];
+    }
+
+    /**
+     * Constructs new vector of size 4 using values {@code x}, {@code y},
+     * {@code z} and {@code w}.
+     *
+     * @param x first component of vector
+     * @param y second component of vector
+     * @param z third component of vector
+     * @param w fourth component of vector
+     *
+     * @since 2.1.0
+     */
+    public Vec4D(final double x, final double y, final double z, final double w) {
+        this();
+        entries[0] = x;
+        entries[1] = y;
+        entries[2] = z;
+        entries[3] = w;
+    }
+
+    /**
+     * Copies given vector of size 4 values into new vector.
+     *
+     * @param v vector of size 4 for copying
+     *
+     * @since 2.1.0
+     */
+    public Vec4D(final Vector4D v) {
+        this(v.x(), v.y(), v.z(), v.w());
+    }
+
+    /**
+     * Copies values of given single-precision vector of size 4 into new
+     * vector.
+     *
+     * @param v vector of size 4 for copying
+     *
+     * @since 2.1.0
+     */
+    public Vec4D(final Vector4 v) {
+        this(v.x(), v.y(), v.z(), v.w());
+    }
+
+    @Override
+    public double get(final int i) {
+        if (i < 0 || i > 3) {
+            throw new IllegalArgumentException(String.format("Index %d is out of Vec4D bounds", i));
+        }
+
+        return entries[i];
+    }
+
+    @Override
+    public double x() {
+        return entries[0];
+    }
+
+    @Override
+    public double y() {
+        return entries[1];
+    }
+
+    @Override
+    public double z() {
+        return entries[2];
+    }
+
+    @Override
+    public double w() {
+        return entries[3];
+    }
+
+    @Override
+    public void set(final int i, final double value) {
+        if (i < 0 || i > 3) {
+            throw new IllegalArgumentException(String.format("Index %d is out of Vec4D bounds", i));
+        }
+
+        entries[i] = value;
+    }
+
+    @Override
+    public void setX(final double value) {
+        entries[0] = value;
+    }
+
+    @Override
+    public void setY(final double value) {
+        entries[1] = value;
+    }
+
+    @Override
+    public void setZ(final double value) {
+        entries[2] = value;
+    }
+
+    @Override
+    public void setW(final double value) {
+        entries[3] = value;
+    }
+
+    @Override
+    public int size() {
+        return 4;
+    }
+
+    /**
+     * Rounds components to single precision.
+     *
+     * @return new single-precision vector of size 4
+     *
+     * @since 2.1.0
+     */
+    public Vector4 toFloat() {
+        return new Vec4((float) entries[0], (float) entries[1], (float) entries[2], (float) entries[3]);
+    }
+
+    @Override
+    public boolean equalsEpsilonTo(final Vector4D v, final float eps) {
+        return VecDMath.equalsEpsilon(this, v, eps);
+    }
+
+    @Override
+    public boolean equalsTo(final Vector4D v) {
+        return VecDMath.equals(this, v);
+    }
+
+    @Override
+    public Vec4D clone() {
+        return new Vec4D(this);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(entries);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        return equalsTo((Vector4D) obj);
+    }
+}
@@ -0,0 +1,368 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import java.util.Arrays;
+
+import io.github.alphameo.linear_algebra.Equatable;
+import io.github.alphameo.linear_algebra.Validator;
+
+/**
+ * Array of small vectors packed into one primitive array.
+ * <p>
+ * Component {@code k} of vector {@code i} is stored at
+ * {@code i * components() + k}, so array of {@code n} vectors takes
+ * {@code n * components()} floats instead of {@code n} separate objects. Bulk
+ * operations run over the whole packed array at once and use Vector API
+ * kernels if {@code jdk.incubator.vector} module is present.
+ *
+ * @since 2.1.0
+ */
+public abstract class VecArray implements Equatable<VecArray> {
+
+    private final float[] entries;
+    private final int components;
+
+    /**
+     * Wraps given packed array without copying.
+     */
+    VecArray(final int components, final float[] entries) throws IllegalArgumentException {
+        if (entries.length % components != 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Vector array creation denied: %d components are not multiple of %d",
+                    entries.length, components));
+        }
+
+        this.components = components;
+        this.entries = entries;
+    }
+
+    static float[] allocate(final int size, final int components) throws IllegalArgumentException {
+        if (size < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Vector array creation denied: size %d is negative", size));
+        }
+
+        return new float[size * components];
+    }
+
+    /**
+     * Returns backing packed array.
+     *
+     * @return backing array
+     *
+     * @since 2.1.0
+     */
+    float[] data() {
+        return entries;
+    }
+
+    /**
+     * Returns count of vectors in array.
+     *
+     * @return count of vectors
+     *
+     * @since 2.1.0
+     */
+    public int size() {
+        return entries.length / components;
+    }
+
+    /**
+     * Returns count of components of every vector.
+     *
+     * @return 2, 3 or 4
+     *
+     * @since 2.1.0
+     */
+    public int components() {
+        return components;
+    }
+
+    /**
+     * Returns component {@code k} of vector {@code i}.
+     *
+     * @param i index of vector
+     * @param k index of component
+     * @return component value
+     * @throws IllegalArgumentException       if component index is out of vector
+     *                                        bounds
+     * @throws ArrayIndexOutOfBoundsException if vector index is out of array
+     *                                        bounds
+     *
+     * @since 2.1.0
+     */
+    public float component(final int i, final int k) throws IllegalArgumentException {
+        return entries[index(i, k)];
+    }
+
+    /**
+     * Sets component {@code k} of vector {@code i}.
+     *
+     * @param i     index of vector
+     * @param k     index of component
+     * @param value new component value
+     * @throws IllegalArgumentException       if component index is out of vector
+     *                                        bounds
+     * @throws ArrayIndexOutOfBoundsException if vector index is out of array
+     *                                        bounds
+     *
+     * @since 2.1.0
+     */
+    public void setComponent(final int i, final int k, final float value) throws IllegalArgumentException {
+        entries[index(i, k)] = value;
+    }
+
+    private int index(final int i, final int k) {
+        if (k < 0 || k >= components) {
+            throw new IllegalArgumentException(String.format("Component %d is out of vector bounds", k));
+        }
+
+        // vector overflow is caught by the backing array itself
+        return i * components + k;
+    }
+
+    /**
+     * Returns copy of packed components of all vectors.
+     *
+     * @return new array of {@code size() * components()} floats
+     *
+     * @since 2.1.0
+     */
+    public float[] toArray() {
+        return entries.clone();
+    }
+
+    /**
+     * Calculates square of length of vector {@code i}.
+     *
+     * @param i index of vector
+     * @return square length of vector
+     *
+     * @since 2.1.0
+     */
+    public float len2(final int i) {
+        final int base = i * components;
+        float sum = 0;
+        for (int k = 0; k < components; k++) {
+            sum += entries[base + k] * entries[base + k];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Calculates length of vector {@code i}.
+     *
+     * @param i index of vector
+     * @return length of vector
+     *
+     * @since 2.1.0
+     */
+    public float len(final int i) {
+        return (float) Math.sqrt(len2(i));
+    }
+
+    /**
+     * Calculates lengths of all vectors.
+     *
+     * @param dest array for lengths of at least {@link #size()} elements
+     * @return {@code dest} array
+     * @throws IllegalArgumentException if {@code dest} is shorter than count of
+     *                                  vectors
+     *
+     * @since 2.1.0
+     */
+    public float[] lens(final float[] dest) throws IllegalArgumentException {
+        validateResult(dest);
+        final int size = size();
+        for (int i = 0; i < size; i++) {
+            dest[i] = len(i);
+        }
+
+        return dest;
+    }
+
+    /**
+     * Calculates dot products of vectors with equal indices of current and
+     * given arrays.
+     *
+     * @param other second array
+     * @param dest  array for products of at least {@link #size()} elements
+     * @return {@code dest} array
+     * @throws IllegalArgumentException if arrays have different sizes or
+     *                                  {@code dest} is shorter than count of
+     *                                  vectors
+     *
+     * @since 2.1.0
+     */
+    public float[] dot(final VecArray other, final float[] dest) throws IllegalArgumentException {
+        validateSizes(other, "Dot product denied");
+        validateResult(dest);
+        final float[] a = entries;
+        final float[] b = other.entries;
+        final int size = size();
+        for (int i = 0; i < size; i++) {
+            final int base = i * components;
+            float sum = 0;
+            for (int k = 0; k < components; k++) {
+                sum += a[base + k] * b[base + k];
+            }
+            dest[i] = sum;
+        }
+
+        return dest;
+    }
+
+    /**
+     * Multiplies components of all vectors by a scalar value.
+     *
+     * @param multiplier scalar value
+     * @return current array with multiplied vectors
+     *
+     * @since 2.1.0
+     */
+    public VecArray mult(final float multiplier) {
+        VecKernels.mult(entries, multiplier);
+
+        return this;
+    }
+
+    /**
+     * Adds vectors of {@code addendum} array to vectors of current array with
+     * equal indices.
+     *
+     * @param addendum array to add
+     * @return current array increased by {@code addendum} array
+     * @throws IllegalArgumentException if arrays have different sizes
+     *
+     * @since 2.1.0
+     */
+    public VecArray add(final VecArray addendum) throws IllegalArgumentException {
+        validateSizes(addendum, "Addition denied");
+        VecKernels.add(entries, addendum.entries);
+
+        return this;
+    }
+
+    /**
+     * Subtracts vectors of {@code subtrahend} array from vectors of current
+     * array with equal indices.
+     *
+     * @param subtrahend array to subtract
+     * @return current array subtracted by {@code subtrahend} array
+     * @throws IllegalArgumentException if arrays have different sizes
+     *
+     * @since 2.1.0
+     */
+    public VecArray sub(final VecArray subtrahend) throws IllegalArgumentException {
+        validateSizes(subtrahend, "Subtraction denied");
+        VecKernels.sub(entries, subtrahend.entries);
+
+        return this;
+    }
+
+    /**
+     * Normalizes all vectors (divides components of every vector by its
+     * length).
+     * <p>
+     * Lengths are checked before any vector is changed.
+     *
+     * @return current array with normalized vectors
+     * @throws ArithmeticException if length of any vector equals 0
+     *
+     * @since 2.1.0
+     */
+    public VecArray normalize() throws ArithmeticException {
+        final int size = size();
+        for (int i = 0; i < size; i++) {
+            if (Validator.equals(len2(i), 0)) {
+                throw new ArithmeticException(String.format("Normalization denied: vector %d has length 0", i));
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            final float inverse = 1 / len(i);
+            final int base = i * components;
+            for (int k = 0; k < components; k++) {
+                entries[base + k] *= inverse;
+            }
+        }
+
+        return this;
+    }
+
+    void validateSizes(final VecArray other, final String errMessage) throws IllegalArgumentException {
+        if (other.components != components || other.entries.length != entries.length) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: vector arrays with different sizes (%d of %d components and %d of %d components)",
+                    errMessage, size(), components, other.size(), other.components));
+        }
+    }
+
+    private void validateResult(final float[] dest) throws IllegalArgumentException {
+        if (dest.length < size()) {
+            throw new IllegalArgumentException(String.format(
+                    "Vector array operation denied: result array of %d elements is shorter than %d vectors",
+                    dest.length, size()));
+        }
+    }
+
+    @Override
+    public boolean equalsEpsilonTo(final VecArray other, final float eps) {
+        if (other.components != components || other.entries.length != entries.length) {
+            return false;
+        }
+
+        for (int i = 0; i < entries.length; i++) {
+            if (!Validator.equalsEpsilon(entries[i], other.entries[i], eps)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equalsTo(final VecArray other) {
+        return equalsEpsilonTo(other, Validator.EPS);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder("[");
+        final int size = size();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append('[');
+            for (int k = 0; k < components; k++) {
+                if (k > 0) {
+                    result.append(", ");
+                }
+                result.append(String.format("%f", entries[i * components + k]));
+            }
+            result.append(']');
+        }
+
+        return result.append(']').toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * components + Arrays.hashCode(entries);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        return equalsTo((VecArray) obj);
+    }
+}
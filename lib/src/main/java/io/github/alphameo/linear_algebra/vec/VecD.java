@@ -0,0 +1,219 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import java.util.Arrays;
+
+import io.github.alphameo.linear_algebra.Equatable;
+
+/**
+ * Default implementation of arbitrary vector with double-precision components
+ * ({@code VectorD interface}).
+ *
+ * @since 2.1.0
+ */
+public class VecD implements VectorD, Equatable<VectorD> {
+
+    private final double[] entries;
+
+    /**
+     * Constructs new vector of given size with all 0.
+     *
+     * @param size size of vector for construction
+     *
+     * @since 2.1.0
+     */
+    public VecD(final int size) {
+        this.entries = new double[size];
+    }
+
+    /**
+     * Constructs new vector using values from {@code entries}.
+     *
+     * @param entries values for vector components
+     *
+     * @since 2.1.0
+     */
+    public VecD(final double... entries) {
+        this.entries = entries.clone();
+    }
+
+    /**
+     * Copies given vector values into new vector.
+     *
+     * @param v vector for copying
+     *
+     * @since 2.1.0
+     */
+    public VecD(final VectorD v) {
+        this(v.size());
+        if (v instanceof VecD other) {
+            System.arraycopy(other.entries, 0, entries, 0, entries.length);
+            return;
+        }
+
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = v.get(i);
+        }
+    }
+
+    /**
+     * Copies values of given single-precision vector into new vector.
+     *
+     * @param v vector for copying
+     *
+     * @since 2.1.0
+     */
+    public VecD(final Vector v) {
+        this(v.size());
+        if (v instanceof Vec other) {
+            final float[] data = other.data();
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = data[i];
+            }
+            return;
+        }
+
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = v.get(i);
+        }
+    }
+
+    @Override
+    public double get(final int i) {
+        return entries[i];
+    }
+
+    @Override
+    public void set(final int i, final double value) {
+        entries[i] = value;
+    }
+
+    @Override
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Returns backing array of vector components.
+     *
+     * @return backing array
+     *
+     * @since 2.1.0
+     */
+    double[] data() {
+        return entries;
+    }
+
+    /**
+     * Calculates length of vector.
+     *
+     * @return length of vector
+     *
+     * @since 2.1.0
+     */
+    public double len() {
+        return VecDMath.len(this);
+    }
+
+    /**
+     * Multiplies the components of vector by a scalar value.
+     *
+     * @param multiplier scalar value
+     * @return current vector with multiplied components
+     *
+     * @since 2.1.0
+     */
+    public VectorD mult(final double multiplier) {
+        return VecDMath.mult(this, multiplier);
+    }
+
+    /**
+     * Adds the {@code addendum} vector components to the current vector
+     * components.
+     *
+     * @param addendum vector to add
+     * @return current vector increased by {@code addendum} vector
+     * @throws IllegalArgumentException if vectors have different sizes
+     *
+     * @since 2.1.0
+     */
+    public VectorD add(final VectorD addendum) {
+        return VecDMath.add(this, addendum);
+    }
+
+    /**
+     * Subtracts the {@code subtrahend} vector components from the current vector
+     * components.
+     *
+     * @param subtrahend vector to subtract
+     * @return current vector subtracted by {@code subtrahend} vector
+     * @throws IllegalArgumentException if vectors have different sizes
+     *
+     * @since 2.1.0
+     */
+    public VectorD sub(final VectorD subtrahend) {
+        return VecDMath.sub(this, subtrahend);
+    }
+
+    /**
+     * Calculates dot product (scalar product) of vectors.
+     *
+     * @param v second vector
+     * @return dot (scalar) product of vectors
+     * @throws IllegalArgumentException if vectors have different sizes
+     *
+     * @since 2.1.0
+     */
+    public double dot(final VectorD v) {
+        return VecDMath.dot(this, v);
+    }
+
+    /**
+     * Rounds components to single precision.
+     *
+     * @return new single-precision vector
+     *
+     * @since 2.1.0
+     */
+    public Vector toFloat() {
+        return VecDMath.toFloat(this);
+    }
+
+    @Override
+    public boolean equalsEpsilonTo(final VectorD v, final float eps) {
+        return VecDMath.equalsEpsilon(this, v, eps);
+    }
+
+    @Override
+    public boolean equalsTo(final VectorD v) {
+        return VecDMath.equals(this, v);
+    }
+
+    @Override
+    public VecD clone() {
+        return new VecD(entries);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(entries);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        return equalsTo((VectorD) obj);
+    }
+}
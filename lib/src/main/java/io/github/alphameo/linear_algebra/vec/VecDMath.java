@@ -0,0 +1,323 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import io.github.alphameo.linear_algebra.Validator;
+
+/**
+ * Class with static functions for arbitrary vectors with double-precision
+ * components.
+ * <p>
+ * Operations on {@link VecD} instances work on backing arrays directly.
+ *
+ * @since 2.1.0
+ */
+public final class VecDMath {
+
+    /**
+     * Default empty constructor
+     *
+     * @since 2.1.0
+     */
+    public VecDMath() {
+    }
+
+    /**
+     * Calculates square of vector length.
+     *
+     * @param v vector for square length calculation
+     * @return square length of given vector
+     *
+     * @since 2.1.0
+     */
+    public static double len2(final VectorD v) {
+        return dot(v, v);
+    }
+
+    /**
+     * Calculates length of vector.
+     *
+     * @param v vector for length calculation
+     * @return length of given vector
+     *
+     * @since 2.1.0
+     */
+    public static double len(final VectorD v) {
+        return Math.sqrt(len2(v));
+    }
+
+    /**
+     * Multiplies the components of vector by a scalar value.
+     *
+     * @param v          vector for multiplication
+     * @param multiplier scalar value
+     * @return given vector with multiplied components
+     *
+     * @since 2.1.0
+     */
+    public static VectorD mult(final VectorD v, final double multiplier) {
+        if (v instanceof VecD vec) {
+            final double[] data = vec.data();
+            for (int i = 0; i < data.length; i++) {
+                data[i] *= multiplier;
+            }
+            return v;
+        }
+
+        for (int i = 0; i < v.size(); i++) {
+            v.set(i, v.get(i) * multiplier);
+        }
+
+        return v;
+    }
+
+    /**
+     * Copies given vector and multiplies its components by a scalar value.
+     *
+     * @param v          vector for multiplication
+     * @param multiplier scalar value
+     * @return new vector with multiplied components of given vector
+     *
+     * @since 2.1.0
+     */
+    public static VectorD multiplied(final VectorD v, final double multiplier) {
+        return mult(new VecD(v), multiplier);
+    }
+
+    /**
+     * Divides the components of given vector by a scalar value.
+     *
+     * @param v       vector for division
+     * @param divisor scalar value
+     * @return given vector with divided components
+     * @throws ArithmeticException if {@code divisor} equals 0
+     *
+     * @since 2.1.0
+     */
+    public static VectorD divide(final VectorD v, final double divisor) throws ArithmeticException {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division denied: divisor equals 0");
+        }
+
+        return mult(v, 1 / divisor);
+    }
+
+    /**
+     * Copies given vector and divides its components by a scalar value.
+     *
+     * @param v       vector for division
+     * @param divisor scalar value
+     * @return new vector with divided components of given vector
+     * @throws ArithmeticException if {@code divisor} equals 0
+     *
+     * @since 2.1.0
+     */
+    public static VectorD divided(final VectorD v, final double divisor) throws ArithmeticException {
+        return divide(new VecD(v), divisor);
+    }
+
+    /**
+     * Adds the {@code addendum} vector components to the {@code target} vector
+     * components.
+     *
+     * @param target   vector to be added
+     * @param addendum vector to add
+     * @return {@code target} vector increased by {@code addendum} vector
+     * @throws IllegalArgumentException if given vectors have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static VectorD add(final VectorD target, final VectorD addendum) {
+        Validator.validateVectorSizes(target, addendum, "Addition denied");
+        if (target instanceof VecD t && addendum instanceof VecD a) {
+            final double[] targetData = t.data();
+            final double[] addendumData = a.data();
+            for (int i = 0; i < targetData.length; i++) {
+                targetData[i] += addendumData[i];
+            }
+            return target;
+        }
+
+        for (int i = 0; i < target.size(); i++) {
+            target.set(i, target.get(i) + addendum.get(i));
+        }
+
+        return target;
+    }
+
+    /**
+     * Copies {@code target} vector and adds the {@code addendum} vector
+     * components to its components.
+     *
+     * @param target   vector to be added
+     * @param addendum vector to add
+     * @return new vector with sum of components of {@code target} vector and
+     *         {@code addendum} vector
+     * @throws IllegalArgumentException if given vectors have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static VectorD added(final VectorD target, final VectorD addendum) {
+        return add(new VecD(target), addendum);
+    }
+
+    /**
+     * Subtracts the {@code subtrahend} vector components from the
+     * {@code target} vector components.
+     *
+     * @param target     vector to be subtracted
+     * @param subtrahend vector to subtract
+     * @return {@code target} vector subtracted by {@code subtrahend} vector
+     * @throws IllegalArgumentException if given vectors have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static VectorD sub(final VectorD target, final VectorD subtrahend) {
+        Validator.validateVectorSizes(target, subtrahend, "Subtraction denied");
+        if (target instanceof VecD t && subtrahend instanceof VecD s) {
+            final double[] targetData = t.data();
+            final double[] subtrahendData = s.data();
+            for (int i = 0; i < targetData.length; i++) {
+                targetData[i] -= subtrahendData[i];
+            }
+            return target;
+        }
+
+        for (int i = 0; i < target.size(); i++) {
+            target.set(i, target.get(i) - subtrahend.get(i));
+        }
+
+        return target;
+    }
+
+    /**
+     * Copies {@code target} vector and subtracts the {@code subtrahend} vector
+     * components from its components.
+     *
+     * @param target     vector to be subtracted
+     * @param subtrahend vector to subtract
+     * @return new vector with components resulting {@code target} vector
+     *         subtracted by {@code subtrahend} vector
+     * @throws IllegalArgumentException if given vectors have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static VectorD subtracted(final VectorD target, final VectorD subtrahend) {
+        return sub(new VecD(target), subtrahend);
+    }
+
+    /**
+     * Calculates dot product (scalar product) of given vectors.
+     *
+     * @param v1 first vector
+     * @param v2 second vector
+     * @return dot (scalar) product of given vectors
+     * @throws IllegalArgumentException if given vectors have different sizes
+     *
+     * @since 2.1.0
+     */
+    public static double dot(final VectorD v1, final VectorD v2) {
+        Validator.validateVectorSizes(v1, v2, "Scalar product denied");
+        if (v1 instanceof VecD a && v2 instanceof VecD b) {
+            final double[] aData = a.data();
+            final double[] bData = b.data();
+            double sum = 0;
+            for (int i = 0; i < aData.length; i++) {
+                sum += aData[i] * bData[i];
+            }
+            return sum;
+        }
+
+        double sum = 0;
+        for (int i = 0; i < v1.size(); i++) {
+            sum += v1.get(i) * v2.get(i);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns {@code true} if components of vectors are equal within
+     * {@code epsilon} tolerance
+     *
+     * @param v1  first vector for comparison
+     * @param v2  second vector for comparison
+     * @param eps tolerance
+     * @return {@code true} if all components of vectors are equal within
+     *         {@code epsilon} tolerance, and {@code false} otherwise
+     *
+     * @since 2.1.0
+     */
+    public static boolean equalsEpsilon(final VectorD v1, final VectorD v2, final double eps) {
+        Validator.validateVectorSizes(v1, v2, "Equalization denied");
+        for (int i = 0; i < v1.size(); i++) {
+            if (!Validator.equalsEpsilon(v1.get(i), v2.get(i), eps)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if components of vectors are approximately equal
+     *
+     * @param v1 first vector for comparison
+     * @param v2 second vector for comparison
+     * @return {@code true} if all components of vectors are approximately equal,
+     *         and {@code false} otherwise
+     *
+     * @since 2.1.0
+     */
+    public static boolean equals(final VectorD v1, final VectorD v2) {
+        return equalsEpsilon(v1, v2, Validator.EPS);
+    }
+
+    /**
+     * Constructs new vector of given {@code size} with all 0 components.
+     *
+     * @param size size of vector to be constructed
+     * @return new zero vector of given {@code size}
+     *
+     * @since 2.1.0
+     */
+    public static VectorD zeroVec(final int size) {
+        return new VecD(size);
+    }
+
+    /**
+     * Widens components of single-precision vector to double precision.
+     *
+     * @param v vector for conversion
+     * @return new double-precision vector
+     *
+     * @since 2.1.0
+     */
+    public static VecD toDouble(final Vector v) {
+        return new VecD(v);
+    }
+
+    /**
+     * Rounds components of double-precision vector to single precision.
+     *
+     * @param v vector for conversion
+     * @return new single-precision vector
+     *
+     * @since 2.1.0
+     */
+    public static Vec toFloat(final VectorD v) {
+        final Vec result = new Vec(v.size());
+        final float[] data = result.data();
+        if (v instanceof VecD vec) {
+            final double[] source = vec.data();
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (float) source[i];
+            }
+            return result;
+        }
+
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (float) v.get(i);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.alphameo.linear_algebra.vec;
+
+/**
+ * Kernels for array-backed vectors.
+ * <p>
+ * Kernels use {@link SimdKernels} if {@code jdk.incubator.vector} module is
+ * present in the boot layer, and scalar loops otherwise. Scalar loops are
+ * forced by system property {@value #SIMD_PROPERTY} set to {@code false}.
+ *
+ * @since 2.1.0
+ */
+final class VecKernels {
+
+    /**
+     * System property, which disables Vector API kernels if set to
+     * {@code false}.
+     */
+    static final String SIMD_PROPERTY = "io.github.alphameo.linear_algebra.simd";
+
+    /**
+     * {@code true} if Vector API kernels are used.
+     */
+    static final boolean SIMD = simdAvailable();
+
+    private VecKernels() {
+    }
+
+    private static boolean simdAvailable() {
+        if (!Boolean.parseBoolean(System.getProperty(SIMD_PROPERTY, "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+
+        try {
+            return SimdKernels.lanes() > 1;
+        } catch (final LinkageError e) {
+            return false;
+        }
+    }
+
+    static float dot(final float[] a, final float[] b) {
+        if (SIMD) {
+            return SimdKernels.dot(a, b);
+        }
+
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+
+        return sum;
+    }
+
+    static float len2(final float[] a) {
+        if (SIMD) {
+            return SimdKernels.dot(a, a);
+        }
+
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * a[i];
+        }
+
+        return sum;
+    }
+
+    static void add(final float[] target, final float[] addendum) {
+        if (SIMD) {
+            SimdKernels.add(target, addendum);
+            return;
+        }
+
+        for (int i = 0; i < target.length; i++) {
+            target[i] += addendum[i];
+        }
+    }
+
+    static void sub(final float[] target, final float[] subtrahend) {
+        if (SIMD) {
+            SimdKernels.sub(target, subtrahend);
+            return;
+        }
+
+        for (int i = 0; i < target.length; i++) {
+            target[i] -= subtrahend[i];
+        }
+    }
+
+    static void mult(final float[] target, final float multiplier) {
+        if (SIMD) {
+            SimdKernels.mult(target, multiplier);
+            return;
+        }
+
+        for (int i = 0; i < target.length; i++) {
+            target[i] *= multiplier;
+        }
+    }
+}
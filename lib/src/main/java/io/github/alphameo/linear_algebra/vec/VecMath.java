@@ -4,6 +4,10 @@ import io.github.alphameo.linear_algebra.Validator;
 
 /**
  * Class with static functions for arbitrary vectors.
+ * <p>
+ * Operations on {@link Vec} instances work on backing arrays directly and
+ * use Vector API if {@code jdk.incubator.vector} module is added to the
+ * runtime ({@code --add-modules jdk.incubator.vector}).
  *
  * @since 1.0.0
  */
@@ -28,6 +32,10 @@ public final class VecMath {
      * @since 1.0.0
      */
     public static float len2(final Vector v) {
+        if (v instanceof Vec vec) {
+            return VecKernels.len2(vec.data());
+        }
+
         float sum = 0;
         for (int i = 0; i < v.size(); i++) {
             sum += v.get(i) * v.get(i);
@@ -58,6 +66,11 @@ public final class VecMath {
      * @since 1.0.0
      */
     public static Vector mult(final Vector v, final float multiplier) {
+        if (v instanceof Vec vec) {
+            VecKernels.mult(vec.data(), multiplier);
+            return v;
+        }
+
         for (int i = 0; i < v.size(); i++) {
             v.set(i, v.get(i) * multiplier);
         }
@@ -151,6 +164,11 @@ public final class VecMath {
      */
     public static Vector add(final Vector target, final Vector addendum) {
         Validator.validateVectorSizes(target, addendum, "Addition denied");
+        if (target instanceof Vec t && addendum instanceof Vec a) {
+            VecKernels.add(t.data(), a.data());
+            return target;
+        }
+
         for (int i = 0; i < target.size(); i++) {
             target.set(i, target.get(i) + addendum.get(i));
         }
@@ -187,6 +205,11 @@ public final class VecMath {
      */
     public static Vector sub(final Vector target, final Vector subtrahend) {
         Validator.validateVectorSizes(target, subtrahend, "Subtraction denied");
+        if (target instanceof Vec t && subtrahend instanceof Vec s) {
+            VecKernels.sub(t.data(), s.data());
+            return target;
+        }
+
         for (int i = 0; i < target.size(); i++) {
             target.set(i, target.get(i) - subtrahend.get(i));
         }
@@ -221,6 +244,10 @@ public final class VecMath {
      */
     public static float dot(final Vector v1, final Vector v2) {
         Validator.validateVectorSizes(v1, v2, "Scalar product denied");
+        if (v1 instanceof Vec a && v2 instanceof Vec b) {
+            return VecKernels.dot(a.data(), b.data());
+        }
+
         float sum = 0;
         for (int i = 0; i < v1.size(); i++) {
             sum += v1.get(i) * v2.get(i);
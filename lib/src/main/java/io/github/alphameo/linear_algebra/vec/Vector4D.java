@@ -0,0 +1,91 @@
+package io.github.alphameo.linear_algebra.vec;
+
+/**
+ * Interface for vector with size 4 and double-precision components.
+ *
+ * @since 2.1.0
+ */
+public interface Vector4D extends VectorD {
+
+    /**
+     * Returns x component (index = 0).
+     *
+     * @return x component of vector
+     *
+     * @since 2.1.0
+     */
+    double x();
+
+    /**
+     * Returns y component (index = 1).
+     *
+     * @return y component of vector
+     *
+     * @since 2.1.0
+     */
+    double y();
+
+    /**
+     * Returns z component (index = 2).
+     *
+     * @return z component of vector
+     *
+     * @since 2.1.0
+     */
+    double z();
+
+    /**
+     * Returns w component (index = 3).
+     *
+     * @return w component of vector
+     *
+     * @since 2.1.0
+     */
+    double w();
+
+    /**
+     * Sets value of x component (index = 0) inside vector.
+     *
+     * @param value component value to be set
+     *
+     * @since 2.1.0
+     */
+    void setX(double value);
+
+    /**
+     * Sets value of y component (index = 1) inside vector.
+     *
+     * @param value component value to be set
+     *
+     * @since 2.1.0
+     */
+    void setY(double value);
+
+    /**
+     * Sets value of z component (index = 2) inside vector.
+     *
+     * @param value component value to be set
+     *
+     * @since 2.1.0
+     */
+    void setZ(double value);
+
+    /**
+     * Sets value of w component (index = 3) inside vector.
+     *
+     * @param value component value to be set
+     *
+     * @since 2.1.0
+     */
+    void setW(double value);
+
+    /**
+     * Creates and returns a copy of current vector of size 4.
+     *
+     * @return copy of vector of size 4
+     *
+     * @since 2.1.0
+     */
+    @Override
+    Vector4D clone();
+}
@@ -0,0 +1,47 @@
+package io.github.alphameo.linear_algebra.vec;
+
+/**
+ * Interface for arbitrary vector with double-precision components.
+ *
+ * @since 2.1.0
+ */
+public interface VectorD extends Cloneable {
+
+    /**
+     * Returns component at given position inside vector.
+     *
+     * @param i position index of component
+     * @return component at given position
+     *
+     * @since 2.1.0
+     */
+    double get(int i);
+
+    /**
+     * Sets value into given position inside vector.
+     *
+     * @param i     position index for putting value
+     * @param value component value to be put
+     *
+     * @since 2.1.0
+     */
+    void set(int i, final double value);
+
+    /**
+     * Returns size (components count) of vector.
+     *
+     * @return size of vector
+     *
+     * @since 2.1.0
+     */
+    int size();
+
+    /**
+     * Creates and returns a copy of current vector.
+     *
+     * @return copy of vector
+     *
+     * @since 2.1.0
+     */
+    VectorD clone();
+}
@@ -2,10 +2,15 @@
  * Java library for Linear algebra
  */
 module io.github.alphameo.linear_algebra {
+    // optional SIMD kernels
+    requires static jdk.incubator.vector;
+
     // matrices
     exports io.github.alphameo.linear_algebra.mat;
     // vectors
     exports io.github.alphameo.linear_algebra.vec;
+    // solvers
+    exports io.github.alphameo.linear_algebra.solver;
 
     // utility
     exports io.github.alphameo.linear_algebra;
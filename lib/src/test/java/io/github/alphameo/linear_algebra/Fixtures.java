@@ -0,0 +1,41 @@
+package io.github.alphameo.linear_algebra;
+
+import java.util.Random;
+
+import io.github.alphameo.linear_algebra.mat.Mat;
+import io.github.alphameo.linear_algebra.vec.Vec;
+
+/**
+ * Random inputs shared by tests.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Constructs matrix with elements uniformly distributed in {@code [-1, 1)}.
+     */
+    public static Mat randomMat(final Random random, final int height, final int width) {
+        final Mat result = new Mat(height, width);
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                result.set(r, c, random.nextFloat() * 2 - 1);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Constructs vector with elements uniformly distributed in {@code [-1, 1)}.
+     */
+    public static Vec randomVec(final Random random, final int size) {
+        final Vec result = new Vec(size);
+        for (int i = 0; i < size; i++) {
+            result.set(i, random.nextFloat() * 2 - 1);
+        }
+
+        return result;
+    }
+}
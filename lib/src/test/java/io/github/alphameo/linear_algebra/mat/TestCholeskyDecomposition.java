@@ -0,0 +1,133 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.Fixtures;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.VecMath;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * TestCholeskyDecomposition
+ */
+public class TestCholeskyDecomposition {
+
+    /**
+     * Gram matrix {@code transpose(A) * A + size * I} of random matrix.
+     */
+    private static Matrix spdMat(final Random random, final int size) {
+        final Matrix a = Fixtures.randomMat(random, size, size);
+        final Matrix result = MatMath.prod(MatMath.transposed(a), a);
+        for (int i = 0; i < size; i++) {
+            result.set(i, i, result.get(i, i) + size);
+        }
+        // make symmetric exactly
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < r; c++) {
+                result.set(c, r, result.get(r, c));
+            }
+        }
+
+        return result;
+    }
+
+    @Test
+    public void testFactor() {
+        Matrix m = new Mat(new float[][] {
+                { 4, 12, -16 },
+                { 12, 37, -43 },
+                { -16, -43, 98 }
+        });
+        Matrix expected = new Mat(new float[][] {
+                { 2, 0, 0 },
+                { 6, 1, 0 },
+                { -8, 5, 3 }
+        });
+        CholeskyDecomposition cholesky = new CholeskyDecomposition(m);
+
+        Assertions.assertTrue(cholesky.positiveDefinite());
+        Assertions.assertTrue(MatMath.equalsEpsilon(expected, cholesky.l(), 0.0001f));
+        Assertions.assertEquals(36, cholesky.det(), 0.001f);
+        Assertions.assertEquals(Math.log(36), cholesky.logDet(), 0.0001f);
+    }
+
+    @Test
+    public void testSolveAndInverse() {
+        Random random = new Random(1);
+        Matrix m = spdMat(random, 90);
+        Vector x = Fixtures.randomVec(random, 90);
+        CholeskyDecomposition cholesky = new CholeskyDecomposition(m);
+
+        Assertions.assertTrue(VecMath.equalsEpsilon(x, cholesky.solve(MatMath.prod(m, x)), 0.0001f));
+        Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.unitMat(90),
+                MatMath.prod(m, cholesky.inverse()), 0.0001f));
+        Assertions.assertTrue(MatMath.equalsEpsilon(new LUDecomposition(m).solve(m),
+                cholesky.solve(m), 0.0001f));
+    }
+
+    @Test
+    public void testBlocked() {
+        Random random = new Random(2);
+        Matrix m = spdMat(random, 600);
+        CholeskyDecomposition cholesky = new CholeskyDecomposition(m);
+        Matrix l = cholesky.l();
+
+        Assertions.assertTrue(cholesky.positiveDefinite());
+        Assertions.assertTrue(MatMath.equalsEpsilon(m, MatMath.prod(l, MatMath.transposed(l)), 0.01f));
+        Vector x = Fixtures.randomVec(random, 600);
+        Assertions.assertTrue(VecMath.equalsEpsilon(x, cholesky.solve(MatMath.prod(m, x)), 0.0001f));
+    }
+
+    @Test
+    public void testUpdateDowndate() {
+        Random random = new Random(3);
+        Matrix m = spdMat(random, 40);
+        Vector v = Fixtures.randomVec(random, 40);
+        Matrix updated = new Mat(m);
+        for (int r = 0; r < 40; r++) {
+            for (int c = 0; c < 40; c++) {
+                updated.set(r, c, updated.get(r, c) + v.get(r) * v.get(c));
+            }
+        }
+        CholeskyDecomposition cholesky = new CholeskyDecomposition(m);
+
+        cholesky.update(v);
+        Matrix l = cholesky.l();
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(updated, MatMath.prod(l, MatMath.transposed(l)), 0.001f));
+        Assertions.assertEquals(new CholeskyDecomposition(updated).logDet(), cholesky.logDet(), 0.0001f);
+
+        cholesky.downdate(v);
+        l = cholesky.l();
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(m, MatMath.prod(l, MatMath.transposed(l)), 0.001f));
+    }
+
+    @Test
+    public void testNotPositiveDefinite() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2 },
+                { 2, 1 }
+        });
+        CholeskyDecomposition identity = new CholeskyDecomposition(MatMath.unitMat(2));
+
+        Assertions.assertFalse(new CholeskyDecomposition(m).positiveDefinite());
+        Assertions.assertThrows(RuntimeException.class, () -> new CholeskyDecomposition(m).det());
+        Assertions.assertThrows(RuntimeException.class, () -> identity.downdate(new Vec(1, 0)));
+        Assertions.assertEquals(new Mat(MatMath.unitMat(2)), identity.l());
+        Assertions.assertEquals(-3, MatMath.det(m), 0.0001f);
+    }
+
+    @Test
+    public void testMatMathFastPath() {
+        Random random = new Random(4);
+        Matrix m = spdMat(random, 8);
+        LUDecomposition lu = new LUDecomposition(m);
+
+        Assertions.assertEquals(1, MatMath.det(m) / lu.det(), 0.001f);
+        Assertions.assertTrue(MatMath.equalsEpsilon(lu.inverse(), MatMath.invertible(m), 0.0001f));
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.VecMath;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * TestEigenDecomposition
+ */
+public class TestEigenDecomposition {
+
+    private static Matrix randomSymmetricMat(final Random random, final int size) {
+        final Matrix result = new Mat(size, size);
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c <= r; c++) {
+                final float value = random.nextFloat() * 2 - 1;
+                result.set(r, c, value);
+                result.set(c, r, value);
+            }
+        }
+
+        return result;
+    }
+
+    private static void assertEigenpairs(final Matrix m, final EigenDecomposition eigen, final float eps) {
+        final Matrix vectors = eigen.eigenvectors();
+        Assertions.assertEquals(m.height(), vectors.height());
+        Assertions.assertEquals(eigen.count(), vectors.width());
+        Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.unitMat(eigen.count()),
+                MatMath.prod(MatMath.transposed(vectors), vectors), eps));
+        for (int i = 0; i < eigen.count(); i++) {
+            final Vector v = eigen.eigenvector(i);
+            final Vector expected = VecMath.multiplied(v, eigen.eigenvalue(i));
+            Assertions.assertTrue(VecMath.equalsEpsilon(expected, MatMath.prod(m, v), eps));
+            if (i > 0) {
+                Assertions.assertTrue(eigen.eigenvalue(i - 1) >= eigen.eigenvalue(i));
+            }
+        }
+    }
+
+    @Test
+    public void testDecomposition() {
+        Random random = new Random(1);
+        for (final int size : new int[] { 1, 2, 3, 10, 100 }) {
+            Matrix m = randomSymmetricMat(random, size);
+            EigenDecomposition eigen = new EigenDecomposition(m);
+
+            Assertions.assertEquals(size, eigen.size());
+            Assertions.assertEquals(size, eigen.count());
+            Assertions.assertTrue(eigen.hasEigenvectors());
+            assertEigenpairs(m, eigen, 0.0005f);
+        }
+    }
+
+    @Test
+    public void testKnownEigenvalues() {
+        Matrix m = new Mat(new float[][] {
+                { 2, 1, 0 },
+                { 1, 2, 0 },
+                { 0, 0, 5 } });
+        EigenDecomposition eigen = new EigenDecomposition(m);
+
+        Assertions.assertTrue(VecMath.equalsEpsilon(new Vec(5, 3, 1), eigen.eigenvalues(), 0.00001f));
+
+        // only lower triangle is read
+        m.set(0, 1, 100);
+        Assertions.assertTrue(VecMath.equalsEpsilon(new Vec(5, 3, 1),
+                new EigenDecomposition(m).eigenvalues(), 0.00001f));
+    }
+
+    @Test
+    public void testEigenvaluesOnly() {
+        Random random = new Random(2);
+        Matrix m = randomSymmetricMat(random, 60);
+        EigenDecomposition full = new EigenDecomposition(m);
+        EigenDecomposition values = new EigenDecomposition(m, false);
+
+        Assertions.assertFalse(values.hasEigenvectors());
+        Assertions.assertTrue(VecMath.equalsEpsilon(full.eigenvalues(), values.eigenvalues(), 0.0001f));
+        Assertions.assertThrows(IllegalStateException.class, () -> values.eigenvectors());
+        Assertions.assertThrows(IllegalStateException.class, () -> values.eigenvector(0));
+    }
+
+    @Test
+    public void testLargest() {
+        Random random = new Random(3);
+        Matrix m = randomSymmetricMat(random, 150);
+        EigenDecomposition full = new EigenDecomposition(m, false);
+        EigenDecomposition largest = EigenDecomposition.largest(m, 5);
+
+        Assertions.assertEquals(150, largest.size());
+        Assertions.assertEquals(5, largest.count());
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(full.eigenvalue(i), largest.eigenvalue(i), 0.0001f);
+        }
+        assertEigenpairs(m, largest, 0.0005f);
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> largest.eigenvector(5));
+
+        Assertions.assertEquals(150, EigenDecomposition.largest(m, 150).count());
+    }
+
+    @Test
+    public void testLargestRepeatedEigenvalues() {
+        // Q * diag(4, 4, 4, 1, ...) * transpose(Q) with random orthogonal Q
+        Random random = new Random(4);
+        Matrix q = new QRDecomposition(randomSymmetricMat(random, 20)).q();
+        Matrix d = new Mat(20, 20);
+        for (int i = 0; i < 20; i++) {
+            d.set(i, i, i < 3 ? 4 : 1);
+        }
+        Matrix m = MatMath.prod(MatMath.prod(q, d), MatMath.transposed(q));
+        EigenDecomposition largest = EigenDecomposition.largest(m, 4);
+
+        Assertions.assertTrue(VecMath.equalsEpsilon(new Vec(4, 4, 4, 1), largest.eigenvalues(), 0.0001f));
+        assertEigenpairs(m, largest, 0.0005f);
+    }
+
+    @Test
+    public void testInvalidInput() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> new EigenDecomposition(new Mat(2, 3)));
+        Matrix m = MatMath.unitMat(3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EigenDecomposition.largest(m, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EigenDecomposition.largest(m, 4));
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.Fixtures;
+import io.github.alphameo.linear_algebra.Validator;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * TestLUDecomposition
+ */
+public class TestLUDecomposition {
+
+    @Test
+    public void testFactors() {
+        Matrix m = new Mat(new float[][] {
+                { 2, 6, -2, 1 },
+                { 3, -1, 5, -3 },
+                { 1, 7, 4, -1 },
+                { 2, 3, -3, 1 }
+        });
+        LUDecomposition lu = new LUDecomposition(m);
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(
+                MatMath.prod(lu.p(), m),
+                MatMath.prod(lu.l(), lu.u()),
+                0.0001f));
+    }
+
+    @Test
+    public void testDet() {
+        Matrix m = new Mat(new float[][] {
+                { 2, 6, -2, 1 },
+                { 3, -1, 5, -3 },
+                { 1, 7, 4, -1 },
+                { 2, 3, -3, 1 }
+        });
+
+        Assertions.assertTrue(Validator.equalsEpsilon(3, new LUDecomposition(m).det(), 0.0001f));
+    }
+
+    @Test
+    public void testSingular() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 2, 4, 6 },
+                { 7, 8, 9 }
+        });
+        LUDecomposition lu = new LUDecomposition(m);
+
+        Assertions.assertTrue(lu.singular());
+        Assertions.assertEquals(0, lu.det());
+        Assertions.assertThrows(RuntimeException.class, () -> lu.inverse());
+        Assertions.assertThrows(RuntimeException.class, () -> MatMath.invertible(m));
+    }
+
+    @Test
+    public void testSolveVector() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 12, 6 },
+                { 7, 8, 9 }
+        });
+        Vector x = new Vec(1, -2, 3);
+
+        Vector solution = new LUDecomposition(m).solve(MatMath.prod(m, x));
+
+        Assertions.assertTrue(solution instanceof Vec v && v.equalsEpsilonTo(x, 0.0001f));
+    }
+
+    @Test
+    public void testSolveMatrix() {
+        Random random = new Random(3);
+        Matrix m = Fixtures.randomMat(random, 20, 20);
+        Matrix x = Fixtures.randomMat(random, 20, 7);
+
+        Matrix solution = new LUDecomposition(m).solve(MatMath.prod(m, x));
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(x, solution, 0.001f));
+    }
+
+    @Test
+    public void testInverseLarge() {
+        Matrix m = Fixtures.randomMat(new Random(5), 12, 12);
+
+        Matrix inverse = MatMath.invertible(m);
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.unitMat(12), MatMath.prod(m, inverse), 0.001f));
+    }
+
+    @Test
+    public void testNotSquare() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> new LUDecomposition(new Mat(2, 3)));
+    }
+}
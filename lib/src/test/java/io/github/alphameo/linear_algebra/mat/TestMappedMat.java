@@ -0,0 +1,81 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * TestMappedMat
+ */
+public class TestMappedMat {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testCreateAndOpen() throws IOException {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        Path path = dir.resolve("m.mat");
+
+        try (MappedMat created = MappedMat.create(path, m)) {
+            created.set(1, 2, 7);
+        }
+        Assertions.assertEquals(MappedMat.HEADER_BYTES + 6 * Float.BYTES, Files.size(path));
+
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        Assertions.assertEquals(MappedMat.MAGIC, bytes.getInt(0));
+        Assertions.assertEquals(2, bytes.getInt(8));
+        Assertions.assertEquals(3, bytes.getInt(12));
+        Assertions.assertEquals(2, bytes.getFloat(MappedMat.HEADER_BYTES + 4));
+
+        try (MappedMat opened = MappedMat.open(path)) {
+            m.set(1, 2, 7);
+            Assertions.assertTrue(MatMath.equals(m, opened));
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> opened.set(0, 0, 1));
+        }
+    }
+
+    @Test
+    public void testProdVector() throws IOException {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 },
+                { 7, 8, 9 },
+                { -1, 0, 1 }
+        });
+        Vector v = new Vec(1, -1, 2);
+
+        try (MappedMat mapped = MappedMat.create(dir.resolve("p.mat"), m)) {
+            Assertions.assertEquals(MatMath.prod(new Mat(m), v), MatMath.prod(mapped, v));
+        }
+    }
+
+    @Test
+    public void testOpenInvalidFile() throws IOException {
+        Path path = dir.resolve("bad.mat");
+        Files.write(path, new byte[MappedMat.HEADER_BYTES]);
+
+        Assertions.assertThrows(IOException.class, () -> MappedMat.open(path));
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        MappedMat m = MappedMat.create(dir.resolve("c.mat"), 2, 2);
+        m.close();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> m.get(0, 0));
+        m.close();
+    }
+}
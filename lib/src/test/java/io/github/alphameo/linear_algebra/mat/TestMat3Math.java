@@ -2,9 +2,13 @@ package io.github.alphameo.linear_algebra.mat;
 
 import static io.github.alphameo.linear_algebra.mat.Mat3Math.*;
 
+import java.lang.management.ManagementFactory;
+
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
+import io.github.alphameo.linear_algebra.Validator;
 import io.github.alphameo.linear_algebra.vec.Vec3;
 import io.github.alphameo.linear_algebra.vec.Vector3;
 
@@ -164,6 +168,206 @@ public class TestMat3Math {
         Assertions.assertEquals(expected, prod(m, v));
     }
 
+    @Test
+    public void testTransposeIntoDest() {
+        Matrix3 m = new Mat3(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 },
+                { 5, 6, 7 }
+        });
+        Matrix3 expected = new Mat3(new float[][] {
+                { 1, 4, 5 },
+                { 2, 5, 6 },
+                { 3, 6, 7 }
+        });
+
+        Matrix3 dest = new Mat3();
+        Assertions.assertSame(dest, transposed(m, dest));
+        Assertions.assertEquals(expected, dest);
+        Assertions.assertSame(m, transposed(m, m));
+        Assertions.assertEquals(expected, m);
+    }
+
+    @Test
+    public void testMultIntoDest() {
+        Matrix3 m = new Mat3(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 },
+                { 7, 8, 9 }
+        });
+        Matrix3 expected = new Mat3(new float[][] {
+                { 2, 4, 6 },
+                { 8, 10, 12 },
+                { 14, 16, 18 }
+        });
+
+        Matrix3 dest = new Mat3();
+        Assertions.assertSame(dest, multiplied(m, 2, dest));
+        Assertions.assertEquals(expected, dest);
+        Assertions.assertSame(m, multiplied(m, 2, m));
+        Assertions.assertEquals(expected, m);
+    }
+
+    @Test
+    public void testDivideIntoDest() {
+        Matrix3 m = new Mat3(new float[][] {
+                { 2, 4, 6 },
+                { 8, 10, 12 },
+                { 14, 16, 18 }
+        });
+        Matrix3 expected = new Mat3(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 },
+                { 7, 8, 9 }
+        });
+
+        Matrix3 dest = new Mat3();
+        Assertions.assertSame(dest, divided(m, 2, dest));
+        Assertions.assertEquals(expected, dest);
+        Assertions.assertSame(m, divided(m, 2, m));
+        Assertions.assertEquals(expected, m);
+
+        Assertions.assertThrows(ArithmeticException.class, () -> divided(m, 0, dest));
+    }
+
+    @Test
+    public void testAddIntoDest() {
+        Matrix3 m1 = new Mat3(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 },
+                { 7, 8, 9 }
+        });
+        Matrix3 m2 = new Mat3(new float[][] {
+                { 9, 8, 7 },
+                { 6, 5, 4 },
+                { 3, 2, 1 }
+        });
+        Matrix3 expected = new Mat3(new float[][] {
+                { 10, 10, 10 },
+                { 10, 10, 10 },
+                { 10, 10, 10 }
+        });
+
+        Matrix3 dest = new Mat3();
+        Assertions.assertSame(dest, added(m1, m2, dest));
+        Assertions.assertEquals(expected, dest);
+
+        Matrix3 left = new Mat3(m1);
+        Assertions.assertSame(left, added(left, m2, left));
+        Assertions.assertEquals(expected, left);
+
+        Matrix3 right = new Mat3(m2);
+        Assertions.assertSame(right, added(m1, right, right));
+        Assertions.assertEquals(expected, right);
+    }
+
+    @Test
+    public void testSubIntoDest() {
+        Matrix3 m1 = new Mat3(new float[][] {
+                { 10, 10, 10 },
+                { 10, 10, 10 },
+                { 10, 10, 10 }
+        });
+        Matrix3 m2 = new Mat3(new float[][] {
+                { 9, 8, 7 },
+                { 6, 5, 4 },
+                { 3, 2, 1 }
+        });
+        Matrix3 expected = new Mat3(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 },
+                { 7, 8, 9 }
+        });
+
+        Matrix3 dest = new Mat3();
+        Assertions.assertSame(dest, subtracted(m1, m2, dest));
+        Assertions.assertEquals(expected, dest);
+
+        Matrix3 left = new Mat3(m1);
+        Assertions.assertSame(left, subtracted(left, m2, left));
+        Assertions.assertEquals(expected, left);
+
+        Matrix3 right = new Mat3(m2);
+        Assertions.assertSame(right, subtracted(m1, right, right));
+        Assertions.assertEquals(expected, right);
+    }
+
+    @Test
+    public void testProdIntoOperand() {
+        Matrix3 m1 = new Mat3(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 },
+                { 7, 8, 9 }
+        });
+        Matrix3 m2 = new Mat3(new float[][] {
+                { 3, 2, 1 },
+                { 6, 5, 4 },
+                { 9, 8, 7 }
+        });
+        Matrix3 expected = new Mat3(new float[][] {
+                { 42, 36, 30 },
+                { 96, 81, 66 },
+                { 150, 126, 102 }
+        });
+
+        Matrix3 dest = new Mat3();
+        Assertions.assertSame(dest, prod(m1, m2, dest));
+        Assertions.assertEquals(expected, dest);
+
+        Matrix3 left = new Mat3(m1);
+        Assertions.assertSame(left, prod(left, m2, left));
+        Assertions.assertEquals(expected, left);
+
+        Matrix3 right = new Mat3(m2);
+        Assertions.assertSame(right, prod(m1, right, right));
+        Assertions.assertEquals(expected, right);
+
+        Vector3 v = new Vec3(1, 2, 4);
+        Vector3 destVec = new Vec3();
+        Assertions.assertSame(destVec, prod(m2, v, destVec));
+        Assertions.assertEquals(new Vec3(11, 32, 53), destVec);
+        Assertions.assertSame(v, prod(m2, v, v));
+        Assertions.assertEquals(new Vec3(11, 32, 53), v);
+    }
+
+    @Test
+    public void testIntoDestDoesNotAllocate() {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Matrix3 m = new Mat3(new float[][] {
+                { 0, -1, 1 },
+                { 1, 0, 2 },
+                { 0, 0, 1 }
+        });
+        Matrix3 dest = unitMat();
+        Vector3 v = new Vec3(1, 0, 1);
+        final int iterations = 100_000;
+        for (int i = 0; i < iterations; i++) {
+            intoDestOps(m, dest, v);
+        }
+
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            intoDestOps(m, dest, v);
+        }
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        Assertions.assertTrue(allocated < iterations, "allocated " + allocated + " bytes");
+    }
+
+    private static void intoDestOps(final Matrix3 m, final Matrix3 dest, final Vector3 v) {
+        prod(m, dest, dest);
+        prod(m, v, v);
+        transposed(m, dest);
+        added(dest, m, dest);
+        subtracted(dest, m, dest);
+        multiplied(dest, 0.5f, dest);
+        divided(dest, 0.5f, dest);
+    }
+
     @Test
     public void testTriangulation() {
         Matrix3 m = new Mat3(new float[][] {
@@ -271,6 +475,35 @@ public class TestMat3Math {
         Assertions.assertTrue(MatMath.equals(expected, minorMatrix(m, Matrix3Row.R2, Matrix3Col.C2)));
     }
 
+    @Test
+    public void testInvertInPlace() {
+        Matrix3 m = new Mat3(new float[][] {
+                { 2, -1, 0 },
+                { 1, 3, 5 },
+                { -4, 0, 1 }
+        });
+        Matrix3 expected = mult(transpose(cofactorMatrix(m)), 1 / det(m));
+        Matrix3 dest = new Mat3();
+
+        Assertions.assertSame(dest, invert(m, dest));
+        Assertions.assertTrue(equalsEpsilon(expected, dest, Validator.EPS));
+        Assertions.assertSame(m, invert(m));
+        Assertions.assertTrue(equalsEpsilon(expected, m, Validator.EPS));
+    }
+
+    @Test
+    public void testInvertSingular() {
+        Matrix3 m = new Mat3(new float[][] {
+                { 2, -1, 1 },
+                { 1, 2, -1 },
+                { 2, -1, 1 }
+        });
+        Matrix3 dest = unitMat();
+
+        Assertions.assertThrows(RuntimeException.class, () -> invert(m, dest));
+        Assertions.assertEquals(unitMat(), dest);
+    }
+
     @Test
     public void testCofactor1() {
         Matrix3 m = new Mat3(new float[][] {
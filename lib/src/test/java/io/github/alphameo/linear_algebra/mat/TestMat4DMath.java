@@ -0,0 +1,51 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.vec.Vec4D;
+import io.github.alphameo.linear_algebra.vec.VecDMath;
+import io.github.alphameo.linear_algebra.vec.Vector4D;
+
+/**
+ * TestMat4DMath
+ */
+public class TestMat4DMath {
+
+    private static final double[][] ENTRIES = {
+            { 2, 6, -2, 1 },
+            { 3, -1, 5, -3 },
+            { 1, 7, 4, -1 },
+            { 2, 3, -3, 1 } };
+
+    @Test
+    public void testMatchesFloatFamily() {
+        Matrix4D m = new Mat4D(ENTRIES);
+        Matrix4 f = Mat4DMath.toFloat(m);
+
+        Assertions.assertEquals(Mat4Math.det(f), Mat4DMath.det(m), 1e-4);
+        Assertions.assertTrue(Mat4Math.equalsEpsilon(Mat4Math.prod(f, f), Mat4DMath.toFloat(Mat4DMath.prod(m, m)),
+                1e-4f));
+        Assertions.assertTrue(Mat4DMath.equalsEpsilon(Mat4DMath.toDouble(Mat4Math.invertible(f)),
+                Mat4DMath.invertible(m), 1e-4));
+    }
+
+    @Test
+    public void testInvert() {
+        Matrix4D m = new Mat4D(ENTRIES);
+        Matrix4D inverse = Mat4DMath.invertible(m);
+
+        Assertions.assertTrue(Mat4DMath.equalsEpsilon(Mat4DMath.unitMat(), Mat4DMath.prod(m, inverse), 1e-12));
+        Assertions.assertThrows(RuntimeException.class, () -> Mat4DMath.invert(new Mat4D()));
+    }
+
+    @Test
+    public void testProdVectorIntoOperand() {
+        Matrix4D m = new Mat4D(ENTRIES);
+        Vector4D v = new Vec4D(1, 2, 3, 4);
+
+        Mat4DMath.prod(m, v, v);
+
+        Assertions.assertTrue(VecDMath.equals(new Vec4D(12, 4, 23, 3), v));
+    }
+}
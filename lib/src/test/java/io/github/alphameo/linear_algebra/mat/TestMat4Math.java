@@ -2,7 +2,10 @@ package io.github.alphameo.linear_algebra.mat;
 
 import static io.github.alphameo.linear_algebra.mat.Mat4Math.*;
 
+import java.lang.management.ManagementFactory;
+
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
 import io.github.alphameo.linear_algebra.vec.Vec4;
@@ -244,6 +247,69 @@ public class TestMat4Math {
         Assertions.assertEquals(expected, invertible(m));
     }
 
+    @Test
+    public void testInvertIntoDest() {
+        Matrix4 m = new Mat4(new float[][] {
+                { 1, 2, 3, 6 },
+                { 4, 12, 6, 0 },
+                { 7, 8, 9, 12 },
+                { 5, 7, 2, 8 }
+        });
+        Matrix4 dest = new Mat4();
+
+        Assertions.assertSame(dest, invert(m, dest));
+        Assertions.assertTrue(equalsEpsilon(unitMat(), prod(m, dest), 0.00001f));
+        Assertions.assertEquals(dest, invert(new Mat4(m)));
+    }
+
+    @Test
+    public void testInvertSingular() {
+        Matrix4 m = new Mat4(new float[][] {
+                { 1, 2, 3, 4 },
+                { 2, 4, 6, 8 },
+                { 0, 1, 0, 1 },
+                { 1, 0, 1, 0 }
+        });
+        Matrix4 dest = unitMat();
+
+        Assertions.assertThrows(RuntimeException.class, () -> invert(m, dest));
+        Assertions.assertEquals(unitMat(), dest);
+    }
+
+    @Test
+    public void testInvertAffine() {
+        Matrix4 m = new Mat4(new float[][] {
+                { 2, 0, 1, 5 },
+                { 0, 3, 0, -2 },
+                { 1, 0, 4, 7 },
+                { 0, 0, 0, 1 }
+        });
+
+        Assertions.assertTrue(equalsEpsilon(invertible(m), invertAffine(m, new Mat4()), 0.00001f));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> invertAffine(new Mat4(new float[][] {
+                { 1, 0, 0, 0 },
+                { 0, 1, 0, 0 },
+                { 0, 0, 1, 0 },
+                { 0, 0, 1, 1 }
+        })));
+    }
+
+    @Test
+    public void testInvertRigid() {
+        final float cos = (float) Math.cos(0.7);
+        final float sin = (float) Math.sin(0.7);
+        Matrix4 m = new Mat4(new float[][] {
+                { cos, -sin, 0, 3 },
+                { sin, cos, 0, -4 },
+                { 0, 0, 1, 2 },
+                { 0, 0, 0, 1 }
+        });
+        Matrix4 expected = invertible(m);
+
+        Assertions.assertTrue(equalsEpsilon(expected, invertRigid(m, new Mat4()), 0.00001f));
+        Assertions.assertTrue(equalsEpsilon(unitMat(), prod(m, expected), 0.00001f));
+    }
+
     @Test
     public void testMinorMatrix1() {
         Matrix4 m = new Mat4(new float[][] {
@@ -467,4 +533,140 @@ public class TestMat4Math {
 
         Assertions.assertEquals(expected, m);
     }
+
+    @Test
+    public void testProdIntoOperand() {
+        Matrix4 m1 = new Mat4(new float[][] {
+                { 1, 2, 3, 4 },
+                { 5, 6, 7, 8 },
+                { 9, 10, 11, 12 },
+                { 13, 14, 15, 16 }
+        });
+        Matrix4 m2 = new Mat4(new float[][] {
+                { 2, 0, 1, 0 },
+                { 0, 3, 0, 1 },
+                { 1, 0, 2, 0 },
+                { 0, 1, 0, 4 }
+        });
+        Matrix4 expected = prod(m1, m2);
+
+        Matrix4 left = new Mat4(m1);
+        Assertions.assertSame(left, prod(left, m2, left));
+        Assertions.assertEquals(expected, left);
+
+        Matrix4 right = new Mat4(m2);
+        Assertions.assertSame(right, prod(m1, right, right));
+        Assertions.assertEquals(expected, right);
+
+        Vector4 v = new Vec4(1, 2, 3, 4);
+        Vector4 expectedVec = prod(m1, v);
+        Assertions.assertSame(v, prod(m1, v, v));
+        Assertions.assertEquals(expectedVec, v);
+    }
+
+    @Test
+    public void testProdFastPathMatchesGenericPath() {
+        Mat4 m1 = new Mat4(
+                1, -2, 3, 0.5f,
+                0, 4, -1, 2,
+                7, 0, 1, -3,
+                0, 0, 0, 1);
+        Mat4 m2 = new Mat4(
+                2, 1, 0, -1,
+                -3, 0, 5, 1,
+                1, 1, 1, 1,
+                0, 2, 0, 1);
+        Vector4 v = new Vec4(1, -2, 3, 1);
+
+        Assertions.assertEquals(prod(new ForeignMat4(m1), new ForeignMat4(m2), new Mat4()), prod(m1, m2));
+        Assertions.assertEquals(prod(new ForeignMat4(m1), v), prod(m1, v));
+    }
+
+    /**
+     * Matrix 4x4 which is not {@link Mat4}, to exercise generic paths.
+     */
+    private static final class ForeignMat4 implements Matrix4 {
+        private final Mat4 m;
+
+        ForeignMat4(final Mat4 m) {
+            this.m = new Mat4(m);
+        }
+
+        @Override
+        public float get(final int r, final int c) {
+            return m.get(r, c);
+        }
+
+        @Override
+        public void set(final int r, final int c, final float value) {
+            m.set(r, c, value);
+        }
+
+        @Override
+        public float get(final Matrix4Row r, final Matrix4Col c) {
+            return m.get(r, c);
+        }
+
+        @Override
+        public void set(final Matrix4Row r, final Matrix4Col c, final float value) {
+            m.set(r, c, value);
+        }
+
+        @Override
+        public int width() {
+            return 4;
+        }
+
+        @Override
+        public int height() {
+            return 4;
+        }
+
+        @Override
+        public Matrix4 clone() {
+            return new ForeignMat4(m);
+        }
+    }
+
+    @Test
+    public void testIntoDestDoesNotAllocate() {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Matrix4 m = new Mat4(new float[][] {
+                { 0, -1, 0, 1 },
+                { 1, 0, 0, 2 },
+                { 0, 0, 1, 3 },
+                { 0, 0, 0, 1 }
+        });
+        Matrix4 dest = unitMat();
+        Vector4 v = new Vec4(1, 0, 0, 1);
+        final int iterations = 100_000;
+        for (int i = 0; i < iterations; i++) {
+            intoDestOps(m, dest, v);
+        }
+
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            intoDestOps(m, dest, v);
+        }
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        Assertions.assertTrue(allocated < iterations, "allocated " + allocated + " bytes");
+    }
+
+    private static void intoDestOps(final Matrix4 m, final Matrix4 dest, final Vector4 v) {
+        prod(m, dest, dest);
+        prod(m, v, v);
+        transposed(m, dest);
+        added(dest, m, dest);
+        subtracted(dest, m, dest);
+        multiplied(dest, 0.5f, dest);
+        divided(dest, 0.5f, dest);
+        invert(m, dest);
+        invertAffine(m, dest);
+        invertRigid(m, dest);
+    }
 }
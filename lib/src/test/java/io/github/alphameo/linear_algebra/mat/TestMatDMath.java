@@ -0,0 +1,97 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.vec.VecD;
+import io.github.alphameo.linear_algebra.vec.VecDMath;
+import io.github.alphameo.linear_algebra.vec.VectorD;
+
+/**
+ * TestMatDMath
+ */
+public class TestMatDMath {
+
+    private static MatrixD hilbert(final int size) {
+        final MatrixD result = new MatD(size);
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                result.set(r, c, 1.0 / (r + c + 1));
+            }
+        }
+
+        return result;
+    }
+
+    @Test
+    public void testProd() {
+        Random random = new Random(4);
+        MatrixD m1 = new MatD(37, 300);
+        MatrixD m2 = new MatD(300, 21);
+        for (int r = 0; r < m1.height(); r++) {
+            for (int c = 0; c < m1.width(); c++) {
+                m1.set(r, c, random.nextDouble() - 0.5);
+            }
+        }
+        for (int r = 0; r < m2.height(); r++) {
+            for (int c = 0; c < m2.width(); c++) {
+                m2.set(r, c, random.nextDouble() - 0.5);
+            }
+        }
+
+        MatrixD actual = MatDMath.prod(m1, m2);
+
+        for (int r = 0; r < actual.height(); r++) {
+            for (int c = 0; c < actual.width(); c++) {
+                double expected = 0;
+                for (int i = 0; i < m1.width(); i++) {
+                    expected += m1.get(r, i) * m2.get(i, c);
+                }
+                Assertions.assertEquals(expected, actual.get(r, c), 1e-12);
+            }
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MatDMath.prod(m2, m2));
+    }
+
+    @Test
+    public void testProdVector() {
+        MatrixD m = new MatD(new double[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 } });
+        VectorD expected = new VecD(14, 32);
+
+        Assertions.assertTrue(VecDMath.equals(expected, MatDMath.prod(m, new VecD(1, 2, 3))));
+    }
+
+    @Test
+    public void testDetIllConditioned() {
+        // det of Hilbert matrix 6x6 is 1 / 186313420339200000
+        double expected = 1.0 / 186313420339200000.0;
+
+        Assertions.assertEquals(expected, MatDMath.det(hilbert(6)), expected * 1e-6);
+    }
+
+    @Test
+    public void testInvertible() {
+        MatrixD m = hilbert(5);
+        MatrixD inverse = MatDMath.invertible(m);
+
+        Assertions.assertTrue(MatDMath.equalsEpsilon(MatDMath.unitMat(5), MatDMath.prod(m, inverse), 1e-9));
+        Assertions.assertEquals(25, inverse.get(0, 0), 1e-7);
+        Assertions.assertThrows(RuntimeException.class, () -> MatDMath.invertible(new MatD(3)));
+    }
+
+    @Test
+    public void testConversion() {
+        Matrix m = new Mat(new float[][] {
+                { 1.5f, -2 },
+                { 0.1f, 4 } });
+        MatD widened = MatDMath.toDouble(m);
+
+        Assertions.assertEquals(0.1f, widened.get(1, 0));
+        Assertions.assertTrue(MatMath.equals(m, MatDMath.toFloat(widened)));
+        Assertions.assertTrue(MatMath.equals(m, widened.toFloat()));
+    }
+}
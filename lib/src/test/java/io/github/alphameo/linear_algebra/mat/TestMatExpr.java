@@ -0,0 +1,86 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.Fixtures;
+
+/**
+ * TestMatExpr
+ */
+public class TestMatExpr {
+
+    @Test
+    public void testFusedProduct() {
+        Random random = new Random(1);
+        Matrix a = Fixtures.randomMat(random, 70, 50);
+        Matrix b = Fixtures.randomMat(random, 50, 60);
+        Matrix c = Fixtures.randomMat(random, 70, 60);
+        Matrix expected = MatMath.added(MatMath.multiplied(MatMath.prod(a, b), 2f), c);
+
+        Matrix actual = MatExpr.of(a).prod(b).times(2).plus(c).evaluate();
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(expected, actual, 0.0001f));
+    }
+
+    @Test
+    public void testElementWise() {
+        Random random = new Random(2);
+        Matrix a = Fixtures.randomMat(random, 5, 7);
+        Matrix b = Fixtures.randomMat(random, 5, 7);
+        Matrix expected = MatMath.subtracted(MatMath.multiplied(a, 3), MatMath.multiplied(b, 0.5f));
+
+        Matrix actual = MatExpr.of(a).plus(a).plus(a).minus(MatExpr.of(b).times(0.5f)).evaluate();
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(expected, actual, 0.00001f));
+    }
+
+    @Test
+    public void testNestedOperands() {
+        Random random = new Random(3);
+        Matrix a = Fixtures.randomMat(random, 6, 4);
+        Matrix b = Fixtures.randomMat(random, 6, 4);
+        Matrix c = Fixtures.randomMat(random, 4, 3);
+        Matrix expected = MatMath.prod(MatMath.added(a, b), MatMath.multiplied(c, -2));
+
+        Matrix actual = MatExpr.of(a).plus(b).prod(MatExpr.of(c).times(-2)).evaluate();
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(expected, actual, 0.00001f));
+    }
+
+    @Test
+    public void testEvaluateIntoOperand() {
+        Random random = new Random(4);
+        Matrix a = Fixtures.randomMat(random, 8, 8);
+        Matrix b = Fixtures.randomMat(random, 8, 8);
+        Matrix expected = MatMath.added(MatMath.prod(a, b), a);
+
+        Assertions.assertSame(a, MatExpr.of(a).prod(b).plus(a).evaluate(a));
+        Assertions.assertTrue(MatMath.equalsEpsilon(expected, a, 0.00001f));
+    }
+
+    @Test
+    public void testSparseOperand() {
+        Random random = new Random(5);
+        Matrix dense = Fixtures.randomMat(random, 6, 6);
+        SparseMat sparse = new SparseMat.Builder(6, 6).add(0, 1, 2).add(3, 3, -1).add(5, 0, 4).build();
+        Matrix expected = MatMath.subtracted(MatMath.multiplied(MatMath.prod(sparse, dense), 3), dense);
+
+        Matrix actual = MatExpr.of(sparse).times(3).prod(dense).minus(dense).evaluate();
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(expected, actual, 0.00001f));
+    }
+
+    @Test
+    public void testSizes() {
+        MatExpr expr = MatExpr.of(new Mat(2, 3)).prod(new Mat(3, 4));
+
+        Assertions.assertEquals(2, expr.height());
+        Assertions.assertEquals(4, expr.width());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> expr.plus(new Mat(4, 2)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> expr.prod(new Mat(3, 3)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> expr.evaluate(new Mat(3, 3)));
+    }
+}
@@ -2,9 +2,15 @@ package io.github.alphameo.linear_algebra.mat;
 
 import static io.github.alphameo.linear_algebra.mat.MatMath.*;
 
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
+import io.github.alphameo.linear_algebra.Fixtures;
 import io.github.alphameo.linear_algebra.Validator;
 import io.github.alphameo.linear_algebra.vec.Vec;
 import io.github.alphameo.linear_algebra.vec.Vector;
@@ -29,6 +35,34 @@ public class TestMatMath {
         Assertions.assertEquals(expected, transposed(m));
     }
 
+    @Test
+    public void testTransposeInPlace() {
+        Mat m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        Matrix expected = new Mat(new float[][] {
+                { 1, 4 },
+                { 2, 5 },
+                { 3, 6 }
+        });
+
+        Assertions.assertEquals(expected, m.transpose());
+        Assertions.assertEquals(3, m.height());
+        Assertions.assertEquals(2, m.width());
+    }
+
+    @Test
+    public void testGetOutOfBounds() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> m.get(0, 3));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> m.get(2, 0));
+    }
+
     @Test
     public void testSwapRows() {
         Matrix m = new Mat(new float[][] {
@@ -174,6 +208,389 @@ public class TestMatMath {
         Assertions.assertEquals(expected, prod(m1, m2));
     }
 
+    @Test
+    public void testProdMatBlocked() {
+        Random random = new Random(7);
+        Matrix m1 = Fixtures.randomMat(random, 150, 270);
+        Matrix m2 = Fixtures.randomMat(random, 270, 133);
+
+        Matrix expected = new Mat(m1.height(), m2.width());
+        for (int r = 0; r < m1.height(); r++) {
+            for (int c = 0; c < m2.width(); c++) {
+                float value = 0;
+                for (int i = 0; i < m1.width(); i++) {
+                    value += m1.get(r, i) * m2.get(i, c);
+                }
+                expected.set(r, c, value);
+            }
+        }
+
+        Assertions.assertTrue(equalsEpsilon(expected, prod(m1, m2), 0.0001f));
+    }
+
+    @Test
+    public void testProdMatNonFinite() {
+        Matrix m1 = new Mat(new float[][] {
+                { 0, 1 },
+                { 1, 0 }
+        });
+        Matrix m2 = new Mat(new float[][] {
+                { Float.POSITIVE_INFINITY, 1 },
+                { 2, Float.NaN }
+        });
+
+        Matrix result = prod(m1, m2);
+
+        Assertions.assertTrue(Float.isNaN(result.get(0, 0)));
+        Assertions.assertTrue(Float.isNaN(result.get(0, 1)));
+        Assertions.assertEquals(Float.POSITIVE_INFINITY, result.get(1, 0));
+        Assertions.assertTrue(Float.isNaN(result.get(1, 1)));
+    }
+
+    @Test
+    public void testProdChain() {
+        Random random = new Random(13);
+        int[] sizes = { 40, 3, 60, 2, 50, 7 };
+        Matrix[] chain = new Matrix[sizes.length - 1];
+        for (int i = 0; i < chain.length; i++) {
+            chain[i] = Fixtures.randomMat(random, sizes[i], sizes[i + 1]);
+        }
+
+        Matrix expected = chain[0];
+        for (int i = 1; i < chain.length; i++) {
+            expected = prod(expected, chain[i]);
+        }
+
+        Assertions.assertTrue(equalsEpsilon(expected, prodChain(chain), 0.0001f));
+        Assertions.assertEquals(chain[0], prodChain(chain[0]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> prodChain());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> prodChain(chain[0], chain[0]));
+    }
+
+    @Test
+    public void testChainPlan() {
+        // (A (B C)) costs 100 * 30 * 5 + 10 * 100 * 5 = 20000, ((A B) C) costs 10 * 100 * 30 + 10 * 30 * 5 = 31500
+        ChainPlan plan = ChainPlan.of(new int[] { 10, 100, 30, 5 });
+
+        Assertions.assertEquals(0, plan.split(0, 2));
+        Assertions.assertEquals(100L * 30 * 5 + 10 * 100 * 5, plan.cost());
+        Assertions.assertSame(plan, ChainPlan.of(new int[] { 10, 100, 30, 5 }));
+    }
+
+    @Test
+    public void testParallelProd() {
+        Random random = new Random(11);
+        Matrix m1 = Fixtures.randomMat(random, 301, 97);
+        Matrix m2 = Fixtures.randomMat(random, 97, 517);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Assertions.assertTrue(equalsEpsilon(prod(m1, m2), parallelProd(m1, m2, pool, 0), 0.0001f));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testStrassenProd() {
+        Random random = new Random(17);
+        // even sizes, odd sizes on every level, and sizes below cutoff
+        int[][] sizes = { { 64, 64, 64, 8 }, { 67, 45, 53, 4 }, { 33, 2, 40, 1 }, { 20, 30, 10, 512 } };
+        for (final int[] size : sizes) {
+            Matrix m1 = Fixtures.randomMat(random, size[0], size[1]);
+            Matrix m2 = Fixtures.randomMat(random, size[1], size[2]);
+
+            Assertions.assertTrue(equalsEpsilon(prod(m1, m2), strassenProd(m1, m2, size[3]), 0.0001f));
+        }
+
+        Matrix m = new Mat(3, 4);
+        Assertions.assertTrue(MatMath.equals(new Mat(3, 3), strassenProd(m, transposed(m))));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> strassenProd(m, m));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> strassenProd(m, transposed(m), 0));
+    }
+
+    @Test
+    public void testStrassenProdError() {
+        Random random = new Random(19);
+        Matrix m1 = Fixtures.randomMat(random, 256, 256);
+        Matrix m2 = Fixtures.randomMat(random, 256, 256);
+        double[][] exact = exactProd(m1, m2);
+        double prodError = relativeError(prod(m1, m2), exact, m1, m2);
+
+        // every recursion level at most doubles the error of the ordinary product
+        for (final int cutoff : new int[] { 128, 64, 32, 16, 8 }) {
+            int levels = 0;
+            for (int size = 256; size > cutoff; size /= 2) {
+                levels++;
+            }
+            double error = relativeError(strassenProd(m1, m2, cutoff), exact, m1, m2);
+
+            Assertions.assertTrue(error < 4 * prodError * (1 << levels),
+                    String.format("cutoff %d: relative error %.3e", cutoff, error));
+        }
+    }
+
+    private static double[][] exactProd(final Matrix m1, final Matrix m2) {
+        final double[][] result = new double[m1.height()][m2.width()];
+        for (int r = 0; r < m1.height(); r++) {
+            for (int i = 0; i < m1.width(); i++) {
+                final double value = m1.get(r, i);
+                for (int c = 0; c < m2.width(); c++) {
+                    result[r][c] += value * m2.get(i, c);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates {@code |C - A * B| / (|A| * |B|)} in Frobenius norm.
+     */
+    private static double relativeError(final Matrix c, final double[][] exact, final Matrix m1,
+            final Matrix m2) {
+        double error = 0;
+        for (int r = 0; r < c.height(); r++) {
+            for (int j = 0; j < c.width(); j++) {
+                error += (c.get(r, j) - exact[r][j]) * (c.get(r, j) - exact[r][j]);
+            }
+        }
+
+        return Math.sqrt(error) / (norm(m1) * norm(m2));
+    }
+
+    private static double norm(final Matrix m) {
+        double result = 0;
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                result += (double) m.get(r, c) * m.get(r, c);
+            }
+        }
+
+        return Math.sqrt(result);
+    }
+
+    @Test
+    public void testProdIntoDest() {
+        Matrix m1 = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 },
+                { 7, 8, 9 }
+        });
+        Matrix m2 = new Mat(new float[][] {
+                { 1, 0, 2 },
+                { 0, 1, 0 },
+                { 3, 0, 1 }
+        });
+        Matrix expected = prod(m1, m2);
+
+        Matrix dest = new Mat(3, 3);
+        dest.set(0, 0, 100);
+        Assertions.assertSame(dest, prod(m1, m2, dest));
+        Assertions.assertEquals(expected, dest);
+
+        Matrix left = new Mat(m1);
+        Assertions.assertSame(left, prod(left, m2, left));
+        Assertions.assertEquals(expected, left);
+
+        Vector v = new Vec(1, 2, 3);
+        Vector expectedVec = prod(m1, v);
+        Assertions.assertSame(v, prod(m1, v, v));
+        Assertions.assertEquals(expectedVec, v);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> prod(m1, m2, new Mat(3, 2)));
+    }
+
+    @Test
+    public void testTransposeIntoDest() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        Matrix expected = new Mat(new float[][] {
+                { 1, 4 },
+                { 2, 5 },
+                { 3, 6 }
+        });
+
+        Matrix dest = new Mat(3, 2);
+        Assertions.assertSame(dest, transposed(m, dest));
+        Assertions.assertEquals(expected, dest);
+
+        Matrix square = new Mat(new float[][] {
+                { 1, 2 },
+                { 3, 4 }
+        });
+        Assertions.assertSame(square, transposed(square, square));
+        Assertions.assertEquals(new Mat(new float[][] {
+                { 1, 3 },
+                { 2, 4 }
+        }), square);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> transposed(m, new Mat(2, 3)));
+    }
+
+    @Test
+    public void testMultIntoDest() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        Matrix expected = new Mat(new float[][] {
+                { 2, 4, 6 },
+                { 8, 10, 12 }
+        });
+
+        Matrix dest = new Mat(2, 3);
+        Assertions.assertSame(dest, multiplied(m, 2, dest));
+        Assertions.assertEquals(expected, dest);
+        Assertions.assertSame(m, multiplied(m, 2, m));
+        Assertions.assertEquals(expected, m);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> multiplied(m, 2, new Mat(3, 2)));
+    }
+
+    @Test
+    public void testDivided() {
+        Matrix m = new Mat(new float[][] {
+                { 2, 4, 6 },
+                { 8, 10, 12 }
+        });
+        Matrix expected = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+
+        Assertions.assertEquals(expected, divided(m, 2));
+        Assertions.assertEquals(new Mat(new float[][] {
+                { 2, 4, 6 },
+                { 8, 10, 12 }
+        }), m);
+    }
+
+    @Test
+    public void testDivideIntoDest() {
+        Matrix m = new Mat(new float[][] {
+                { 2, 4, 6 },
+                { 8, 10, 12 }
+        });
+        Matrix expected = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+
+        Matrix dest = new Mat(2, 3);
+        Assertions.assertSame(dest, divided(m, 2, dest));
+        Assertions.assertEquals(expected, dest);
+        Assertions.assertSame(m, divided(m, 2, m));
+        Assertions.assertEquals(expected, m);
+
+        Assertions.assertThrows(ArithmeticException.class, () -> divided(m, 0, dest));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> divided(m, 2, new Mat(3, 2)));
+    }
+
+    @Test
+    public void testAddIntoDest() {
+        Matrix m1 = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+        Matrix m2 = new Mat(new float[][] {
+                { 6, 5, 4 },
+                { 3, 2, 1 }
+        });
+        Matrix expected = new Mat(new float[][] {
+                { 7, 7, 7 },
+                { 7, 7, 7 }
+        });
+
+        Matrix dest = new Mat(2, 3);
+        Assertions.assertSame(dest, added(m1, m2, dest));
+        Assertions.assertEquals(expected, dest);
+
+        Matrix left = new Mat(m1);
+        Assertions.assertSame(left, added(left, m2, left));
+        Assertions.assertEquals(expected, left);
+
+        Matrix right = new Mat(m2);
+        Assertions.assertSame(right, added(m1, right, right));
+        Assertions.assertEquals(expected, right);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> added(m1, m2, new Mat(3, 2)));
+    }
+
+    @Test
+    public void testSubIntoDest() {
+        Matrix m1 = new Mat(new float[][] {
+                { 7, 7, 7 },
+                { 7, 7, 7 }
+        });
+        Matrix m2 = new Mat(new float[][] {
+                { 6, 5, 4 },
+                { 3, 2, 1 }
+        });
+        Matrix expected = new Mat(new float[][] {
+                { 1, 2, 3 },
+                { 4, 5, 6 }
+        });
+
+        Matrix dest = new Mat(2, 3);
+        Assertions.assertSame(dest, subtracted(m1, m2, dest));
+        Assertions.assertEquals(expected, dest);
+
+        Matrix left = new Mat(m1);
+        Assertions.assertSame(left, subtracted(left, m2, left));
+        Assertions.assertEquals(expected, left);
+
+        Matrix right = new Mat(m2);
+        Assertions.assertSame(right, subtracted(m1, right, right));
+        Assertions.assertEquals(expected, right);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> subtracted(m1, m2, new Mat(3, 2)));
+    }
+
+    @Test
+    public void testIntoDestDoesNotAllocate() {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Random random = new Random(23);
+        Matrix m = Fixtures.randomMat(random, 6, 6);
+        Matrix dest = new Mat(6, 6);
+        Matrix other = new Mat(6, 6);
+        Vector v = Fixtures.randomVec(random, 6);
+        Vector destVec = new Vec(6);
+        // large enough for the packing path of the blocked kernel
+        Matrix large = Fixtures.randomMat(random, 64, 64);
+        Matrix largeDest = new Mat(64, 64);
+        final int iterations = 2_000;
+        for (int i = 0; i < iterations; i++) {
+            intoDestOps(m, dest, other, v, destVec, large, largeDest);
+        }
+
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            intoDestOps(m, dest, other, v, destVec, large, largeDest);
+        }
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        Assertions.assertTrue(allocated < iterations, "allocated " + allocated + " bytes");
+    }
+
+    private static void intoDestOps(final Matrix m, final Matrix dest, final Matrix other, final Vector v,
+            final Vector destVec, final Matrix large, final Matrix largeDest) {
+        prod(m, m, dest);
+        prod(m, v, destVec);
+        transposed(dest, other);
+        added(other, m, dest);
+        subtracted(dest, m, other);
+        multiplied(other, 0.5f, dest);
+        divided(dest, 0.5f, other);
+        prod(large, large, largeDest);
+    }
+
     @Test
     public void testProdMatException() {
         Matrix m1 = new Mat(new float[][] {
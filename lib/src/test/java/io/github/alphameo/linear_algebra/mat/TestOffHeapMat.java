@@ -0,0 +1,120 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.Fixtures;
+import io.github.alphameo.linear_algebra.vec.OffHeapVec;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * TestOffHeapMat
+ */
+public class TestOffHeapMat {
+
+    @Test
+    public void testGetSetAcrossChunks() {
+        try (OffHeapMat m = new OffHeapMat(10, 3, 4)) {
+            for (int r = 0; r < m.height(); r++) {
+                for (int c = 0; c < m.width(); c++) {
+                    m.set(r, c, r * 10 + c);
+                }
+            }
+
+            for (int r = 0; r < m.height(); r++) {
+                for (int c = 0; c < m.width(); c++) {
+                    Assertions.assertEquals(r * 10 + c, m.get(r, c));
+                }
+            }
+            Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> m.get(10, 0));
+            Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> m.get(0, 3));
+        }
+    }
+
+    @Test
+    public void testMatMath() {
+        Random random = new Random(3);
+        Matrix heap = Fixtures.randomMat(random, 7, 7);
+        Vector v = new Vec(1, 2, 3, 4, 5, 6, 7);
+
+        try (OffHeapMat m = new OffHeapMat(heap); OffHeapVec offHeapV = new OffHeapVec(v)) {
+            Assertions.assertTrue(MatMath.equals(heap, m));
+            Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.prod(heap, heap), MatMath.prod(m, m), 0.00001f));
+            Assertions.assertEquals(MatMath.det(heap), MatMath.det(m), 0.00001f);
+            Assertions.assertEquals(MatMath.prod(heap, v), MatMath.prod(m, offHeapV));
+            Assertions.assertTrue(MatMath.equals(MatMath.transposed(heap), MatMath.transposed(m)));
+        }
+    }
+
+    @Test
+    public void testRowsAcrossChunks() {
+        try (OffHeapMat m = offHeap(Fixtures.randomMat(new Random(4), 10, 3), 4)) {
+            float[] rows = new float[7 * 3];
+            m.rows(2, 7, rows);
+
+            for (int r = 0; r < 7; r++) {
+                for (int c = 0; c < 3; c++) {
+                    Assertions.assertEquals(m.get(r + 2, c), rows[r * 3 + c]);
+                }
+            }
+            Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> m.rows(5, 6, rows));
+        }
+    }
+
+    @Test
+    public void testProdPanels() {
+        Random random = new Random(5);
+        Mat a = Fixtures.randomMat(random, 37, 23);
+        Mat b = Fixtures.randomMat(random, 23, 29);
+        Matrix expected = MatMath.prod(a, b);
+        ForkJoinPool pool = new ForkJoinPool(3);
+
+        try (OffHeapMat offA = offHeap(a, 4); OffHeapMat offB = offHeap(b, 5)) {
+            for (final Matrix[] operands : new Matrix[][] { { offA, b }, { a, offB }, { offA, offB } }) {
+                for (final PanelProd.Kernel kernel : new PanelProd.Kernel[] {
+                        PanelProd.gemm(), PanelProd.parallel(pool), PanelProd.strassen(4) }) {
+                    Assertions.assertTrue(MatMath.equalsEpsilon(expected,
+                            PanelProd.prod(operands[0], operands[1], kernel, 100), 0.0001f));
+                }
+
+                Assertions.assertTrue(MatMath.equalsEpsilon(expected, MatMath.prod(operands[0], operands[1]),
+                        0.0001f));
+                Assertions.assertTrue(MatMath.equalsEpsilon(expected,
+                        MatMath.parallelProd(operands[0], operands[1], pool, 0), 0.0001f));
+                Assertions.assertTrue(MatMath.equalsEpsilon(expected,
+                        MatMath.strassenProd(operands[0], operands[1], 4), 0.0001f));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testClose() {
+        OffHeapMat m = new OffHeapMat(2, 2);
+        OffHeapMat copy = m.clone();
+        m.close();
+
+        Assertions.assertFalse(m.isOpen());
+        Assertions.assertThrows(IllegalStateException.class, () -> m.get(0, 0));
+        Assertions.assertThrows(IllegalStateException.class, () -> m.set(0, 0, 1));
+        Assertions.assertThrows(IllegalStateException.class, () -> MatMath.prod(m, copy));
+        Assertions.assertTrue(copy.isOpen());
+        m.close();
+    }
+
+    private static OffHeapMat offHeap(final Matrix m, final int rowsPerChunk) {
+        final OffHeapMat result = new OffHeapMat(m.height(), m.width(), rowsPerChunk);
+        for (int r = 0; r < m.height(); r++) {
+            for (int c = 0; c < m.width(); c++) {
+                result.set(r, c, m.get(r, c));
+            }
+        }
+
+        return result;
+    }
+}
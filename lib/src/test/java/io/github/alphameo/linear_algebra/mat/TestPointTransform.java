@@ -0,0 +1,128 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.vec.Vec4;
+import io.github.alphameo.linear_algebra.vec.Vector4;
+
+/**
+ * TestPointTransform
+ */
+public class TestPointTransform {
+
+    private static final Matrix4 M = new Mat4(new float[][] {
+            { 0.5f, -1, 2, 3 },
+            { 1, 0.25f, 0, -4 },
+            { -2, 1, 1.5f, 0.5f },
+            { 0.1f, 0.2f, 0.3f, 1 }
+    });
+
+    private static float[] randomPoints(final int count, final PointLayout layout) {
+        final Random random = new Random(count);
+        final float[] result = new float[count * layout.components()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = random.nextFloat() * 20 - 10;
+        }
+
+        return result;
+    }
+
+    private static int index(final PointLayout layout, final int count, final int point, final int component) {
+        return layout.planar() ? component * count + point : point * layout.components() + component;
+    }
+
+    private static void assertTransformed(final float[] src, final float[] actual, final PointLayout layout) {
+        final int components = layout.components();
+        final int count = src.length / components;
+        for (int i = 0; i < count; i++) {
+            final float w = components == 4 ? src[index(layout, count, i, 3)] : 1;
+            final Vector4 expected = Mat4Math.prod(M, new Vec4(
+                    src[index(layout, count, i, 0)],
+                    src[index(layout, count, i, 1)],
+                    src[index(layout, count, i, 2)],
+                    w));
+            for (int k = 0; k < components; k++) {
+                Assertions.assertEquals(expected.get(k), actual[index(layout, count, i, k)], 0.0001f);
+            }
+        }
+    }
+
+    @Test
+    public void testLayouts() {
+        for (final PointLayout layout : PointLayout.values()) {
+            for (final int count : new int[] { 0, 1, 7, 33, 1000 }) {
+                float[] src = randomPoints(count, layout);
+                float[] dest = new float[src.length];
+
+                Assertions.assertSame(dest, Mat4Math.transformPoints(M, src, dest, layout));
+                assertTransformed(src, dest, layout);
+            }
+        }
+    }
+
+    @Test
+    public void testInPlace() {
+        for (final PointLayout layout : PointLayout.values()) {
+            float[] src = randomPoints(101, layout);
+            float[] points = src.clone();
+
+            Mat4Math.transformPoints(M, points, points, layout);
+
+            assertTransformed(src, points, layout);
+        }
+    }
+
+    @Test
+    public void testParallel() {
+        for (final PointLayout layout : PointLayout.values()) {
+            float[] src = randomPoints(Mat4Math.PARALLEL_POINTS_THRESHOLD + 13, layout);
+            float[] points = src.clone();
+
+            Mat4Math.transformPoints(M, points, points, layout);
+
+            assertTransformed(src, points, layout);
+        }
+    }
+
+    @Test
+    public void testBuffers() {
+        for (final PointLayout layout : PointLayout.values()) {
+            float[] src = randomPoints(PointKernels.CHUNK + 5, layout);
+            FloatBuffer heap = FloatBuffer.allocate(src.length + 2);
+            FloatBuffer direct = ByteBuffer.allocateDirect(4 * (src.length + 3))
+                    .order(ByteOrder.nativeOrder()).asFloatBuffer();
+            heap.position(2);
+            heap.put(src).position(2);
+            direct.position(3);
+            direct.put(src).position(3);
+
+            Mat4Math.transformPoints(M, heap, heap, layout);
+            Mat4Math.transformPoints(M, direct, direct, layout);
+
+            Assertions.assertEquals(2, heap.position());
+            Assertions.assertEquals(3, direct.position());
+            float[] actual = new float[src.length];
+            heap.get(2, actual);
+            assertTransformed(src, actual, layout);
+            direct.get(3, actual);
+            assertTransformed(src, actual, layout);
+        }
+    }
+
+    @Test
+    public void testInvalidLength() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Mat4Math.transformPoints(M, new float[7], new float[7], PointLayout.XYZW));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Mat4Math.transformPoints(M, new float[6], new float[3], PointLayout.XYZ));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Mat4Math.transformPoints(M, FloatBuffer.allocate(8), FloatBuffer.allocate(4),
+                        PointLayout.SOA_XYZW));
+    }
+}
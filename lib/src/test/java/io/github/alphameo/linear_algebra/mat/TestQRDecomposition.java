@@ -0,0 +1,111 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.Fixtures;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.VecMath;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * TestQRDecomposition
+ */
+public class TestQRDecomposition {
+
+    private static Matrix rows(final Matrix m, final int from, final int to) {
+        final Matrix result = new Mat(to - from, m.width());
+        for (int r = from; r < to; r++) {
+            for (int c = 0; c < m.width(); c++) {
+                result.set(r - from, c, m.get(r, c));
+            }
+        }
+
+        return result;
+    }
+
+    @Test
+    public void testFactors() {
+        Random random = new Random(1);
+        for (final int width : new int[] { 1, 5, 70 }) {
+            Matrix m = Fixtures.randomMat(random, 200, width);
+            QRDecomposition qr = new QRDecomposition(m);
+            Matrix q = qr.q();
+            Matrix r = qr.r();
+
+            Assertions.assertTrue(qr.fullRank());
+            Assertions.assertTrue(MatMath.equalsEpsilon(m, MatMath.prod(q, r), 0.0001f));
+            Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.unitMat(width),
+                    MatMath.prod(MatMath.transposed(q), q), 0.0001f));
+            for (int i = 0; i < width; i++) {
+                for (int j = 0; j < i; j++) {
+                    Assertions.assertEquals(0, r.get(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSolveLeastSquares() {
+        Random random = new Random(2);
+        Matrix m = Fixtures.randomMat(random, 3000, 40);
+        Vector x = Fixtures.randomVec(random, 40);
+        Vector b = MatMath.prod(m, x);
+        QRDecomposition qr = new QRDecomposition(m);
+
+        Assertions.assertTrue(VecMath.equalsEpsilon(x, qr.solveLeastSquares(b), 0.0001f));
+
+        // noisy right-hand side: residual is orthogonal to columns
+        Vector noisy = VecMath.added(b, Fixtures.randomVec(random, 3000));
+        Vector solution = qr.solveLeastSquares(noisy);
+        Vector residual = VecMath.subtracted(MatMath.prod(m, solution), noisy);
+        Vector projection = MatMath.prod(MatMath.transposed(m), residual);
+        Assertions.assertTrue(VecMath.len(projection) < 0.01f);
+
+        Matrix xs = Fixtures.randomMat(random, 40, 3);
+        Assertions.assertTrue(MatMath.equalsEpsilon(xs, qr.solveLeastSquares(MatMath.prod(m, xs)), 0.0001f));
+    }
+
+    @Test
+    public void testStreaming() {
+        Random random = new Random(3);
+        Matrix m = Fixtures.randomMat(random, 1000, 37);
+        Vector b = VecMath.added(MatMath.prod(m, Fixtures.randomVec(random, 37)), Fixtures.randomVec(random, 1000));
+        QRDecomposition.Streaming streaming = new QRDecomposition.Streaming(37);
+        for (int from = 0; from < 1000; from += 300) {
+            int to = Math.min(from + 300, 1000);
+            Vector part = new Vec(to - from);
+            for (int i = from; i < to; i++) {
+                part.set(i - from, b.get(i));
+            }
+            streaming.add(rows(m, from, to), part);
+        }
+
+        Vector expected = new QRDecomposition(m).solveLeastSquares(b);
+        Vector actual = streaming.solveLeastSquares();
+        Vector residual = VecMath.subtracted(MatMath.prod(m, actual), b);
+
+        Assertions.assertEquals(1000, streaming.rows());
+        Assertions.assertTrue(VecMath.equalsEpsilon(expected, actual, 0.0001f));
+        Assertions.assertEquals(VecMath.len(residual), streaming.residualNorm(), 0.001f);
+        Matrix r = streaming.r();
+        Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.prod(MatMath.transposed(m), m),
+                MatMath.prod(MatMath.transposed(r), r), 0.01f));
+    }
+
+    @Test
+    public void testRankDeficient() {
+        Matrix m = new Mat(new float[][] {
+                { 1, 2 },
+                { 2, 4 },
+                { 3, 6 }
+        });
+        QRDecomposition qr = new QRDecomposition(m);
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> new QRDecomposition(new Mat(2, 3)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> qr.solveLeastSquares(new Vec(1, 2)));
+        Assertions.assertTrue(MatMath.equalsEpsilon(m, MatMath.prod(qr.q(), qr.r()), 0.0001f));
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.Fixtures;
+
+/**
+ * TestSingularValueDecomposition
+ */
+public class TestSingularValueDecomposition {
+
+    private static Matrix diagonalProd(final Matrix u, final Matrix s, final Matrix v) {
+        return MatMath.prod(MatMath.prod(u, s), MatMath.transposed(v));
+    }
+
+    private static void assertFactors(final Matrix m, final SingularValueDecomposition svd, final float eps) {
+        final Matrix u = svd.u();
+        final Matrix v = svd.v();
+        final int count = svd.count();
+        final Matrix s = new Mat(count);
+        for (int i = 0; i < count; i++) {
+            s.set(i, i, svd.singularValue(i));
+            Assertions.assertTrue(svd.singularValue(i) >= 0);
+            if (i > 0) {
+                Assertions.assertTrue(svd.singularValue(i - 1) >= svd.singularValue(i));
+            }
+        }
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.unitMat(count),
+                MatMath.prod(MatMath.transposed(u), u), eps));
+        Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.unitMat(count),
+                MatMath.prod(MatMath.transposed(v), v), eps));
+        Assertions.assertTrue(MatMath.equalsEpsilon(m, diagonalProd(u, s, v), eps));
+    }
+
+    @Test
+    public void testDecomposition() {
+        Random random = new Random(1);
+        for (final int[] size : new int[][] { { 1, 1 }, { 5, 5 }, { 60, 20 }, { 20, 60 }, { 1, 7 }, { 7, 1 } }) {
+            Matrix m = Fixtures.randomMat(random, size[0], size[1]);
+            SingularValueDecomposition svd = new SingularValueDecomposition(m);
+
+            Assertions.assertEquals(size[0], svd.height());
+            Assertions.assertEquals(size[1], svd.width());
+            Assertions.assertEquals(Math.min(size[0], size[1]), svd.count());
+            Assertions.assertEquals(Math.min(size[0], size[1]), svd.rank());
+            assertFactors(m, svd, 0.0001f);
+        }
+    }
+
+    @Test
+    public void testRank() {
+        Random random = new Random(2);
+        Matrix m = MatMath.prod(Fixtures.randomMat(random, 40, 6), Fixtures.randomMat(random, 6, 30));
+        SingularValueDecomposition svd = new SingularValueDecomposition(m);
+
+        Assertions.assertEquals(6, svd.rank());
+        Assertions.assertTrue(svd.cond() > 1e5f);
+        Assertions.assertEquals(0, new SingularValueDecomposition(new Mat(3, 4)).rank());
+    }
+
+    @Test
+    public void testPseudoInverse() {
+        Random random = new Random(3);
+        Matrix square = Fixtures.randomMat(random, 8, 8);
+        Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.invertible(square),
+                new SingularValueDecomposition(square).pseudoInverse(), 0.001f));
+
+        Matrix m = MatMath.prod(Fixtures.randomMat(random, 30, 4), Fixtures.randomMat(random, 4, 12));
+        Matrix pinv = new SingularValueDecomposition(m).pseudoInverse();
+        Assertions.assertEquals(12, pinv.height());
+        Assertions.assertEquals(30, pinv.width());
+        Assertions.assertTrue(MatMath.equalsEpsilon(m, MatMath.prod(MatMath.prod(m, pinv), m), 0.001f));
+        Assertions.assertTrue(MatMath.equalsEpsilon(pinv, MatMath.prod(MatMath.prod(pinv, m), pinv), 0.001f));
+    }
+
+    @Test
+    public void testApproximation() {
+        Random random = new Random(4);
+        Matrix m = Fixtures.randomMat(random, 30, 20);
+        SingularValueDecomposition svd = new SingularValueDecomposition(m);
+        Matrix approximation = svd.approximation(5);
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(m, svd.approximation(20), 0.0001f));
+        SingularValueDecomposition approximationSvd = new SingularValueDecomposition(approximation);
+        Assertions.assertEquals(5, approximationSvd.rank());
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(svd.singularValue(i), approximationSvd.singularValue(i), 0.0001f);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> svd.approximation(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> svd.approximation(21));
+    }
+
+    @Test
+    public void testTruncated() {
+        // rank 8 matrix with small noise
+        Random random = new Random(5);
+        Matrix m = MatMath.prod(Fixtures.randomMat(random, 400, 8), Fixtures.randomMat(random, 8, 150));
+        Matrix noise = Fixtures.randomMat(random, 400, 150);
+        MatMath.add(m, MatMath.multiplied(noise, 0.001f));
+        SingularValueDecomposition exact = new SingularValueDecomposition(m);
+
+        for (final SingularValueDecomposition truncated : new SingularValueDecomposition[] {
+                SingularValueDecomposition.truncated(m, 8),
+                SingularValueDecomposition.truncated(m, 8, 5, 0, new ForkJoinPool(2)) }) {
+            Assertions.assertEquals(400, truncated.height());
+            Assertions.assertEquals(150, truncated.width());
+            Assertions.assertEquals(8, truncated.count());
+            for (int i = 0; i < 8; i++) {
+                Assertions.assertEquals(exact.singularValue(i), truncated.singularValue(i),
+                        0.001f * exact.singularValue(0));
+            }
+            assertFactors(truncated.approximation(8), truncated, 0.001f);
+            Assertions.assertTrue(MatMath.equalsEpsilon(m, truncated.approximation(8), 0.01f));
+        }
+    }
+
+    @Test
+    public void testInvalidTruncation() {
+        Matrix m = new Mat(5, 3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SingularValueDecomposition.truncated(m, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SingularValueDecomposition.truncated(m, 4));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> SingularValueDecomposition.truncated(m, 2, -1, 0, ForkJoinPool.commonPool()));
+    }
+}
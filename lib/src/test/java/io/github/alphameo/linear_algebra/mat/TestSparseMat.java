@@ -0,0 +1,98 @@
+package io.github.alphameo.linear_algebra.mat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.Fixtures;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * TestSparseMat
+ */
+public class TestSparseMat {
+
+    @Test
+    public void testBuilder() {
+        SparseMat m = new SparseMat.Builder(3, 4)
+                .add(2, 1, 5)
+                .add(0, 3, 1)
+                .add(0, 0, 2)
+                .add(2, 1, 1)
+                .add(1, 2, 3)
+                .add(1, 2, -3)
+                .build();
+
+        Matrix expected = new Mat(new float[][] {
+                { 2, 0, 0, 1 },
+                { 0, 0, 0, 0 },
+                { 0, 6, 0, 0 } });
+
+        Assertions.assertEquals(3, m.nonZeros());
+        Assertions.assertTrue(MatMath.equals(expected, m));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SparseMat.Builder(2, 2).add(2, 0, 1));
+    }
+
+    @Test
+    public void testSet() {
+        SparseMat m = new SparseMat(new Mat(new float[][] {
+                { 1, 0 },
+                { 0, 2 } }));
+
+        m.set(1, 1, 4);
+        m.set(0, 1, 0);
+
+        Assertions.assertEquals(4, m.get(1, 1));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> m.set(0, 1, 1));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> m.get(2, 0));
+    }
+
+    @Test
+    public void testProd() {
+        Random random = new Random(5);
+        Mat dense = new Mat(20, 15);
+        for (int r = 0; r < dense.height(); r++) {
+            for (int c = 0; c < dense.width(); c++) {
+                if (random.nextInt(5) == 0) {
+                    dense.set(r, c, random.nextFloat() - 0.5f);
+                }
+            }
+        }
+        Mat right = Fixtures.randomMat(random, 15, 7);
+        Vector v = Fixtures.randomVec(random, 15);
+        SparseMat sparse = new SparseMat(dense);
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.prod(dense, right), MatMath.prod(sparse, right), 0.00001f));
+        Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.prod(dense, right),
+                MatMath.prod(sparse, right, new Mat(20, 7)), 0.00001f));
+        Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.prod(dense, MatMath.transposed(dense)),
+                sparse.prod(MatMath.transposed(sparse)), 0.00001f));
+
+        Vector expected = MatMath.prod(dense, v);
+        Vector actual = sparse.prod(v);
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i), actual.get(i), 0.00001f);
+        }
+    }
+
+    @Test
+    public void testAdded() {
+        SparseMat m1 = new SparseMat(new Mat(new float[][] {
+                { 1, 0, 2 },
+                { 0, 3, 0 } }));
+        SparseMat m2 = new SparseMat(new Mat(new float[][] {
+                { -1, 4, 0 },
+                { 0, 0, 5 } }));
+
+        SparseMat sum = MatMath.added(m1, m2);
+        Matrix expected = new Mat(new float[][] {
+                { 0, 4, 2 },
+                { 0, 3, 5 } });
+
+        Assertions.assertEquals(4, sum.nonZeros());
+        Assertions.assertTrue(MatMath.equals(expected, sum));
+        Assertions.assertTrue(MatMath.equals(expected, MatMath.added((Matrix) m1, m2)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m1.added(new SparseMat.Builder(3, 2).build()));
+    }
+}
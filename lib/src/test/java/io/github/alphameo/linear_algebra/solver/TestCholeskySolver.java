@@ -0,0 +1,38 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.mat.Mat;
+import io.github.alphameo.linear_algebra.mat.MatMath;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.VecMath;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * TestCholeskySolver
+ */
+public class TestCholeskySolver {
+
+    @Test
+    public void testSolve() {
+        Matrix m = new Mat(new float[][] {
+                { 4, 12, -16 },
+                { 12, 37, -43 },
+                { -16, -43, 98 }
+        });
+        Vector x = new Vec(1, -2, 3);
+        Solver solver = new CholeskySolver(m);
+
+        Assertions.assertTrue(VecMath.equalsEpsilon(x, solver.solve(MatMath.prod(m, x)), 0.0001f));
+        Assertions.assertTrue(MatMath.equalsEpsilon(MatMath.unitMat(3), solver.solve(m), 0.0001f));
+    }
+
+    @Test
+    public void testNotFactored() {
+        Solver solver = new CholeskySolver();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> solver.solve(new Vec(1, 2)));
+    }
+}
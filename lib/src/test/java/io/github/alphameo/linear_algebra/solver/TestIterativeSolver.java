@@ -0,0 +1,139 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.mat.MatMath;
+import io.github.alphameo.linear_algebra.mat.SparseMat;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.VecMath;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * TestIterativeSolver
+ */
+public class TestIterativeSolver {
+
+    /**
+     * Five-point finite difference operator on {@code n x n} grid with
+     * convection {@code convection}, symmetric positive definite for 0.
+     */
+    private static SparseMat gridMat(final int n, final float convection) {
+        final SparseMat.Builder builder = new SparseMat.Builder(n * n, n * n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                final int row = i * n + j;
+                builder.add(row, row, 4);
+                if (i > 0) {
+                    builder.add(row, row - n, -1 - convection);
+                }
+                if (i < n - 1) {
+                    builder.add(row, row + n, -1 + convection);
+                }
+                if (j > 0) {
+                    builder.add(row, row - 1, -1);
+                }
+                if (j < n - 1) {
+                    builder.add(row, row + 1, -1);
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static Vector expectedSolution(final int size) {
+        final Vector result = new Vec(size);
+        for (int i = 0; i < size; i++) {
+            result.set(i, (float) Math.sin(i * 0.1));
+        }
+
+        return result;
+    }
+
+    private static void assertSolves(final IterativeSolver solver, final SparseMat m) {
+        Vector x = expectedSolution(m.height());
+        Vector actual = solver.factor(m).solve(MatMath.prod(m, x));
+
+        Assertions.assertTrue(solver.converged());
+        Assertions.assertTrue(solver.residual() <= solver.tolerance());
+        Assertions.assertTrue(VecMath.equalsEpsilon(x, actual, 0.001f));
+    }
+
+    @Test
+    public void testConjugateGradient() {
+        SparseMat m = gridMat(20, 0);
+
+        assertSolves(new ConjugateGradientSolver(), m);
+        assertSolves(new ConjugateGradientSolver().preconditioner(new JacobiPreconditioner()), m);
+        assertSolves(new ConjugateGradientSolver().preconditioner(new IncompleteCholeskyPreconditioner()), m);
+    }
+
+    @Test
+    public void testIncompleteCholeskyReducesIterations() {
+        SparseMat m = gridMat(30, 0);
+        Vector b = MatMath.prod(m, expectedSolution(m.height()));
+        IterativeSolver plain = new ConjugateGradientSolver(m);
+        IterativeSolver preconditioned = new ConjugateGradientSolver(m)
+                .preconditioner(new IncompleteCholeskyPreconditioner());
+
+        plain.solve(b);
+        preconditioned.solve(b);
+
+        Assertions.assertTrue(preconditioned.iterations() < plain.iterations());
+    }
+
+    @Test
+    public void testNonSymmetric() {
+        SparseMat m = gridMat(20, 0.5f);
+
+        assertSolves(new BiCGStabSolver(), m);
+        assertSolves(new BiCGStabSolver().preconditioner(new JacobiPreconditioner()), m);
+        assertSolves(new GMRESSolver(), m);
+        assertSolves(new GMRESSolver(10).preconditioner(new JacobiPreconditioner()), m);
+    }
+
+    @Test
+    public void testListenerAndWarmStart() {
+        SparseMat m = gridMat(15, 0);
+        Vector x = expectedSolution(m.height());
+        Vector b = MatMath.prod(m, x);
+        List<Float> residuals = new ArrayList<>();
+        IterativeSolver solver = new ConjugateGradientSolver(m)
+                .listener((iteration, residual) -> residuals.add(residual));
+
+        solver.solve(b);
+
+        Assertions.assertEquals(solver.iterations() + 1, residuals.size());
+        Assertions.assertEquals(1, residuals.get(0), 0.00001f);
+        Assertions.assertEquals(solver.residual(), residuals.get(residuals.size() - 1));
+
+        residuals.clear();
+        solver.initialGuess(x).solve(b);
+
+        Assertions.assertEquals(0, solver.iterations());
+        Assertions.assertEquals(1, residuals.size());
+    }
+
+    @Test
+    public void testMaxIterations() {
+        SparseMat m = gridMat(20, 0);
+        IterativeSolver solver = new ConjugateGradientSolver(m).maxIterations(3);
+
+        solver.solve(MatMath.prod(m, expectedSolution(m.height())));
+
+        Assertions.assertFalse(solver.converged());
+        Assertions.assertEquals(3, solver.iterations());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> solver.tolerance(0));
+    }
+
+    @Test
+    public void testNotFactored() {
+        Solver solver = new GMRESSolver();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> solver.solve(new Vec(1, 2)));
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.alphameo.linear_algebra.solver;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.github.alphameo.linear_algebra.Fixtures;
+import io.github.alphameo.linear_algebra.mat.Mat;
+import io.github.alphameo.linear_algebra.mat.MatMath;
+import io.github.alphameo.linear_algebra.mat.Matrix;
+import io.github.alphameo.linear_algebra.vec.Vec;
+import io.github.alphameo.linear_algebra.vec.VecMath;
+import io.github.alphameo.linear_algebra.vec.Vector;
+
+/**
+ * TestLUSolver
+ */
+public class TestLUSolver {
+
+    @Test
+    public void testSolveVector() {
+        Matrix m = new Mat(new float[][] {
+                { 2, 6, -2, 1 },
+                { 3, -1, 5, -3 },
+                { 1, 7, 4, -1 },
+                { 2, 3, -3, 1 }
+        });
+        Vector x = new Vec(1, 2, 3, 4);
+        Solver solver = new LUSolver().factor(m);
+
+        Assertions.assertTrue(VecMath.equalsEpsilon(x, solver.solve(MatMath.prod(m, x)), 0.0001f));
+    }
+
+    @Test
+    public void testSolveManyRightHandSides() {
+        Random random = new Random(9);
+        Matrix m = MatMath.add(Fixtures.randomMat(random, 150, 150), MatMath.mult(MatMath.unitMat(150), 8));
+        Matrix x = Fixtures.randomMat(random, 150, 33);
+        Solver solver = new LUSolver(m);
+
+        Assertions.assertTrue(MatMath.equalsEpsilon(x, solver.solve(MatMath.prod(m, x)), 0.001f));
+    }
+
+    @Test
+    public void testNotFactored() {
+        Solver solver = new LUSolver();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> solver.solve(new Vec(1, 2)));
+    }
+}
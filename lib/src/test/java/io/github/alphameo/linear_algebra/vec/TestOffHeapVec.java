@@ -0,0 +1,33 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TestOffHeapVec
+ */
+public class TestOffHeapVec {
+
+    @Test
+    public void testVecMath() {
+        Vector v1 = new Vec(1, 2, 3);
+        Vector v2 = new Vec(-4, 0, 2);
+
+        try (OffHeapVec o1 = new OffHeapVec(v1); OffHeapVec o2 = new OffHeapVec(v2)) {
+            Assertions.assertEquals(VecMath.dot(v1, v2), VecMath.dot(o1, o2));
+            Assertions.assertEquals(VecMath.cross(v1, v2), VecMath.cross(o1, o2));
+            Assertions.assertEquals(VecMath.added(v1, v2), VecMath.added(o1, o2));
+            Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> o1.get(3));
+        }
+    }
+
+    @Test
+    public void testClose() {
+        OffHeapVec v = new OffHeapVec(3);
+        v.close();
+
+        Assertions.assertFalse(v.isOpen());
+        Assertions.assertThrows(IllegalStateException.class, () -> v.get(0));
+        Assertions.assertThrows(IllegalStateException.class, () -> v.set(0, 1));
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TestVecArray
+ */
+public class TestVecArray {
+
+    @Test
+    public void testAccessors() {
+        Vec3Array a = new Vec3Array(new Vec3(1, 2, 3), new Vec3(4, 5, 6));
+
+        Assertions.assertEquals(2, a.size());
+        Assertions.assertEquals(3, a.components());
+        Assertions.assertEquals(5, a.y(1));
+        Assertions.assertEquals(3, a.component(0, 2));
+        Assertions.assertEquals(new Vec3(4, 5, 6), a.get(1));
+
+        a.setZ(1, 9);
+        a.set(0, 7, 8, 9);
+        a.setComponent(0, 0, -1);
+
+        Assertions.assertArrayEquals(new float[] { -1, 8, 9, 4, 5, 9 }, a.toArray());
+        Assertions.assertEquals(new Vec3(4, 5, 9), a.get(1, new Vec3()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.component(0, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Vec3Array(1, 2, 3, 4));
+    }
+
+    @Test
+    public void testEmpty() {
+        Assertions.assertEquals(0, new Vec2Array().size());
+        Assertions.assertEquals(0, new Vec3Array().size());
+        Assertions.assertEquals(0, new Vec4Array().size());
+    }
+
+    @Test
+    public void testBulkOperations() {
+        Vec3Array a = new Vec3Array(1, 2, 3, 4, 5, 6, -1, 0, 2);
+        Vec3Array b = new Vec3Array(0, 1, 0, 2, 2, 2, 3, 3, -3);
+
+        Vec3Array sum = a.added(b);
+        Vec3Array difference = a.subtracted(b);
+        Vec3Array product = a.multiplied(2);
+        Vec3Array cross = a.cross(b);
+        float[] dots = a.dot(b, new float[3]);
+        float[] lens = a.lens(new float[3]);
+
+        for (int i = 0; i < a.size(); i++) {
+            Vector3 u = a.get(i);
+            Vector3 v = b.get(i);
+            Assertions.assertEquals(Vec3Math.add(new Vec3(u), v), sum.get(i));
+            Assertions.assertEquals(Vec3Math.sub(new Vec3(u), v), difference.get(i));
+            Assertions.assertEquals(Vec3Math.mult(new Vec3(u), 2), product.get(i));
+            Assertions.assertEquals(Vec3Math.cross(u, v), cross.get(i));
+            Assertions.assertEquals(Vec3Math.dot(u, v), dots[i]);
+            Assertions.assertEquals(Vec3Math.len(u), lens[i], 0.00001f);
+            Assertions.assertTrue(Vec3Math.equalsEpsilon(Vec3Math.normalize(new Vec3(u)), a.normalized().get(i), 0.00001f));
+        }
+
+        Assertions.assertSame(a, a.cross(b, a));
+        Assertions.assertEquals(cross, a);
+    }
+
+    @Test
+    public void testOtherSizes() {
+        Vec2Array a2 = new Vec2Array(3, 4, 0, 2);
+        Vec4Array a4 = new Vec4Array(new Vec4(1, 2, 3, 4));
+
+        Assertions.assertEquals(new Vec2Array(0.6f, 0.8f, 0, 1), a2.normalized());
+        Assertions.assertEquals(new Vec2(3, 4), a2.get(0));
+        Assertions.assertEquals(new Vec4(2, 4, 6, 8), a4.add(a4.clone()).get(0));
+        Assertions.assertEquals(4, a4.w(0) / 2);
+    }
+
+    @Test
+    public void testInvalidOperations() {
+        Vec3Array a = new Vec3Array(0, 0, 0, 1, 1, 1);
+
+        Assertions.assertThrows(ArithmeticException.class, () -> a.normalize());
+        Assertions.assertEquals(1, a.x(1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.add(new Vec3Array(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.add(new Vec2Array(3)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.dot(a, new float[1]));
+    }
+}
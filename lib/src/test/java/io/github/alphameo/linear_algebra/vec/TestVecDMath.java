@@ -0,0 +1,45 @@
+package io.github.alphameo.linear_algebra.vec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TestVecDMath
+ */
+public class TestVecDMath {
+
+    @Test
+    public void testAccumulationPrecision() {
+        VectorD sum = new VecD(1);
+        VectorD step = new VecD(0.1);
+        for (int i = 0; i < 1_000_000; i++) {
+            VecDMath.add(sum, step);
+        }
+
+        Assertions.assertEquals(100_000, sum.get(0), 1e-4);
+    }
+
+    @Test
+    public void testOperations() {
+        VectorD v1 = new VecD(1, 2, 3);
+        VectorD v2 = new VecD(4, 5, 6);
+
+        Assertions.assertEquals(32, VecDMath.dot(v1, v2));
+        Assertions.assertEquals(Math.sqrt(14), VecDMath.len(v1));
+        Assertions.assertTrue(VecDMath.equals(new VecD(5, 7, 9), VecDMath.added(v1, v2)));
+        Assertions.assertTrue(VecDMath.equals(new VecD(-3, -3, -3), VecDMath.subtracted(v1, v2)));
+        Assertions.assertTrue(VecDMath.equals(new VecD(0.5, 1, 1.5), VecDMath.divided(v1, 2)));
+        Assertions.assertThrows(ArithmeticException.class, () -> VecDMath.divide(v1, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> VecDMath.dot(v1, new VecD(1, 2)));
+    }
+
+    @Test
+    public void testConversion() {
+        Vector v = new Vec(0.1f, -2, 3.5f);
+        VecD widened = VecDMath.toDouble(v);
+
+        Assertions.assertEquals(0.1f, widened.get(0));
+        Assertions.assertTrue(VecMath.equals(v, VecDMath.toFloat(widened)));
+        Assertions.assertTrue(VecMath.equals(v, widened.toFloat()));
+    }
+}
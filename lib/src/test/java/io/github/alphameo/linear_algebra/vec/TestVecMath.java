@@ -129,4 +129,32 @@ public class TestVecMath {
 
         Assertions.assertEquals(expected, v);
     }
+
+    @Test
+    public void testLongVectorKernels() {
+        // size is not a multiple of any SIMD width to cover tail loop
+        final int size = 37;
+        Vector v1 = new Vec(size);
+        Vector v2 = new Vec(size);
+        float dot = 0;
+        float len2 = 0;
+        for (int i = 0; i < size; i++) {
+            v1.set(i, i * 0.5f - 3);
+            v2.set(i, 2 - i * 0.25f);
+            dot += v1.get(i) * v2.get(i);
+            len2 += v1.get(i) * v1.get(i);
+        }
+
+        Assertions.assertTrue(Validator.equalsEpsilon(dot, dot(v1, v2), 0.001f));
+        Assertions.assertTrue(Validator.equalsEpsilon(len2, len2(v1), 0.001f));
+
+        Vector sum = added(v1, v2);
+        Vector diff = subtracted(v1, v2);
+        Vector scaled = multiplied(v1, 3);
+        for (int i = 0; i < size; i++) {
+            Assertions.assertEquals(v1.get(i) + v2.get(i), sum.get(i));
+            Assertions.assertEquals(v1.get(i) - v2.get(i), diff.get(i));
+            Assertions.assertEquals(v1.get(i) * 3, scaled.get(i));
+        }
+    }
 }
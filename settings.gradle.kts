@@ -12,3 +12,4 @@ plugins {
 }
 
 include("lib")
+include("benchmarks")